@@ -0,0 +1,59 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of <code>{@link Diff}</code>, comparing contents which are equal and contents which only differ on their
+ * last line.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DiffBenchmark {
+
+  @Param({ "100", "10000", "100000" })
+  int lines;
+
+  private final Diff diff = new Diff();
+  private byte[] actual;
+  private byte[] expected;
+
+  @Setup public void setUp() {
+    StringBuilder b = new StringBuilder();
+    for (int i = 0; i < lines; i++)
+      b.append("line ").append(i).append('\n');
+    actual = b.toString().getBytes();
+    expected = b.append("one more line").toString().getBytes();
+  }
+
+  @Benchmark public List<String> diffEqualContents() throws IOException {
+    return diff.diff(new ByteArrayInputStream(actual), new ByteArrayInputStream(actual));
+  }
+
+  @Benchmark public List<String> diffDifferentContents() throws IOException {
+    return diff.diff(new ByteArrayInputStream(actual), new ByteArrayInputStream(expected));
+  }
+}
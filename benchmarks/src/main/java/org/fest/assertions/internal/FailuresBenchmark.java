@@ -0,0 +1,67 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import static org.fest.assertions.error.ShouldBeEqual.shouldBeEqual;
+import static org.fest.assertions.error.ShouldContain.shouldContain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.fest.assertions.core.WritableAssertionInfo;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the creation of failure messages by <code>{@link Failures}</code>, for values of growing size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FailuresBenchmark {
+
+  @Param({ "10", "1000", "100000" })
+  int size;
+
+  private final WritableAssertionInfo info = new WritableAssertionInfo();
+  private final Failures failures = Failures.instance();
+  private List<String> actual;
+  private List<String> expected;
+  private Object[] values;
+  private List<String> notFound;
+
+  @Setup public void setUp() {
+    actual = new ArrayList<String>(size);
+    for (int i = 0; i < size; i++)
+      actual.add("element" + i);
+    expected = new ArrayList<String>(actual);
+    expected.set(size - 1, "another element");
+    notFound = new ArrayList<String>();
+    notFound.add("another element");
+    values = expected.toArray();
+  }
+
+  @Benchmark public AssertionError shouldContainMessage() {
+    return failures.failure(info, shouldContain(actual, values, notFound));
+  }
+
+  @Benchmark public AssertionError shouldBeEqualMessage() {
+    return failures.failure(info, shouldBeEqual(actual, expected));
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import static org.fest.assertions.data.Offset.offset;
+
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+
+import org.fest.assertions.core.WritableAssertionInfo;
+import org.fest.assertions.data.Offset;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of <code>{@link Images}</code>, comparing square images pixel by pixel.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ImagesBenchmark {
+
+  @Param({ "64", "512", "2048" })
+  int side;
+
+  private final WritableAssertionInfo info = new WritableAssertionInfo();
+  private final Images images = Images.instance();
+  private final Offset<Integer> offset = offset(2);
+  private BufferedImage actual;
+  private BufferedImage expected;
+  private Dimension size;
+
+  @Setup public void setUp() {
+    actual = new BufferedImage(side, side, TYPE_INT_RGB);
+    expected = new BufferedImage(side, side, TYPE_INT_RGB);
+    for (int x = 0; x < side; x++) {
+      for (int y = 0; y < side; y++) {
+        int rgb = (x * 31 + y * 17) & 0xFFFFFF;
+        actual.setRGB(x, y, rgb);
+        expected.setRGB(x, y, rgb);
+      }
+    }
+    size = new Dimension(side, side);
+  }
+
+  @Benchmark public void assertEqual() {
+    images.assertEqual(info, actual, expected);
+  }
+
+  @Benchmark public void assertEqualWithOffset() {
+    images.assertEqual(info, actual, expected, offset);
+  }
+
+  @Benchmark public void assertHasSize() {
+    images.assertHasSize(info, actual, size);
+  }
+}
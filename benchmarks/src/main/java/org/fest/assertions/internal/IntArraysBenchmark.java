@@ -0,0 +1,85 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.util.Comparator;
+
+import org.fest.assertions.core.WritableAssertionInfo;
+import org.fest.util.ComparatorBasedComparisonStrategy;
+import org.fest.util.StandardComparisonStrategy;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of <code>{@link IntArrays}</code> and, through it, of <code>{@link Arrays}</code>, with the standard
+ * comparison strategy and a comparator based one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class IntArraysBenchmark {
+
+  private static final Comparator<Integer> NATURAL_ORDER = new Comparator<Integer>() {
+    public int compare(Integer i1, Integer i2) {
+      return i1.compareTo(i2);
+    }
+  };
+
+  @Param({ "100", "10000", "100000" })
+  int size;
+
+  @Param({ "standard", "comparator" })
+  String comparisonStrategy;
+
+  private final WritableAssertionInfo info = new WritableAssertionInfo();
+  private IntArrays arrays;
+  private int[] actual;
+  private int[] some;
+  private int[] sequence;
+
+  @Setup public void setUp() {
+    arrays = "standard".equals(comparisonStrategy) ? new IntArrays(StandardComparisonStrategy.instance())
+        : new IntArrays(new ComparatorBasedComparisonStrategy(NATURAL_ORDER));
+    actual = new int[size];
+    for (int i = 0; i < size; i++)
+      actual[i] = i;
+    some = new int[] { 0, size / 2, size - 1 };
+    sequence = new int[] { size - 3, size - 2, size - 1 };
+  }
+
+  @Benchmark public void assertContains() {
+    arrays.assertContains(info, actual, some);
+  }
+
+  @Benchmark public void assertContainsOnly() {
+    arrays.assertContainsOnly(info, actual, actual);
+  }
+
+  @Benchmark public void assertContainsSequence() {
+    arrays.assertContainsSequence(info, actual, sequence);
+  }
+
+  @Benchmark public void assertDoesNotHaveDuplicates() {
+    arrays.assertDoesNotHaveDuplicates(info, actual);
+  }
+
+  @Benchmark public void assertIsSorted() {
+    arrays.assertIsSorted(info, actual);
+  }
+}
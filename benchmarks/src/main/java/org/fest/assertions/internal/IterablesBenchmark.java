@@ -0,0 +1,88 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.fest.assertions.core.WritableAssertionInfo;
+import org.fest.util.ComparatorBasedComparisonStrategy;
+import org.fest.util.StandardComparisonStrategy;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of <code>{@link Iterables}</code>, with the standard comparison strategy and a comparator based one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class IterablesBenchmark {
+
+  @Param({ "100", "10000", "100000" })
+  int size;
+
+  @Param({ "standard", "comparator" })
+  String comparisonStrategy;
+
+  private final WritableAssertionInfo info = new WritableAssertionInfo();
+  private Iterables iterables;
+  private List<String> actual;
+  private Object[] all;
+  private Object[] some;
+  private Object[] sequence;
+  private List<String> superset;
+
+  @Setup public void setUp() {
+    iterables = "standard".equals(comparisonStrategy) ? new Iterables(StandardComparisonStrategy.instance())
+        : new Iterables(new ComparatorBasedComparisonStrategy(String.CASE_INSENSITIVE_ORDER));
+    actual = new ArrayList<String>(size);
+    for (int i = 0; i < size; i++)
+      actual.add("element" + i);
+    all = actual.toArray();
+    some = new Object[] { actual.get(0), actual.get(size / 2), actual.get(size - 1) };
+    sequence = actual.subList(size - 3, size).toArray();
+    superset = new ArrayList<String>(actual);
+    superset.add("another element");
+  }
+
+  @Benchmark public void assertContains() {
+    iterables.assertContains(info, actual, some);
+  }
+
+  @Benchmark public void assertContainsAll() {
+    iterables.assertContains(info, actual, all);
+  }
+
+  @Benchmark public void assertContainsOnly() {
+    iterables.assertContainsOnly(info, actual, all);
+  }
+
+  @Benchmark public void assertContainsSequence() {
+    iterables.assertContainsSequence(info, actual, sequence);
+  }
+
+  @Benchmark public void assertDoesNotHaveDuplicates() {
+    iterables.assertDoesNotHaveDuplicates(info, actual);
+  }
+
+  @Benchmark public void assertIsSubsetOf() {
+    iterables.assertIsSubsetOf(info, actual, superset);
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of <code>{@link PropertySupport}</code>, extracting simple and nested properties.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PropertySupportBenchmark {
+
+  @Param({ "100", "10000", "100000" })
+  int size;
+
+  private final PropertySupport propertySupport = PropertySupport.instance();
+  private List<Person> people;
+
+  @Setup public void setUp() {
+    people = new ArrayList<Person>(size);
+    for (int i = 0; i < size; i++)
+      people.add(new Person("person" + i, new Address("city" + i % 100)));
+  }
+
+  @Benchmark public List<Object> simpleProperty() {
+    return propertySupport.propertyValues("name", people);
+  }
+
+  @Benchmark public List<Object> nestedProperty() {
+    return propertySupport.propertyValues("address.city", people);
+  }
+
+  public static class Person {
+    private final String name;
+    private final Address address;
+
+    Person(String name, Address address) {
+      this.name = name;
+      this.address = address;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public Address getAddress() {
+      return address;
+    }
+  }
+
+  public static class Address {
+    private final String city;
+
+    Address(String city) {
+      this.city = city;
+    }
+
+    public String getCity() {
+      return city;
+    }
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.fest.assertions.core.WritableAssertionInfo;
+import org.fest.util.ComparatorBasedComparisonStrategy;
+import org.fest.util.StandardComparisonStrategy;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of <code>{@link Strings}</code>, with the standard comparison strategy and a case insensitive one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class StringsBenchmark {
+
+  @Param({ "100", "10000", "1000000" })
+  int length;
+
+  @Param({ "standard", "comparator" })
+  String comparisonStrategy;
+
+  private final WritableAssertionInfo info = new WritableAssertionInfo();
+  private Strings strings;
+  private String actual;
+  private String suffix;
+  private String upperCaseActual;
+  private String upperCaseSuffix;
+  private String[] sequences;
+
+  @Setup public void setUp() {
+    strings = "standard".equals(comparisonStrategy) ? new Strings(StandardComparisonStrategy.instance())
+        : new Strings(new ComparatorBasedComparisonStrategy(String.CASE_INSENSITIVE_ORDER));
+    StringBuilder b = new StringBuilder(length);
+    for (int i = 0; b.length() < length; i++)
+      b.append((char) ('a' + i % 26));
+    actual = b.toString();
+    suffix = actual.substring(length - 10);
+    upperCaseActual = actual.toUpperCase();
+    upperCaseSuffix = suffix.toUpperCase();
+    sequences = new String[] { actual.substring(0, 10), actual.substring(length / 2, length / 2 + 10), suffix };
+  }
+
+  @Benchmark public void assertContains() {
+    strings.assertContains(info, actual, suffix);
+  }
+
+  @Benchmark public void assertContainsIgnoringCase() {
+    strings.assertContainsIgnoringCase(info, actual, upperCaseSuffix);
+  }
+
+  @Benchmark public void assertContainsAll() {
+    strings.assertContainsAll(info, actual, sequences);
+  }
+
+  @Benchmark public void assertEndsWith() {
+    strings.assertEndsWith(info, actual, suffix);
+  }
+
+  @Benchmark public void assertEqualsIgnoringCase() {
+    strings.assertEqualsIgnoringCase(info, actual, upperCaseActual);
+  }
+}
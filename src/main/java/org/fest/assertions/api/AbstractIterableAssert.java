@@ -17,7 +17,9 @@ package org.fest.assertions.api;
 import java.util.Collection;
 import java.util.Comparator;
 
+import org.fest.assertions.core.Condition;
 import org.fest.assertions.core.ObjectEnumerableAssert;
+import org.fest.assertions.internal.Conditions;
 import org.fest.assertions.internal.Iterables;
 import org.fest.util.ComparatorBasedComparisonStrategy;
 import org.fest.util.VisibleForTesting;
@@ -133,7 +135,89 @@ public abstract class AbstractIterableAssert<S, A extends Iterable<?> > extends
     iterables.assertDoesNotContainNull(info, actual);
     return myself;
   }
+
+  /**
+   * Verifies that each element of the actual group satisfies the given condition. Evaluation stops at the first element
+   * that does not satisfy it.
+   * @param condition the given condition.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError if the actual group is {@code null}.
+   * @throws AssertionError if one of the elements of the actual group does not satisfy the given condition.
+   */
+  public final S areAll(Condition<?> condition) {
+    conditions.assertAreAll(info, actual, condition);
+    return myself;
+  }
+
+  /**
+   * Verifies that no element of the actual group satisfies the given condition. Evaluation stops at the first element
+   * that satisfies it.
+   * @param condition the given condition.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError if the actual group is {@code null}.
+   * @throws AssertionError if one of the elements of the actual group satisfies the given condition.
+   */
+  public final S areNot(Condition<?> condition) {
+    conditions.assertAreNot(info, actual, condition);
+    return myself;
+  }
+
+  /**
+   * Verifies that at least the given number of elements of the actual group satisfy the given condition. Evaluation
+   * stops as soon as enough elements satisfy it.
+   * @param times the minimum number of elements that should satisfy the given condition.
+   * @param condition the given condition.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws IllegalArgumentException if the given number of elements is negative.
+   * @throws AssertionError if the actual group is {@code null}.
+   * @throws AssertionError if less elements of the actual group than the given number satisfy the given condition.
+   */
+  public final S areAtLeast(int times, Condition<?> condition) {
+    conditions.assertAreAtLeast(info, actual, times, condition);
+    return myself;
+  }
+
+  /**
+   * Verifies that exactly the given number of elements of the actual group satisfy the given condition. Evaluation
+   * stops as soon as too many elements satisfy it.
+   * @param times the number of elements that should satisfy the given condition.
+   * @param condition the given condition.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws IllegalArgumentException if the given number of elements is negative.
+   * @throws AssertionError if the actual group is {@code null}.
+   * @throws AssertionError if the number of elements of the actual group satisfying the given condition is not the
+   *           given one.
+   */
+  public final S areExactly(int times, Condition<?> condition) {
+    conditions.assertAreExactly(info, actual, times, condition);
+    return myself;
+  }
+
+  /**
+   * Evaluates the conditions given to the following assertions against the elements of the actual group in parallel,
+   * using a thread pool shared by all assertions. Worth it for conditions expensive to evaluate against large groups.
+   * Conditions must then be safe to evaluate from several threads at once.
+   * @return {@code this} assertion object.
+   */
+  public final S evaluatingConditionsInParallel() {
+    conditions = Conditions.parallelInstance();
+    return myself;
+  }
   
+  /**
+   * Returns an object recording assertions on the actual {@code Iterable} to verify them together, iterating over its
+   * elements only once. The recorded assertions are verified when
+   * <code>{@link SinglePassIterableAssert#verify()}</code> is called, which returns this assertion object.
+   * @return the object recording assertions on the actual {@code Iterable}.
+   */
+  public final SinglePassIterableAssert<S> inSinglePass() {
+    return new SinglePassIterableAssert<S>(info, actual, iterables.singlePassChecks(), myself);
+  }
+
   @Override
   public S usingComparator(Comparator<?> customComparator) {
     super.usingComparator(customComparator);
@@ -17,11 +17,14 @@ package org.fest.assertions.api;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 
 import org.fest.assertions.util.ImageReader;
 
@@ -148,6 +151,20 @@ public class Assertions {
     return new CharacterAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link CharSequenceAssert}</code>.
+   * <p>
+   * Before this method was added, {@code assertThat} with a {@code StringBuilder} resolved to
+   * <code>{@link #assertThat(Object)}</code> and returned an <code>{@link ObjectAssert}</code>; such calls
+   * now return a <code>{@link CharSequenceAssert}</code>.
+   * </p>
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public static CharSequenceAssert assertThat(CharSequence actual) {
+    return new CharSequenceAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link IterableAssert}</code>.
    * @param actual the actual value.
@@ -157,6 +174,20 @@ public class Assertions {
     return new IterableAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link IteratorAssert}</code>.
+   * <p>
+   * Before this method was added, {@code assertThat} with an {@code Iterator} resolved to
+   * <code>{@link #assertThat(Object)}</code> and returned an <code>{@link ObjectAssert}</code>; such calls
+   * now return a <code>{@link IteratorAssert}</code>.
+   * </p>
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public static IteratorAssert assertThat(Iterator<?> actual) {
+    return new IteratorAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link DoubleAssert}</code>.
    * @param actual the actual value.
@@ -201,6 +232,20 @@ public class Assertions {
   public static InputStreamAssert assertThat(InputStream actual) {
     return new InputStreamAssert(actual);
   }
+
+  /**
+   * Creates a new instance of <code>{@link ReaderAssert}</code>.
+   * <p>
+   * Before this method was added, {@code assertThat} with a {@code Reader} resolved to
+   * <code>{@link #assertThat(Object)}</code> and returned an <code>{@link ObjectAssert}</code>; such calls
+   * now return a <code>{@link ReaderAssert}</code>.
+   * </p>
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public static ReaderAssert assertThat(Reader actual) {
+    return new ReaderAssert(actual);
+  }
   
   /**
    * Creates a new instance of <code>{@link FloatAssert}</code>.
@@ -364,6 +409,24 @@ public class Assertions {
     return new DateAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link TimestampsAssert}</code>.
+   * @param actual the actual dates, as milliseconds since the epoch.
+   * @return the created assertion object.
+   */
+  public static TimestampsAssert assertThatTimestamps(long[] actual) {
+    return new TimestampsAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link DatesAssert}</code>.
+   * @param actual the actual dates.
+   * @return the created assertion object.
+   */
+  public static DatesAssert assertThatDates(Iterable<? extends Date> actual) {
+    return new DatesAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link ThrowableAssert}</code>.
    * @param actual the actual value.
@@ -373,6 +436,24 @@ public class Assertions {
     return new ThrowableAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link FutureAssert}</code>.
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public static FutureAssert assertThat(Future<?> actual) {
+    return new FutureAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link Await}</code>, to evaluate assertions on values produced asynchronously
+   * until they pass or a timeout expires.
+   * @return the created object.
+   */
+  public static Await await() {
+    return new Await();
+  }
+
   /** Creates a new </code>{@link Assertions}</code>. */
   protected Assertions() {}
 }
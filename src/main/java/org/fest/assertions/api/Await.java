@@ -0,0 +1,138 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.concurrent.TimeUnit;
+
+import org.fest.assertions.core.WritableAssertionInfo;
+import org.fest.assertions.description.Description;
+import org.fest.assertions.internal.Polling;
+import org.fest.util.VisibleForTesting;
+
+/**
+ * Evaluates assertions on values produced asynchronously until they pass or a timeout expires.
+ * <p>
+ * To create a new instance of this class, invoke <code>{@link Assertions#await()}</code>. The given assertions are
+ * evaluated again and again, each evaluation getting the actual values again, and wait longer and longer between two
+ * evaluations: the poll interval doubles after each failed evaluation, up to the maximum poll interval. Example:
+ *
+ * <pre>
+ * await().atMost(2, SECONDS).pollInterval(5, MILLISECONDS).untilAsserted(new Runnable() {
+ *   public void run() {
+ *     assertThat(queue.size()).isEqualTo(3);
+ *   }
+ * });
+ * </pre>
+ *
+ * If the assertions still fail when the timeout expires, the {@code AssertionError} thrown reports the message of the
+ * last failure and has it as cause. By default, assertions are evaluated for at most 10 seconds, the poll interval
+ * starts at 10 milliseconds and does not exceed 250 milliseconds.
+ * </p>
+ */
+public class Await {
+
+  @VisibleForTesting Polling polling = Polling.instance();
+  @VisibleForTesting final WritableAssertionInfo info = new WritableAssertionInfo();
+  @VisibleForTesting long timeout = SECONDS.toNanos(10);
+  @VisibleForTesting long pollInterval = MILLISECONDS.toNanos(10);
+  @VisibleForTesting long maxPollInterval = MILLISECONDS.toNanos(250);
+
+  Await() {}
+
+  /**
+   * Sets the description of the assertions evaluated by this object.
+   * @param description the new description.
+   * @return {@code this} object.
+   */
+  public Await as(String description) {
+    info.description(description);
+    return this;
+  }
+
+  /**
+   * Sets the description of the assertions evaluated by this object.
+   * @param description the new description.
+   * @return {@code this} object.
+   */
+  public Await as(Description description) {
+    info.description(description);
+    return this;
+  }
+
+  /**
+   * Sets the time after which the assertions stop being evaluated.
+   * @param duration the timeout.
+   * @param unit the unit of the timeout.
+   * @return {@code this} object.
+   * @throws IllegalArgumentException if the given duration is negative.
+   * @throws NullPointerException if the given unit is {@code null}.
+   */
+  public Await atMost(long duration, TimeUnit unit) {
+    if (duration < 0) throw new IllegalArgumentException("The timeout should not be negative");
+    timeout = toNanos(duration, unit);
+    return this;
+  }
+
+  /**
+   * Sets the time to wait after the first failed evaluation of the assertions. The time waited doubles after each
+   * failed evaluation, up to the maximum poll interval.
+   * @param duration the poll interval.
+   * @param unit the unit of the poll interval.
+   * @return {@code this} object.
+   * @throws IllegalArgumentException if the given duration is not positive.
+   * @throws NullPointerException if the given unit is {@code null}.
+   */
+  public Await pollInterval(long duration, TimeUnit unit) {
+    if (duration <= 0) throw new IllegalArgumentException("The poll interval should be positive");
+    pollInterval = toNanos(duration, unit);
+    if (maxPollInterval < pollInterval) maxPollInterval = pollInterval;
+    return this;
+  }
+
+  /**
+   * Sets the maximum time to wait between two evaluations of the assertions. Pass the poll interval to always wait the
+   * same time.
+   * @param duration the maximum poll interval.
+   * @param unit the unit of the maximum poll interval.
+   * @return {@code this} object.
+   * @throws IllegalArgumentException if the given duration is not positive.
+   * @throws NullPointerException if the given unit is {@code null}.
+   */
+  public Await maxPollInterval(long duration, TimeUnit unit) {
+    if (duration <= 0) throw new IllegalArgumentException("The maximum poll interval should be positive");
+    maxPollInterval = toNanos(duration, unit);
+    if (pollInterval > maxPollInterval) pollInterval = maxPollInterval;
+    return this;
+  }
+
+  /**
+   * Evaluates the given assertions until they pass or the timeout expires.
+   * @param assertions the assertions to evaluate, each evaluation should get the actual values again.
+   * @throws NullPointerException if the given assertions are {@code null}.
+   * @throws AssertionError if the given assertions did not pass before the timeout expired.
+   */
+  public void untilAsserted(Runnable assertions) {
+    if (assertions == null) throw new NullPointerException("The assertions to evaluate should not be null");
+    polling.assertPassesWithin(info, assertions, timeout, pollInterval, maxPollInterval);
+  }
+
+  private static long toNanos(long duration, TimeUnit unit) {
+    if (unit == null) throw new NullPointerException("The time unit should not be null");
+    return unit.toNanos(duration);
+  }
+}
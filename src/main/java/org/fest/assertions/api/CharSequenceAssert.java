@@ -0,0 +1,115 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.fest.assertions.internal.CharSequences;
+import org.fest.util.VisibleForTesting;
+
+/**
+ * Assertion methods for {@code CharSequence}s. The actual {@code CharSequence} is never copied into a {@code String}.
+ * <p>
+ * To create a new instance of this class, invoke <code>{@link Assertions#assertThat(CharSequence)}</code>.
+ * </p>
+ */
+public class CharSequenceAssert extends AbstractAssert<CharSequenceAssert, CharSequence> {
+
+  @VisibleForTesting CharSequences charSequences = CharSequences.instance();
+
+  protected CharSequenceAssert(CharSequence actual) {
+    super(actual, CharSequenceAssert.class);
+  }
+
+  /**
+   * Verifies that the number of characters in the actual {@code CharSequence} is equal to the given one.
+   * @param expected the expected number of characters in the actual {@code CharSequence}.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the number of characters in the actual {@code CharSequence} is not equal to the given
+   *           one.
+   */
+  public CharSequenceAssert hasSize(int expected) {
+    charSequences.assertHasSize(info, actual, expected);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} contains the given sequence.
+   * @param sequence the sequence to search for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given sequence is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not contain the given one.
+   */
+  public CharSequenceAssert contains(String sequence) {
+    charSequences.assertContains(info, actual, sequence);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} starts with the given prefix.
+   * @param prefix the given prefix.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given prefix is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not start with the given prefix.
+   */
+  public CharSequenceAssert startsWith(String prefix) {
+    charSequences.assertStartsWith(info, actual, prefix);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} ends with the given suffix.
+   * @param suffix the given suffix.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given suffix is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not end with the given suffix.
+   */
+  public CharSequenceAssert endsWith(String suffix) {
+    charSequences.assertEndsWith(info, actual, suffix);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} matches the given regular expression.
+   * @param regex the regular expression to which the actual {@code CharSequence} is to be matched.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws PatternSyntaxException if the regular expression's syntax is invalid.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not match the given regular expression.
+   */
+  public CharSequenceAssert matches(String regex) {
+    charSequences.assertMatches(info, actual, regex);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} matches the given regular expression.
+   * @param pattern the regular expression to which the actual {@code CharSequence} is to be matched.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not match the given regular expression.
+   */
+  public CharSequenceAssert matches(Pattern pattern) {
+    charSequences.assertMatches(info, actual, pattern);
+    return this;
+  }
+}
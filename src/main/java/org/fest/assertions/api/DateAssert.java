@@ -9,6 +9,8 @@ import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 import org.fest.assertions.internal.Dates;
@@ -44,7 +46,7 @@ public class DateAssert extends AbstractAssert<DateAssert, Date> {
    * The format used can be overriden by invoking {@link #withDateFormat(DateFormat)}
    */
   @VisibleForTesting
-  static DateFormat dateFormat = ISO_DATE_FORMAT;
+  static volatile DateParser dateParser = new DateParser(ISO_DATE_FORMAT);
 
   /**
    * Creates a new </code>{@link DateAssert}</code>.
@@ -832,12 +834,15 @@ public class DateAssert extends AbstractAssert<DateAssert, Date> {
    * field.
    * <p>
    * To revert to default format simply call {@link #useIsoDateFormat()} (static method) or {@link #withIsoDateFormat()}.
+   * <p>
+   * The given format is copied: changing it afterwards (e.g. its time zone) has no effect on Date assertions, call this
+   * method again to use the changed format.
    * 
    * @param userCustomDateFormat the new Date format used for String based Date assertions.
    */
-  public static void useDateFormat(DateFormat userCustomDateFormat) {
+  public static synchronized void useDateFormat(DateFormat userCustomDateFormat) {
     if (userCustomDateFormat == null) throw new NullPointerException("The given date format should not be null");
-    dateFormat = userCustomDateFormat;
+    dateParser = new DateParser(userCustomDateFormat);
   }
 
   /**
@@ -853,25 +858,61 @@ public class DateAssert extends AbstractAssert<DateAssert, Date> {
    * Use ISO 8601 date format ("yyyy-MM-dd") for String based Date assertions.
    */
   public static void useIsoDateFormat() {
-    dateFormat = ISO_DATE_FORMAT;
+    useDateFormat(ISO_DATE_FORMAT);
   }
 
   /**
-   * Utillity method to parse a Date with {@link #dateFormat}, note that it is thread safe.<br>
+   * Utillity method to parse a Date with {@link #dateParser}, note that it is thread safe.<br>
    * Returns <code>null</code> if dateAsString parameter is <code>null</code>.
-   * @param dateAsString the string to parse as a Date with {@link #dateFormat}
+   * @param dateAsString the string to parse as a Date with {@link #dateParser}
    * @return the corrresponding Date, null if dateAsString parameter is null.
    * @throws AssertionError if the string can't be parsed as a Date
    */
   private static Date parse(String dateAsString) {
     if (dateAsString == null) { return null; }
+    DateParser parser = dateParser;
     try {
-      // synchronized is used because SimpleDateFormat which is not thread safe (sigh).
-      synchronized (dateFormat) {
-        return dateFormat.parse(dateAsString);
-      }
+      return parser.parse(dateAsString);
     } catch (ParseException e) {
-      throw Failures.instance().failure("Failed to parse " + dateAsString + " with date format " + dateFormat);
+      throw Failures.instance().failure("Failed to parse " + dateAsString + " with date format " + parser.format);
+    }
+  }
+
+  /**
+   * Parses dates with a copy of a given {@code DateFormat} without locking: since {@code DateFormat}s are not thread
+   * safe, each thread parses with its own clone of that copy. Parsed values are shared between threads, so that the
+   * same String is parsed only once.
+   * <p>
+   * A new {@code DateParser} is created each time the date format changes, which discards the values parsed with the
+   * previous format.
+   * </p>
+   */
+  @VisibleForTesting
+  static class DateParser {
+    private static final int MAXIMUM_CACHED_VALUES = 1024;
+
+    final DateFormat format;
+    private final ConcurrentMap<String, Long> parsedValues = new ConcurrentHashMap<String, Long>();
+    private final ThreadLocal<DateFormat> formatOfCurrentThread = new ThreadLocal<DateFormat>() {
+      @Override protected DateFormat initialValue() {
+        return (DateFormat) format.clone();
+      }
+    };
+
+    DateParser(DateFormat format) {
+      // the given format may be used elsewhere, only copy it while nobody else is supposed to use it
+      synchronized (format) {
+        this.format = (DateFormat) format.clone();
+      }
+    }
+
+    Date parse(String dateAsString) throws ParseException {
+      Long parsed = parsedValues.get(dateAsString);
+      if (parsed != null) return new Date(parsed);
+      Date date = formatOfCurrentThread.get().parse(dateAsString);
+      if (parsedValues.size() >= MAXIMUM_CACHED_VALUES) parsedValues.clear();
+      parsedValues.put(dateAsString, date.getTime());
+      return date;
     }
   }
 
@@ -0,0 +1,91 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.fest.assertions.core.Condition;
+import org.fest.assertions.internal.Futures;
+import org.fest.util.VisibleForTesting;
+
+/**
+ * Assertions for <code>{@link Future}</code>s.
+ * <p>
+ * To create a new instance of this class, invoke <code>{@link Assertions#assertThat(Future)}</code>. Assertions
+ * waiting for the actual {@code Future} block the calling thread until it signals its completion or the timeout
+ * expires, they do not poll. Their outcome can then be verified:
+ *
+ * <pre>
+ * assertThat(future).succeedsWithin(2, SECONDS).isEqualTo(&quot;done&quot;);
+ * assertThat(future).failsWithin(2, SECONDS).isInstanceOf(IOException.class).hasMessage(&quot;disconnected&quot;);
+ * </pre>
+ * </p>
+ */
+public class FutureAssert extends AbstractAssert<FutureAssert, Future<?>> {
+
+  @VisibleForTesting Futures futures = Futures.instance();
+
+  protected FutureAssert(Future<?> actual) {
+    super(actual, FutureAssert.class);
+  }
+
+  /**
+   * Verifies that the actual {@code Future} completes successfully within the given timeout.
+   * @param timeout the maximum time to wait.
+   * @param unit the unit of the timeout.
+   * @return a new assertion object whose actual value is the result of the actual {@code Future}.
+   * @throws IllegalArgumentException if the given timeout is negative.
+   * @throws NullPointerException if the given unit is {@code null}.
+   * @throws IllegalStateException if the current thread is interrupted while waiting.
+   * @throws AssertionError if the actual {@code Future} is {@code null}.
+   * @throws AssertionError if the actual {@code Future} is not completed within the given timeout, failed or was
+   *           cancelled.
+   */
+  public ObjectAssert succeedsWithin(long timeout, TimeUnit unit) {
+    return new ObjectAssert(futures.assertSucceedsWithin(info, actual, timeout, unit));
+  }
+
+  /**
+   * Verifies that the actual {@code Future} fails, or is cancelled, within the given timeout.
+   * @param timeout the maximum time to wait.
+   * @param unit the unit of the timeout.
+   * @return a new assertion object whose actual value is the exception thrown by the computation of the actual
+   *         {@code Future}, or the {@code CancellationException} if it was cancelled.
+   * @throws IllegalArgumentException if the given timeout is negative.
+   * @throws NullPointerException if the given unit is {@code null}.
+   * @throws IllegalStateException if the current thread is interrupted while waiting.
+   * @throws AssertionError if the actual {@code Future} is {@code null}.
+   * @throws AssertionError if the actual {@code Future} is not completed within the given timeout, or completed
+   *           successfully.
+   */
+  public ThrowableAssert failsWithin(long timeout, TimeUnit unit) {
+    return new ThrowableAssert(futures.assertFailsWithin(info, actual, timeout, unit));
+  }
+
+  /**
+   * Verifies that the actual {@code Future} is completed with a value satisfying the given condition, without waiting.
+   * @param condition the given condition.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError if the actual {@code Future} is {@code null}.
+   * @throws AssertionError if the actual {@code Future} is not completed, failed or was cancelled.
+   * @throws AssertionError if the value of the actual {@code Future} does not satisfy the given condition.
+   */
+  public FutureAssert isCompletedWithValueMatching(Condition<?> condition) {
+    futures.assertIsCompletedWithValueMatching(info, actual, condition);
+    return this;
+  }
+}
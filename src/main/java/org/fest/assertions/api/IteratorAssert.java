@@ -0,0 +1,142 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+import org.fest.assertions.core.Condition;
+import org.fest.assertions.internal.Iterators;
+import org.fest.util.ComparatorBasedComparisonStrategy;
+import org.fest.util.VisibleForTesting;
+
+/**
+ * Assertions for <code>{@link Iterator}</code>s.
+ * <p>
+ * To create a new instance of this class, invoke <code>{@link Assertions#assertThat(Iterator)}</code>.
+ * </p>
+ * <p>
+ * Elements are never copied: each assertion iterates over the elements it needs, once, and stops as soon as its
+ * outcome is known, so that iterators returning more elements than fit in memory can be verified. Elements iterated
+ * over are consumed, chained assertions are verified against the remaining elements:
+ *
+ * <pre>
+ * assertThat(cursor).startsWith(header).areAll(valid);
+ * </pre>
+ * </p>
+ */
+public class IteratorAssert extends AbstractAssert<IteratorAssert, Iterator<?>> {
+
+  @VisibleForTesting Iterators iterators = Iterators.instance();
+
+  protected IteratorAssert(Iterator<?> actual) {
+    super(actual, IteratorAssert.class);
+  }
+
+  /**
+   * Verifies that the actual iterator returns the given values, in any order.
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual iterator is {@code null}.
+   * @throws AssertionError if the actual iterator does not return the given values.
+   */
+  public IteratorAssert contains(Object... values) {
+    iterators.assertContains(info, actual, values);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual iterator does not return any of the given values.
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual iterator is {@code null}.
+   * @throws AssertionError if the actual iterator returns any of the given values.
+   */
+  public IteratorAssert doesNotContain(Object... values) {
+    iterators.assertDoesNotContain(info, actual, values);
+    return this;
+  }
+
+  /**
+   * Verifies that the first elements returned by the actual iterator are the given sequence of objects.
+   * @param sequence the sequence of objects to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual iterator is {@code null}.
+   * @throws AssertionError if the actual iterator does not start with the given sequence of objects.
+   */
+  public IteratorAssert startsWith(Object... sequence) {
+    iterators.assertStartsWith(info, actual, sequence);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual iterator returns the given number of elements.
+   * @param expected the expected number of elements.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual iterator is {@code null}.
+   * @throws AssertionError if the number of elements returned by the actual iterator is not equal to the given one.
+   */
+  public IteratorAssert hasSize(int expected) {
+    iterators.assertHasSize(info, actual, expected);
+    return this;
+  }
+
+  /**
+   * Verifies that each element returned by the actual iterator satisfies the given condition.
+   * @param condition the given condition.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError if the actual iterator is {@code null}.
+   * @throws AssertionError if one of the elements returned by the actual iterator does not satisfy the given condition.
+   */
+  public IteratorAssert areAll(Condition<?> condition) {
+    iterators.assertAreAll(info, actual, condition);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual iterator returns the given sequence of objects, without any other objects between them.
+   * @param sequence the sequence of objects to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual iterator is {@code null}.
+   * @throws AssertionError if the actual iterator does not return the given sequence of objects.
+   */
+  public IteratorAssert containsSequence(Object... sequence) {
+    iterators.assertContainsSequence(info, actual, sequence);
+    return this;
+  }
+
+  @Override
+  public IteratorAssert usingComparator(Comparator<?> customComparator) {
+    super.usingComparator(customComparator);
+    this.iterators = new Iterators(new ComparatorBasedComparisonStrategy(customComparator));
+    return myself;
+  }
+
+  @Override
+  public IteratorAssert usingDefaultComparator() {
+    super.usingDefaultComparator();
+    this.iterators = Iterators.instance();
+    return myself;
+  }
+}
@@ -14,11 +14,14 @@
  */
 package org.fest.assertions.api;
 
+import java.util.Comparator;
 import java.util.Map;
 
 import org.fest.assertions.core.EnumerableAssert;
 import org.fest.assertions.data.MapEntry;
 import org.fest.assertions.internal.Maps;
+import org.fest.util.ComparatorBasedComparisonStrategy;
+import org.fest.util.StandardComparisonStrategy;
 import org.fest.util.VisibleForTesting;
 
 /**
@@ -89,4 +92,159 @@ public class MapAssert extends AbstractAssert<MapAssert, Map<?, ?>> implements E
     maps.assertDoesNotContain(info, actual, entries);
     return this;
   }
+
+  /**
+   * Verifies that the actual map contains the given entries and nothing else, in any order. Rather than the actual map,
+   * the failure message reports the missing keys, the unexpected keys and the keys whose value is not the expected one.
+   * @param entries the given entries.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws NullPointerException if any of the entries in the given array is {@code null}.
+   * @throws IllegalArgumentException if the given array has different values for the same key.
+   * @throws AssertionError if the actual map is {@code null}.
+   * @throws AssertionError if the actual map does not contain the given entries or contains other entries.
+   * @see #withMaximumReportedDifferences(int)
+   */
+  public MapAssert containsOnly(MapEntry...entries) {
+    maps.assertContainsOnly(info, actual, entries);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual map has the same entries as the given one. Unlike <code>{@link #isEqualTo(Map)}</code>,
+   * the failure message does not show both maps but only the missing keys, the unexpected keys and the keys whose value
+   * is not the expected one, which keeps failures on large maps readable.
+   * @param expected the given map.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given map is {@code null}.
+   * @throws AssertionError if the actual map is {@code null}.
+   * @throws AssertionError if the actual map does not have the same entries as the given one.
+   * @see #withMaximumReportedDifferences(int)
+   */
+  public MapAssert isEqualToMap(Map<?, ?> expected) {
+    maps.assertEqual(info, actual, expected);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual map contains the given keys, looking each of them up in the map.
+   * @param keys the given keys.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual map is {@code null}.
+   * @throws AssertionError if the actual map does not contain the given keys.
+   */
+  public MapAssert containsKeys(Object... keys) {
+    maps.assertContainsKeys(info, actual, keys);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual map does not contain the given keys, looking each of them up in the map.
+   * @param keys the given keys.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual map is {@code null}.
+   * @throws AssertionError if the actual map contains any of the given keys.
+   */
+  public MapAssert doesNotContainKeys(Object... keys) {
+    maps.assertDoesNotContainKeys(info, actual, keys);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual map contains the given values, going through the values of the actual map at most once.
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual map is {@code null}.
+   * @throws AssertionError if the actual map does not contain the given values.
+   */
+  public MapAssert containsValues(Object... values) {
+    maps.assertContainsValues(info, actual, values);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual map has the same keys as the given one, whatever their values. The failure message only
+   * reports the missing and unexpected keys.
+   * @param other the map to compare keys with.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given map is {@code null}.
+   * @throws AssertionError if the actual map is {@code null}.
+   * @throws AssertionError if the actual map does not have the same keys as the given one.
+   * @see #withMaximumReportedDifferences(int)
+   */
+  public MapAssert hasSameKeySetAs(Map<?, ?> other) {
+    maps.assertHasSameKeySetAs(info, actual, other);
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of differences reported by <code>{@link #containsOnly(MapEntry...)}</code>,
+   * <code>{@link #isEqualToMap(Map)}</code> and <code>{@link #hasSameKeySetAs(Map)}</code>,
+   * <code>{@value Maps#DEFAULT_MAXIMUM_REPORTED_DIFFERENCES}</code> by default.
+   * @param maximum the maximum number of differences to report.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if the given maximum is not positive.
+   */
+  public MapAssert withMaximumReportedDifferences(int maximum) {
+    maps = maps.withMaximumReportedDifferences(maximum);
+    return this;
+  }
+
+  /**
+   * Use the given comparator to compare the keys of the actual map with the keys of the entries to look for, instead
+   * of their {@code equals} method. Keys being looked up with a comparator, the entries of the actual map are sorted
+   * by key in each assertion, instead of relying on their {@code hashCode}.
+   * <p>
+   * Example :
+   * 
+   * <pre>
+   * // case insensitive keys: "Name" and "name" are considered equal
+   * assertThat(map).usingKeyComparator(String.CASE_INSENSITIVE_ORDER)
+   *                 .contains(entry(&quot;Name&quot;, &quot;Yoda&quot;));
+   * </pre>
+   * 
+   * </p>
+   * @param customComparator the comparator to use to compare keys.
+   * @return {@code this} assertion object.
+   */
+  public MapAssert usingKeyComparator(Comparator<?> customComparator) {
+    maps = maps.withKeyComparisonStrategy(new ComparatorBasedComparisonStrategy(customComparator));
+    return this;
+  }
+
+  /**
+   * Revert to compare keys with their {@code equals} method, looking them up through the actual map.
+   * @return {@code this} assertion object.
+   */
+  public MapAssert usingDefaultKeyComparator() {
+    maps = maps.withKeyComparisonStrategy(StandardComparisonStrategy.instance());
+    return this;
+  }
+
+  /**
+   * Use the given comparator to compare the values of the actual map with the values of the entries to look for,
+   * instead of their {@code equals} method. Keys are still looked up as usual.
+   * @param customComparator the comparator to use to compare values.
+   * @return {@code this} assertion object.
+   */
+  public MapAssert usingValueComparator(Comparator<?> customComparator) {
+    maps = maps.withValueComparisonStrategy(new ComparatorBasedComparisonStrategy(customComparator));
+    return this;
+  }
+
+  /**
+   * Revert to compare values with their {@code equals} method.
+   * @return {@code this} assertion object.
+   */
+  public MapAssert usingDefaultValueComparator() {
+    maps = maps.withValueComparisonStrategy(StandardComparisonStrategy.instance());
+    return this;
+  }
 }
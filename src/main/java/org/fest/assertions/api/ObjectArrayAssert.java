@@ -17,9 +17,11 @@ package org.fest.assertions.api;
 import java.util.Comparator;
 
 import org.fest.assertions.core.ArraySortedAssert;
+import org.fest.assertions.core.Condition;
 import org.fest.assertions.core.IndexedObjectEnumerableAssert;
 import org.fest.assertions.core.ObjectEnumerableAssert;
 import org.fest.assertions.data.Index;
+import org.fest.assertions.internal.Conditions;
 import org.fest.assertions.internal.ObjectArrays;
 import org.fest.util.ComparatorBasedComparisonStrategy;
 import org.fest.util.VisibleForTesting;
@@ -132,6 +134,78 @@ public class ObjectArrayAssert extends AbstractAssert<ObjectArrayAssert, Object[
     return this;
   }
 
+  /**
+   * Verifies that each element of the actual array satisfies the given condition. Evaluation stops at the first element
+   * that does not satisfy it.
+   * @param condition the given condition.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if one of the elements of the actual array does not satisfy the given condition.
+   */
+  public ObjectArrayAssert areAll(Condition<?> condition) {
+    conditions.assertAreAll(info, actual, condition);
+    return this;
+  }
+
+  /**
+   * Verifies that no element of the actual array satisfies the given condition. Evaluation stops at the first element
+   * that satisfies it.
+   * @param condition the given condition.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if one of the elements of the actual array satisfies the given condition.
+   */
+  public ObjectArrayAssert areNot(Condition<?> condition) {
+    conditions.assertAreNot(info, actual, condition);
+    return this;
+  }
+
+  /**
+   * Verifies that at least the given number of elements of the actual array satisfy the given condition. Evaluation
+   * stops as soon as enough elements satisfy it.
+   * @param times the minimum number of elements that should satisfy the given condition.
+   * @param condition the given condition.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws IllegalArgumentException if the given number of elements is negative.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if less elements of the actual array than the given number satisfy the given condition.
+   */
+  public ObjectArrayAssert areAtLeast(int times, Condition<?> condition) {
+    conditions.assertAreAtLeast(info, actual, times, condition);
+    return this;
+  }
+
+  /**
+   * Verifies that exactly the given number of elements of the actual array satisfy the given condition. Evaluation
+   * stops as soon as too many elements satisfy it.
+   * @param times the number of elements that should satisfy the given condition.
+   * @param condition the given condition.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws IllegalArgumentException if the given number of elements is negative.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if the number of elements of the actual array satisfying the given condition is not the
+   *           given one.
+   */
+  public ObjectArrayAssert areExactly(int times, Condition<?> condition) {
+    conditions.assertAreExactly(info, actual, times, condition);
+    return this;
+  }
+
+  /**
+   * Evaluates the conditions given to the following assertions against the elements of the actual array in parallel,
+   * using a thread pool shared by all assertions. Worth it for conditions expensive to evaluate against large groups.
+   * Conditions must then be safe to evaluate from several threads at once.
+   * @return {@code this} assertion object.
+   */
+  public ObjectArrayAssert evaluatingConditionsInParallel() {
+    conditions = Conditions.parallelInstance();
+    return this;
+  }
+
   /** {@inheritDoc} */
   public ObjectArrayAssert isSorted() {
     arrays.assertIsSorted(info, actual);
@@ -0,0 +1,96 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import java.io.Reader;
+
+import org.fest.assertions.internal.Readers;
+import org.fest.assertions.internal.ReadersException;
+import org.fest.util.VisibleForTesting;
+
+/**
+ * Assertion methods for the content of {@code Reader}s. The content is streamed and never fully held in memory.
+ * <p>
+ * Each assertion consumes (part of) the actual {@code Reader}: verifying something else requires a new {@code Reader}
+ * over the same content. The actual {@code Reader} is not closed.
+ * </p>
+ * <p>
+ * To create a new instance of this class, invoke <code>{@link Assertions#assertThat(Reader)}</code>.
+ * </p>
+ */
+public class ReaderAssert extends AbstractAssert<ReaderAssert, Reader> {
+
+  @VisibleForTesting Readers readers = Readers.instance();
+
+  protected ReaderAssert(Reader actual) {
+    super(actual, ReaderAssert.class);
+  }
+
+  /**
+   * Verifies that the number of characters read from the actual {@code Reader} is equal to the given one.
+   * @param expected the expected number of characters.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code Reader} is {@code null}.
+   * @throws AssertionError if the number of characters read from the actual {@code Reader} is not equal to the given
+   *           one.
+   * @throws ReadersException if an I/O error occurs.
+   */
+  public ReaderAssert hasSize(long expected) {
+    readers.assertHasSize(info, actual, expected);
+    return this;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code Reader} contains the given sequence.
+   * @param sequence the sequence to search for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given sequence is {@code null}.
+   * @throws AssertionError if the actual {@code Reader} is {@code null}.
+   * @throws AssertionError if the content of the actual {@code Reader} does not contain the given one.
+   * @throws ReadersException if an I/O error occurs.
+   */
+  public ReaderAssert contains(String sequence) {
+    readers.assertContains(info, actual, sequence);
+    return this;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code Reader} starts with the given prefix.
+   * @param prefix the given prefix.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given prefix is {@code null}.
+   * @throws AssertionError if the actual {@code Reader} is {@code null}.
+   * @throws AssertionError if the content of the actual {@code Reader} does not start with the given prefix.
+   * @throws ReadersException if an I/O error occurs.
+   */
+  public ReaderAssert startsWith(String prefix) {
+    readers.assertStartsWith(info, actual, prefix);
+    return this;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code Reader} ends with the given suffix.
+   * @param suffix the given suffix.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given suffix is {@code null}.
+   * @throws AssertionError if the actual {@code Reader} is {@code null}.
+   * @throws AssertionError if the content of the actual {@code Reader} does not end with the given suffix.
+   * @throws ReadersException if an I/O error occurs.
+   */
+  public ReaderAssert endsWith(String suffix) {
+    readers.assertEndsWith(info, actual, suffix);
+    return this;
+  }
+}
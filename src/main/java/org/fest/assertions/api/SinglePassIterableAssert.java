@@ -0,0 +1,160 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import org.fest.assertions.core.WritableAssertionInfo;
+import org.fest.assertions.internal.IterableChecks;
+import org.fest.util.VisibleForTesting;
+
+/**
+ * Assertions on an <code>{@link Iterable}</code> verified together, iterating over its elements only once.
+ * <p>
+ * To create a new instance of this class, invoke <code>{@link AbstractIterableAssert#inSinglePass()}</code>.
+ * Assertions are only recorded, they are verified when <code>{@link #verify()}</code> is called: each element is given
+ * to all the recorded assertions still needing elements, and the iteration stops as soon as the outcome of all of them
+ * is known. The first assertion, in the order they were recorded, that does not pass fails with the same error as the
+ * assertion of the same name in <code>{@link AbstractIterableAssert}</code>:
+ *
+ * <pre>
+ * assertThat(rows).inSinglePass().hasSize(1000).doesNotContainNull().doesNotHaveDuplicates().verify();
+ * </pre>
+ *
+ * Nothing is verified if <code>{@link #verify()}</code> is not called.
+ * </p>
+ * @param <S> the type of the assertion object which created this one.
+ */
+public class SinglePassIterableAssert<S> {
+
+  @VisibleForTesting final WritableAssertionInfo info;
+  @VisibleForTesting final Iterable<?> actual;
+  @VisibleForTesting IterableChecks checks;
+  private final S assertion;
+
+  SinglePassIterableAssert(WritableAssertionInfo info, Iterable<?> actual, IterableChecks checks, S assertion) {
+    this.info = info;
+    this.actual = actual;
+    this.checks = checks;
+    this.assertion = assertion;
+  }
+
+  /**
+   * Records the verification that the actual {@code Iterable} is not empty.
+   * @return {@code this} assertion object.
+   * @see AbstractIterableAssert#isNotEmpty()
+   */
+  public SinglePassIterableAssert<S> isNotEmpty() {
+    checks.assertNotEmpty();
+    return this;
+  }
+
+  /**
+   * Records the verification that the number of elements in the actual {@code Iterable} is equal to the given one.
+   * @param expected the expected number of elements.
+   * @return {@code this} assertion object.
+   * @see AbstractIterableAssert#hasSize(int)
+   */
+  public SinglePassIterableAssert<S> hasSize(int expected) {
+    checks.assertHasSize(expected);
+    return this;
+  }
+
+  /**
+   * Records the verification that the actual {@code Iterable} contains the given values, in any order.
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @see AbstractIterableAssert#contains(Object...)
+   */
+  public SinglePassIterableAssert<S> contains(Object... values) {
+    checks.assertContains(values);
+    return this;
+  }
+
+  /**
+   * Records the verification that the actual {@code Iterable} contains only the given values and nothing else, in any
+   * order.
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @see AbstractIterableAssert#containsOnly(Object...)
+   */
+  public SinglePassIterableAssert<S> containsOnly(Object... values) {
+    checks.assertContainsOnly(values);
+    return this;
+  }
+
+  /**
+   * Records the verification that the actual {@code Iterable} does not contain any of the given values.
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @see AbstractIterableAssert#doesNotContain(Object...)
+   */
+  public SinglePassIterableAssert<S> doesNotContain(Object... values) {
+    checks.assertDoesNotContain(values);
+    return this;
+  }
+
+  /**
+   * Records the verification that the actual {@code Iterable} does not contain duplicates.
+   * @return {@code this} assertion object.
+   * @see AbstractIterableAssert#doesNotHaveDuplicates()
+   */
+  public SinglePassIterableAssert<S> doesNotHaveDuplicates() {
+    checks.assertDoesNotHaveDuplicates();
+    return this;
+  }
+
+  /**
+   * Records the verification that the actual {@code Iterable} starts with the given sequence of objects.
+   * @param sequence the sequence of objects to look for.
+   * @return {@code this} assertion object.
+   * @see AbstractIterableAssert#startsWith(Object...)
+   */
+  public SinglePassIterableAssert<S> startsWith(Object... sequence) {
+    checks.assertStartsWith(sequence);
+    return this;
+  }
+
+  /**
+   * Records the verification that the actual {@code Iterable} contains at least a {@code null} element.
+   * @return {@code this} assertion object.
+   * @see AbstractIterableAssert#containsNull()
+   */
+  public SinglePassIterableAssert<S> containsNull() {
+    checks.assertContainsNull();
+    return this;
+  }
+
+  /**
+   * Records the verification that the actual {@code Iterable} does not contain {@code null} elements.
+   * @return {@code this} assertion object.
+   * @see AbstractIterableAssert#doesNotContainNull()
+   */
+  public SinglePassIterableAssert<S> doesNotContainNull() {
+    checks.assertDoesNotContainNull();
+    return this;
+  }
+
+  /**
+   * Verifies all the recorded assertions, iterating over the elements of the actual {@code Iterable} at most once.
+   * @return the assertion object which created this one, to chain other assertions.
+   * @throws NullPointerException if the values or sequence given to a recorded assertion are {@code null}.
+   * @throws IllegalArgumentException if the values or sequence given to a recorded assertion are empty.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null} and at least one assertion was recorded.
+   * @throws AssertionError if the actual {@code Iterable} does not satisfy one of the recorded assertions.
+   */
+  public S verify() {
+    checks.verify(info, actual);
+    return assertion;
+  }
+}
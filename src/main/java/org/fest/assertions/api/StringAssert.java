@@ -114,6 +114,54 @@ public class StringAssert extends AbstractAssert<StringAssert, String> implement
     return this;
   }
 
+  /**
+   * Verifies that the actual {@code String} contains all the given sequences, in any order. The actual {@code String}
+   * is scanned only once, whatever the number of sequences.
+   * @param sequences the sequences to search for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given array of sequences is {@code null}.
+   * @throws IllegalArgumentException if the given array of sequences is empty.
+   * @throws NullPointerException if any of the given sequences is {@code null}.
+   * @throws AssertionError if the actual {@code String} is {@code null}.
+   * @throws AssertionError if the actual {@code String} does not contain all the given sequences.
+   */
+  public StringAssert containsAll(String... sequences) {
+    strings.assertContainsAll(info, actual, sequences);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code String} contains at least one of the given sequences. The actual {@code String} is
+   * scanned only once, whatever the number of sequences.
+   * @param sequences the sequences to search for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given array of sequences is {@code null}.
+   * @throws IllegalArgumentException if the given array of sequences is empty.
+   * @throws NullPointerException if any of the given sequences is {@code null}.
+   * @throws AssertionError if the actual {@code String} is {@code null}.
+   * @throws AssertionError if the actual {@code String} does not contain any of the given sequences.
+   */
+  public StringAssert containsAny(String... sequences) {
+    strings.assertContainsAny(info, actual, sequences);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code String} does not contain any of the given sequences. The actual {@code String} is
+   * scanned only once, whatever the number of sequences.
+   * @param sequences the sequences to search for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given array of sequences is {@code null}.
+   * @throws IllegalArgumentException if the given array of sequences is empty.
+   * @throws NullPointerException if any of the given sequences is {@code null}.
+   * @throws AssertionError if the actual {@code String} is {@code null}.
+   * @throws AssertionError if the actual {@code String} contains any of the given sequences.
+   */
+  public StringAssert doesNotContainAny(String... sequences) {
+    strings.assertDoesNotContainAny(info, actual, sequences);
+    return this;
+  }
+
   /**
    * Verifies that the actual {@code String} starts with the given prefix.
    * @param prefix the given prefix.
@@ -0,0 +1,112 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import java.util.Date;
+
+import org.fest.assertions.internal.Timestamps;
+import org.fest.util.VisibleForTesting;
+
+/**
+ * Assertion methods for groups of dates, given as milliseconds since the epoch (timestamps). Each assertion checks all
+ * the dates in a single pass, which makes it a lot cheaper than verifying each date with its own
+ * <code>{@link DateAssert}</code>.
+ * <p>
+ * To create a new instance of this class, invoke <code>{@link Assertions#assertThatTimestamps(long[])}</code>.
+ * </p>
+ */
+public class TimestampsAssert extends AbstractAssert<TimestampsAssert, long[]> {
+
+  @VisibleForTesting Timestamps timestamps = Timestamps.instance();
+
+  protected TimestampsAssert(long[] actual) {
+    super(actual, TimestampsAssert.class);
+  }
+
+  /**
+   * Verifies that all the actual dates are in the given period defined by start and end dates.<br>
+   * To include start in the period set inclusiveStart parameter to <code>true</code>.<br>
+   * To include end in the period set inclusiveEnd parameter to <code>true</code>.<br>
+   * @param start the period start, expected not to be null.
+   * @param end the period end, expected not to be null.
+   * @param inclusiveStart wether to include start date in period.
+   * @param inclusiveEnd wether to include end date in period.
+   * @return this assertion object.
+   * @throws AssertionError if the actual dates are {@code null}.
+   * @throws NullPointerException if start {@code Date} is {@code null}.
+   * @throws NullPointerException if end {@code Date} is {@code null}.
+   * @throws AssertionError if one of the actual dates is not in the given period.
+   */
+  public TimestampsAssert allInRange(Date start, Date end, boolean inclusiveStart, boolean inclusiveEnd) {
+    timestamps.assertAllInRange(info, actual, start, end, inclusiveStart, inclusiveEnd);
+    return this;
+  }
+
+  /**
+   * Verifies that all the actual dates are in [start, end[ period (start included, end excluded).
+   * @param start the period start (inclusive), expected not to be null.
+   * @param end the period end (exclusive), expected not to be null.
+   * @return this assertion object.
+   * @throws AssertionError if the actual dates are {@code null}.
+   * @throws NullPointerException if start {@code Date} is {@code null}.
+   * @throws NullPointerException if end {@code Date} is {@code null}.
+   * @throws AssertionError if one of the actual dates is not in [start, end[ period.
+   */
+  public TimestampsAssert allInRange(Date start, Date end) {
+    return allInRange(start, end, true, false);
+  }
+
+  /**
+   * Verifies that each of the actual dates is strictly after the previous one.
+   * @return this assertion object.
+   * @throws AssertionError if the actual dates are {@code null}.
+   * @throws AssertionError if one of the actual dates is before or equal to the previous one.
+   */
+  public TimestampsAssert areStrictlyIncreasing() {
+    timestamps.assertStrictlyIncreasing(info, actual);
+    return this;
+  }
+
+  /**
+   * Verifies that the gap between each of the actual dates and the previous one is at most the given one.
+   * <p>
+   * Use handy TimeUnit to convert a duration in milliseconds, for example you can express a gap of 5 seconds with
+   * <code>TimeUnit.SECONDS.toMillis(5)</code>.
+   * </p>
+   * @param maxGapInMilliseconds the maximum gap, in milliseconds.
+   * @return this assertion object.
+   * @throws IllegalArgumentException if the maximum gap is negative.
+   * @throws AssertionError if the actual dates are {@code null}.
+   * @throws AssertionError if the gap between one of the actual dates and the previous one is greater than the given
+   *           one.
+   */
+  public TimestampsAssert maxGapIsAtMost(long maxGapInMilliseconds) {
+    timestamps.assertMaxGapIsAtMost(info, actual, maxGapInMilliseconds);
+    return this;
+  }
+
+  /**
+   * Verifies that all the actual dates are in the same year, month and day of month as the given date.
+   * @param other the date to compare actual dates to.
+   * @return this assertion object.
+   * @throws NullPointerException if other {@code Date} is {@code null}.
+   * @throws AssertionError if the actual dates are {@code null}.
+   * @throws AssertionError if one of the actual dates is not in the same day as the given date.
+   */
+  public TimestampsAssert allInSameDayAs(Date other) {
+    timestamps.assertAllInSameDayAs(info, actual, other);
+    return this;
+  }
+}
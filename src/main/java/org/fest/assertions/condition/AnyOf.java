@@ -50,6 +50,40 @@ public class AnyOf<T> extends Join<T> {
     return new AnyOf<T>(conditions);
   }
 
+  /**
+   * Creates a new <code>{@link AnyOf}</code> evaluating the given conditions in the order most likely to give the
+   * result quickly, their costs being measured on the fly. To give the relative cost of each condition instead, pass
+   * them to <code>{@link #evaluatedByCost(double...)}</code> on the created {@code AnyOf}.
+   * @param <T> the type of object the given condition accept.
+   * @param conditions the conditions to evaluate, which must not rely on being evaluated in the given order.
+   * @return the created {@code AnyOf}.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @throws NullPointerException if any of the elements in the given array is {@code null}.
+   * @see Join#evaluatedByCost(double...)
+   */
+  public static <T> AnyOf<T> anyOfEvaluatedByCost(Condition<T>...conditions) {
+    AnyOf<T> join = new AnyOf<T>(conditions);
+    join.evaluatedByCost();
+    return join;
+  }
+
+  /**
+   * Creates a new <code>{@link AnyOf}</code> evaluating the given conditions in the order most likely to give the
+   * result quickly, their costs being measured on the fly. To give the relative cost of each condition instead, pass
+   * them to <code>{@link #evaluatedByCost(double...)}</code> on the created {@code AnyOf}.
+   * @param <T> the type of object the given condition accept.
+   * @param conditions the conditions to evaluate, which must not rely on being evaluated in the given order.
+   * @return the created {@code AnyOf}.
+   * @throws NullPointerException if the given collection is {@code null}.
+   * @throws NullPointerException if any of the elements in the given collection is {@code null}.
+   * @see Join#evaluatedByCost(double...)
+   */
+  public static <T> AnyOf<T> anyOfEvaluatedByCost(Collection<Condition<T>> conditions) {
+    AnyOf<T> join = new AnyOf<T>(conditions);
+    join.evaluatedByCost();
+    return join;
+  }
+
   private AnyOf(Condition<T>...conditions) {
     super(conditions);
   }
@@ -60,9 +94,7 @@ public class AnyOf<T> extends Join<T> {
 
   /** {@inheritDoc} */
   @Override public boolean matches(T value) {
-    for (Condition<T> condition : conditions)
-      if (condition.matches(value)) return true;
-    return false;
+    return anyConditionReturns(true, value);
   }
 
   @Override public String toString() {
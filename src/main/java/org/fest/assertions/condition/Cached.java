@@ -0,0 +1,146 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.condition;
+
+import org.fest.assertions.core.Condition;
+import org.fest.assertions.internal.LruCache;
+import org.fest.util.VisibleForTesting;
+
+/**
+ * Decorates a <code>{@link Condition}</code>, remembering whether values matched it so that evaluating it again against
+ * the same value does not evaluate the decorated condition. Useful for expensive conditions (e.g. deep checks on object
+ * graphs) evaluated many times against the same values.
+ * <p>
+ * Values are either looked up by equality or by identity. Looking up by equality assumes that values are not modified
+ * once evaluated, otherwise the result of a previous evaluation may be used for a value that now matches differently.
+ * The number of remembered results is bounded: when the cache is full, the least recently used result is evicted.
+ * </p>
+ * <p>
+ * The description of the created condition is the one of the decorated condition when it is created.
+ * </p>
+ * @param <T> the type of object this condition accepts.
+ */
+public class Cached<T> extends Condition<T> {
+
+  /** Default maximum number of results remembered by a cached condition. */
+  public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+  /**
+   * Creates a new <code>{@link Cached}</code> condition, looking values up by equality and remembering at most
+   * <code>{@link #DEFAULT_MAXIMUM_SIZE}</code> results.
+   * @param <T> the type of object the given condition accept.
+   * @param condition the condition to decorate.
+   * @return the created {@code Cached} condition.
+   * @throws NullPointerException if the given condition is {@code null}.
+   */
+  public static <T> Cached<T> cached(Condition<T> condition) {
+    return cached(condition, DEFAULT_MAXIMUM_SIZE);
+  }
+
+  /**
+   * Creates a new <code>{@link Cached}</code> condition, looking values up by equality.
+   * @param <T> the type of object the given condition accept.
+   * @param condition the condition to decorate.
+   * @param maximumSize the maximum number of results to remember.
+   * @return the created {@code Cached} condition.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws IllegalArgumentException if the given size is negative.
+   */
+  public static <T> Cached<T> cached(Condition<T> condition, int maximumSize) {
+    return new Cached<T>(condition, maximumSize, false);
+  }
+
+  /**
+   * Creates a new <code>{@link Cached}</code> condition, looking values up by identity and remembering at most
+   * <code>{@link #DEFAULT_MAXIMUM_SIZE}</code> results.
+   * @param <T> the type of object the given condition accept.
+   * @param condition the condition to decorate.
+   * @return the created {@code Cached} condition.
+   * @throws NullPointerException if the given condition is {@code null}.
+   */
+  public static <T> Cached<T> cachedByIdentity(Condition<T> condition) {
+    return cachedByIdentity(condition, DEFAULT_MAXIMUM_SIZE);
+  }
+
+  /**
+   * Creates a new <code>{@link Cached}</code> condition, looking values up by identity.
+   * @param <T> the type of object the given condition accept.
+   * @param condition the condition to decorate.
+   * @param maximumSize the maximum number of results to remember.
+   * @return the created {@code Cached} condition.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws IllegalArgumentException if the given size is negative.
+   */
+  public static <T> Cached<T> cachedByIdentity(Condition<T> condition, int maximumSize) {
+    return new Cached<T>(condition, maximumSize, true);
+  }
+
+  @VisibleForTesting final Condition<T> condition;
+  private final boolean byIdentity;
+  private final LruCache<Object, Boolean> results;
+
+  private Cached(Condition<T> condition, int maximumSize, boolean byIdentity) {
+    super(checkNotNull(condition).description());
+    results = new LruCache<Object, Boolean>(maximumSize);
+    this.condition = condition;
+    this.byIdentity = byIdentity;
+  }
+
+  private static <T> Condition<T> checkNotNull(Condition<T> condition) {
+    if (condition == null) throw new NullPointerException("The condition to cache should not be null");
+    return condition;
+  }
+
+  /** {@inheritDoc} */
+  @Override public boolean matches(T value) {
+    Object key = byIdentity ? new IdentityKey(value) : value;
+    Boolean result = results.get(key);
+    if (result != null) return result;
+    boolean matches = condition.matches(value);
+    results.put(key, matches);
+    return matches;
+  }
+
+  /**
+   * Returns the number of results currently remembered.
+   * @return the number of results currently remembered.
+   */
+  public int size() {
+    return results.size();
+  }
+
+  /**
+   * Forgets all the remembered results.
+   */
+  public void clear() {
+    results.clear();
+  }
+
+  private static class IdentityKey {
+    private final Object value;
+
+    IdentityKey(Object value) {
+      this.value = value;
+    }
+
+    @Override public boolean equals(Object obj) {
+      return obj instanceof IdentityKey && ((IdentityKey) obj).value == value;
+    }
+
+    @Override public int hashCode() {
+      return System.identityHashCode(value);
+    }
+  }
+}
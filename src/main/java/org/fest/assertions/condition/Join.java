@@ -23,14 +23,32 @@ import org.fest.util.VisibleForTesting;
 
 /**
  * Join of two or more <code>{@link Condition}</code>s.
+ * <p>
+ * Joined conditions are evaluated in the order they were given, unless evaluation by cost has been enabled with
+ * <code>{@link #evaluatedByCost(double...)}</code>. Either way, the description of the join always lists the conditions
+ * in the order they were given.
+ * </p>
  * @param <T> the type of object this condition accepts.
  *
  * @author Yvonne Wang
  */
 public abstract class Join<T> extends Condition<T> {
 
+  /** Number of evaluations of this join between two computations of the evaluation order. */
+  private static final int REORDERING_INTERVAL = 64;
+
+  /** Only one evaluation out of this number is timed, to keep the cost of measuring low. */
+  private static final int TIMING_INTERVAL = 8;
+
   @VisibleForTesting final Collection<Condition<T>> conditions;
 
+  private final Condition<T>[] members;
+  private final Statistics[] statistics;
+  private double[] costHints;
+  @VisibleForTesting volatile boolean evaluatedByCost;
+  @VisibleForTesting volatile int[] evaluationOrder;
+  private int evaluationsSinceReordering;
+
   /**
    * Creates a new </code>{@link Join}</code>.
    * @param conditions the conditions to join.
@@ -38,7 +56,7 @@ public abstract class Join<T> extends Condition<T> {
    * @throws NullPointerException if any of the elements in the given array is {@code null}.
    */
   protected Join(Condition<T>...conditions) {
-    this.conditions = listWithoutNulls(conditions);
+    this(listWithoutNulls(conditions));
   }
 
   private static <T> List<Condition<T>> listWithoutNulls(Condition<T>...conditions) {
@@ -55,7 +73,19 @@ public abstract class Join<T> extends Condition<T> {
    * @throws NullPointerException if any of the elements in the given collection is {@code null}.
    */
   protected Join(Collection<Condition<T>> conditions) {
-    this.conditions = listWithoutNulls(conditions);
+    this(listWithoutNulls(conditions));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Join(List<Condition<T>> conditions) {
+    this.conditions = conditions;
+    members = conditions.toArray(new Condition[conditions.size()]);
+    statistics = new Statistics[members.length];
+    evaluationOrder = new int[members.length];
+    for (int i = 0; i < members.length; i++) {
+      statistics[i] = new Statistics();
+      evaluationOrder[i] = i;
+    }
   }
 
   private static <T> List<Condition<T>> listWithoutNulls(Collection<Condition<T>> conditions) {
@@ -81,4 +111,117 @@ public abstract class Join<T> extends Condition<T> {
   protected final Collection<Condition<T>> conditions() {
     return unmodifiableCollection(conditions);
   }
+
+  /**
+   * Lets this join evaluate the joined conditions in the order most likely to give the result quickly, instead of the
+   * order they were given in. Conditions that are cheap and often decide the result (i.e. often do not match in an
+   * <code>{@link AllOf}</code>, often match in an <code>{@link AnyOf}</code>) are evaluated first.
+   * <p>
+   * The cost of each condition is either given as a hint, in any unit as long as it is the same for all conditions, or
+   * measured on the fly when no hint is given. How often each condition decides the result is always measured on the
+   * fly, and the evaluation order is recomputed regularly. The joined conditions must therefore not rely on being
+   * evaluated in a given order (e.g. a condition checking for {@code null} before another one dereferences the value).
+   * </p>
+   * @param costHints the relative cost of each joined condition, in the order they were given; or nothing to measure
+   *          the cost of conditions instead.
+   * @return {@code this} join.
+   * @throws IllegalArgumentException if cost hints are given, but not exactly one per joined condition.
+   * @throws IllegalArgumentException if one of the given cost hints is negative.
+   */
+  public final Join<T> evaluatedByCost(double... costHints) {
+    if (costHints != null && costHints.length > 0) {
+      if (costHints.length != members.length)
+        throw new IllegalArgumentException(String.format("Expecting one cost hint per condition (%s) but got %s",
+            members.length, costHints.length));
+      for (double costHint : costHints)
+        if (costHint < 0) throw new IllegalArgumentException("The cost hints should not be negative");
+      this.costHints = costHints.clone();
+    } else {
+      this.costHints = null;
+    }
+    evaluationOrder = evaluationOrderByCost();
+    evaluatedByCost = true;
+    return this;
+  }
+
+  /**
+   * Evaluates the joined conditions against the given value until one of them returns the given result.
+   * @param result the result that decides the outcome of this join.
+   * @param value the value to evaluate the joined conditions against.
+   * @return {@code true} if one of the joined conditions returned the given result, {@code false} otherwise.
+   */
+  protected final boolean anyConditionReturns(boolean result, T value) {
+    if (!evaluatedByCost) {
+      for (Condition<T> condition : members)
+        if (condition.matches(value) == result) return true;
+      return false;
+    }
+    if (++evaluationsSinceReordering >= REORDERING_INTERVAL) {
+      evaluationsSinceReordering = 0;
+      evaluationOrder = evaluationOrderByCost();
+    }
+    boolean timed = costHints == null;
+    for (int i : evaluationOrder) {
+      Statistics statisticsOfCondition = statistics[i];
+      boolean matches;
+      if (timed && statisticsOfCondition.evaluations++ % TIMING_INTERVAL == 0) {
+        long start = System.nanoTime();
+        matches = members[i].matches(value);
+        statisticsOfCondition.timedNanos += System.nanoTime() - start;
+        statisticsOfCondition.timedEvaluations++;
+      } else {
+        if (!timed) statisticsOfCondition.evaluations++;
+        matches = members[i].matches(value);
+      }
+      if (matches == result) {
+        statisticsOfCondition.decisions++;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Sorts the joined conditions by expected cost of deciding the result of this join, which is their cost divided by the
+   * probability that they decide it. Ties are kept in the order the conditions were given.
+   */
+  private int[] evaluationOrderByCost() {
+    final double[] rank = new double[members.length];
+    Integer[] order = new Integer[members.length];
+    for (int i = 0; i < members.length; i++) {
+      Statistics statisticsOfCondition = statistics[i];
+      double cost = costHints != null ? costHints[i] : statisticsOfCondition.averageNanos();
+      // smoothed so that conditions rarely evaluated yet are neither never nor always tried first
+      double probabilityOfResult = (statisticsOfCondition.decisions + 1d) / (statisticsOfCondition.evaluations + 2d);
+      rank[i] = cost / probabilityOfResult;
+      order[i] = i;
+    }
+    Arrays.sort(order, new Comparator<Integer>() {
+      public int compare(Integer i1, Integer i2) {
+        return Double.compare(rank[i1], rank[i2]);
+      }
+    });
+    int[] evaluationOrder = new int[order.length];
+    for (int i = 0; i < order.length; i++)
+      evaluationOrder[i] = order[i];
+    return evaluationOrder;
+  }
+
+  /**
+   * What has been observed of the evaluations of a joined condition. Counters are updated without synchronization, they
+   * may miss some evaluations when this join is used by several threads at once, which only makes the evaluation order
+   * slightly less accurate.
+   */
+  private static class Statistics {
+    long evaluations;
+    long decisions;
+    long timedEvaluations;
+    long timedNanos;
+
+    double averageNanos() {
+      // at least one nanosecond, so that how often a condition decides the result still matters for fast conditions
+      if (timedEvaluations == 0) return 1;
+      return Math.max(1, (double) timedNanos / timedEvaluations);
+    }
+  }
 }
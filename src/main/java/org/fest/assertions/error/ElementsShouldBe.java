@@ -0,0 +1,41 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import org.fest.assertions.core.Condition;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that all elements of a group satisfy a
+ * <code>{@link Condition}</code> failed.
+ */
+public class ElementsShouldBe extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new </code>{@link ElementsShouldBe}</code>.
+   * @param actual the actual value in the failed assertion.
+   * @param index the index of the first element not satisfying the condition.
+   * @param element the first element not satisfying the condition.
+   * @param condition the {@code Condition}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory elementsShouldBe(Object actual, int index, Object element, Condition<?> condition) {
+    return new ElementsShouldBe(actual, index, element, condition);
+  }
+
+  private ElementsShouldBe(Object actual, int index, Object element, Condition<?> condition) {
+    super("expecting all elements of:<%s> to be:<%s> but element at index %s:<%s> was not", actual, condition, index,
+        element);
+  }
+}
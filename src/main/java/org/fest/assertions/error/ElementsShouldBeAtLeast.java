@@ -0,0 +1,41 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import org.fest.assertions.core.Condition;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that at least a given number of elements of a
+ * group satisfy a <code>{@link Condition}</code> failed.
+ */
+public class ElementsShouldBeAtLeast extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new </code>{@link ElementsShouldBeAtLeast}</code>.
+   * @param actual the actual value in the failed assertion.
+   * @param times the minimum expected number of elements satisfying the condition.
+   * @param found the number of elements satisfying the condition.
+   * @param condition the {@code Condition}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory elementsShouldBeAtLeast(Object actual, int times, int found,
+      Condition<?> condition) {
+    return new ElementsShouldBeAtLeast(actual, times, found, condition);
+  }
+
+  private ElementsShouldBeAtLeast(Object actual, int times, int found, Condition<?> condition) {
+    super("expecting at least %s elements of:<%s> to be:<%s> but only %s were", times, actual, condition, found);
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import org.fest.assertions.core.Condition;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that exactly a given number of elements of a
+ * group satisfy a <code>{@link Condition}</code> failed.
+ */
+public class ElementsShouldBeExactly extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new </code>{@link ElementsShouldBeExactly}</code>.
+   * @param actual the actual value in the failed assertion.
+   * @param times the expected number of elements satisfying the condition.
+   * @param found the number of elements satisfying the condition, if lower than expected; any number greater than
+   *          expected otherwise.
+   * @param condition the {@code Condition}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory elementsShouldBeExactly(Object actual, int times, int found,
+      Condition<?> condition) {
+    if (found > times) return new ElementsShouldBeExactly(
+        "expecting exactly %s elements of:<%s> to be:<%s> but more were", times, actual, condition);
+    return new ElementsShouldBeExactly("expecting exactly %s elements of:<%s> to be:<%s> but only %s were", times,
+        actual, condition, found);
+  }
+
+  private ElementsShouldBeExactly(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
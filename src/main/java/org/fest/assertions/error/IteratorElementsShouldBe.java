@@ -0,0 +1,41 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import org.fest.assertions.core.Condition;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that all elements returned by an
+ * {@code Iterator} satisfy a <code>{@link Condition}</code> failed.
+ */
+public class IteratorElementsShouldBe extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new </code>{@link IteratorElementsShouldBe}</code>.
+   * @param index the index of the first element not satisfying the condition.
+   * @param element the first element not satisfying the condition.
+   * @param condition the {@code Condition}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory iteratorElementsShouldBe(long index, Object element, Condition<?> condition) {
+    return new IteratorElementsShouldBe(index, element, condition);
+  }
+
+  private IteratorElementsShouldBe(long index, Object element, Condition<?> condition) {
+    // indexes are part of the format since longs are shown with a trailing 'L'
+    super("expecting all elements of iterator to be:<%s> but element at index " + index + ":<%s> was not", condition,
+        element);
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that an {@code Iterator} returns the given values
+ * failed. Iterators can't be iterated again, so only the number of elements iterated over is shown.
+ */
+public class IteratorShouldContain extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new </code>{@link IteratorShouldContain}</code>.
+   * @param iterated the number of elements returned by the actual iterator in the failed assertion.
+   * @param expected the values expected to be returned by the actual iterator.
+   * @param notFound the values in {@code expected} not returned by the actual iterator.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory iteratorShouldContain(long iterated, Object expected, Object notFound) {
+    return new IteratorShouldContain(iterated, expected, notFound);
+  }
+
+  private IteratorShouldContain(long iterated, Object expected, Object notFound) {
+    // counts are part of the format since longs are shown with a trailing 'L'
+    super("expecting iterator to contain:<%s> but could not find:<%s> in its " + iterated + " elements", expected,
+        notFound);
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that an {@code Iterator} returns a given number
+ * of elements failed. Iterators may be unbounded, so they are not iterated past the expected size.
+ */
+public class IteratorShouldHaveSize extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new </code>{@link IteratorShouldHaveSize}</code>.
+   * @param expectedSize the expected number of elements.
+   * @param size the number of elements of the actual iterator, smaller than the expected one.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory iteratorShouldHaveSize(int expectedSize, int size) {
+    return new IteratorShouldHaveSize("expecting iterator to have size:<%s> but it had:<%s>", expectedSize, size);
+  }
+
+  /**
+   * Creates a new </code>{@link IteratorShouldHaveSize}</code>, for an iterator having more elements than expected.
+   * @param expectedSize the expected number of elements.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory iteratorShouldNotHaveMoreElements(int expectedSize) {
+    return new IteratorShouldHaveSize("expecting iterator to have size:<%s> but it had more elements", expectedSize);
+  }
+
+  private IteratorShouldHaveSize(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that an {@code Iterator} does not return the
+ * given values failed.
+ */
+public class IteratorShouldNotContain extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new </code>{@link IteratorShouldNotContain}</code>.
+   * @param unexpected the values expected not to be returned by the actual iterator.
+   * @param index the index of the first element of the actual iterator in {@code unexpected}.
+   * @param found the first element of the actual iterator in {@code unexpected}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory iteratorShouldNotContain(Object unexpected, long index, Object found) {
+    return new IteratorShouldNotContain(unexpected, index, found);
+  }
+
+  private IteratorShouldNotContain(Object unexpected, long index, Object found) {
+    // indexes are part of the format since longs are shown with a trailing 'L'
+    super("expecting iterator not to contain:<%s> but found element at index " + index + ":<%s>", unexpected, found);
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that an {@code Iterator} starts with the given
+ * sequence of objects failed.
+ */
+public class IteratorShouldStartWith extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new </code>{@link IteratorShouldStartWith}</code>.
+   * @param sequence the sequence of objects expected to be returned first by the actual iterator.
+   * @param index the index of the first element of the actual iterator not matching the sequence.
+   * @param element the first element of the actual iterator not matching the sequence.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory iteratorShouldStartWith(Object sequence, int index, Object element) {
+    return new IteratorShouldStartWith("expecting iterator to start with:<%s> but found element at index %s:<%s>",
+        sequence, index, element);
+  }
+
+  /**
+   * Creates a new </code>{@link IteratorShouldStartWith}</code>.
+   * @param sequence the sequence of objects expected to be returned first by the actual iterator.
+   * @param size the number of elements of the actual iterator, smaller than the sequence.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory iteratorShouldStartWith(Object sequence, int size) {
+    return new IteratorShouldStartWith("expecting iterator to start with:<%s> but it only had %s elements", sequence,
+        size);
+  }
+
+  private IteratorShouldStartWith(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import org.fest.assertions.core.Condition;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a {@code Future} is completed with a value
+ * satisfying a <code>{@link Condition}</code> failed.
+ */
+public class ShouldBeCompletedWithValueMatching extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new </code>{@link ShouldBeCompletedWithValueMatching}</code>, for a {@code Future} not completed yet.
+   * @param condition the {@code Condition}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeCompleted(Condition<?> condition) {
+    return new ShouldBeCompletedWithValueMatching("it was not completed", condition);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldBeCompletedWithValueMatching}</code>, for a {@code Future} which failed or was
+   * cancelled.
+   * @param condition the {@code Condition}.
+   * @param failure the exception thrown by the computation of the {@code Future}, or the
+   *          {@code CancellationException} if it was cancelled.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeCompletedSuccessfully(Condition<?> condition, Throwable failure) {
+    return new ShouldBeCompletedWithValueMatching("it failed with:<%s>", condition, failure);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldBeCompletedWithValueMatching}</code>, for a {@code Future} whose value does not
+   * satisfy the {@code Condition}.
+   * @param condition the {@code Condition}.
+   * @param value the result of the {@code Future}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeCompletedWithValueMatching(Condition<?> condition, Object value) {
+    return new ShouldBeCompletedWithValueMatching("it was completed with:<%s>", condition, value);
+  }
+
+  private ShouldBeCompletedWithValueMatching(String outcome, Object... arguments) {
+    super("expecting future to be completed with a value matching:<%s> but " + outcome, arguments);
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import java.util.Date;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that dates are strictly increasing failed.
+ */
+public class ShouldBeStrictlyIncreasing extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new </code>{@link ShouldBeStrictlyIncreasing}</code>.
+   * @param index the index of the first date not after the previous one.
+   * @param date the first date not after the previous one.
+   * @param previous the date preceding {@code date}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeStrictlyIncreasing(int index, Date date, Date previous) {
+    return new ShouldBeStrictlyIncreasing(index, date, previous);
+  }
+
+  private ShouldBeStrictlyIncreasing(int index, Date date, Date previous) {
+    super("expected dates to be strictly increasing but date at index %s:<%s> was not after previous date:<%s>",
+        index, date, previous);
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import org.fest.util.ComparisonStrategy;
+import org.fest.util.StandardComparisonStrategy;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a group of elements contains at least one
+ * of a given set of values failed. A group of elements can be a collection, an array or a {@code String}.<br>
+ * It also mention the {@link ComparisonStrategy} used.
+ */
+public class ShouldContainAnyOf extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldContainAnyOf}</code>.
+   * @param actual the actual value in the failed assertion.
+   * @param expected values of which at least one is expected to be in {@code actual}.
+   * @param comparisonStrategy the {@link ComparisonStrategy} used to evaluate assertion.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContainAnyOf(Object actual, Object expected,
+      ComparisonStrategy comparisonStrategy) {
+    return new ShouldContainAnyOf(actual, expected, comparisonStrategy);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldContainAnyOf}</code>.
+   * @param actual the actual value in the failed assertion.
+   * @param expected values of which at least one is expected to be in {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContainAnyOf(Object actual, Object expected) {
+    return new ShouldContainAnyOf(actual, expected, StandardComparisonStrategy.instance());
+  }
+
+  private ShouldContainAnyOf(Object actual, Object expected, ComparisonStrategy comparisonStrategy) {
+    super("expecting:<%s> to contain any of:<%s>%s", actual, expected, comparisonStrategy);
+  }
+}
@@ -32,7 +32,7 @@ public class ShouldContainString extends BasicErrorMessageFactory {
    * @param sequence the sequence of values expected to be in {@code actual}.
    * @return the created {@code ErrorMessageFactory}.
    */
-  public static ErrorMessageFactory shouldContain(String actual, String sequence) {
+  public static ErrorMessageFactory shouldContain(Object actual, String sequence) {
     return new ShouldContainString("expecting:<%s> to contain:<%s>%s", actual, sequence,
         StandardComparisonStrategy.instance());
   }
@@ -44,7 +44,7 @@ public class ShouldContainString extends BasicErrorMessageFactory {
    * @param comparisonStrategy the {@link ComparisonStrategy} used to evaluate assertion.
    * @return the created {@code ErrorMessageFactory}.
    */
-  public static ErrorMessageFactory shouldContain(String actual, String sequence, ComparisonStrategy comparisonStrategy) {
+  public static ErrorMessageFactory shouldContain(Object actual, String sequence, ComparisonStrategy comparisonStrategy) {
     return new ShouldContainString("expecting:<%s> to contain:<%s>%s", actual, sequence, comparisonStrategy);
   }
 
@@ -59,7 +59,7 @@ public class ShouldContainString extends BasicErrorMessageFactory {
         StandardComparisonStrategy.instance());
   }
 
-  private ShouldContainString(String format, String actual, String sequence, ComparisonStrategy comparisonStrategy) {
+  private ShouldContainString(String format, Object actual, String sequence, ComparisonStrategy comparisonStrategy) {
     super(format, actual, sequence, comparisonStrategy);
   }
 }
@@ -0,0 +1,37 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a {@code Map} contains the given values
+ * failed. Maps may be large, so only the size of the actual map is shown.
+ */
+public class ShouldContainValues extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new </code>{@link ShouldContainValues}</code>.
+   * @param actualSize the number of entries of the actual map in the failed assertion.
+   * @param expected the values expected to be in the actual map.
+   * @param notFound the values in {@code expected} not found in the actual map.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContainValues(int actualSize, Object expected, Object notFound) {
+    return new ShouldContainValues(actualSize, expected, notFound);
+  }
+
+  private ShouldContainValues(int actualSize, Object expected, Object notFound) {
+    super("expecting map of size:<%s> to contain values:<%s> but could not find:<%s>", actualSize, expected, notFound);
+  }
+}
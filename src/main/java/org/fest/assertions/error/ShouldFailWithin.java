@@ -0,0 +1,49 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a {@code Future} fails within a timeout
+ * failed.
+ */
+public class ShouldFailWithin extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new </code>{@link ShouldFailWithin}</code>, for a {@code Future} not completed when the timeout expired.
+   * @param timeout the timeout.
+   * @param unit the unit of the timeout.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldFailWithin(long timeout, TimeUnit unit) {
+    return new ShouldFailWithin(timeout, unit, "it was not completed");
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldFailWithin}</code>, for a {@code Future} which completed successfully.
+   * @param timeout the timeout.
+   * @param unit the unit of the timeout.
+   * @param value the result of the {@code Future}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldFailWithin(long timeout, TimeUnit unit, Object value) {
+    return new ShouldFailWithin(timeout, unit, "it succeeded with:<%s>", value);
+  }
+
+  private ShouldFailWithin(long timeout, TimeUnit unit, String outcome, Object... arguments) {
+    super("expecting future to fail within <" + timeout + " " + unit + "> but " + outcome, arguments);
+  }
+}
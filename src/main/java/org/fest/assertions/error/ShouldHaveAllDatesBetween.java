@@ -0,0 +1,45 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import java.util.Date;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that all dates of a group are in a given period
+ * failed.
+ */
+public class ShouldHaveAllDatesBetween extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new </code>{@link ShouldHaveAllDatesBetween}</code>.
+   * @param index the index of the first date not in the given period.
+   * @param date the first date not in the given period.
+   * @param start the lower boundary of date period.
+   * @param end the upper boundary of date period.
+   * @param inclusiveStart wether to include start date in period.
+   * @param inclusiveEnd wether to include end date in period.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveAllDatesBetween(int index, Date date, Date start, Date end,
+      boolean inclusiveStart, boolean inclusiveEnd) {
+    return new ShouldHaveAllDatesBetween(index, date, start, end, inclusiveStart, inclusiveEnd);
+  }
+
+  private ShouldHaveAllDatesBetween(int index, Date date, Date start, Date end, boolean inclusiveStart,
+      boolean inclusiveEnd) {
+    super("expected all dates to be in period %s%s, %s%s but date at index %s:<%s> was not",
+        inclusiveStart ? '[' : ']', start, end, inclusiveEnd ? ']' : '[', index, date);
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import java.util.Date;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that all dates of a group are in same year, month
+ * and day of month as another one failed.
+ */
+public class ShouldHaveAllDatesInSameDay extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new </code>{@link ShouldHaveAllDatesInSameDay}</code>.
+   * @param index the index of the first date not in the same day.
+   * @param date the first date not in the same day.
+   * @param other the date all dates are compared to.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveAllDatesInSameDay(int index, Date date, Date other) {
+    return new ShouldHaveAllDatesInSameDay(index, date, other);
+  }
+
+  private ShouldHaveAllDatesInSameDay(int index, Date date, Date other) {
+    super("expected all dates to be on same year, month and day as <%s> but date at index %s:<%s> was not", other,
+        index, date);
+  }
+}
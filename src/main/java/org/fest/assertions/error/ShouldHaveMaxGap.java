@@ -0,0 +1,43 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import java.util.Date;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the maximum gap between consecutive dates
+ * failed.
+ */
+public class ShouldHaveMaxGap extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new </code>{@link ShouldHaveMaxGap}</code>.
+   * @param index the index of the first date too far from the previous one.
+   * @param date the first date too far from the previous one.
+   * @param previous the date preceding {@code date}.
+   * @param gap the gap between {@code previous} and {@code date}, in milliseconds.
+   * @param maxGap the maximum expected gap, in milliseconds.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveMaxGap(int index, Date date, Date previous, long gap, long maxGap) {
+    return new ShouldHaveMaxGap(index, date, previous, gap, maxGap);
+  }
+
+  private ShouldHaveMaxGap(int index, Date date, Date previous, long gap, long maxGap) {
+    // milliseconds are part of the pattern, as arguments they would be formatted as long literals (e.g. "1000L")
+    super("expected gaps between consecutive dates to be at most " + String.valueOf(maxGap) + " ms but gap between "
+        + "date at index %s:<%s> and previous date:<%s> was of " + String.valueOf(gap) + " ms", index, date, previous);
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import java.util.*;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a {@code Map} has the same entries as
+ * expected failed. Rather than both maps, the message only shows how they differ: the missing keys, the unexpected keys
+ * and the keys whose value is not the expected one. Large maps may differ in many ways, so only the first differences
+ * are shown.
+ */
+public class ShouldHaveSameEntries extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new </code>{@link ShouldHaveSameEntries}</code>.
+   * @param actualSize the number of entries of the actual map in the failed assertion.
+   * @param expectedSize the number of expected entries.
+   * @param differenceCount the number of differences between the actual map and the expected entries.
+   * @param missingKeys the expected keys not found in the actual map, possibly only the first ones.
+   * @param unexpectedKeys the keys of the actual map which were not expected, possibly only the first ones.
+   * @param expectedValues the expected values of the keys whose value differs, possibly only the first ones.
+   * @param actualValues the actual values of the keys whose value differs, in the same order as {@code expectedValues}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameEntries(int actualSize, int expectedSize, int differenceCount,
+      Collection<?> missingKeys, Collection<?> unexpectedKeys, Map<?, ?> expectedValues, Map<?, ?> actualValues) {
+    StringBuilder format = new StringBuilder("expecting map of size:<%s> to have the same entries as map of size:<%s>");
+    format.append(" but found %s difference(s):");
+    List<Object> arguments = new ArrayList<Object>();
+    arguments.add(actualSize);
+    arguments.add(expectedSize);
+    arguments.add(differenceCount);
+    String separator = " ";
+    if (!missingKeys.isEmpty()) {
+      format.append(separator).append("missing keys:<%s>");
+      arguments.add(missingKeys);
+      separator = ", ";
+    }
+    if (!unexpectedKeys.isEmpty()) {
+      format.append(separator).append("unexpected keys:<%s>");
+      arguments.add(unexpectedKeys);
+      separator = ", ";
+    }
+    if (!expectedValues.isEmpty()) {
+      format.append(separator).append("values expected:<%s> but were:<%s>");
+      arguments.add(expectedValues);
+      arguments.add(actualValues);
+    }
+    int shown = missingKeys.size() + unexpectedKeys.size() + expectedValues.size();
+    if (shown < differenceCount) {
+      format.append(" (only the first %s differences are shown)");
+      arguments.add(shown);
+    }
+    return new ShouldHaveSameEntries(format.toString(), arguments.toArray());
+  }
+
+  private ShouldHaveSameEntries(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
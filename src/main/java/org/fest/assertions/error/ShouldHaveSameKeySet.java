@@ -0,0 +1,62 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import java.util.*;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a {@code Map} has the same keys as another
+ * one failed. Rather than both maps, the message only shows the missing and unexpected keys, possibly only the first
+ * ones.
+ */
+public class ShouldHaveSameKeySet extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new </code>{@link ShouldHaveSameKeySet}</code>.
+   * @param actualSize the number of entries of the actual map in the failed assertion.
+   * @param otherSize the number of entries of the map to compare keys with.
+   * @param differenceCount the number of keys found in only one of the maps.
+   * @param missingKeys the keys of the other map not found in the actual map, possibly only the first ones.
+   * @param unexpectedKeys the keys of the actual map not found in the other map, possibly only the first ones.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameKeySet(int actualSize, int otherSize, int differenceCount,
+      Collection<?> missingKeys, Collection<?> unexpectedKeys) {
+    StringBuilder format = new StringBuilder("expecting map of size:<%s> to have the same keys as map of size:<%s>");
+    format.append(" but found %s difference(s):");
+    List<Object> arguments = new ArrayList<Object>();
+    arguments.add(actualSize);
+    arguments.add(otherSize);
+    arguments.add(differenceCount);
+    if (!missingKeys.isEmpty()) {
+      format.append(" missing keys:<%s>");
+      arguments.add(missingKeys);
+    }
+    if (!unexpectedKeys.isEmpty()) {
+      format.append(missingKeys.isEmpty() ? " " : ", ").append("unexpected keys:<%s>");
+      arguments.add(unexpectedKeys);
+    }
+    int shown = missingKeys.size() + unexpectedKeys.size();
+    if (shown < differenceCount) {
+      format.append(" (only the first %s differences are shown)");
+      arguments.add(shown);
+    }
+    return new ShouldHaveSameKeySet(format.toString(), arguments.toArray());
+  }
+
+  private ShouldHaveSameKeySet(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
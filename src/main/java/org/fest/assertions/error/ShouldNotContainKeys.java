@@ -0,0 +1,37 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a {@code Map} does not contain the given
+ * keys failed. Maps may be large, so only the size of the actual map is shown.
+ */
+public class ShouldNotContainKeys extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new </code>{@link ShouldNotContainKeys}</code>.
+   * @param actualSize the number of entries of the actual map in the failed assertion.
+   * @param expected the keys expected not to be in the actual map.
+   * @param found the keys in {@code expected} found in the actual map.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldNotContainKeys(int actualSize, Object expected, Object found) {
+    return new ShouldNotContainKeys(actualSize, expected, found);
+  }
+
+  private ShouldNotContainKeys(int actualSize, Object expected, Object found) {
+    super("expecting map of size:<%s> not to contain keys:<%s> but found:<%s>", actualSize, expected, found);
+  }
+}
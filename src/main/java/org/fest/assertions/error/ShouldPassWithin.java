@@ -0,0 +1,38 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+/**
+ * Creates an error message indicating that assertions evaluated again and again until a timeout did not pass before
+ * the timeout.
+ */
+public class ShouldPassWithin extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new </code>{@link ShouldPassWithin}</code>.
+   * @param timeout the timeout, in milliseconds.
+   * @param attempts the number of times the assertions were evaluated.
+   * @param lastFailure the message of the {@code AssertionError} thrown by the last evaluation of the assertions.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldPassWithin(long timeout, int attempts, String lastFailure) {
+    return new ShouldPassWithin(timeout, attempts, lastFailure);
+  }
+
+  private ShouldPassWithin(long timeout, int attempts, String lastFailure) {
+    super("expecting assertions to pass within <" + timeout + "> ms but they still failed after <" + attempts
+        + "> attempts, last failure was:<%s>", lastFailure);
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a {@code Future} completes successfully
+ * within a timeout failed.
+ */
+public class ShouldSucceedWithin extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new </code>{@link ShouldSucceedWithin}</code>, for a {@code Future} not completed when the timeout
+   * expired.
+   * @param timeout the timeout.
+   * @param unit the unit of the timeout.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldSucceedWithin(long timeout, TimeUnit unit) {
+    return new ShouldSucceedWithin(timeout, unit, "it was not completed");
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldSucceedWithin}</code>, for a {@code Future} which failed or was cancelled.
+   * @param timeout the timeout.
+   * @param unit the unit of the timeout.
+   * @param failure the exception thrown by the computation of the {@code Future}, or the
+   *          {@code CancellationException} if it was cancelled.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldSucceedWithin(long timeout, TimeUnit unit, Throwable failure) {
+    return new ShouldSucceedWithin(timeout, unit, "it failed with:<%s>", failure);
+  }
+
+  private ShouldSucceedWithin(long timeout, TimeUnit unit, String outcome, Object... arguments) {
+    super("expecting future to succeed within <" + timeout + " " + unit + "> but " + outcome, arguments);
+  }
+}
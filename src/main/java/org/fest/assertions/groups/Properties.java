@@ -77,4 +77,29 @@ public class Properties {
   public List<?> from(Object[] array) {
     return propertySupport.propertyValues(propertyName, wrap(array));
   }
+
+  /**
+   * Lazily extracts the values of the property (specified previously in <code>{@link #extractProperty(String)}</code>)
+   * from the elements of the given <code>{@link Collection}</code>: values are read only when the returned
+   * {@code Iterable} is traversed, so assertions that stop early (e.g. {@code contains}) do not read every value.
+   * @param c the given {@code Collection}.
+   * @return the values of the previously specified property extracted from the given {@code Collection}.
+   * @throws IntrospectionError (when traversing the returned {@code Iterable}) if an element in the given
+   * {@code Collection} does not have a property with a matching name.
+   */
+  public Iterable<?> lazilyFrom(Collection<?> c) {
+    return propertySupport.lazyPropertyValues(propertyName, c);
+  }
+
+  /**
+   * Lazily extracts the values of the property (specified previously in <code>{@link #extractProperty(String)}</code>)
+   * from the elements of the given array: values are read only when the returned {@code Iterable} is traversed.
+   * @param array the given array.
+   * @return the values of the previously specified property extracted from the given array.
+   * @throws IntrospectionError (when traversing the returned {@code Iterable}) if an element in the given array does
+   * not have a property with a matching name.
+   */
+  public Iterable<?> lazilyFrom(Object[] array) {
+    return propertySupport.lazyPropertyValues(propertyName, wrap(array));
+  }
 }
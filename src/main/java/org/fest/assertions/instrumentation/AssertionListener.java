@@ -0,0 +1,48 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.instrumentation;
+
+/**
+ * Listener notified every time an assertion of the {@code org.fest.assertions.internal} package has been evaluated, and
+ * every time the message of a failed assertion has been created. Register an implementation with
+ * <code>{@link Instrumentation#setListener(AssertionListener)}</code>.
+ * <p>
+ * Only the outermost assertion is reported: assertions evaluated as part of another one (e.g. checking that the actual
+ * value is not {@code null}) are accounted to the latter. Implementations are called on the thread evaluating the
+ * assertion, they should be thread-safe, fast and should not throw exceptions.
+ * </p>
+ */
+public interface AssertionListener {
+
+  /**
+   * Notified when an assertion has been evaluated. Assertions which threw an exception other than an
+   * {@code AssertionError}, e.g. because they were given invalid arguments, are not reported.
+   * @param assertion the name of the assertion, e.g. {@code "Iterables.assertContains"}.
+   * @param size the number of elements (or characters) of the actual value, or {@code -1} if it is not known.
+   * @param durationInNanos how long it took to evaluate the assertion, in nanoseconds, not including the time it took
+   *          to create its failure message if it failed.
+   * @param passed {@code true} if the assertion passed, {@code false} if it failed.
+   */
+  void assertionEvaluated(String assertion, int size, long durationInNanos, boolean passed);
+
+  /**
+   * Notified when the message of a failed assertion has been created, which may be costly for large values (e.g.
+   * formatting every element of a big collection).
+   * @param assertion the name of the failed assertion, e.g. {@code "Iterables.assertContains"}.
+   * @param messageLength the number of characters of the message.
+   * @param durationInNanos how long it took to create the message and its {@code AssertionError}, in nanoseconds.
+   */
+  void failureMessageRendered(String assertion, int messageLength, long durationInNanos);
+}
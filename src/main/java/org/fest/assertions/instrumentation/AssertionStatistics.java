@@ -0,0 +1,200 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.instrumentation;
+
+import static java.util.Collections.sort;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <code>{@link AssertionListener}</code> keeping, for each assertion, how many times it passed and failed, how many
+ * elements it went through and a <code>{@link LatencyHistogram}</code> of its evaluations, as well as how many
+ * characters its failure messages had and a <code>{@link LatencyHistogram}</code> of their creations. Statistics are
+ * updated without locking, so that measuring assertions evaluated concurrently does not serialize them.
+ * <p>
+ * <code>{@link #toString()}</code> reports the statistics of all the assertions, the most time consuming first.
+ * </p>
+ */
+public class AssertionStatistics implements AssertionListener {
+
+  private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+
+  /** {@inheritDoc} */
+  public void assertionEvaluated(String assertion, int size, long durationInNanos, boolean passed) {
+    entryFor(assertion).recordEvaluation(size, durationInNanos, passed);
+  }
+
+  /** {@inheritDoc} */
+  public void failureMessageRendered(String assertion, int messageLength, long durationInNanos) {
+    entryFor(assertion).recordFailureMessage(messageLength, durationInNanos);
+  }
+
+  private Entry entryFor(String assertion) {
+    Entry entry = entries.get(assertion);
+    if (entry != null) return entry;
+    Entry newEntry = new Entry(assertion);
+    entry = entries.putIfAbsent(assertion, newEntry);
+    return entry != null ? entry : newEntry;
+  }
+
+  /**
+   * Returns the statistics of the given assertion.
+   * @param assertion the name of the assertion, e.g. {@code "Iterables.assertContains"}.
+   * @return the statistics of the given assertion, or {@code null} if it has not been reported.
+   */
+  public Entry statisticsOf(String assertion) {
+    return entries.get(assertion);
+  }
+
+  /**
+   * Returns the statistics of all the reported assertions, the one which took the most time in total first, counting
+   * both the evaluations of the assertions and the creations of their failure messages.
+   * @return the statistics of all the reported assertions.
+   */
+  public List<Entry> byTotalTime() {
+    List<Entry> byTotalTime = new ArrayList<Entry>(entries.values());
+    sort(byTotalTime, new Comparator<Entry>() {
+      public int compare(Entry e1, Entry e2) {
+        long total1 = e1.totalTime();
+        long total2 = e2.totalTime();
+        if (total1 != total2) return total1 > total2 ? -1 : 1;
+        return e1.assertion.compareTo(e2.assertion);
+      }
+    });
+    return byTotalTime;
+  }
+
+  /**
+   * Forgets the statistics of all the assertions.
+   */
+  public void reset() {
+    entries.clear();
+  }
+
+  /**
+   * Reports the statistics of all the reported assertions, one per line, the one which took the most time in total
+   * first.
+   * @return the statistics of all the reported assertions.
+   */
+  @Override public String toString() {
+    StringBuilder b = new StringBuilder();
+    for (Entry entry : byTotalTime())
+      b.append(entry).append(String.format("%n"));
+    return b.toString();
+  }
+
+  /**
+   * Statistics of an assertion.
+   */
+  public static final class Entry {
+
+    private final String assertion;
+    private final AtomicLong passed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong elements = new AtomicLong();
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final AtomicLong characters = new AtomicLong();
+    private final LatencyHistogram failureMessages = new LatencyHistogram();
+
+    Entry(String assertion) {
+      this.assertion = assertion;
+    }
+
+    void recordEvaluation(int size, long durationInNanos, boolean hasPassed) {
+      (hasPassed ? passed : failed).incrementAndGet();
+      if (size > 0) elements.addAndGet(size);
+      latencies.record(durationInNanos);
+    }
+
+    void recordFailureMessage(int messageLength, long durationInNanos) {
+      characters.addAndGet(messageLength);
+      failureMessages.record(durationInNanos);
+    }
+
+    long totalTime() {
+      return latencies.total() + failureMessages.total();
+    }
+
+    /**
+     * Returns the name of the assertion.
+     * @return the name of the assertion.
+     */
+    public String assertion() {
+      return assertion;
+    }
+
+    /**
+     * Returns how many times the assertion passed.
+     * @return how many times the assertion passed.
+     */
+    public long passed() {
+      return passed.get();
+    }
+
+    /**
+     * Returns how many times the assertion failed.
+     * @return how many times the assertion failed.
+     */
+    public long failed() {
+      return failed.get();
+    }
+
+    /**
+     * Returns the total number of elements of the values the assertion was evaluated against, values whose size is not
+     * known not being counted.
+     * @return the total number of elements of the values the assertion was evaluated against.
+     */
+    public long elements() {
+      return elements.get();
+    }
+
+    /**
+     * Returns the durations of the evaluations of the assertion, not including the creations of its failure messages.
+     * @return the durations of the evaluations of the assertion.
+     */
+    public LatencyHistogram latencies() {
+      return latencies;
+    }
+
+    /**
+     * Returns the total number of characters of the failure messages of the assertion.
+     * @return the total number of characters of the failure messages of the assertion.
+     */
+    public long characters() {
+      return characters.get();
+    }
+
+    /**
+     * Returns the durations of the creations of the failure messages of the assertion.
+     * @return the durations of the creations of the failure messages of the assertion.
+     */
+    public LatencyHistogram failureMessages() {
+      return failureMessages;
+    }
+
+    @Override public String toString() {
+      String evaluations = String.format(
+          "%s: passed=%s, failed=%s, elements=%s, total=%sns, mean=%.0fns, p50=%sns, p99=%sns, max=%sns", assertion,
+          passed(), failed(), elements(), latencies.total(), latencies.mean(), latencies.valueAtPercentile(50),
+          latencies.valueAtPercentile(99), latencies.max());
+      if (failureMessages.count() == 0) return evaluations;
+      return evaluations + String.format(", failure messages: count=%s, characters=%s, total=%sns, max=%sns",
+          failureMessages.count(), characters(), failureMessages.total(), failureMessages.max());
+    }
+  }
+}
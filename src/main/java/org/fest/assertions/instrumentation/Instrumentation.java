@@ -0,0 +1,74 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.instrumentation;
+
+/**
+ * Registry of the <code>{@link AssertionListener}</code> notified when assertions are evaluated. By default no listener
+ * is registered and assertions are not measured at all.
+ * <p>
+ * Example: find out which assertions took most of the time of a test suite.
+ * 
+ * <pre>
+ * AssertionStatistics statistics = new AssertionStatistics();
+ * Instrumentation.setListener(statistics);
+ * // run tests...
+ * System.out.println(statistics);
+ * </pre>
+ * 
+ * </p>
+ */
+public final class Instrumentation {
+
+  private static final AssertionListener NO_OP = new AssertionListener() {
+    public void assertionEvaluated(String assertion, int size, long durationInNanos, boolean passed) {}
+
+    public void failureMessageRendered(String assertion, int messageLength, long durationInNanos) {}
+  };
+
+  private static volatile AssertionListener listener = NO_OP;
+
+  /**
+   * Registers the listener to notify when assertions are evaluated, replacing the current one.
+   * @param newListener the listener to register, {@code null} to stop measuring assertions.
+   */
+  public static void setListener(AssertionListener newListener) {
+    listener = newListener == null ? NO_OP : newListener;
+  }
+
+  /**
+   * Stops measuring assertions, removing the registered listener if any.
+   */
+  public static void removeListener() {
+    setListener(null);
+  }
+
+  /**
+   * Returns the listener to notify when assertions are evaluated, a listener doing nothing if none has been registered.
+   * @return the listener to notify when assertions are evaluated.
+   */
+  public static AssertionListener listener() {
+    return listener;
+  }
+
+  /**
+   * Indicates whether a listener has been registered.
+   * @return {@code true} if a listener has been registered, {@code false} otherwise.
+   */
+  public static boolean isEnabled() {
+    return listener != NO_OP;
+  }
+
+  private Instrumentation() {}
+}
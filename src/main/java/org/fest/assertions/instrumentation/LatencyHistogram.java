@@ -0,0 +1,137 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.instrumentation;
+
+import static java.lang.Long.numberOfLeadingZeros;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of durations, in nanoseconds.
+ * <p>
+ * Like an HDR histogram, durations are counted in buckets whose width grows with the durations they hold: each power of
+ * two is split in {@value #SUB_BUCKET_COUNT} buckets of the same width. Values reported by
+ * <code>{@link #valueAtPercentile(double)}</code> are thus within about 3% of the recorded ones, whatever their
+ * magnitude, while the histogram has a fixed size.
+ * </p>
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+
+  /** Number of buckets each power of two is split in. */
+  public static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+  private static final int BUCKET_COUNT = bucketIndexOf(Long.MAX_VALUE) + 1;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong total = new AtomicLong();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Records the given duration. Negative durations are recorded as zero.
+   * @param durationInNanos the duration to record, in nanoseconds.
+   */
+  public void record(long durationInNanos) {
+    long duration = Math.max(0, durationInNanos);
+    counts.incrementAndGet(bucketIndexOf(duration));
+    count.incrementAndGet();
+    total.addAndGet(duration);
+    long currentMax = max.get();
+    while (duration > currentMax && !max.compareAndSet(currentMax, duration))
+      currentMax = max.get();
+  }
+
+  /**
+   * Returns the number of recorded durations.
+   * @return the number of recorded durations.
+   */
+  public long count() {
+    return count.get();
+  }
+
+  /**
+   * Returns the sum of the recorded durations, in nanoseconds.
+   * @return the sum of the recorded durations.
+   */
+  public long total() {
+    return total.get();
+  }
+
+  /**
+   * Returns the longest recorded duration, in nanoseconds.
+   * @return the longest recorded duration, zero if no duration has been recorded.
+   */
+  public long max() {
+    return max.get();
+  }
+
+  /**
+   * Returns the mean of the recorded durations, in nanoseconds.
+   * @return the mean of the recorded durations, zero if no duration has been recorded.
+   */
+  public double mean() {
+    long recorded = count();
+    return recorded == 0 ? 0 : (double) total() / recorded;
+  }
+
+  /**
+   * Returns the duration that the given percentage of the recorded durations do not exceed, in nanoseconds.
+   * @param percentile the percentage, between 0 and 100.
+   * @return the duration that the given percentage of the recorded durations do not exceed, zero if no duration has
+   *         been recorded.
+   * @throws IllegalArgumentException if the given percentile is not between 0 and 100.
+   */
+  public long valueAtPercentile(double percentile) {
+    if (percentile < 0 || percentile > 100)
+      throw new IllegalArgumentException("The percentile should be between 0 and 100 but was " + percentile);
+    long recorded = count();
+    if (recorded == 0) return 0;
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * recorded));
+    long seen = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      seen += counts.get(i);
+      if (seen >= rank) return Math.min(highestValueInBucket(i), max());
+    }
+    return max();
+  }
+
+  /**
+   * Forgets all the recorded durations.
+   */
+  public void reset() {
+    for (int i = 0; i < BUCKET_COUNT; i++)
+      counts.set(i, 0);
+    count.set(0);
+    total.set(0);
+    max.set(0);
+  }
+
+  private static int bucketIndexOf(long value) {
+    int highestBit = 63 - numberOfLeadingZeros(value);
+    if (highestBit <= SUB_BUCKET_BITS) return (int) value;
+    int shift = highestBit - SUB_BUCKET_BITS;
+    return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+  }
+
+  private static long highestValueInBucket(int index) {
+    if (index < 2 * SUB_BUCKET_COUNT) return index;
+    int shift = (index >>> SUB_BUCKET_BITS) - 1;
+    long top = (index & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT;
+    return ((top + 1) << shift) - 1;
+  }
+}
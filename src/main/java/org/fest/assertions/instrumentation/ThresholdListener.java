@@ -0,0 +1,87 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.instrumentation;
+
+/**
+ * <code>{@link AssertionListener}</code> forwarding to another listener only the assertions which took at least a given
+ * time to evaluate, and the failure messages which took at least a given time to create, so that only slow ones are
+ * recorded. The evaluation of an assertion and the creation of its failure message are measured and filtered apart.
+ * <p>
+ * Example: report the assertions taking more than 10 milliseconds to evaluate, with the size of their actual value, and
+ * the failure messages taking more than 1 millisecond to create.
+ * 
+ * <pre>
+ * Instrumentation.setListener(new ThresholdListener(10000000, 1000000, new AssertionListener() {
+ *   public void assertionEvaluated(String assertion, int size, long durationInNanos, boolean passed) {
+ *     logger.warning(assertion + &quot; on &quot; + size + &quot; elements took &quot; + durationInNanos);
+ *   }
+ * 
+ *   public void failureMessageRendered(String assertion, int messageLength, long durationInNanos) {
+ *     logger.warning(assertion + &quot; failure message took &quot; + durationInNanos + &quot;ns&quot;);
+ *   }
+ * }));
+ * </pre>
+ * 
+ * </p>
+ */
+public class ThresholdListener implements AssertionListener {
+
+  private final long evaluationThresholdInNanos;
+  private final long failureMessageThresholdInNanos;
+  private final AssertionListener delegate;
+
+  /**
+   * Creates a new <code>{@link ThresholdListener}</code> using the same threshold for the evaluations of assertions and
+   * the creations of failure messages.
+   * @param thresholdInNanos the minimum duration of the events to forward, in nanoseconds.
+   * @param delegate the listener to forward events to.
+   * @throws IllegalArgumentException if the given threshold is negative.
+   * @throws NullPointerException if the given listener is {@code null}.
+   */
+  public ThresholdListener(long thresholdInNanos, AssertionListener delegate) {
+    this(thresholdInNanos, thresholdInNanos, delegate);
+  }
+
+  /**
+   * Creates a new <code>{@link ThresholdListener}</code>.
+   * @param evaluationThresholdInNanos the minimum duration of the evaluations of assertions to forward, in nanoseconds.
+   * @param failureMessageThresholdInNanos the minimum duration of the creations of failure messages to forward, in
+   *          nanoseconds.
+   * @param delegate the listener to forward events to.
+   * @throws IllegalArgumentException if one of the given thresholds is negative.
+   * @throws NullPointerException if the given listener is {@code null}.
+   */
+  public ThresholdListener(long evaluationThresholdInNanos, long failureMessageThresholdInNanos,
+      AssertionListener delegate) {
+    if (evaluationThresholdInNanos < 0 || failureMessageThresholdInNanos < 0)
+      throw new IllegalArgumentException("The threshold should not be negative");
+    if (delegate == null) throw new NullPointerException("The listener to forward events to should not be null");
+    this.evaluationThresholdInNanos = evaluationThresholdInNanos;
+    this.failureMessageThresholdInNanos = failureMessageThresholdInNanos;
+    this.delegate = delegate;
+  }
+
+  /** {@inheritDoc} */
+  public void assertionEvaluated(String assertion, int size, long durationInNanos, boolean passed) {
+    if (durationInNanos < evaluationThresholdInNanos) return;
+    delegate.assertionEvaluated(assertion, size, durationInNanos, passed);
+  }
+
+  /** {@inheritDoc} */
+  public void failureMessageRendered(String assertion, int messageLength, long durationInNanos) {
+    if (durationInNanos < failureMessageThresholdInNanos) return;
+    delegate.failureMessageRendered(assertion, messageLength, durationInNanos);
+  }
+}
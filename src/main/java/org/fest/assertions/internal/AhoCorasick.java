@@ -0,0 +1,180 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static java.util.Arrays.asList;
+import static java.util.Arrays.binarySearch;
+
+import java.util.*;
+
+import org.fest.util.VisibleForTesting;
+
+/**
+ * Aho-Corasick automaton finding, in a single pass over a text, which of a set of needles occur in it. Automata are
+ * immutable and cached by needle set, so that the same set of needles is compiled only once.
+ */
+final class AhoCorasick {
+
+  private static final int CACHE_SIZE = 64;
+
+  @VisibleForTesting static final LruCache<List<String>, AhoCorasick> CACHE = new LruCache<List<String>, AhoCorasick>(
+      CACHE_SIZE);
+
+  private static final int ROOT = 0;
+  private static final int NONE = -1;
+
+  /**
+   * Returns the automaton searching for the given needles, building it if it is not cached yet.
+   * @param needles the {@code String}s to search for, none of them {@code null}.
+   * @return the automaton searching for the given needles.
+   */
+  static AhoCorasick forNeedles(String[] needles) {
+    List<String> key = asList(needles.clone());
+    AhoCorasick automaton = CACHE.get(key);
+    if (automaton != null) return automaton;
+    automaton = new AhoCorasick(key);
+    CACHE.put(key, automaton);
+    return automaton;
+  }
+
+  private final int needleCount;
+  // transitions of each node, sorted by character
+  private final char[][] labels;
+  private final int[][] targets;
+  private final int[] failure;
+  // closest node, following failure links, at which at least one needle ends
+  private final int[] dictionaryLink;
+  // indices of the needles ending at each node
+  private final int[][] needlesEndingAt;
+
+  private AhoCorasick(List<String> needles) {
+    needleCount = needles.size();
+    List<SortedMap<Character, Integer>> trie = new ArrayList<SortedMap<Character, Integer>>();
+    List<List<Integer>> ends = new ArrayList<List<Integer>>();
+    trie.add(new TreeMap<Character, Integer>());
+    ends.add(new ArrayList<Integer>());
+    for (int i = 0; i < needleCount; i++) {
+      String needle = needles.get(i);
+      int node = ROOT;
+      for (int j = 0; j < needle.length(); j++) {
+        Integer next = trie.get(node).get(needle.charAt(j));
+        if (next == null) {
+          next = trie.size();
+          trie.add(new TreeMap<Character, Integer>());
+          ends.add(new ArrayList<Integer>());
+          trie.get(node).put(needle.charAt(j), next);
+        }
+        node = next;
+      }
+      ends.get(node).add(i);
+    }
+    int nodeCount = trie.size();
+    labels = new char[nodeCount][];
+    targets = new int[nodeCount][];
+    needlesEndingAt = new int[nodeCount][];
+    for (int node = 0; node < nodeCount; node++) {
+      SortedMap<Character, Integer> transitions = trie.get(node);
+      labels[node] = new char[transitions.size()];
+      targets[node] = new int[transitions.size()];
+      int t = 0;
+      for (Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+        labels[node][t] = transition.getKey();
+        targets[node][t++] = transition.getValue();
+      }
+      needlesEndingAt[node] = toArray(ends.get(node));
+    }
+    failure = new int[nodeCount];
+    dictionaryLink = new int[nodeCount];
+    linkNodesBreadthFirst();
+  }
+
+  private static int[] toArray(List<Integer> values) {
+    int[] array = new int[values.size()];
+    for (int i = 0; i < array.length; i++)
+      array[i] = values.get(i);
+    return array;
+  }
+
+  private void linkNodesBreadthFirst() {
+    failure[ROOT] = ROOT;
+    dictionaryLink[ROOT] = NONE;
+    LinkedList<Integer> queue = new LinkedList<Integer>();
+    for (int child : targets[ROOT]) {
+      failure[child] = ROOT;
+      dictionaryLink[child] = needlesEndingAt[ROOT].length > 0 ? ROOT : NONE;
+      queue.add(child);
+    }
+    while (!queue.isEmpty()) {
+      int node = queue.removeFirst();
+      for (int t = 0; t < labels[node].length; t++) {
+        int child = targets[node][t];
+        int fallback = transition(failure[node], labels[node][t]);
+        failure[child] = fallback;
+        dictionaryLink[child] = needlesEndingAt[fallback].length > 0 ? fallback : dictionaryLink[fallback];
+        queue.add(child);
+      }
+    }
+  }
+
+  private int transition(int node, char c) {
+    while (true) {
+      int t = binarySearch(labels[node], c);
+      if (t >= 0) return targets[node][t];
+      if (node == ROOT) return ROOT;
+      node = failure[node];
+    }
+  }
+
+  /**
+   * Returns the number of needles this automaton searches for.
+   * @return the number of needles this automaton searches for.
+   */
+  int needleCount() {
+    return needleCount;
+  }
+
+  /**
+   * Searches the given text in a single pass, flagging in {@code found} the indices of the needles occurring in it.
+   * The search stops as soon as the given number of needles has been found.
+   * @param text the text to search.
+   * @param found flags of the needles found, indexed like the needles given when building this automaton.
+   * @param enough the number of needles to find before stopping the search.
+   * @return the number of needles found.
+   */
+  int search(CharSequence text, boolean[] found, int enough) {
+    int count = flagNeedlesEndingAt(ROOT, found, 0);
+    if (count >= enough) return count;
+    int node = ROOT;
+    for (int i = 0; i < text.length(); i++) {
+      node = transition(node, text.charAt(i));
+      int output = needlesEndingAt[node].length > 0 ? node : dictionaryLink[node];
+      while (output != NONE && output != ROOT) {
+        count = flagNeedlesEndingAt(output, found, count);
+        if (count >= enough) return count;
+        output = dictionaryLink[output];
+      }
+    }
+    return count;
+  }
+
+  private int flagNeedlesEndingAt(int node, boolean[] found, int count) {
+    for (int needle : needlesEndingAt[node]) {
+      if (found[needle]) continue;
+      found[needle] = true;
+      count++;
+    }
+    return count;
+  }
+}
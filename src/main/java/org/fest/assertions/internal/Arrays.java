@@ -34,12 +34,11 @@ import static org.fest.assertions.error.ShouldNotHaveDuplicates.shouldNotHaveDup
 import static org.fest.assertions.error.ShouldStartWith.shouldStartWith;
 import static org.fest.assertions.internal.CommonErrors.*;
 import static org.fest.assertions.internal.CommonValidations.checkIndexValueIsValid;
+import static org.fest.assertions.internal.SortedOrder.*;
 import static org.fest.assertions.util.ArrayWrapperList.wrap;
-import static org.fest.util.Arrays.isArray;
 import static org.fest.util.Collections.isEmpty;
 
 import java.lang.reflect.Array;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
@@ -91,69 +90,125 @@ class Arrays {
   }
 
   void assertNullOrEmpty(AssertionInfo info, Failures failures, Object array) {
-    if (array == null || isArrayEmpty(array)) return;
-    throw failures.failure(info, shouldBeNullOrEmpty(array));
+    long probe = AssertionProbe.begin();
+    try {
+      if (array == null || isArrayEmpty(array)) return;
+      throw failures.failure(info, shouldBeNullOrEmpty(array));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, array);
+    }
   }
 
   void assertEmpty(AssertionInfo info, Failures failures, Object array) {
-    assertNotNull(info, array);
-    if (isArrayEmpty(array)) return;
-    throw failures.failure(info, shouldBeEmpty(array));
+    long probe = AssertionProbe.begin();
+    try {
+      assertNotNull(info, array);
+      if (isArrayEmpty(array)) return;
+      throw failures.failure(info, shouldBeEmpty(array));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, array);
+    }
   }
 
   void assertHasSize(AssertionInfo info, Failures failures, Object array, int expectedSize) {
-    assertNotNull(info, array);
-    int sizeOfActual = sizeOf(array);
-    if (sizeOfActual == expectedSize) return;
-    throw failures.failure(info, shouldHaveSize(array, sizeOfActual, expectedSize));
+    long probe = AssertionProbe.begin();
+    try {
+      assertNotNull(info, array);
+      int sizeOfActual = sizeOf(array);
+      if (sizeOfActual == expectedSize) return;
+      throw failures.failure(info, shouldHaveSize(array, sizeOfActual, expectedSize));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, array);
+    }
   }
 
   void assertContains(AssertionInfo info, Failures failures, Object array, Object values) {
-    checkIsNotNullAndNotEmpty(values);
-    assertNotNull(info, array);
-    Set<Object> notFound = new LinkedHashSet<Object>();
-    int valueCount = sizeOf(values);
-    for (int i = 0; i < valueCount; i++) {
-      Object value = Array.get(values, i);
-      if (!arrayContains(array, value)) notFound.add(value);
+    long probe = AssertionProbe.begin();
+    try {
+      checkIsNotNullAndNotEmpty(values);
+      assertNotNull(info, array);
+      Set<Object> notFound = new LinkedHashSet<Object>();
+      int valueCount = sizeOf(values);
+      for (int i = 0; i < valueCount; i++) {
+        Object value = Array.get(values, i);
+        if (!arrayContains(array, value)) notFound.add(value);
+      }
+      if (notFound.isEmpty()) return;
+      throw failures.failure(info, shouldContain(array, values, notFound, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, array);
     }
-    if (notFound.isEmpty()) return;
-    throw failures.failure(info, shouldContain(array, values, notFound, comparisonStrategy));
   }
 
   void assertContains(AssertionInfo info, Failures failures, Object array, Object value, Index index) {
-    assertNotNull(info, array);
-    assertNotEmpty(info, failures, array);
-    checkIndexValueIsValid(index, sizeOf(array) - 1);
-    Object actualElement = Array.get(array, index.value);
-    if (areEqual(actualElement, value)) return;
-    throw failures.failure(info,
-        shouldContainAtIndex(array, value, index, Array.get(array, index.value), comparisonStrategy));
+    long probe = AssertionProbe.begin();
+    try {
+      assertNotNull(info, array);
+      assertNotEmpty(info, failures, array);
+      checkIndexValueIsValid(index, sizeOf(array) - 1);
+      Object actualElement = Array.get(array, index.value);
+      if (areEqual(actualElement, value)) return;
+      throw failures.failure(info,
+          shouldContainAtIndex(array, value, index, Array.get(array, index.value), comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, array);
+    }
   }
 
   void assertNotEmpty(AssertionInfo info, Failures failures, Object array) {
-    assertNotNull(info, array);
-    if (!isArrayEmpty(array)) return;
-    throw failures.failure(info, shouldNotBeEmpty());
+    long probe = AssertionProbe.begin();
+    try {
+      assertNotNull(info, array);
+      if (!isArrayEmpty(array)) return;
+      throw failures.failure(info, shouldNotBeEmpty());
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, array);
+    }
   }
 
   void assertDoesNotContain(AssertionInfo info, Failures failures, Object array, Object value, Index index) {
-    assertNotNull(info, array);
-    checkIndexValueIsValid(index, Integer.MAX_VALUE);
-    int indexValue = index.value;
-    if (indexValue >= sizeOf(array)) return;
-    Object actualElement = Array.get(array, index.value);
-    if (!areEqual(actualElement, value)) return;
-    throw failures.failure(info, shouldNotContainAtIndex(array, value, index, comparisonStrategy));
+    long probe = AssertionProbe.begin();
+    try {
+      assertNotNull(info, array);
+      checkIndexValueIsValid(index, Integer.MAX_VALUE);
+      int indexValue = index.value;
+      if (indexValue >= sizeOf(array)) return;
+      Object actualElement = Array.get(array, index.value);
+      if (!areEqual(actualElement, value)) return;
+      throw failures.failure(info, shouldNotContainAtIndex(array, value, index, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, array);
+    }
   }
 
   void assertContainsOnly(AssertionInfo info, Failures failures, Object array, Object values) {
-    checkIsNotNullAndNotEmpty(values);
-    assertNotNull(info, array);
-    Set<Object> notExpected = asSetWithoutDuplicatesAccordingToComparisonStrategy(array);
-    Set<Object> notFound = containsOnly(notExpected, values);
-    if (notExpected.isEmpty() && notFound.isEmpty()) return;
-    throw failures.failure(info, shouldContainOnly(array, values, notFound, notExpected, comparisonStrategy));
+    long probe = AssertionProbe.begin();
+    try {
+      checkIsNotNullAndNotEmpty(values);
+      assertNotNull(info, array);
+      Set<Object> notExpected = asSetWithoutDuplicatesAccordingToComparisonStrategy(array);
+      Set<Object> notFound = containsOnly(notExpected, values);
+      if (notExpected.isEmpty() && notFound.isEmpty()) return;
+      throw failures.failure(info, shouldContainOnly(array, values, notFound, notExpected, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, array);
+    }
   }
 
   private Set<Object> containsOnly(Set<Object> actual, Object values) {
@@ -195,25 +250,32 @@ class Arrays {
   }
 
   void assertContainsSequence(AssertionInfo info, Failures failures, Object array, Object sequence) {
-    checkIsNotNullAndNotEmpty(sequence);
-    assertNotNull(info, array);
-    boolean firstAlreadyFound = false;
-    int i = 0;
-    int sequenceSize = sizeOf(sequence);
-    int sizeOfActual = sizeOf(array);
-    for (int j = 0; j < sizeOfActual; j++) {
-      Object o = Array.get(array, j);
-      if (i >= sequenceSize) break;
-      if (!firstAlreadyFound) {
-        if (!areEqual(o, Array.get(sequence, i))) continue;
-        firstAlreadyFound = true;
-        i++;
-        continue;
+    long probe = AssertionProbe.begin();
+    try {
+      checkIsNotNullAndNotEmpty(sequence);
+      assertNotNull(info, array);
+      boolean firstAlreadyFound = false;
+      int i = 0;
+      int sequenceSize = sizeOf(sequence);
+      int sizeOfActual = sizeOf(array);
+      for (int j = 0; j < sizeOfActual; j++) {
+        Object o = Array.get(array, j);
+        if (i >= sequenceSize) break;
+        if (!firstAlreadyFound) {
+          if (!areEqual(o, Array.get(sequence, i))) continue;
+          firstAlreadyFound = true;
+          i++;
+          continue;
+        }
+        if (areEqual(o, Array.get(sequence, i++))) continue;
+        throw arrayDoesNotContainSequence(info, failures, array, sequence);
       }
-      if (areEqual(o, Array.get(sequence, i++))) continue;
-      throw arrayDoesNotContainSequence(info, failures, array, sequence);
+      if (!firstAlreadyFound || i < sequenceSize) throw arrayDoesNotContainSequence(info, failures, array, sequence);
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, array);
     }
-    if (!firstAlreadyFound || i < sequenceSize) throw arrayDoesNotContainSequence(info, failures, array, sequence);
   }
 
   /**
@@ -229,15 +291,22 @@ class Arrays {
   }
 
   void assertDoesNotContain(AssertionInfo info, Failures failures, Object array, Object values) {
-    checkIsNotNullAndNotEmpty(values);
-    assertNotNull(info, array);
-    Set<Object> found = new LinkedHashSet<Object>();
-    for (int i = 0; i < sizeOf(values); i++) {
-      Object value = Array.get(values, i);
-      if (arrayContains(array, value)) found.add(value);
+    long probe = AssertionProbe.begin();
+    try {
+      checkIsNotNullAndNotEmpty(values);
+      assertNotNull(info, array);
+      Set<Object> found = new LinkedHashSet<Object>();
+      for (int i = 0; i < sizeOf(values); i++) {
+        Object value = Array.get(values, i);
+        if (arrayContains(array, value)) found.add(value);
+      }
+      if (found.isEmpty()) return;
+      throw failures.failure(info, shouldNotContain(array, values, found, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, array);
     }
-    if (found.isEmpty()) return;
-    throw failures.failure(info, shouldNotContain(array, values, found, comparisonStrategy));
   }
 
   /**
@@ -248,22 +317,36 @@ class Arrays {
   }
 
   void assertDoesNotHaveDuplicates(AssertionInfo info, Failures failures, Object array) {
-    assertNotNull(info, array);
-    ArrayWrapperList wrapped = wrap(array);
-    Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(wrapped);
-    if (isEmpty(duplicates)) return;
-    throw failures.failure(info, shouldNotHaveDuplicates(array, duplicates, comparisonStrategy));
+    long probe = AssertionProbe.begin();
+    try {
+      assertNotNull(info, array);
+      ArrayWrapperList wrapped = wrap(array);
+      Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(wrapped);
+      if (isEmpty(duplicates)) return;
+      throw failures.failure(info, shouldNotHaveDuplicates(array, duplicates, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, array);
+    }
   }
 
   void assertStartsWith(AssertionInfo info, Failures failures, Object array, Object sequence) {
-    checkIsNotNullAndNotEmpty(sequence);
-    assertNotNull(info, array);
-    int sequenceSize = sizeOf(sequence);
-    int arraySize = sizeOf(array);
-    if (arraySize < sequenceSize) throw arrayDoesNotStartWithSequence(info, failures, array, sequence);
-    for (int i = 0; i < sequenceSize; i++) {
-      if (areEqual(Array.get(sequence, i), Array.get(array, i))) continue;
-      throw arrayDoesNotStartWithSequence(info, failures, array, sequence);
+    long probe = AssertionProbe.begin();
+    try {
+      checkIsNotNullAndNotEmpty(sequence);
+      assertNotNull(info, array);
+      int sequenceSize = sizeOf(sequence);
+      int arraySize = sizeOf(array);
+      if (arraySize < sequenceSize) throw arrayDoesNotStartWithSequence(info, failures, array, sequence);
+      for (int i = 0; i < sequenceSize; i++) {
+        if (areEqual(Array.get(sequence, i), Array.get(array, i))) continue;
+        throw arrayDoesNotStartWithSequence(info, failures, array, sequence);
+      }
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, array);
     }
   }
 
@@ -273,101 +356,108 @@ class Arrays {
   }
 
   void assertEndsWith(AssertionInfo info, Failures failures, Object array, Object sequence) {
-    checkIsNotNullAndNotEmpty(sequence);
-    assertNotNull(info, array);
-    int sequenceSize = sizeOf(sequence);
-    int arraySize = sizeOf(array);
-    if (arraySize < sequenceSize) throw arrayDoesNotEndWithSequence(info, failures, array, sequence);
-    for (int i = 0; i < sequenceSize; i++) {
-      int sequenceIndex = sequenceSize - (i + 1);
-      int arrayIndex = arraySize - (i + 1);
-      if (areEqual(Array.get(sequence, sequenceIndex), Array.get(array, arrayIndex))) continue;
-      throw arrayDoesNotEndWithSequence(info, failures, array, sequence);
+    long probe = AssertionProbe.begin();
+    try {
+      checkIsNotNullAndNotEmpty(sequence);
+      assertNotNull(info, array);
+      int sequenceSize = sizeOf(sequence);
+      int arraySize = sizeOf(array);
+      if (arraySize < sequenceSize) throw arrayDoesNotEndWithSequence(info, failures, array, sequence);
+      for (int i = 0; i < sequenceSize; i++) {
+        int sequenceIndex = sequenceSize - (i + 1);
+        int arrayIndex = arraySize - (i + 1);
+        if (areEqual(Array.get(sequence, sequenceIndex), Array.get(array, arrayIndex))) continue;
+        throw arrayDoesNotEndWithSequence(info, failures, array, sequence);
+      }
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, array);
     }
   }
 
   void assertContainsNull(AssertionInfo info, Failures failures, Object array) {
-    assertNotNull(info, array);
-    if (!arrayContains(array, null)) throw failures.failure(info, shouldContainNull(array));
+    long probe = AssertionProbe.begin();
+    try {
+      assertNotNull(info, array);
+      if (!arrayContains(array, null)) throw failures.failure(info, shouldContainNull(array));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, array);
+    }
   }
 
   void assertDoesNotContainNull(AssertionInfo info, Failures failures, Object array) {
-    assertNotNull(info, array);
-    if (arrayContains(array, null)) throw failures.failure(info, shouldNotContainNull(array));
+    long probe = AssertionProbe.begin();
+    try {
+      assertNotNull(info, array);
+      if (arrayContains(array, null)) throw failures.failure(info, shouldNotContainNull(array));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, array);
+    }
   }
 
   void assertIsSorted(AssertionInfo info, Failures failures, Object array) {
-    assertNotNull(info, array);
-    if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
-      // instead of comparing array elements with their natural comparator, use the one set by client.
-      Comparator<?> comparator = ((ComparatorBasedComparisonStrategy) comparisonStrategy).getComparator();
-      assertIsSortedAccordingToComparator(info, failures, array, comparator);
-      return;
-    }
-    // empty arrays are considered sorted even if component type is not sortable.
-    if (sizeOf(array) == 0) return;
-    assertThatArrayComponentTypeIsSortable(info, failures, array);
+    long probe = AssertionProbe.begin();
     try {
-      // sorted assertion is only relevant if array elements are Comparable
-      // => we should be able to build a Comparable array
-      Comparable<Object>[] comparableArray = arrayOfComparableItems(array);
-      // array with 0 or 1 element are considered sorted.
-      if (comparableArray.length <= 1) return;
-      for (int i = 0; i < comparableArray.length - 1; i++) {
-        // array is sorted in ascending order iif element i is less or equal than element i+1
-        if (comparableArray[i].compareTo(comparableArray[i + 1]) > 0)
-          throw failures.failure(info, shouldBeSorted(i, array));
+      assertNotNull(info, array);
+      if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
+        // instead of comparing array elements with their natural comparator, use the one set by client.
+        Comparator<?> comparator = ((ComparatorBasedComparisonStrategy) comparisonStrategy).getComparator();
+        assertIsSortedAccordingToComparator(info, failures, array, comparator);
+        return;
       }
-    } catch (ClassCastException e) {
-      // elements are either not Comparable or not mutually Comparable (e.g. array with String and Integer)
-      throw failures.failure(info, shouldHaveMutuallyComparableElements(array));
+      // empty arrays are considered sorted even if component type is not sortable.
+      if (sizeOf(array) == 0) return;
+      assertThatArrayComponentTypeIsSortable(info, failures, array);
+      try {
+        // sorted assertion is only relevant if array elements are Comparable, elements of int arrays are compared
+        // without being boxed.
+        int index = array instanceof int[] ? indexOfFirstElementNotSorted((int[]) array)
+            : indexOfFirstElementNotSorted(listView(array), NATURAL_ORDER);
+        if (index >= 0) throw failures.failure(info, shouldBeSorted(index, array));
+      } catch (ClassCastException e) {
+        // elements are either not Comparable or not mutually Comparable (e.g. array with String and Integer)
+        throw failures.failure(info, shouldHaveMutuallyComparableElements(array));
+      }
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, array);
     }
   }
 
   // is static to avoid "generify" Arrays
   static <T> void assertIsSortedAccordingToComparator(AssertionInfo info, Failures failures, Object array,
       Comparator<T> comparator) {
-    assertNotNull(info, array);
-    if (comparator == null) throw new NullPointerException("The given comparator should not be null");
+    long probe = AssertionProbe.begin();
     try {
-      List<T> arrayAsList = asList(array);
-      // empty arrays are considered sorted even if comparator can't be applied to <T>.
-      if (arrayAsList.size() == 0) return;
-      if (arrayAsList.size() == 1) {
-        // call compare to see if unique element is compatible with comparator.
-        comparator.compare(arrayAsList.get(0), arrayAsList.get(0));
-        return;
+      assertNotNull(info, array);
+      if (comparator == null) throw new NullPointerException("The given comparator should not be null");
+      try {
+        // empty arrays are considered sorted even if comparator can't be applied to <T>.
+        int index = indexOfFirstElementNotSorted(listView(array), comparator);
+        if (index >= 0)
+          throw failures.failure(info, shouldBeSortedAccordingToGivenComparator(index, array, comparator));
+      } catch (ClassCastException e) {
+        throw failures.failure(info, shouldHaveComparableElementsAccordingToGivenComparator(array, comparator));
       }
-      for (int i = 0; i < arrayAsList.size() - 1; i++) {
-        // array is sorted in comparator defined order iif element i is less or equal than element i+1
-        if (comparator.compare(arrayAsList.get(i), arrayAsList.get(i + 1)) > 0)
-          throw failures.failure(info, shouldBeSortedAccordingToGivenComparator(i, array, comparator));
-      }
-    } catch (ClassCastException e) {
-      throw failures.failure(info, shouldHaveComparableElementsAccordingToGivenComparator(array, comparator));
-    }
-  }
-
-  @SuppressWarnings("unchecked")
-  private static <T> List<T> asList(Object array) {
-    if (array == null) return null;
-    if (!isArray(array)) throw new IllegalArgumentException("The object should be an array");
-    int length = getLength(array);
-    List<T> list = new ArrayList<T>(length);
-    for (int i = 0; i < length; i++) {
-      list.add((T) Array.get(array, i));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, array);
     }
-    return list;
   }
 
-  @SuppressWarnings("unchecked")
-  private static Comparable<Object>[] arrayOfComparableItems(Object array) {
-    ArrayWrapperList arrayWrapperList = wrap(array);
-    Comparable<Object>[] arrayOfComparableItems = new Comparable[arrayWrapperList.size()];
-    for (int i = 0; i < arrayWrapperList.size(); i++) {
-      arrayOfComparableItems[i] = (Comparable<Object>) arrayWrapperList.get(i);
-    }
-    return arrayOfComparableItems;
+  /**
+   * Returns a list backed by the given array, object arrays are viewed without reflection.
+   */
+  private static List<?> listView(Object array) {
+    if (array instanceof Object[]) return java.util.Arrays.asList((Object[]) array);
+    return wrap(array);
   }
 
   private static void assertThatArrayComponentTypeIsSortable(AssertionInfo info, Failures failures, Object array) {
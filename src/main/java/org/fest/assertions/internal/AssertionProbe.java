@@ -0,0 +1,163 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+
+import org.fest.assertions.instrumentation.AssertionListener;
+import org.fest.assertions.instrumentation.Instrumentation;
+import org.fest.util.VisibleForTesting;
+
+/**
+ * Measures the assertions of this package and reports them to the <code>{@link AssertionListener}</code> registered in
+ * <code>{@link Instrumentation}</code>. Assertions are measured as follows:
+ * 
+ * <pre>
+ * long probe = AssertionProbe.begin();
+ * try {
+ *   // evaluate the assertion
+ * } catch (RuntimeException e) {
+ *   throw AssertionProbe.aborted(probe, e);
+ * } finally {
+ *   AssertionProbe.end(probe, actual);
+ * }
+ * </pre>
+ * 
+ * When no listener is registered, beginning a measure only reads the registered listener: nothing is allocated nor
+ * timed. Otherwise the measure is kept in an object reused by each thread, and only the stack trace naming the
+ * assertion is allocated. Assertions evaluated while another one is being measured on the same thread are part of the
+ * enclosing one.
+ * <p>
+ * An assertion fails if <code>{@link Failures}</code> created an {@code AssertionError} while it was evaluated. The
+ * time spent creating the error and its message is reported on its own, and is not part of the duration of the
+ * evaluation. Failures created outside of a measured assertion are named after the outermost method of this package in
+ * the stack.
+ * </p>
+ */
+final class AssertionProbe {
+
+  private static final long NOT_MEASURED = Long.MIN_VALUE;
+
+  private static final String INTERNAL_PACKAGE = AssertionProbe.class.getPackage().getName() + ".";
+
+  private static final ThreadLocal<Evaluation> EVALUATION = new ThreadLocal<Evaluation>() {
+    @Override protected Evaluation initialValue() {
+      return new Evaluation();
+    }
+  };
+
+  static long begin() {
+    if (!Instrumentation.isEnabled()) return NOT_MEASURED;
+    Evaluation evaluation = EVALUATION.get();
+    if (evaluation.depth++ > 0) return evaluation.start;
+    evaluation.assertion = nameOfCaller(new Throwable().getStackTrace());
+    evaluation.failed = false;
+    evaluation.aborted = false;
+    evaluation.failureMessagesDuration = 0;
+    return evaluation.start = System.nanoTime();
+  }
+
+  static <E extends RuntimeException> E aborted(long start, E exception) {
+    if (start != NOT_MEASURED) EVALUATION.get().aborted = true;
+    return exception;
+  }
+
+  static void end(long start, Object actual) {
+    if (start == NOT_MEASURED) return;
+    Evaluation evaluation = EVALUATION.get();
+    if (--evaluation.depth > 0) return;
+    long duration = System.nanoTime() - start - evaluation.failureMessagesDuration;
+    if (evaluation.aborted) return;
+    Instrumentation.listener().assertionEvaluated(evaluation.assertion, sizeOf(actual), duration, !evaluation.failed);
+  }
+
+  static long failureStarted() {
+    return Instrumentation.isEnabled() ? System.nanoTime() : NOT_MEASURED;
+  }
+
+  static void failureCreated(AssertionError error, long start) {
+    if (start == NOT_MEASURED) return;
+    long duration = System.nanoTime() - start;
+    Evaluation evaluation = EVALUATION.get();
+    String assertion;
+    if (evaluation.depth > 0) {
+      evaluation.failed = true;
+      evaluation.failureMessagesDuration += duration;
+      assertion = evaluation.assertion;
+    } else {
+      assertion = assertionName(new Throwable().getStackTrace());
+    }
+    String message = error.getMessage();
+    int messageLength = message == null ? 0 : message.length();
+    Instrumentation.listener().failureMessageRendered(assertion, messageLength, duration);
+  }
+
+  private static int sizeOf(Object actual) {
+    if (actual instanceof Collection<?>) return ((Collection<?>) actual).size();
+    if (actual instanceof Map<?, ?>) return ((Map<?, ?>) actual).size();
+    if (actual instanceof CharSequence) return ((CharSequence) actual).length();
+    if (actual != null && actual.getClass().isArray()) return Array.getLength(actual);
+    return -1;
+  }
+
+  /**
+   * Returns the name of the first method not of this class in the given stack, the measured assertion.
+   */
+  @VisibleForTesting
+  static String nameOfCaller(StackTraceElement[] stack) {
+    for (StackTraceElement element : stack)
+      if (!element.getClassName().equals(AssertionProbe.class.getName())) return nameOf(element);
+    return "unknown";
+  }
+
+  /**
+   * Returns the name of the outermost method of this package in the given stack, ignoring this class and
+   * <code>{@link Failures}</code>, e.g. {@code "Iterables.assertContains"} rather than {@code "Objects.assertNotNull"}
+   * when the latter was called by the former.
+   */
+  @VisibleForTesting
+  static String assertionName(StackTraceElement[] stack) {
+    StackTraceElement assertion = null;
+    for (StackTraceElement element : stack) {
+      String className = element.getClassName();
+      if (className.equals(AssertionProbe.class.getName()) || className.equals(Failures.class.getName())) continue;
+      if (assertion != null && !className.startsWith(INTERNAL_PACKAGE)) break;
+      assertion = element;
+      if (!className.startsWith(INTERNAL_PACKAGE)) break;
+    }
+    return assertion == null ? "unknown" : nameOf(assertion);
+  }
+
+  private static String nameOf(StackTraceElement element) {
+    String className = element.getClassName();
+    return className.substring(className.lastIndexOf('.') + 1) + "." + element.getMethodName();
+  }
+
+  /**
+   * The measure of the outermost assertion being evaluated by a thread.
+   */
+  private static final class Evaluation {
+    int depth;
+    String assertion;
+    long start;
+    long failureMessagesDuration;
+    boolean failed;
+    boolean aborted;
+  }
+
+  private AssertionProbe() {}
+}
@@ -0,0 +1,169 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.ShouldContainString.shouldContain;
+import static org.fest.assertions.error.ShouldEndWith.shouldEndWith;
+import static org.fest.assertions.error.ShouldHaveSize.shouldHaveSize;
+import static org.fest.assertions.error.ShouldMatchPattern.shouldMatch;
+import static org.fest.assertions.error.ShouldStartWith.shouldStartWith;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.util.VisibleForTesting;
+
+/**
+ * Reusable assertions for <code>{@link CharSequence}</code>s. Unlike <code>{@link Strings}</code>, the
+ * {@code CharSequence} to verify is never copied into a {@code String}, which makes these assertions suitable for large
+ * text held in {@code StringBuilder}s, {@code CharBuffer}s or custom {@code CharSequence} implementations.
+ */
+public class CharSequences {
+
+  private static final CharSequences INSTANCE = new CharSequences();
+
+  /**
+   * Returns the singleton instance of this class.
+   * @return the singleton instance of this class.
+   */
+  public static CharSequences instance() {
+    return INSTANCE;
+  }
+
+  @VisibleForTesting Failures failures = Failures.instance();
+
+  @VisibleForTesting Patterns patterns = Patterns.instance();
+
+  @VisibleForTesting CharSequences() {}
+
+  /**
+   * Asserts that the number of characters in the given {@code CharSequence} is equal to the expected one.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @param expectedSize the expected size of {@code actual}.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the size of the given {@code CharSequence} is different than the expected one.
+   */
+  public void assertHasSize(AssertionInfo info, CharSequence actual, int expectedSize) {
+    assertNotNull(info, actual);
+    int sizeOfActual = actual.length();
+    if (sizeOfActual == expectedSize) return;
+    throw failures.failure(info, shouldHaveSize(actual, sizeOfActual, expectedSize));
+  }
+
+  /**
+   * Verifies that the given {@code CharSequence} contains the given sequence.
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code CharSequence}.
+   * @param sequence the sequence to search for.
+   * @throws NullPointerException if the given sequence is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not contain the given sequence.
+   */
+  public void assertContains(AssertionInfo info, CharSequence actual, String sequence) {
+    if (sequence == null) throw new NullPointerException("The sequence to look for should not be null");
+    assertNotNull(info, actual);
+    if (indexOf(actual, sequence) >= 0) return;
+    throw failures.failure(info, shouldContain(actual, sequence));
+  }
+
+  private static int indexOf(CharSequence actual, String sequence) {
+    int lastStart = actual.length() - sequence.length();
+    for (int start = 0; start <= lastStart; start++)
+      if (regionMatches(actual, start, sequence)) return start;
+    return -1;
+  }
+
+  private static boolean regionMatches(CharSequence actual, int start, String sequence) {
+    for (int i = 0; i < sequence.length(); i++)
+      if (actual.charAt(start + i) != sequence.charAt(i)) return false;
+    return true;
+  }
+
+  /**
+   * Verifies that the given {@code CharSequence} starts with the given prefix.
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code CharSequence}.
+   * @param prefix the given prefix.
+   * @throws NullPointerException if the given prefix is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not start with the given prefix.
+   */
+  public void assertStartsWith(AssertionInfo info, CharSequence actual, String prefix) {
+    if (prefix == null) throw new NullPointerException("The given prefix should not be null");
+    assertNotNull(info, actual);
+    if (actual.length() >= prefix.length() && regionMatches(actual, 0, prefix)) return;
+    throw failures.failure(info, shouldStartWith(actual, prefix));
+  }
+
+  /**
+   * Verifies that the given {@code CharSequence} ends with the given suffix.
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code CharSequence}.
+   * @param suffix the given suffix.
+   * @throws NullPointerException if the given suffix is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not end with the given suffix.
+   */
+  public void assertEndsWith(AssertionInfo info, CharSequence actual, String suffix) {
+    if (suffix == null) throw new NullPointerException("The given suffix should not be null");
+    assertNotNull(info, actual);
+    int start = actual.length() - suffix.length();
+    if (start >= 0 && regionMatches(actual, start, suffix)) return;
+    throw failures.failure(info, shouldEndWith(actual, suffix));
+  }
+
+  /**
+   * Verifies that the given {@code CharSequence} matches the given regular expression.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @param regex the regular expression to which the actual {@code CharSequence} is to be matched.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws PatternSyntaxException if the regular expression's syntax is invalid.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not match the given regular expression.
+   */
+  public void assertMatches(AssertionInfo info, CharSequence actual, String regex) {
+    if (regex == null) throw patternToMatchIsNull();
+    assertNotNull(info, actual);
+    if (patterns.compile(regex).matcher(actual).matches()) return;
+    throw failures.failure(info, shouldMatch(actual, regex));
+  }
+
+  /**
+   * Verifies that the given {@code CharSequence} matches the given regular expression.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @param pattern the regular expression to which the actual {@code CharSequence} is to be matched.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} does not match the given regular expression.
+   */
+  public void assertMatches(AssertionInfo info, CharSequence actual, Pattern pattern) {
+    if (pattern == null) throw patternToMatchIsNull();
+    assertNotNull(info, actual);
+    if (pattern.matcher(actual).matches()) return;
+    throw failures.failure(info, shouldMatch(actual, pattern.pattern()));
+  }
+
+  private NullPointerException patternToMatchIsNull() {
+    return new NullPointerException("The regular expression pattern to match should not be null");
+  }
+
+  private void assertNotNull(AssertionInfo info, CharSequence actual) {
+    Objects.instance().assertNotNull(info, actual);
+  }
+}
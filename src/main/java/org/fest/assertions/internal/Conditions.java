@@ -14,16 +14,34 @@
  */
 package org.fest.assertions.internal;
 
+import static java.util.Arrays.asList;
+
+import static org.fest.assertions.error.ElementsShouldBe.elementsShouldBe;
+import static org.fest.assertions.error.ElementsShouldBeAtLeast.elementsShouldBeAtLeast;
+import static org.fest.assertions.error.ElementsShouldBeExactly.elementsShouldBeExactly;
+import static org.fest.assertions.error.ElementsShouldNotBe.elementsShouldNotBe;
 import static org.fest.assertions.error.ShouldBe.shouldBe;
 import static org.fest.assertions.error.ShouldHave.shouldHave;
 import static org.fest.assertions.error.ShouldNotBe.shouldNotBe;
 import static org.fest.assertions.error.ShouldNotHave.shouldNotHave;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.fest.assertions.core.*;
 import org.fest.util.VisibleForTesting;
 
 /**
- * Verifies that a value satisfies a <code>{@link Condition}</code>.
+ * Verifies that a value, or the elements of a group of values, satisfy a <code>{@link Condition}</code>.
+ * <p>
+ * Conditions are evaluated against the elements of a group in the calling thread, unless this object has been
+ * obtained through <code>{@link #parallelInstance()}</code>. Either way, evaluation stops as soon as the outcome of the
+ * assertion is known.
+ * </p>
  *
  * @author Alex Ruiz
  */
@@ -39,9 +57,34 @@ public class Conditions {
     return INSTANCE;
   }
 
+  private static final Conditions PARALLEL_INSTANCE = new Conditions(true);
+
+  /**
+   * Returns an instance of this class evaluating conditions against the elements of large groups (at least 65536
+   * elements) in parallel, using a <code>{@link ForkJoinPool}</code> shared by all assertions and sized after the
+   * number of available processors. Worth it for conditions expensive to evaluate.
+   * @return an instance of this class evaluating conditions in parallel.
+   */
+  public static Conditions parallelInstance() {
+    return PARALLEL_INSTANCE;
+  }
+
+  /** Groups smaller than this are evaluated in the calling thread, even by a parallel instance. */
+  private static final int MINIMUM_SIZE_FOR_PARALLEL_EVALUATION = 1 << 16;
+
   @VisibleForTesting Failures failures = Failures.instance();
 
-  @VisibleForTesting Conditions() {}
+  @VisibleForTesting int minimumSizeForParallelEvaluation = MINIMUM_SIZE_FOR_PARALLEL_EVALUATION;
+
+  private final boolean parallel;
+
+  @VisibleForTesting Conditions() {
+    this(false);
+  }
+
+  @VisibleForTesting Conditions(boolean parallel) {
+    this.parallel = parallel;
+  }
 
   /**
    * Asserts that the actual value satisfies the given <code>{@link Condition}</code>.
@@ -103,6 +146,269 @@ public class Conditions {
     throw failures.failure(info, shouldNotHave(actual, condition));
   }
 
+  /**
+   * Asserts that all the elements of the given {@code Iterable} satisfy the given <code>{@link Condition}</code>.
+   * Evaluation stops at the first element that does not satisfy it.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterable}.
+   * @param condition the given {@code Condition}.
+   * @throws NullPointerException if the given {@code Condition} is {@code null}.
+   * @throws AssertionError if the given {@code Iterable} is {@code null}.
+   * @throws AssertionError if one of the elements of the given {@code Iterable} does not satisfy the given
+   *           {@code Condition}.
+   */
+  public void assertAreAll(AssertionInfo info, Iterable<?> actual, Condition<?> condition) {
+    verifyIsNotNull(condition);
+    assertNotNull(info, actual);
+    int index = indexOfFirst(actual, condition, false);
+    if (index < 0) return;
+    throw failures.failure(info, elementsShouldBe(actual, index, elementAt(actual, index), condition));
+  }
+
+  /**
+   * Asserts that all the elements of the given array satisfy the given <code>{@link Condition}</code>. Evaluation stops
+   * at the first element that does not satisfy it.
+   * @param info contains information about the assertion.
+   * @param actual the given array.
+   * @param condition the given {@code Condition}.
+   * @throws NullPointerException if the given {@code Condition} is {@code null}.
+   * @throws AssertionError if the given array is {@code null}.
+   * @throws AssertionError if one of the elements of the given array does not satisfy the given {@code Condition}.
+   */
+  public void assertAreAll(AssertionInfo info, Object[] actual, Condition<?> condition) {
+    verifyIsNotNull(condition);
+    assertNotNull(info, actual);
+    int index = indexOfFirst(asList(actual), condition, false);
+    if (index < 0) return;
+    throw failures.failure(info, elementsShouldBe(actual, index, actual[index], condition));
+  }
+
+  /**
+   * Asserts that none of the elements of the given {@code Iterable} satisfy the given <code>{@link Condition}</code>.
+   * Evaluation stops at the first element that satisfies it.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterable}.
+   * @param condition the given {@code Condition}.
+   * @throws NullPointerException if the given {@code Condition} is {@code null}.
+   * @throws AssertionError if the given {@code Iterable} is {@code null}.
+   * @throws AssertionError if one of the elements of the given {@code Iterable} satisfies the given {@code Condition}.
+   */
+  public void assertAreNot(AssertionInfo info, Iterable<?> actual, Condition<?> condition) {
+    verifyIsNotNull(condition);
+    assertNotNull(info, actual);
+    int index = indexOfFirst(actual, condition, true);
+    if (index < 0) return;
+    throw failures.failure(info, elementsShouldNotBe(actual, index, elementAt(actual, index), condition));
+  }
+
+  /**
+   * Asserts that none of the elements of the given array satisfy the given <code>{@link Condition}</code>. Evaluation
+   * stops at the first element that satisfies it.
+   * @param info contains information about the assertion.
+   * @param actual the given array.
+   * @param condition the given {@code Condition}.
+   * @throws NullPointerException if the given {@code Condition} is {@code null}.
+   * @throws AssertionError if the given array is {@code null}.
+   * @throws AssertionError if one of the elements of the given array satisfies the given {@code Condition}.
+   */
+  public void assertAreNot(AssertionInfo info, Object[] actual, Condition<?> condition) {
+    verifyIsNotNull(condition);
+    assertNotNull(info, actual);
+    int index = indexOfFirst(asList(actual), condition, true);
+    if (index < 0) return;
+    throw failures.failure(info, elementsShouldNotBe(actual, index, actual[index], condition));
+  }
+
+  /**
+   * Asserts that at least the given number of elements of the given {@code Iterable} satisfy the given
+   * <code>{@link Condition}</code>. Evaluation stops as soon as enough elements satisfy it.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterable}.
+   * @param times the minimum number of elements that should satisfy the given {@code Condition}.
+   * @param condition the given {@code Condition}.
+   * @throws NullPointerException if the given {@code Condition} is {@code null}.
+   * @throws IllegalArgumentException if the given number of elements is negative.
+   * @throws AssertionError if the given {@code Iterable} is {@code null}.
+   * @throws AssertionError if less elements of the given {@code Iterable} than the given number satisfy the given
+   *           {@code Condition}.
+   */
+  public void assertAreAtLeast(AssertionInfo info, Iterable<?> actual, int times, Condition<?> condition) {
+    verifyIsNotNull(condition);
+    verifyIsNotNegative(times);
+    assertNotNull(info, actual);
+    int found = countMatches(actual, condition, times);
+    if (found >= times) return;
+    throw failures.failure(info, elementsShouldBeAtLeast(actual, times, found, condition));
+  }
+
+  /**
+   * Asserts that at least the given number of elements of the given array satisfy the given
+   * <code>{@link Condition}</code>. Evaluation stops as soon as enough elements satisfy it.
+   * @param info contains information about the assertion.
+   * @param actual the given array.
+   * @param times the minimum number of elements that should satisfy the given {@code Condition}.
+   * @param condition the given {@code Condition}.
+   * @throws NullPointerException if the given {@code Condition} is {@code null}.
+   * @throws IllegalArgumentException if the given number of elements is negative.
+   * @throws AssertionError if the given array is {@code null}.
+   * @throws AssertionError if less elements of the given array than the given number satisfy the given
+   *           {@code Condition}.
+   */
+  public void assertAreAtLeast(AssertionInfo info, Object[] actual, int times, Condition<?> condition) {
+    verifyIsNotNull(condition);
+    verifyIsNotNegative(times);
+    assertNotNull(info, actual);
+    int found = countMatches(asList(actual), condition, times);
+    if (found >= times) return;
+    throw failures.failure(info, elementsShouldBeAtLeast(actual, times, found, condition));
+  }
+
+  /**
+   * Asserts that exactly the given number of elements of the given {@code Iterable} satisfy the given
+   * <code>{@link Condition}</code>. Evaluation stops as soon as too many elements satisfy it.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterable}.
+   * @param times the number of elements that should satisfy the given {@code Condition}.
+   * @param condition the given {@code Condition}.
+   * @throws NullPointerException if the given {@code Condition} is {@code null}.
+   * @throws IllegalArgumentException if the given number of elements is negative.
+   * @throws AssertionError if the given {@code Iterable} is {@code null}.
+   * @throws AssertionError if the number of elements of the given {@code Iterable} satisfying the given
+   *           {@code Condition} is not the given one.
+   */
+  public void assertAreExactly(AssertionInfo info, Iterable<?> actual, int times, Condition<?> condition) {
+    verifyIsNotNull(condition);
+    verifyIsNotNegative(times);
+    assertNotNull(info, actual);
+    int found = countMatches(actual, condition, oneMoreThan(times));
+    if (found == times) return;
+    throw failures.failure(info, elementsShouldBeExactly(actual, times, found, condition));
+  }
+
+  /**
+   * Asserts that exactly the given number of elements of the given array satisfy the given
+   * <code>{@link Condition}</code>. Evaluation stops as soon as too many elements satisfy it.
+   * @param info contains information about the assertion.
+   * @param actual the given array.
+   * @param times the number of elements that should satisfy the given {@code Condition}.
+   * @param condition the given {@code Condition}.
+   * @throws NullPointerException if the given {@code Condition} is {@code null}.
+   * @throws IllegalArgumentException if the given number of elements is negative.
+   * @throws AssertionError if the given array is {@code null}.
+   * @throws AssertionError if the number of elements of the given array satisfying the given {@code Condition} is not
+   *           the given one.
+   */
+  public void assertAreExactly(AssertionInfo info, Object[] actual, int times, Condition<?> condition) {
+    verifyIsNotNull(condition);
+    verifyIsNotNegative(times);
+    assertNotNull(info, actual);
+    int found = countMatches(asList(actual), condition, oneMoreThan(times));
+    if (found == times) return;
+    throw failures.failure(info, elementsShouldBeExactly(actual, times, found, condition));
+  }
+
+  /**
+   * Returns the index of the first element for which the given condition returns the given result, or -1 if there is
+   * none.
+   */
+  private int indexOfFirst(Iterable<?> elements, Condition<?> condition, boolean result) {
+    Condition<Object> anyCondition = anyCondition(condition);
+    if (parallel) {
+      List<?> list = randomAccessList(elements);
+      if (list.size() >= minimumSizeForParallelEvaluation)
+        return indexOfFirstInParallel(list, anyCondition, result);
+    }
+    int index = 0;
+    for (Object element : elements) {
+      if (anyCondition.matches(element) == result) return index;
+      index++;
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the number of elements satisfying the given condition, counting at most the given number of them.
+   */
+  private int countMatches(Iterable<?> elements, Condition<?> condition, int maximum) {
+    Condition<Object> anyCondition = anyCondition(condition);
+    if (parallel) {
+      List<?> list = randomAccessList(elements);
+      if (list.size() >= minimumSizeForParallelEvaluation)
+        return countMatchesInParallel(list, anyCondition, maximum);
+    }
+    int count = 0;
+    for (Iterator<?> iterator = elements.iterator(); count < maximum && iterator.hasNext();)
+      if (anyCondition.matches(iterator.next())) count++;
+    return count;
+  }
+
+  private static int indexOfFirstInParallel(final List<?> elements, final Condition<Object> condition,
+      final boolean result) {
+    final AtomicInteger lowestIndex = new AtomicInteger(Integer.MAX_VALUE);
+    new ParallelScan(elements.size()) {
+      @Override boolean scan(int index) {
+        // elements after one already found do not change the outcome
+        if (index >= lowestIndex.get()) return false;
+        if (condition.matches(elements.get(index)) != result) return true;
+        for (int lowest; index < (lowest = lowestIndex.get());)
+          if (lowestIndex.compareAndSet(lowest, index)) break;
+        return false;
+      }
+    }.run();
+    int index = lowestIndex.get();
+    return index == Integer.MAX_VALUE ? -1 : index;
+  }
+
+  private static int countMatchesInParallel(final List<?> elements, final Condition<Object> condition,
+      final int maximum) {
+    final AtomicInteger count = new AtomicInteger();
+    new ParallelScan(elements.size()) {
+      @Override boolean scan(int index) {
+        if (count.get() >= maximum) return false;
+        if (condition.matches(elements.get(index))) count.incrementAndGet();
+        return true;
+      }
+    }.run();
+    return Math.min(count.get(), maximum);
+  }
+
+  private static List<?> randomAccessList(Iterable<?> elements) {
+    if (elements instanceof List && elements instanceof RandomAccess) return (List<?>) elements;
+    List<Object> list = new ArrayList<Object>();
+    for (Object element : elements)
+      list.add(element);
+    return list;
+  }
+
+  private static Object elementAt(Iterable<?> elements, int index) {
+    if (elements instanceof List) return ((List<?>) elements).get(index);
+    Iterator<?> iterator = elements.iterator();
+    for (int i = 0; i < index; i++)
+      iterator.next();
+    return iterator.next();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Condition<Object> anyCondition(Condition<?> condition) {
+    return (Condition<Object>) condition;
+  }
+
+  /**
+   * Returns the number of matches to count to know whether more elements than the given number satisfy a condition,
+   * saturated to {@code Integer.MAX_VALUE} since a count cannot go beyond it.
+   */
+  private static int oneMoreThan(int times) {
+    return times == Integer.MAX_VALUE ? times : times + 1;
+  }
+
+  private static void verifyIsNotNegative(int times) {
+    if (times < 0) throw new IllegalArgumentException("The number of elements should not be negative");
+  }
+
+  private static void assertNotNull(AssertionInfo info, Object actual) {
+    Objects.instance().assertNotNull(info, actual);
+  }
+
   private void verifyIsNotNull(Condition<?> condition) {
     if (condition == null) throw new NullPointerException("The condition to evaluate should not be null");
   }
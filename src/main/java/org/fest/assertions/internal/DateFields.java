@@ -0,0 +1,171 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static java.util.Calendar.*;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * The calendar fields (year, month, day of month, ...) of a <code>{@link Date}</code>, all computed at once from the
+ * date's epoch millis.
+ * <p>
+ * Fields are the ones the default <code>{@link Calendar}</code> would give, but they are computed with plain arithmetic
+ * on the time zone offset, instead of building a new {@code Calendar} for each field of each date. A {@code Calendar}
+ * is only used for dates the arithmetic does not cover: dates before the Gregorian cutover, or when the default locale
+ * uses a non Gregorian calendar.
+ * </p>
+ */
+final class DateFields {
+
+  private static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000L;
+  private static final long GREGORIAN_CUTOVER = new GregorianCalendar().getGregorianChange().getTime();
+  private static final int DAY_OF_WEEK_OF_EPOCH = THURSDAY;
+
+  private static volatile CalendarKind defaultCalendarKind = CalendarKind.of(Locale.getDefault());
+
+  final int year;
+  final int month;
+  final int dayOfMonth;
+  final int dayOfWeek;
+  final int hourOfDay;
+  final int minute;
+  final int second;
+  final int millisecond;
+
+  /**
+   * Returns the fields of the given date in the default time zone.
+   * @param date the date to decompose, expected not to be {@code null}.
+   * @return the fields of the given date.
+   */
+  static DateFields fieldsOf(Date date) {
+    return fieldsOf(date.getTime(), TimeZone.getDefault());
+  }
+
+  /**
+   * Returns the fields of the given date in the given time zone.
+   * <p>
+   * Since {@code TimeZone.getDefault()} returns a new copy of the default time zone each time it is called, callers
+   * decomposing several dates should get the default time zone once and use this method for all of them.
+   * </p>
+   * @param millis the date to decompose, expressed as milliseconds since the epoch.
+   * @param zone the time zone to compute fields in.
+   * @return the fields of the given date.
+   */
+  static DateFields fieldsOf(long millis, TimeZone zone) {
+    if (millis < GREGORIAN_CUTOVER || !defaultCalendarIsGregorian()) return fieldsFromCalendar(millis, zone);
+    long localMillis = millis + zone.getOffset(millis);
+    long day = floorDiv(localMillis, MILLIS_PER_DAY);
+    int millisOfDay = (int) (localMillis - day * MILLIS_PER_DAY);
+    // converts days since the epoch to year, month and day of month in the proleptic Gregorian calendar, working
+    // with years starting in March so that the leap day is the last day of the year.
+    long daysSinceMarch1st0000 = day + 719468;
+    long era = floorDiv(daysSinceMarch1st0000, 146097);
+    int dayOfEra = (int) (daysSinceMarch1st0000 - era * 146097);
+    int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    int monthStartingInMarch = (5 * dayOfYear + 2) / 153;
+    int dayOfMonth = dayOfYear - (153 * monthStartingInMarch + 2) / 5 + 1;
+    int month = monthStartingInMarch < 10 ? monthStartingInMarch + 3 : monthStartingInMarch - 9;
+    int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+    int dayOfWeek = (int) floorMod(day + DAY_OF_WEEK_OF_EPOCH - 1, 7) + 1;
+    return new DateFields(year, month, dayOfMonth, dayOfWeek, millisOfDay / 3600000, millisOfDay / 60000 % 60,
+        millisOfDay / 1000 % 60, millisOfDay % 1000);
+  }
+
+  private static DateFields fieldsFromCalendar(long millis, TimeZone zone) {
+    Calendar calendar = Calendar.getInstance(zone);
+    calendar.setTimeInMillis(millis);
+    return new DateFields(calendar.get(YEAR), calendar.get(MONTH) + 1, calendar.get(DAY_OF_MONTH),
+        calendar.get(DAY_OF_WEEK), calendar.get(HOUR_OF_DAY), calendar.get(MINUTE), calendar.get(SECOND),
+        calendar.get(MILLISECOND));
+  }
+
+  private static boolean defaultCalendarIsGregorian() {
+    Locale locale = Locale.getDefault();
+    CalendarKind kind = defaultCalendarKind;
+    if (kind.locale != locale) {
+      kind = CalendarKind.of(locale);
+      defaultCalendarKind = kind;
+    }
+    return kind.gregorian;
+  }
+
+  private static long floorDiv(long dividend, long divisor) {
+    long quotient = dividend / divisor;
+    return (dividend % divisor != 0 && (dividend < 0) != (divisor < 0)) ? quotient - 1 : quotient;
+  }
+
+  private static long floorMod(long dividend, long divisor) {
+    return dividend - floorDiv(dividend, divisor) * divisor;
+  }
+
+  private DateFields(int year, int month, int dayOfMonth, int dayOfWeek, int hourOfDay, int minute, int second,
+      int millisecond) {
+    this.year = year;
+    this.month = month;
+    this.dayOfMonth = dayOfMonth;
+    this.dayOfWeek = dayOfWeek;
+    this.hourOfDay = hourOfDay;
+    this.minute = minute;
+    this.second = second;
+    this.millisecond = millisecond;
+  }
+
+  boolean isInSameYearAs(DateFields other) {
+    return year == other.year;
+  }
+
+  boolean isInSameMonthAs(DateFields other) {
+    return isInSameYearAs(other) && month == other.month;
+  }
+
+  boolean isInSameDayAs(DateFields other) {
+    return isInSameMonthAs(other) && dayOfMonth == other.dayOfMonth;
+  }
+
+  boolean isInSameHourAs(DateFields other) {
+    return isInSameDayAs(other) && hourOfDay == other.hourOfDay;
+  }
+
+  boolean isInSameMinuteAs(DateFields other) {
+    return isInSameHourAs(other) && minute == other.minute;
+  }
+
+  boolean isInSameSecondAs(DateFields other) {
+    return isInSameMinuteAs(other) && second == other.second;
+  }
+
+  /**
+   * Whether the default {@code Calendar} of a locale is Gregorian, computed once per default locale.
+   */
+  private static class CalendarKind {
+    final Locale locale;
+    final boolean gregorian;
+
+    static CalendarKind of(Locale locale) {
+      return new CalendarKind(locale, Calendar.getInstance(locale).getClass() == GregorianCalendar.class);
+    }
+
+    private CalendarKind(Locale locale, boolean gregorian) {
+      this.locale = locale;
+      this.gregorian = gregorian;
+    }
+  }
+}
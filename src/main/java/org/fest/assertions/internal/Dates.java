@@ -17,11 +17,13 @@ import static org.fest.assertions.error.ShouldBeInThePast.shouldBeInThePast;
 import static org.fest.assertions.error.ShouldBeToday.shouldBeToday;
 import static org.fest.assertions.error.ShouldBeWithin.shouldBeWithin;
 import static org.fest.assertions.error.ShouldNotBeBetween.shouldNotBeBetween;
+import static org.fest.assertions.internal.DateFields.fieldsOf;
 import static org.fest.util.Dates.*;
 
 import java.util.Calendar;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.TimeZone;
 
 import org.fest.assertions.core.AssertionInfo;
 import org.fest.util.ComparatorBasedComparisonStrategy;
@@ -238,7 +240,7 @@ public class Dates {
    */
   public void assertIsBeforeYear(AssertionInfo info, Date actual, int year) {
     assertNotNull(info, actual);
-    if (yearOf(actual) < year) return;
+    if (fieldsOf(actual).year < year) return;
     throw failures.failure(info, shouldBeBefore(actual, year));
   }
 
@@ -252,7 +254,7 @@ public class Dates {
    */
   public void assertIsAfterYear(AssertionInfo info, Date actual, int year) {
     assertNotNull(info, actual);
-    if (yearOf(actual) > year) return;
+    if (fieldsOf(actual).year > year) return;
     throw failures.failure(info, shouldBeAfter(actual, year));
   }
 
@@ -266,7 +268,7 @@ public class Dates {
    */
   public void assertIsWithinYear(AssertionInfo info, Date actual, int year) {
     assertNotNull(info, actual);
-    if (yearOf(actual) == year) return;
+    if (fieldsOf(actual).year == year) return;
     throw failures.failure(info, shouldBeWithin(actual, "year", year));
   }
 
@@ -281,7 +283,7 @@ public class Dates {
    */
   public void assertIsWithinMonth(AssertionInfo info, Date actual, int month) {
     assertNotNull(info, actual);
-    if (monthOf(actual) == month) return;
+    if (fieldsOf(actual).month == month) return;
     throw failures.failure(info, shouldBeWithin(actual, "month", month));
   }
 
@@ -295,7 +297,7 @@ public class Dates {
    */
   public void assertIsWithinDayOfMonth(AssertionInfo info, Date actual, int dayOfMonth) {
     assertNotNull(info, actual);
-    if (dayOfMonthOf(actual) == dayOfMonth) return;
+    if (fieldsOf(actual).dayOfMonth == dayOfMonth) return;
     throw failures.failure(info, shouldBeWithin(actual, "day of month", dayOfMonth));
   }
 
@@ -310,7 +312,7 @@ public class Dates {
    */
   public void assertIsWithinDayOfWeek(AssertionInfo info, Date actual, int dayOfWeek) {
     assertNotNull(info, actual);
-    if (dayOfWeekOf(actual) == dayOfWeek) return;
+    if (fieldsOf(actual).dayOfWeek == dayOfWeek) return;
     throw failures.failure(info, shouldBeWithin(actual, "day of week", dayOfWeek));
   }
 
@@ -324,7 +326,7 @@ public class Dates {
    */
   public void assertIsWithinHourOfDay(AssertionInfo info, Date actual, int hourOfDay) {
     assertNotNull(info, actual);
-    if (hourOfDay(actual) == hourOfDay) return;
+    if (fieldsOf(actual).hourOfDay == hourOfDay) return;
     throw failures.failure(info, shouldBeWithin(actual, "hour", hourOfDay));
   }
 
@@ -338,7 +340,7 @@ public class Dates {
    */
   public void assertIsWithinMinute(AssertionInfo info, Date actual, int minute) {
     assertNotNull(info, actual);
-    if (minuteOf(actual) == minute) return;
+    if (fieldsOf(actual).minute == minute) return;
     throw failures.failure(info, shouldBeWithin(actual, "minute", minute));
   }
 
@@ -352,7 +354,7 @@ public class Dates {
    */
   public void assertIsWithinSecond(AssertionInfo info, Date actual, int second) {
     assertNotNull(info, actual);
-    if (secondOf(actual) == second) return;
+    if (fieldsOf(actual).second == second) return;
     throw failures.failure(info, shouldBeWithin(actual, "second", second));
   }
 
@@ -366,7 +368,7 @@ public class Dates {
    */
   public void assertIsWithinMillisecond(AssertionInfo info, Date actual, int millisecond) {
     assertNotNull(info, actual);
-    if (millisecondOf(actual) == millisecond) return;
+    if (fieldsOf(actual).millisecond == millisecond) return;
     throw failures.failure(info, shouldBeWithin(actual, "millisecond", millisecond));
   }
 
@@ -393,7 +395,8 @@ public class Dates {
    * @return true if both date are in the same year, false otherwise
    */
   private static boolean areInSameYear(Date actual, Date other) {
-    return yearOf(actual) == yearOf(other);
+    TimeZone timeZone = TimeZone.getDefault();
+    return fieldsOf(actual.getTime(), timeZone).isInSameYearAs(fieldsOf(other.getTime(), timeZone));
   }
 
   /**
@@ -419,7 +422,8 @@ public class Dates {
    * @return true if both date are in the same year and month, false otherwise
    */
   private static boolean areInSameMonth(Date actual, Date other) {
-    return areInSameYear(actual, other) && monthOf(actual) == monthOf(other);
+    TimeZone timeZone = TimeZone.getDefault();
+    return fieldsOf(actual.getTime(), timeZone).isInSameMonthAs(fieldsOf(other.getTime(), timeZone));
   }
 
   /**
@@ -446,7 +450,8 @@ public class Dates {
    * @return true if both date are in the same year, month and day of month, false otherwise
    */
   private static boolean areInSameDayOfMonth(Date actual, Date other) {
-    return areInSameMonth(actual, other) && dayOfMonthOf(actual) == dayOfMonthOf(other);
+    TimeZone timeZone = TimeZone.getDefault();
+    return fieldsOf(actual.getTime(), timeZone).isInSameDayAs(fieldsOf(other.getTime(), timeZone));
   }
 
   /**
@@ -473,7 +478,8 @@ public class Dates {
    * @return true if both date are in the same year, month, day of month and hour, false otherwise.
    */
   private static boolean areInSameHour(Date actual, Date other) {
-    return areInSameDayOfMonth(actual, other) && hourOfDay(actual) == hourOfDay(other);
+    TimeZone timeZone = TimeZone.getDefault();
+    return fieldsOf(actual.getTime(), timeZone).isInSameHourAs(fieldsOf(other.getTime(), timeZone));
   }
 
   /**
@@ -500,7 +506,8 @@ public class Dates {
    * @return true if both date are in the same year, month, day of month, hour and minute, false otherwise.
    */
   private static boolean areInSameMinute(Date actual, Date other) {
-    return areInSameHour(actual, other) && minuteOf(actual) == minuteOf(other);
+    TimeZone timeZone = TimeZone.getDefault();
+    return fieldsOf(actual.getTime(), timeZone).isInSameMinuteAs(fieldsOf(other.getTime(), timeZone));
   }
 
   /**
@@ -527,7 +534,8 @@ public class Dates {
    * @return true if both date are in the same year, month and day of month, hour, minute and second, false otherwise.
    */
   private static boolean areInSameSecond(Date actual, Date other) {
-    return areInSameMinute(actual, other) && secondOf(actual) == secondOf(other);
+    TimeZone timeZone = TimeZone.getDefault();
+    return fieldsOf(actual.getTime(), timeZone).isInSameSecondAs(fieldsOf(other.getTime(), timeZone));
   }
 
   /**
@@ -68,9 +68,11 @@ public class Failures {
    * @return the created <code>{@link AssertionError}</code>.
    */
   public AssertionError failure(AssertionInfo info, AssertionErrorFactory factory) {
+    long start = AssertionProbe.failureStarted();
     AssertionError error = failureIfErrorMessageIsOverriden(info);
-    if (error != null) return error;
-    return factory.newAssertionError(info.description());
+    if (error == null) error = factory.newAssertionError(info.description());
+    AssertionProbe.failureCreated(error, start);
+    return error;
   }
 
   /**
@@ -87,11 +89,14 @@ public class Failures {
    * @return the created <code>{@link AssertionError}</code>.
    */
   public AssertionError failure(AssertionInfo info, ErrorMessageFactory message) {
+    long start = AssertionProbe.failureStarted();
     AssertionError error = failureIfErrorMessageIsOverriden(info);
-    if (error != null) return error;
-    AssertionError assertionError = new AssertionError(message.create(info.description()));
-    removeFestRelatedElementsFromStackTraceIfNeeded(assertionError);
-    return assertionError;
+    if (error == null) {
+      error = new AssertionError(message.create(info.description()));
+      removeFestRelatedElementsFromStackTraceIfNeeded(error);
+    }
+    AssertionProbe.failureCreated(error, start);
+    return error;
   }
 
   private AssertionError failureIfErrorMessageIsOverriden(AssertionInfo info) {
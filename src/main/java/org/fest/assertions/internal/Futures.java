@@ -0,0 +1,170 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.ShouldBeCompletedWithValueMatching.*;
+import static org.fest.assertions.error.ShouldFailWithin.shouldFailWithin;
+import static org.fest.assertions.error.ShouldSucceedWithin.shouldSucceedWithin;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.core.Condition;
+import org.fest.util.VisibleForTesting;
+
+/**
+ * Reusable assertions for <code>{@link Future}</code>s.
+ * <p>
+ * Waiting for a {@code Future} relies on <code>{@link Future#get(long, TimeUnit)}</code>: the calling thread is blocked
+ * until the {@code Future} signals its completion or the timeout expires, it does not poll. The outcome of a
+ * {@code Future} is the exception thrown by its computation if it failed, or the {@code CancellationException} if it
+ * was cancelled.
+ * </p>
+ */
+public class Futures {
+
+  private static final Futures INSTANCE = new Futures();
+
+  /**
+   * Returns the singleton instance of this class.
+   * @return the singleton instance of this class.
+   */
+  public static Futures instance() {
+    return INSTANCE;
+  }
+
+  @VisibleForTesting
+  Failures failures = Failures.instance();
+
+  @VisibleForTesting
+  Futures() {}
+
+  /**
+   * Asserts that the given {@code Future} completes successfully within the given timeout.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Future}.
+   * @param timeout the maximum time to wait.
+   * @param unit the unit of the timeout.
+   * @return the result of the given {@code Future}.
+   * @throws IllegalArgumentException if the given timeout is negative.
+   * @throws NullPointerException if the given unit is {@code null}.
+   * @throws IllegalStateException if the current thread is interrupted while waiting.
+   * @throws AssertionError if the given {@code Future} is {@code null}.
+   * @throws AssertionError if the given {@code Future} is not completed within the given timeout, failed or was
+   *           cancelled.
+   */
+  public Object assertSucceedsWithin(AssertionInfo info, Future<?> actual, long timeout, TimeUnit unit) {
+    checkTimeout(timeout, unit);
+    assertNotNull(info, actual);
+    try {
+      return actual.get(timeout, unit);
+    } catch (TimeoutException e) {
+      throw failures.failure(info, shouldSucceedWithin(timeout, unit));
+    } catch (ExecutionException e) {
+      throw failures.failure(info, shouldSucceedWithin(timeout, unit, causeOf(e)));
+    } catch (CancellationException e) {
+      throw failures.failure(info, shouldSucceedWithin(timeout, unit, e));
+    } catch (InterruptedException e) {
+      throw interruptedWhileWaiting(e);
+    }
+  }
+
+  /**
+   * Asserts that the given {@code Future} fails, or is cancelled, within the given timeout.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Future}.
+   * @param timeout the maximum time to wait.
+   * @param unit the unit of the timeout.
+   * @return the exception thrown by the computation of the given {@code Future}, or the {@code CancellationException}
+   *         if it was cancelled.
+   * @throws IllegalArgumentException if the given timeout is negative.
+   * @throws NullPointerException if the given unit is {@code null}.
+   * @throws IllegalStateException if the current thread is interrupted while waiting.
+   * @throws AssertionError if the given {@code Future} is {@code null}.
+   * @throws AssertionError if the given {@code Future} is not completed within the given timeout, or completed
+   *           successfully.
+   */
+  public Throwable assertFailsWithin(AssertionInfo info, Future<?> actual, long timeout, TimeUnit unit) {
+    checkTimeout(timeout, unit);
+    assertNotNull(info, actual);
+    Object value;
+    try {
+      value = actual.get(timeout, unit);
+    } catch (TimeoutException e) {
+      throw failures.failure(info, shouldFailWithin(timeout, unit));
+    } catch (ExecutionException e) {
+      return causeOf(e);
+    } catch (CancellationException e) {
+      return e;
+    } catch (InterruptedException e) {
+      throw interruptedWhileWaiting(e);
+    }
+    throw failures.failure(info, shouldFailWithin(timeout, unit, value));
+  }
+
+  /**
+   * Asserts that the given {@code Future} is completed with a value satisfying the given
+   * <code>{@link Condition}</code>. This assertion does not wait for the given {@code Future} to complete.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Future}.
+   * @param condition the given {@code Condition}.
+   * @throws NullPointerException if the given {@code Condition} is {@code null}.
+   * @throws AssertionError if the given {@code Future} is {@code null}.
+   * @throws AssertionError if the given {@code Future} is not completed, failed or was cancelled.
+   * @throws AssertionError if the value of the given {@code Future} does not satisfy the given {@code Condition}.
+   */
+  @SuppressWarnings("unchecked")
+  public void assertIsCompletedWithValueMatching(AssertionInfo info, Future<?> actual, Condition<?> condition) {
+    if (condition == null) throw new NullPointerException("The condition to evaluate should not be null");
+    assertNotNull(info, actual);
+    if (!actual.isDone()) throw failures.failure(info, shouldBeCompleted(condition));
+    Object value;
+    try {
+      value = actual.get();
+    } catch (ExecutionException e) {
+      throw failures.failure(info, shouldBeCompletedSuccessfully(condition, causeOf(e)));
+    } catch (CancellationException e) {
+      throw failures.failure(info, shouldBeCompletedSuccessfully(condition, e));
+    } catch (InterruptedException e) {
+      throw interruptedWhileWaiting(e);
+    }
+    if (((Condition<Object>) condition).matches(value)) return;
+    throw failures.failure(info, shouldBeCompletedWithValueMatching(condition, value));
+  }
+
+  private static void checkTimeout(long timeout, TimeUnit unit) {
+    if (timeout < 0) throw new IllegalArgumentException("The timeout should not be negative");
+    if (unit == null) throw new NullPointerException("The time unit should not be null");
+  }
+
+  private static Throwable causeOf(ExecutionException e) {
+    return e.getCause() == null ? e : e.getCause();
+  }
+
+  private static IllegalStateException interruptedWhileWaiting(InterruptedException e) {
+    Thread.currentThread().interrupt();
+    IllegalStateException error = new IllegalStateException("Interrupted while waiting for the future to complete");
+    error.initCause(e);
+    return error;
+  }
+
+  private void assertNotNull(AssertionInfo info, Future<?> actual) {
+    Objects.instance().assertNotNull(info, actual);
+  }
+}
@@ -0,0 +1,421 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static java.util.Collections.singletonList;
+
+import static org.fest.assertions.error.ShouldContain.shouldContain;
+import static org.fest.assertions.error.ShouldContainNull.shouldContainNull;
+import static org.fest.assertions.error.ShouldContainOnly.shouldContainOnly;
+import static org.fest.assertions.error.ShouldHaveSize.shouldHaveSize;
+import static org.fest.assertions.error.ShouldNotBeEmpty.shouldNotBeEmpty;
+import static org.fest.assertions.error.ShouldNotContain.shouldNotContain;
+import static org.fest.assertions.error.ShouldNotContainNull.shouldNotContainNull;
+import static org.fest.assertions.error.ShouldNotHaveDuplicates.shouldNotHaveDuplicates;
+import static org.fest.assertions.error.ShouldStartWith.shouldStartWith;
+import static org.fest.assertions.internal.CommonErrors.arrayOfValuesToLookForIsEmpty;
+import static org.fest.assertions.internal.CommonErrors.arrayOfValuesToLookForIsNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.error.ErrorMessageFactory;
+import org.fest.util.ComparisonStrategy;
+
+/**
+ * Assertions on an <code>{@link Iterable}</code> that are recorded first and verified together, iterating over the
+ * elements of the {@code Iterable} only once.
+ * <p>
+ * To get a new instance of this class, invoke <code>{@link Iterables#singlePassChecks()}</code>. Each element is
+ * given to all the recorded assertions still needing elements, the iteration stops as soon as the outcome of all of
+ * them is known. Assertions are then verified in the order they were recorded and fail with the same error the
+ * matching method of <code>{@link Iterables}</code> would have thrown: the first one that does not pass is reported.
+ * Nothing is verified until <code>{@link #verify(AssertionInfo, Iterable)}</code> is called.
+ * </p>
+ */
+public class IterableChecks {
+
+  private final Iterables iterables;
+  private final ComparisonStrategy comparisonStrategy;
+  private final List<Check> checks = new ArrayList<Check>();
+
+  IterableChecks(Iterables iterables, ComparisonStrategy comparisonStrategy) {
+    this.iterables = iterables;
+    this.comparisonStrategy = comparisonStrategy;
+  }
+
+  /**
+   * Records the check of <code>{@link Iterables#assertNotEmpty(AssertionInfo, Iterable)}</code>.
+   */
+  public void assertNotEmpty() {
+    checks.add(new NotEmpty());
+  }
+
+  /**
+   * Records the check of <code>{@link Iterables#assertHasSize(AssertionInfo, Iterable, int)}</code>.
+   * @param expectedSize the expected size of the {@code Iterable}.
+   */
+  public void assertHasSize(int expectedSize) {
+    checks.add(new HasSize(expectedSize));
+  }
+
+  /**
+   * Records the check of <code>{@link Iterables#assertContains(AssertionInfo, Iterable, Object[])}</code>.
+   * @param values the values that are expected to be in the {@code Iterable}.
+   */
+  public void assertContains(Object[] values) {
+    checks.add(new Contains(values));
+  }
+
+  /**
+   * Records the check of <code>{@link Iterables#assertContainsOnly(AssertionInfo, Iterable, Object[])}</code>.
+   * @param values the values that are expected to be in the {@code Iterable}.
+   */
+  public void assertContainsOnly(Object[] values) {
+    checks.add(new ContainsOnly(values));
+  }
+
+  /**
+   * Records the check of <code>{@link Iterables#assertDoesNotContain(AssertionInfo, Iterable, Object[])}</code>.
+   * @param values the values that are expected not to be in the {@code Iterable}.
+   */
+  public void assertDoesNotContain(Object[] values) {
+    checks.add(new DoesNotContain(values));
+  }
+
+  /**
+   * Records the check of <code>{@link Iterables#assertDoesNotHaveDuplicates(AssertionInfo, Iterable)}</code>.
+   */
+  public void assertDoesNotHaveDuplicates() {
+    checks.add(new DoesNotHaveDuplicates());
+  }
+
+  /**
+   * Records the check of <code>{@link Iterables#assertStartsWith(AssertionInfo, Iterable, Object[])}</code>.
+   * @param sequence the sequence of objects to look for.
+   */
+  public void assertStartsWith(Object[] sequence) {
+    checks.add(new StartsWith(sequence));
+  }
+
+  /**
+   * Records the check of <code>{@link Iterables#assertContainsNull(AssertionInfo, Iterable)}</code>.
+   */
+  public void assertContainsNull() {
+    checks.add(new ContainsNull(true));
+  }
+
+  /**
+   * Records the check of <code>{@link Iterables#assertDoesNotContainNull(AssertionInfo, Iterable)}</code>.
+   */
+  public void assertDoesNotContainNull() {
+    checks.add(new ContainsNull(false));
+  }
+
+  /**
+   * Verifies all the recorded assertions, in the order they were recorded, iterating over the elements of the given
+   * {@code Iterable} at most once.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterable}.
+   * @throws NullPointerException if the values or sequence given to a recorded assertion are {@code null}.
+   * @throws IllegalArgumentException if the values or sequence given to a recorded assertion are empty.
+   * @throws AssertionError if the given {@code Iterable} is {@code null} and at least one assertion was recorded.
+   * @throws AssertionError if the given {@code Iterable} does not satisfy one of the recorded assertions.
+   */
+  public void verify(AssertionInfo info, Iterable<?> actual) {
+    long probe = AssertionProbe.begin();
+    try {
+      if (actual != null) feedElements(actual);
+      for (Check check : checks) {
+        check.checkArguments();
+        Objects.instance().assertNotNull(info, actual);
+        ErrorMessageFactory failure = check.failure(actual);
+        if (failure != null) throw iterables.failures.failure(info, failure);
+      }
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
+  }
+
+  private void feedElements(Iterable<?> actual) {
+    List<Check> pending = new ArrayList<Check>();
+    for (Check check : checks)
+      if (check.hasValidArguments() && check.start(actual)) pending.add(check);
+    if (pending.isEmpty()) return;
+    for (Object element : actual) {
+      for (Iterator<Check> i = pending.iterator(); i.hasNext();)
+        if (!i.next().accept(element)) i.remove();
+      if (pending.isEmpty()) return;
+    }
+  }
+
+  /**
+   * Same as <code>{@link ComparisonStrategy#iterableContains(Iterable, Object)}</code> on an {@code Iterable} only
+   * containing the given element.
+   */
+  private boolean matches(Object element, Object value) {
+    if (element == value) return true;
+    if (element == null || value == null) return false;
+    return comparisonStrategy.iterableContains(singletonList(element), value);
+  }
+
+  /**
+   * Adds the given element to the given set unless the set already contains it according to the comparison strategy,
+   * the way <code>{@link ComparisonStrategy#duplicatesFrom(Iterable)}</code> does.
+   */
+  private boolean addIfAbsent(Set<Object> distinct, Object element) {
+    if (comparisonStrategy.iterableContains(distinct, element)) return false;
+    distinct.add(element);
+    return true;
+  }
+
+  private static int sizeOf(Iterable<?> actual) {
+    return actual instanceof Collection<?> ? ((Collection<?>) actual).size() : -1;
+  }
+
+  private static abstract class Check {
+    boolean hasValidArguments() {
+      return true;
+    }
+
+    void checkArguments() {}
+
+    /**
+     * Resets the state of this check before iterating over the given {@code Iterable}.
+     * @return {@code true} if this check needs the elements of the given {@code Iterable}.
+     */
+    abstract boolean start(Iterable<?> actual);
+
+    /**
+     * @return {@code true} if this check needs the next elements.
+     */
+    abstract boolean accept(Object element);
+
+    /**
+     * @return the description of the failure, or {@code null} if this check passed.
+     */
+    abstract ErrorMessageFactory failure(Iterable<?> actual);
+  }
+
+  private static abstract class ValuesCheck extends Check {
+    final Object[] values;
+
+    ValuesCheck(Object[] values) {
+      this.values = values;
+    }
+
+    @Override boolean hasValidArguments() {
+      return values != null && values.length > 0;
+    }
+
+    @Override void checkArguments() {
+      if (values == null) throw arrayOfValuesToLookForIsNull();
+      if (values.length == 0) throw arrayOfValuesToLookForIsEmpty();
+    }
+  }
+
+  private static class NotEmpty extends Check {
+    private boolean empty;
+
+    @Override boolean start(Iterable<?> actual) {
+      empty = sizeOf(actual) <= 0;
+      return sizeOf(actual) < 0;
+    }
+
+    @Override boolean accept(Object element) {
+      empty = false;
+      return false;
+    }
+
+    @Override ErrorMessageFactory failure(Iterable<?> actual) {
+      return empty ? shouldNotBeEmpty() : null;
+    }
+  }
+
+  private static class HasSize extends Check {
+    private final int expectedSize;
+    private int size;
+
+    HasSize(int expectedSize) {
+      this.expectedSize = expectedSize;
+    }
+
+    @Override boolean start(Iterable<?> actual) {
+      size = Math.max(sizeOf(actual), 0);
+      return sizeOf(actual) < 0;
+    }
+
+    @Override boolean accept(Object element) {
+      size++;
+      return true;
+    }
+
+    @Override ErrorMessageFactory failure(Iterable<?> actual) {
+      return size == expectedSize ? null : shouldHaveSize(actual, size, expectedSize);
+    }
+  }
+
+  private class Contains extends ValuesCheck {
+    private boolean[] found;
+    private int notFoundCount;
+
+    Contains(Object[] values) {
+      super(values);
+    }
+
+    @Override boolean start(Iterable<?> actual) {
+      found = new boolean[values.length];
+      notFoundCount = values.length;
+      return true;
+    }
+
+    @Override boolean accept(Object element) {
+      for (int i = 0; i < values.length; i++) {
+        if (found[i] || !matches(element, values[i])) continue;
+        found[i] = true;
+        notFoundCount--;
+      }
+      return notFoundCount > 0;
+    }
+
+    @Override ErrorMessageFactory failure(Iterable<?> actual) {
+      if (notFoundCount == 0) return null;
+      return shouldContain(actual, values, valuesFound(false), comparisonStrategy);
+    }
+
+    Set<Object> valuesFound(boolean wasFound) {
+      Set<Object> result = new LinkedHashSet<Object>();
+      for (int i = 0; i < values.length; i++)
+        if (found[i] == wasFound) result.add(values[i]);
+      return result;
+    }
+  }
+
+  private class DoesNotContain extends Contains {
+    DoesNotContain(Object[] values) {
+      super(values);
+    }
+
+    @Override ErrorMessageFactory failure(Iterable<?> actual) {
+      Set<Object> found = valuesFound(true);
+      return found.isEmpty() ? null : shouldNotContain(actual, values, found, comparisonStrategy);
+    }
+  }
+
+  private class ContainsOnly extends ValuesCheck {
+    private Set<Object> distinct;
+
+    ContainsOnly(Object[] values) {
+      super(values);
+    }
+
+    @Override boolean start(Iterable<?> actual) {
+      distinct = new HashSet<Object>();
+      return true;
+    }
+
+    @Override boolean accept(Object element) {
+      addIfAbsent(distinct, element);
+      return true;
+    }
+
+    @Override ErrorMessageFactory failure(Iterable<?> actual) {
+      Set<Object> notExpected = distinct;
+      Set<Object> notFound = iterables.containsOnly(notExpected, values);
+      if (notExpected.isEmpty() && notFound.isEmpty()) return null;
+      return shouldContainOnly(actual, values, notFound, notExpected, comparisonStrategy);
+    }
+  }
+
+  private class DoesNotHaveDuplicates extends Check {
+    private Set<Object> distinct;
+    private Set<Object> duplicates;
+
+    @Override boolean start(Iterable<?> actual) {
+      distinct = new HashSet<Object>();
+      duplicates = new HashSet<Object>();
+      return true;
+    }
+
+    @Override boolean accept(Object element) {
+      if (!addIfAbsent(distinct, element)) duplicates.add(element);
+      return true;
+    }
+
+    @Override ErrorMessageFactory failure(Iterable<?> actual) {
+      return duplicates.isEmpty() ? null : shouldNotHaveDuplicates(actual, duplicates, comparisonStrategy);
+    }
+  }
+
+  private class StartsWith extends ValuesCheck {
+    private int matched;
+    private boolean mismatch;
+
+    StartsWith(Object[] sequence) {
+      super(sequence);
+    }
+
+    @Override boolean start(Iterable<?> actual) {
+      matched = 0;
+      mismatch = false;
+      return true;
+    }
+
+    @Override boolean accept(Object element) {
+      if (!comparisonStrategy.areEqual(element, values[matched])) {
+        mismatch = true;
+        return false;
+      }
+      return ++matched < values.length;
+    }
+
+    @Override ErrorMessageFactory failure(Iterable<?> actual) {
+      if (!mismatch && matched == values.length) return null;
+      return shouldStartWith(actual, values, comparisonStrategy);
+    }
+  }
+
+  private static class ContainsNull extends Check {
+    private final boolean expected;
+    private boolean found;
+
+    ContainsNull(boolean expected) {
+      this.expected = expected;
+    }
+
+    @Override boolean start(Iterable<?> actual) {
+      found = false;
+      return true;
+    }
+
+    @Override boolean accept(Object element) {
+      if (element == null) found = true;
+      return !found;
+    }
+
+    @Override ErrorMessageFactory failure(Iterable<?> actual) {
+      if (found == expected) return null;
+      return expected ? shouldContainNull(actual) : shouldNotContainNull(actual);
+    }
+  }
+}
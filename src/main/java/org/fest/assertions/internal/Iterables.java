@@ -35,6 +35,8 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
 import java.util.Set;
 
 import org.fest.assertions.core.AssertionInfo;
@@ -84,6 +86,15 @@ public class Iterables {
     return null;
   }
 
+  /**
+   * Returns a new <code>{@link IterableChecks}</code> recording assertions to verify with the comparison strategy of
+   * this object, iterating over the elements of the {@code Iterable} only once.
+   * @return the new {@code IterableChecks}.
+   */
+  public IterableChecks singlePassChecks() {
+    return new IterableChecks(this, comparisonStrategy);
+  }
+
   /**
    * Asserts that the given <code>{@link Iterable}</code> is {@code null} or empty.
    * @param info contains information about the assertion.
@@ -91,8 +102,15 @@ public class Iterables {
    * @throws AssertionError if the given {@code Iterable} is not {@code null} *and* contains one or more elements.
    */
   public void assertNullOrEmpty(AssertionInfo info, Iterable<?> actual) {
-    if (actual == null || isEmpty(actual)) return;
-    throw failures.failure(info, shouldBeNullOrEmpty(actual));
+    long probe = AssertionProbe.begin();
+    try {
+      if (actual == null || isEmpty(actual)) return;
+      throw failures.failure(info, shouldBeNullOrEmpty(actual));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -103,9 +121,16 @@ public class Iterables {
    * @throws AssertionError if the given {@code Iterable} is not empty.
    */
   public void assertEmpty(AssertionInfo info, Iterable<?> actual) {
-    assertNotNull(info, actual);
-    if (isEmpty(actual)) return;
-    throw failures.failure(info, shouldBeEmpty(actual));
+    long probe = AssertionProbe.begin();
+    try {
+      assertNotNull(info, actual);
+      if (isEmpty(actual)) return;
+      throw failures.failure(info, shouldBeEmpty(actual));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -116,9 +141,16 @@ public class Iterables {
    * @throws AssertionError if the given {@code Iterable} is empty.
    */
   public void assertNotEmpty(AssertionInfo info, Iterable<?> actual) {
-    assertNotNull(info, actual);
-    if (!isEmpty(actual)) return;
-    throw failures.failure(info, shouldNotBeEmpty());
+    long probe = AssertionProbe.begin();
+    try {
+      assertNotNull(info, actual);
+      if (!isEmpty(actual)) return;
+      throw failures.failure(info, shouldNotBeEmpty());
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -130,10 +162,17 @@ public class Iterables {
    * @throws AssertionError if the number of elements in the given {@code Iterable} is different than the expected one.
    */
   public void assertHasSize(AssertionInfo info, Iterable<?> actual, int expectedSize) {
-    assertNotNull(info, actual);
-    int sizeOfActual = sizeOf(actual);
-    if (sizeOfActual == expectedSize) return;
-    throw failures.failure(info, shouldHaveSize(actual, sizeOfActual, expectedSize));
+    long probe = AssertionProbe.begin();
+    try {
+      assertNotNull(info, actual);
+      int sizeOfActual = sizeOf(actual);
+      if (sizeOfActual == expectedSize) return;
+      throw failures.failure(info, shouldHaveSize(actual, sizeOfActual, expectedSize));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -147,13 +186,20 @@ public class Iterables {
    * @throws AssertionError if the given {@code Iterable} does not contain the given values.
    */
   public void assertContains(AssertionInfo info, Iterable<?> actual, Object[] values) {
-    checkIsNotNullAndNotEmpty(values);
-    assertNotNull(info, actual);
-    Set<Object> notFound = new LinkedHashSet<Object>();
-    for (Object value : values)
-      if (!iterableContains(actual, value)) notFound.add(value);
-    if (notFound.isEmpty()) return;
-    throw failures.failure(info, shouldContain(actual, values, notFound, comparisonStrategy));
+    long probe = AssertionProbe.begin();
+    try {
+      checkIsNotNullAndNotEmpty(values);
+      assertNotNull(info, actual);
+      Set<Object> notFound = new LinkedHashSet<Object>();
+      for (Object value : values)
+        if (!iterableContains(actual, value)) notFound.add(value);
+      if (notFound.isEmpty()) return;
+      throw failures.failure(info, shouldContain(actual, values, notFound, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -182,15 +228,22 @@ public class Iterables {
    *           {@code Iterable} contains values that are not in the given array.
    */
   public void assertContainsOnly(AssertionInfo info, Iterable<?> actual, Object[] values) {
-    checkIsNotNullAndNotEmpty(values);
-    assertNotNull(info, actual);
-    Set<Object> notExpected = setFromIterable(actual);
-    Set<Object> notFound = containsOnly(notExpected, values);
-    if (notExpected.isEmpty() && notFound.isEmpty()) return;
-    throw failures.failure(info, shouldContainOnly(actual, values, notFound, notExpected, comparisonStrategy));
+    long probe = AssertionProbe.begin();
+    try {
+      checkIsNotNullAndNotEmpty(values);
+      assertNotNull(info, actual);
+      Set<Object> notExpected = setFromIterable(actual);
+      Set<Object> notFound = containsOnly(notExpected, values);
+      if (notExpected.isEmpty() && notFound.isEmpty()) return;
+      throw failures.failure(info, shouldContainOnly(actual, values, notFound, notExpected, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
-  private Set<Object> containsOnly(Set<Object> actual, Object[] values) {
+  Set<Object> containsOnly(Set<Object> actual, Object[] values) {
     Set<Object> notFound = new LinkedHashSet<Object>();
     for (Object o : set(values)) {
       if (iterableContains(actual, o)) iterableRemoves(actual, o);
@@ -241,14 +294,17 @@ public class Iterables {
    * @throws AssertionError if the given {@code Iterable} does not contain the given sequence of objects.
    */
   public void assertContainsSequence(AssertionInfo info, Iterable<?> actual, Object[] sequence) {
-    checkIsNotNullAndNotEmpty(sequence);
-    assertNotNull(info, actual);
-    List<?> actualAsList = list(actual);
-    for (int i = 0; i < actualAsList.size(); i++) {
-      // look for given sequence in actual starting from current index (i)
-      if (containsSequenceAtGivenIndex(actualAsList, sequence, i)) return;
+    long probe = AssertionProbe.begin();
+    try {
+      checkIsNotNullAndNotEmpty(sequence);
+      assertNotNull(info, actual);
+      if (containsSequence(actual, sequence)) return;
+      throw actualDoesNotContainSequence(info, actual, sequence);
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
     }
-    throw actualDoesNotContainSequence(info, actual, sequence);
   }
 
   /**
@@ -262,17 +318,24 @@ public class Iterables {
    * @throws AssertionError if the actual {@code Iterable} is not subset of set <code>{@link Iterable}</code>
    */
   public void assertIsSubsetOf(AssertionInfo info, Iterable<?> actual, Iterable<?> values) {
-    assertNotNull(info, actual);
-    checkNotNull(info, values);
-    List<Object> extra = new ArrayList<Object>();
-    
-    for (Object e : actual) {
-      if ( ! iterableContains(values, e)) {
-        extra.add(e);
+    long probe = AssertionProbe.begin();
+    try {
+      assertNotNull(info, actual);
+      checkNotNull(info, values);
+      List<Object> extra = new ArrayList<Object>();
+  
+      for (Object e : actual) {
+        if ( ! iterableContains(values, e)) {
+          extra.add(e);
+        }
       }
-    }
-    if (extra.size() > 0) {
-      throw actualIsNotSubsetOfSet(info, actual, values, extra);
+      if (extra.size() > 0) {
+        throw actualIsNotSubsetOfSet(info, actual, values, extra);
+      }
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
     }
   }
 
@@ -284,7 +347,42 @@ public class Iterables {
     return failures.failure(info, ShouldBeSubsetOf.shouldBeSubsetOf(actual, set, extra, comparisonStrategy));
   }
 
-/**
+  private boolean containsSequence(Iterable<?> actual, Object[] sequence) {
+    if (actual instanceof List && actual instanceof RandomAccess) {
+      List<?> actualAsList = (List<?>) actual;
+      for (int i = 0; i < actualAsList.size(); i++) {
+        // look for given sequence in actual starting from current index (i)
+        if (containsSequenceAtGivenIndex(actualAsList, sequence, i)) return true;
+      }
+      return false;
+    }
+    // walk actual once, keeping its last sequence.length elements in a circular buffer, instead of copying it into a
+    // list or indexing a list that does not support fast random access.
+    Object[] window = new Object[sequence.length];
+    // index where the next element is stored, which is also the index of the oldest element once the window is full
+    int next = 0;
+    boolean full = false;
+    for (Object o : actual) {
+      window[next] = o;
+      next = (next + 1) % window.length;
+      if (next == 0) full = true;
+      if (full && windowEndsWithSequence(window, next, sequence)) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Return true if the full circular buffer, which oldest element is stored at the given index, contains exactly the
+   * given sequence.
+   */
+  private boolean windowEndsWithSequence(Object[] window, int oldest, Object[] sequence) {
+    for (int i = 0; i < sequence.length; i++) {
+      if (!areEqual(window[(oldest + i) % window.length], sequence[i])) return false;
+    }
+    return true;
+  }
+
+  /**
    * Return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
    * @param actualAsList the list to look sequance in 
    * @param sequence the sequence to look for
@@ -322,13 +420,20 @@ public class Iterables {
    * @throws AssertionError if the given {@code Iterable} contains any of given values.
    */
   public void assertDoesNotContain(AssertionInfo info, Iterable<?> actual, Object[] values) {
-    checkIsNotNullAndNotEmpty(values);
-    assertNotNull(info, actual);
-    Set<Object> found = new LinkedHashSet<Object>();
-    for (Object o : values)
-      if (iterableContains(actual, o)) found.add(o);
-    if (found.isEmpty()) return;
-    throw failures.failure(info, shouldNotContain(actual, values, found, comparisonStrategy));
+    long probe = AssertionProbe.begin();
+    try {
+      checkIsNotNullAndNotEmpty(values);
+      assertNotNull(info, actual);
+      Set<Object> found = new LinkedHashSet<Object>();
+      for (Object o : values)
+        if (iterableContains(actual, o)) found.add(o);
+      if (found.isEmpty()) return;
+      throw failures.failure(info, shouldNotContain(actual, values, found, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -341,10 +446,17 @@ public class Iterables {
    * @throws AssertionError if the given {@code Iterable} contains duplicate values.
    */
   public void assertDoesNotHaveDuplicates(AssertionInfo info, Iterable<?> actual) {
-    assertNotNull(info, actual);
-    Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(actual);
-    if (isEmpty(duplicates)) return;
-    throw failures.failure(info, shouldNotHaveDuplicates(actual, duplicates, comparisonStrategy));
+    long probe = AssertionProbe.begin();
+    try {
+      assertNotNull(info, actual);
+      Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(actual);
+      if (isEmpty(duplicates)) return;
+      throw failures.failure(info, shouldNotHaveDuplicates(actual, duplicates, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -360,15 +472,22 @@ public class Iterables {
    * @throws AssertionError if the given {@code Iterable} does not start with the given sequence of objects.
    */
   public void assertStartsWith(AssertionInfo info, Iterable<?> actual, Object[] sequence) {
-    checkIsNotNullAndNotEmpty(sequence);
-    assertNotNull(info, actual);
-    int sequenceSize = sequence.length;
-    if (sizeOf(actual) < sequenceSize) throw actualDoesNotStartWithSequence(info, actual, sequence);
-    int i = 0;
-    for (Object o : actual) {
-      if (i >= sequenceSize) break;
-      if (areEqual(o, sequence[i++])) continue;
-      throw actualDoesNotStartWithSequence(info, actual, sequence);
+    long probe = AssertionProbe.begin();
+    try {
+      checkIsNotNullAndNotEmpty(sequence);
+      assertNotNull(info, actual);
+      int sequenceSize = sequence.length;
+      if (sizeOf(actual) < sequenceSize) throw actualDoesNotStartWithSequence(info, actual, sequence);
+      int i = 0;
+      for (Object o : actual) {
+        if (i >= sequenceSize) break;
+        if (areEqual(o, sequence[i++])) continue;
+        throw actualDoesNotStartWithSequence(info, actual, sequence);
+      }
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
     }
   }
 
@@ -389,17 +508,33 @@ public class Iterables {
    * @throws AssertionError if the given {@code Iterable} does not end with the given sequence of objects.
    */
   public void assertEndsWith(AssertionInfo info, Iterable<?> actual, Object[] sequence) {
-    checkIsNotNullAndNotEmpty(sequence);
-    assertNotNull(info, actual);
-    int sequenceSize = sequence.length;
-    int sizeOfActual = sizeOf(actual);
-    if (sizeOfActual < sequenceSize) throw actualDoesNotEndWithSequence(info, actual, sequence);
-    int start = sizeOfActual - sequenceSize;
-    int sequenceIndex = 0, indexOfActual = 0;
-    for (Object o : actual) {
-      if (indexOfActual++ < start) continue;
-      if (areEqual(o, sequence[sequenceIndex++])) continue;
-      throw actualDoesNotEndWithSequence(info, actual, sequence);
+    long probe = AssertionProbe.begin();
+    try {
+      checkIsNotNullAndNotEmpty(sequence);
+      assertNotNull(info, actual);
+      int sequenceSize = sequence.length;
+      int sizeOfActual = sizeOf(actual);
+      if (sizeOfActual < sequenceSize) throw actualDoesNotEndWithSequence(info, actual, sequence);
+      int start = sizeOfActual - sequenceSize;
+      if (actual instanceof List) {
+        // only walk the tail of lists, a LinkedList positions its iterator from its end.
+        ListIterator<?> tail = ((List<?>) actual).listIterator(start);
+        for (int sequenceIndex = 0; sequenceIndex < sequenceSize; sequenceIndex++) {
+          if (areEqual(tail.next(), sequence[sequenceIndex])) continue;
+          throw actualDoesNotEndWithSequence(info, actual, sequence);
+        }
+        return;
+      }
+      int sequenceIndex = 0, indexOfActual = 0;
+      for (Object o : actual) {
+        if (indexOfActual++ < start) continue;
+        if (areEqual(o, sequence[sequenceIndex++])) continue;
+        throw actualDoesNotEndWithSequence(info, actual, sequence);
+      }
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
     }
   }
 
@@ -411,8 +546,15 @@ public class Iterables {
    * @throws AssertionError if the given {@code Iterable} does not contain at least a null element.
    */
   public void assertContainsNull(AssertionInfo info, Iterable<?> actual) {
-    assertNotNull(info, actual);
-    if (!iterableContains(actual, null)) throw failures.failure(info, shouldContainNull(actual));
+    long probe = AssertionProbe.begin();
+    try {
+      assertNotNull(info, actual);
+      if (!iterableContains(actual, null)) throw failures.failure(info, shouldContainNull(actual));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -423,8 +565,15 @@ public class Iterables {
    * @throws AssertionError if the given {@code Iterable} contains a null element.
    */
   public void assertDoesNotContainNull(AssertionInfo info, Iterable<?> actual) {
-    assertNotNull(info, actual);
-    if (iterableContains(actual, null)) throw failures.failure(info, shouldNotContainNull(actual));
+    long probe = AssertionProbe.begin();
+    try {
+      assertNotNull(info, actual);
+      if (iterableContains(actual, null)) throw failures.failure(info, shouldNotContainNull(actual));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
   
   private void checkIsNotNullAndNotEmpty(Object[] values) {
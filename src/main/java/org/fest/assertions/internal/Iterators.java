@@ -0,0 +1,241 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.IteratorElementsShouldBe.iteratorElementsShouldBe;
+import static org.fest.assertions.error.IteratorShouldContain.iteratorShouldContain;
+import static org.fest.assertions.error.IteratorShouldContainSequence.iteratorShouldContainSequence;
+import static org.fest.assertions.error.IteratorShouldHaveSize.*;
+import static org.fest.assertions.error.IteratorShouldNotContain.iteratorShouldNotContain;
+import static org.fest.assertions.error.IteratorShouldStartWith.iteratorShouldStartWith;
+import static org.fest.assertions.internal.CommonErrors.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.core.Condition;
+import org.fest.util.ComparatorBasedComparisonStrategy;
+import org.fest.util.ComparisonStrategy;
+import org.fest.util.StandardComparisonStrategy;
+import org.fest.util.VisibleForTesting;
+
+/**
+ * Reusable assertions for <code>{@link Iterator}</code>s.
+ * <p>
+ * Iterators can only be iterated once, and may return more elements than fit in memory (e.g. database cursors): each
+ * assertion makes a single pass over the elements it needs, stops as soon as its outcome is known, and only keeps a
+ * number of elements bounded by the size of the values it looks for. Elements returned by the iterator are consumed.
+ * </p>
+ */
+public class Iterators {
+
+  private static final Iterators INSTANCE = new Iterators();
+
+  /**
+   * Returns the singleton instance of this class based on {@link StandardComparisonStrategy}.
+   * @return the singleton instance of this class based on {@link StandardComparisonStrategy}.
+   */
+  public static Iterators instance() {
+    return INSTANCE;
+  }
+
+  private final ComparisonStrategy comparisonStrategy;
+
+  @VisibleForTesting
+  Failures failures = Failures.instance();
+
+  @VisibleForTesting
+  Iterators() {
+    this(StandardComparisonStrategy.instance());
+  }
+
+  public Iterators(ComparisonStrategy comparisonStrategy) {
+    this.comparisonStrategy = comparisonStrategy;
+  }
+
+  @VisibleForTesting
+  public Comparator<?> getComparator() {
+    if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
+      return ((ComparatorBasedComparisonStrategy) comparisonStrategy).getComparator();
+    }
+    return null;
+  }
+
+  /**
+   * Asserts that the given {@code Iterator} returns the given values, in any order. Iteration stops as soon as all
+   * values have been found.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterator}.
+   * @param values the values that are expected to be returned by the given {@code Iterator}.
+   * @throws NullPointerException if the array of values is {@code null}.
+   * @throws IllegalArgumentException if the array of values is empty.
+   * @throws AssertionError if the given {@code Iterator} is {@code null}.
+   * @throws AssertionError if the given {@code Iterator} does not return all the given values.
+   */
+  public void assertContains(AssertionInfo info, Iterator<?> actual, Object[] values) {
+    checkIsNotNullAndNotEmpty(values);
+    assertNotNull(info, actual);
+    List<Object> notFound = new ArrayList<Object>(values.length);
+    for (Object value : values)
+      notFound.add(value);
+    long iterated = 0;
+    while (!notFound.isEmpty() && actual.hasNext()) {
+      Object element = actual.next();
+      iterated++;
+      for (Iterator<Object> iterator = notFound.iterator(); iterator.hasNext();)
+        if (areEqual(element, iterator.next())) iterator.remove();
+    }
+    if (notFound.isEmpty()) return;
+    throw failures.failure(info, iteratorShouldContain(iterated, values, notFound));
+  }
+
+  /**
+   * Asserts that the given {@code Iterator} does not return any of the given values. Iteration stops at the first
+   * element equal to one of the given values.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterator}.
+   * @param values the values that are expected not to be returned by the given {@code Iterator}.
+   * @throws NullPointerException if the array of values is {@code null}.
+   * @throws IllegalArgumentException if the array of values is empty.
+   * @throws AssertionError if the given {@code Iterator} is {@code null}.
+   * @throws AssertionError if the given {@code Iterator} returns any of the given values.
+   */
+  public void assertDoesNotContain(AssertionInfo info, Iterator<?> actual, Object[] values) {
+    checkIsNotNullAndNotEmpty(values);
+    assertNotNull(info, actual);
+    for (long index = 0; actual.hasNext(); index++) {
+      Object element = actual.next();
+      for (Object value : values)
+        if (areEqual(element, value)) throw failures.failure(info, iteratorShouldNotContain(values, index, element));
+    }
+  }
+
+  /**
+   * Asserts that the first elements returned by the given {@code Iterator} are the given sequence of objects. Only the
+   * elements compared to the sequence are iterated over.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterator}.
+   * @param sequence the sequence of objects to look for.
+   * @throws NullPointerException if the given sequence is {@code null}.
+   * @throws IllegalArgumentException if the given sequence is empty.
+   * @throws AssertionError if the given {@code Iterator} is {@code null}.
+   * @throws AssertionError if the given {@code Iterator} does not start with the given sequence of objects.
+   */
+  public void assertStartsWith(AssertionInfo info, Iterator<?> actual, Object[] sequence) {
+    checkIsNotNullAndNotEmpty(sequence);
+    assertNotNull(info, actual);
+    for (int index = 0; index < sequence.length; index++) {
+      if (!actual.hasNext()) throw failures.failure(info, iteratorShouldStartWith(sequence, index));
+      Object element = actual.next();
+      if (!areEqual(element, sequence[index]))
+        throw failures.failure(info, iteratorShouldStartWith(sequence, index, element));
+    }
+  }
+
+  /**
+   * Asserts that the given {@code Iterator} returns the given number of elements. The iterator is not iterated past
+   * the element following the expected number of elements.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterator}.
+   * @param expectedSize the expected number of elements.
+   * @throws AssertionError if the given {@code Iterator} is {@code null}.
+   * @throws AssertionError if the number of elements returned by the given {@code Iterator} is not equal to the
+   *           expected one.
+   */
+  public void assertHasSize(AssertionInfo info, Iterator<?> actual, int expectedSize) {
+    assertNotNull(info, actual);
+    int size = 0;
+    for (; size < expectedSize && actual.hasNext(); size++)
+      actual.next();
+    if (size < expectedSize) throw failures.failure(info, iteratorShouldHaveSize(expectedSize, size));
+    if (actual.hasNext()) throw failures.failure(info, iteratorShouldNotHaveMoreElements(expectedSize));
+  }
+
+  /**
+   * Asserts that each element returned by the given {@code Iterator} satisfies the given condition. Iteration stops at
+   * the first element that does not satisfy it.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterator}.
+   * @param condition the given {@code Condition}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError if the given {@code Iterator} is {@code null}.
+   * @throws AssertionError if one of the elements returned by the given {@code Iterator} does not satisfy the given
+   *           condition.
+   */
+  @SuppressWarnings("unchecked")
+  public void assertAreAll(AssertionInfo info, Iterator<?> actual, Condition<?> condition) {
+    if (condition == null) throw new NullPointerException("The condition to evaluate should not be null");
+    assertNotNull(info, actual);
+    Condition<Object> anyCondition = (Condition<Object>) condition;
+    for (long index = 0; actual.hasNext(); index++) {
+      Object element = actual.next();
+      if (!anyCondition.matches(element))
+        throw failures.failure(info, iteratorElementsShouldBe(index, element, condition));
+    }
+  }
+
+  /**
+   * Asserts that the given {@code Iterator} returns the given sequence of objects, without any other objects between
+   * them. Only the last {@code sequence.length} elements are kept while iterating, and iteration stops as soon as the
+   * sequence is found.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterator}.
+   * @param sequence the sequence of objects to look for.
+   * @throws NullPointerException if the given sequence is {@code null}.
+   * @throws IllegalArgumentException if the given sequence is empty.
+   * @throws AssertionError if the given {@code Iterator} is {@code null}.
+   * @throws AssertionError if the given {@code Iterator} does not return the given sequence of objects.
+   */
+  public void assertContainsSequence(AssertionInfo info, Iterator<?> actual, Object[] sequence) {
+    checkIsNotNullAndNotEmpty(sequence);
+    assertNotNull(info, actual);
+    // the last sequence.length elements, the oldest one being at the index of the next element to store
+    Object[] window = new Object[sequence.length];
+    int next = 0;
+    long iterated = 0;
+    while (actual.hasNext()) {
+      window[next] = actual.next();
+      next = (next + 1) % window.length;
+      if (++iterated >= window.length && windowContainsSequence(window, next, sequence)) return;
+    }
+    throw failures.failure(info, iteratorShouldContainSequence(iterated, sequence));
+  }
+
+  private boolean windowContainsSequence(Object[] window, int oldest, Object[] sequence) {
+    for (int i = 0; i < sequence.length; i++) {
+      if (!areEqual(window[(oldest + i) % window.length], sequence[i])) return false;
+    }
+    return true;
+  }
+
+  private static void checkIsNotNullAndNotEmpty(Object[] values) {
+    if (values == null) throw arrayOfValuesToLookForIsNull();
+    if (values.length == 0) throw arrayOfValuesToLookForIsEmpty();
+  }
+
+  private void assertNotNull(AssertionInfo info, Iterator<?> actual) {
+    Objects.instance().assertNotNull(info, actual);
+  }
+
+  /**
+   * Delegates to {@link ComparisonStrategy#areEqual(Object, Object)}
+   */
+  private boolean areEqual(Object actual, Object other) {
+    return comparisonStrategy.areEqual(actual, other);
+  }
+}
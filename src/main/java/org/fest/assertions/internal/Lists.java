@@ -18,8 +18,8 @@ import static org.fest.assertions.error.ShouldBeSorted.*;
 import static org.fest.assertions.error.ShouldContainAtIndex.shouldContainAtIndex;
 import static org.fest.assertions.error.ShouldNotContainAtIndex.shouldNotContainAtIndex;
 import static org.fest.assertions.internal.CommonValidations.checkIndexValueIsValid;
+import static org.fest.assertions.internal.SortedOrder.*;
 
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
@@ -147,14 +147,8 @@ public class Lists {
     }
     try {
       // sorted assertion is only relevant if elements are Comparable, we assume they are
-      List<Comparable<Object>> comparableList = listOfComparableElements(actual);
-      // array with 0 or 1 element are considered sorted.
-      if (comparableList.size() <= 1) return;
-      for (int i = 0; i < comparableList.size() - 1; i++) {
-        // array is sorted in ascending order iif element i is less or equal than element i+1
-        if (comparableList.get(i).compareTo(comparableList.get(i + 1)) > 0)
-          throw failures.failure(info, shouldBeSorted(i, actual));
-      }
+      int index = indexOfFirstElementNotSorted(actual, NATURAL_ORDER);
+      if (index >= 0) throw failures.failure(info, shouldBeSorted(index, actual));
     } catch (ClassCastException e) {
       // elements are either not Comparable or not mutually Comparable (e.g. List<Object> containing String and Integer)
       throw failures.failure(info, shouldHaveMutuallyComparableElements(actual));
@@ -176,41 +170,18 @@ public class Lists {
    * @throws NullPointerException if the given comparator is <code>null</code>.
    * @throws AssertionError if the actual list elements are not mutually comparabe according to given Comparator.
    */
-  @SuppressWarnings({ "rawtypes", "unchecked" })
   public void assertIsSortedAccordingToComparator(AssertionInfo info, List<?> actual,
       Comparator<? extends Object> comparator) {
     assertNotNull(info, actual);
     if (comparator == null) throw new NullPointerException("The given comparator should not be null");
     try {
-      // Empty collections are considered sorted even if comparator can't be applied to their element type
-      // We can't verify that point because of erasure type at runtime.
-      if (actual.size() == 0) return;
-      Comparator rawComparator = comparator;
-      if (actual.size() == 1) {
-        // Compare unique element with itself to verify thta it is compatible with comparator (a ClassCastException is
-        // thrown if not). We have to use a raw comparator to compare the unique element of actual ... :(
-        rawComparator.compare(actual.get(0), actual.get(0));
-        return;
-      }
-      for (int i = 0; i < actual.size() - 1; i++) {
-        // List is sorted in comparator defined order iif current element is less or equal than next element
-        if (rawComparator.compare(actual.get(i), actual.get(i + 1)) > 0)
-          throw failures.failure(info, shouldBeSortedAccordingToGivenComparator(i, actual, comparator));
-      }
+      int index = indexOfFirstElementNotSorted(actual, comparator);
+      if (index >= 0) throw failures.failure(info, shouldBeSortedAccordingToGivenComparator(index, actual, comparator));
     } catch (ClassCastException e) {
       throw failures.failure(info, shouldHaveComparableElementsAccordingToGivenComparator(actual, comparator));
     }
   }
 
-  @SuppressWarnings("unchecked")
-  private static List<Comparable<Object>> listOfComparableElements(List<?> collection) {
-    List<Comparable<Object>> listOfComparableElements = new ArrayList<Comparable<Object>>();
-    for (Object object : collection) {
-      listOfComparableElements.add((Comparable<Object>) object);
-    }
-    return listOfComparableElements;
-  }
-
   private void assertNotNull(AssertionInfo info, List<?> actual) {
     Objects.instance().assertNotNull(info, actual);
   }
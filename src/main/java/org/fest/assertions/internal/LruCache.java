@@ -0,0 +1,101 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded, thread-safe cache: when it is full, the least recently used entry is evicted.
+ * <p>
+ * The cache only locks while looking up or storing an entry. Callers compute missing values between
+ * <code>{@link #get(Object)}</code> and <code>{@link #put(Object, Object)}</code>, outside of the lock: concurrent
+ * misses on the same key may compute its value twice, but never block each other.
+ * </p>
+ * @param <K> the type of the keys.
+ * @param <V> the type of the cached values.
+ */
+public final class LruCache<K, V> {
+
+  private final int maximumSize;
+  private final Map<K, V> entries;
+
+  /**
+   * Creates a new <code>{@link LruCache}</code>.
+   * @param maximumSize the maximum number of entries to keep, zero disables caching.
+   * @throws IllegalArgumentException if the given size is negative.
+   */
+  public LruCache(final int maximumSize) {
+    if (maximumSize < 0) throw new IllegalArgumentException("The maximum size of the cache should not be negative");
+    this.maximumSize = maximumSize;
+    entries = new LinkedHashMap<K, V>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > maximumSize;
+      }
+    };
+  }
+
+  /**
+   * Returns the value cached for the given key, marking it as the most recently used.
+   * @param key the key to look up.
+   * @return the cached value, or {@code null} if there is none.
+   */
+  public V get(K key) {
+    synchronized (entries) {
+      return entries.get(key);
+    }
+  }
+
+  /**
+   * Caches the given value, evicting the least recently used entry if the cache is full.
+   * @param key the key of the value.
+   * @param value the value to cache.
+   */
+  public void put(K key, V value) {
+    if (maximumSize == 0) return;
+    synchronized (entries) {
+      entries.put(key, value);
+    }
+  }
+
+  /**
+   * Returns the number of entries currently cached.
+   * @return the number of entries currently cached.
+   */
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  /**
+   * Returns the maximum number of entries this cache keeps.
+   * @return the maximum number of entries this cache keeps.
+   */
+  public int maximumSize() {
+    return maximumSize;
+  }
+
+  /**
+   * Removes all the cached entries.
+   */
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+}
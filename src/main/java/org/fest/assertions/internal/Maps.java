@@ -20,21 +20,38 @@ import static org.fest.assertions.error.ShouldHaveSize.shouldHaveSize;
 import static org.fest.assertions.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static org.fest.assertions.error.ShouldBeEmpty.shouldBeEmpty;
 import static org.fest.assertions.error.ShouldBeNullOrEmpty.shouldBeNullOrEmpty;
-import static org.fest.util.Objects.areEqual;
+import static org.fest.assertions.error.ShouldContainKeys.shouldContainKeys;
+import static org.fest.assertions.error.ShouldContainValues.shouldContainValues;
+import static org.fest.assertions.error.ShouldHaveSameEntries.shouldHaveSameEntries;
+import static org.fest.assertions.error.ShouldHaveSameKeySet.shouldHaveSameKeySet;
+import static org.fest.assertions.error.ShouldNotContainKeys.shouldNotContainKeys;
+import static org.fest.util.Arrays.isArray;
 
 import java.util.*;
 
 import org.fest.assertions.core.AssertionInfo;
 import org.fest.assertions.data.MapEntry;
+import org.fest.util.ComparatorBasedComparisonStrategy;
+import org.fest.util.ComparisonStrategy;
+import org.fest.util.StandardComparisonStrategy;
 import org.fest.util.VisibleForTesting;
 
 /**
  * Reusable assertions for <code>{@link Map}</code>s.
+ * <p>
+ * Keys and values are compared with their own <code>{@link ComparisonStrategy}</code>. With the standard key comparison
+ * strategy, keys are looked up through the map itself (i.e. in constant time for a {@code HashMap}). A comparator based
+ * key comparison strategy cannot rely on {@code hashCode}, so the entries of the map are sorted by key once per
+ * assertion and keys are looked up by binary search.
+ * </p>
  *
  * @author Alex Ruiz
  */
 public class Maps {
 
+  /** Default maximum number of differences reported when a map does not have the expected entries. */
+  public static final int DEFAULT_MAXIMUM_REPORTED_DIFFERENCES = 10;
+
   private static Maps INSTANCE = new Maps();
 
   /**
@@ -47,7 +64,78 @@ public class Maps {
 
   @VisibleForTesting Failures failures = Failures.instance();
 
-  @VisibleForTesting Maps() {}
+  private final ComparisonStrategy keyComparisonStrategy;
+  private final ComparisonStrategy valueComparisonStrategy;
+  private final int maximumReportedDifferences;
+
+  @VisibleForTesting Maps() {
+    this(StandardComparisonStrategy.instance(), StandardComparisonStrategy.instance(),
+        DEFAULT_MAXIMUM_REPORTED_DIFFERENCES);
+  }
+
+  private Maps(ComparisonStrategy keyComparisonStrategy, ComparisonStrategy valueComparisonStrategy,
+      int maximumReportedDifferences) {
+    this.keyComparisonStrategy = keyComparisonStrategy;
+    this.valueComparisonStrategy = valueComparisonStrategy;
+    this.maximumReportedDifferences = maximumReportedDifferences;
+  }
+
+  /**
+   * Returns a copy of this object comparing keys with the given strategy.
+   * @param comparisonStrategy the strategy to compare keys with.
+   * @return the created {@code Maps}.
+   */
+  public Maps withKeyComparisonStrategy(ComparisonStrategy comparisonStrategy) {
+    return copy(comparisonStrategy, valueComparisonStrategy, maximumReportedDifferences);
+  }
+
+  /**
+   * Returns a copy of this object comparing values with the given strategy.
+   * @param comparisonStrategy the strategy to compare values with.
+   * @return the created {@code Maps}.
+   */
+  public Maps withValueComparisonStrategy(ComparisonStrategy comparisonStrategy) {
+    return copy(keyComparisonStrategy, comparisonStrategy, maximumReportedDifferences);
+  }
+
+  /**
+   * Returns a copy of this object reporting at most the given number of differences when a map does not have the
+   * expected entries.
+   * @param maximum the maximum number of differences to report.
+   * @return the created {@code Maps}.
+   * @throws IllegalArgumentException if the given maximum is not positive.
+   */
+  public Maps withMaximumReportedDifferences(int maximum) {
+    if (maximum < 1)
+      throw new IllegalArgumentException("The maximum number of differences to report should be greater than zero");
+    return copy(keyComparisonStrategy, valueComparisonStrategy, maximum);
+  }
+
+  private Maps copy(ComparisonStrategy keys, ComparisonStrategy values, int maximum) {
+    Maps copy = new Maps(keys, values, maximum);
+    copy.failures = failures;
+    return copy;
+  }
+
+  @VisibleForTesting
+  public Comparator<?> getKeyComparator() {
+    return comparatorOf(keyComparisonStrategy);
+  }
+
+  @VisibleForTesting
+  public Comparator<?> getValueComparator() {
+    return comparatorOf(valueComparisonStrategy);
+  }
+
+  private static Comparator<?> comparatorOf(ComparisonStrategy comparisonStrategy) {
+    if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy)
+      return ((ComparatorBasedComparisonStrategy) comparisonStrategy).getComparator();
+    return null;
+  }
+
+  @VisibleForTesting int maximumReportedDifferences() {
+    return maximumReportedDifferences;
+  }
 
   /**
    * Asserts that the given {@code Map} is {@code null} or empty.
@@ -115,8 +203,9 @@ public class Maps {
   public void assertContains(AssertionInfo info, Map<?, ?> actual, MapEntry[] entries) {
     isNotEmptyOrNull(entries);
     assertNotNull(info, actual);
+    KeyLookup lookup = keyLookupFor(actual);
     Set<MapEntry> notFound = new LinkedHashSet<MapEntry>();
-    for (MapEntry entry : entries) if (!containsEntry(actual, entry)) notFound.add(entry);
+    for (MapEntry entry : entries) if (!containsEntry(lookup, entry)) notFound.add(entry);
     if (notFound.isEmpty()) return;
     throw failures.failure(info, shouldContain(actual, entries, notFound));
   }
@@ -135,21 +224,356 @@ public class Maps {
   public void assertDoesNotContain(AssertionInfo info, Map<?, ?> actual, MapEntry[] entries) {
     isNotEmptyOrNull(entries);
     assertNotNull(info, actual);
+    KeyLookup lookup = keyLookupFor(actual);
     Set<MapEntry> found = new LinkedHashSet<MapEntry>();
-    for (MapEntry entry : entries) if (containsEntry(actual, entry)) found.add(entry);
+    for (MapEntry entry : entries) if (containsEntry(lookup, entry)) found.add(entry);
     if (found.isEmpty()) return;
     throw failures.failure(info, shouldNotContain(actual, entries, found));
   }
 
+  /**
+   * Asserts that the given {@code Map} contains the given entries and nothing else, in any order. The failure only
+   * reports the missing keys, the unexpected keys and the keys whose value is not the expected one.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Map}.
+   * @param entries the entries that are expected to be in the given {@code Map}.
+   * @throws NullPointerException if the array of entries is {@code null}.
+   * @throws IllegalArgumentException if the array of entries is empty.
+   * @throws NullPointerException if any of the entries in the given array is {@code null}.
+   * @throws IllegalArgumentException if the array of entries has different values for the same key.
+   * @throws AssertionError if the given {@code Map} is {@code null}.
+   * @throws AssertionError if the given {@code Map} does not contain the given entries or contains other entries.
+   */
+  public void assertContainsOnly(AssertionInfo info, Map<?, ?> actual, MapEntry[] entries) {
+    isNotEmptyOrNull(entries);
+    Map<Object, Object> expected = new LinkedHashMap<Object, Object>();
+    for (MapEntry entry : entries) {
+      if (entry == null) throw new NullPointerException("Entries to look for should not be null");
+      boolean conflicting = expected.containsKey(entry.key)
+          && !valueComparisonStrategy.areEqual(expected.get(entry.key), entry.value);
+      if (conflicting) throw new IllegalArgumentException(String.format(
+          "The entries to look for should not have different values for the same key but found:<%s>", entry.key));
+      expected.put(entry.key, entry.value);
+    }
+    assertNotNull(info, actual);
+    assertHasSameEntries(info, actual, expected);
+  }
+
+  /**
+   * Asserts that the given {@code Map} has the same entries as the expected one. The failure only reports the missing
+   * keys, the unexpected keys and the keys whose value is not the expected one, rather than both maps.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Map}.
+   * @param expected the expected {@code Map}.
+   * @throws NullPointerException if the expected {@code Map} is {@code null}.
+   * @throws AssertionError if the given {@code Map} is {@code null}.
+   * @throws AssertionError if the given {@code Map} does not have the same entries as the expected one.
+   */
+  public void assertEqual(AssertionInfo info, Map<?, ?> actual, Map<?, ?> expected) {
+    if (expected == null) throw new NullPointerException("The map to compare to should not be null");
+    assertNotNull(info, actual);
+    assertHasSameEntries(info, actual, expected);
+  }
+
+  private void assertHasSameEntries(AssertionInfo info, Map<?, ?> actual, Map<?, ?> expected) {
+    int differenceCount = 0;
+    List<Object> missingKeys = new ArrayList<Object>();
+    List<Object> unexpectedKeys = new ArrayList<Object>();
+    Map<Object, Object> expectedValues = new LinkedHashMap<Object, Object>();
+    Map<Object, Object> actualValues = new LinkedHashMap<Object, Object>();
+    KeyLookup actualKeys = keyLookupFor(actual);
+    for (Map.Entry<?, ?> entry : expected.entrySet()) {
+      Object key = entry.getKey();
+      if (!actualKeys.find(key)) {
+        if (differenceCount++ < maximumReportedDifferences) missingKeys.add(key);
+        continue;
+      }
+      if (actualKeys.containsEntry(key, entry.getValue())) continue;
+      if (differenceCount++ < maximumReportedDifferences) {
+        expectedValues.put(key, entry.getValue());
+        actualValues.put(key, actualKeys.valueOf(key));
+      }
+    }
+    // every key of actual not found in expected is unexpected: only look for them if there are some.
+    if (actualKeys.foundEntries() < actual.size()) {
+      KeyLookup expectedKeys = keyLookupFor(expected);
+      for (Object key : actual.keySet()) {
+        if (expectedKeys.containsKey(key)) continue;
+        if (differenceCount++ < maximumReportedDifferences) unexpectedKeys.add(key);
+      }
+    }
+    if (differenceCount == 0) return;
+    throw failures.failure(info, shouldHaveSameEntries(actual.size(), expected.size(), differenceCount, missingKeys,
+        unexpectedKeys, expectedValues, actualValues));
+  }
+
+  /**
+   * Asserts that the given {@code Map} contains the given keys, looking each of them up in the map.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Map}.
+   * @param keys the keys that are expected to be in the given {@code Map}.
+   * @throws NullPointerException if the array of keys is {@code null}.
+   * @throws IllegalArgumentException if the array of keys is empty.
+   * @throws AssertionError if the given {@code Map} is {@code null}.
+   * @throws AssertionError if the given {@code Map} does not contain the given keys.
+   */
+  public void assertContainsKeys(AssertionInfo info, Map<?, ?> actual, Object[] keys) {
+    isNotEmptyOrNull(keys, "keys");
+    assertNotNull(info, actual);
+    KeyLookup lookup = keyLookupFor(actual);
+    Set<Object> notFound = new LinkedHashSet<Object>();
+    for (Object key : keys) if (!lookup.containsKey(key)) notFound.add(key);
+    if (notFound.isEmpty()) return;
+    throw failures.failure(info, shouldContainKeys(actual.size(), keys, notFound));
+  }
+
+  /**
+   * Asserts that the given {@code Map} does not contain the given keys, looking each of them up in the map.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Map}.
+   * @param keys the keys that are expected not to be in the given {@code Map}.
+   * @throws NullPointerException if the array of keys is {@code null}.
+   * @throws IllegalArgumentException if the array of keys is empty.
+   * @throws AssertionError if the given {@code Map} is {@code null}.
+   * @throws AssertionError if the given {@code Map} contains any of the given keys.
+   */
+  public void assertDoesNotContainKeys(AssertionInfo info, Map<?, ?> actual, Object[] keys) {
+    isNotEmptyOrNull(keys, "keys");
+    assertNotNull(info, actual);
+    KeyLookup lookup = keyLookupFor(actual);
+    Set<Object> found = new LinkedHashSet<Object>();
+    for (Object key : keys) if (lookup.containsKey(key)) found.add(key);
+    if (found.isEmpty()) return;
+    throw failures.failure(info, shouldNotContainKeys(actual.size(), keys, found));
+  }
+
+  /**
+   * Asserts that the given {@code Map} contains the given values, going through the values of the map at most once.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Map}.
+   * @param values the values that are expected to be in the given {@code Map}.
+   * @throws NullPointerException if the array of values is {@code null}.
+   * @throws IllegalArgumentException if the array of values is empty.
+   * @throws AssertionError if the given {@code Map} is {@code null}.
+   * @throws AssertionError if the given {@code Map} does not contain the given values.
+   */
+  public void assertContainsValues(AssertionInfo info, Map<?, ?> actual, Object[] values) {
+    isNotEmptyOrNull(values, "values");
+    assertNotNull(info, actual);
+    Set<Object> hashed = new HashSet<Object>();
+    List<Object> scanned = new ArrayList<Object>();
+    for (Object value : values) {
+      if (isStandardEquality(value)) hashed.add(value);
+      else scanned.add(value);
+    }
+    for (Object value : actual.values()) {
+      if (hashed.isEmpty() && scanned.isEmpty()) return;
+      hashed.remove(value);
+      for (Iterator<Object> i = scanned.iterator(); i.hasNext();)
+        if (valueComparisonStrategy.areEqual(value, i.next())) i.remove();
+    }
+    if (hashed.isEmpty() && scanned.isEmpty()) return;
+    throw failures.failure(info, shouldContainValues(actual.size(), values, notFound(values, hashed, scanned)));
+  }
+
+  /**
+   * Indicates whether the given value is compared with {@code equals}, as hash based collections do. Arrays are
+   * compared by content by the standard comparison strategy.
+   */
+  private boolean isStandardEquality(Object value) {
+    return valueComparisonStrategy instanceof StandardComparisonStrategy && !isArray(value);
+  }
+
+  private Set<Object> notFound(Object[] values, Set<Object> hashed, List<Object> scanned) {
+    Set<Object> notFound = new LinkedHashSet<Object>();
+    for (Object value : values)
+      if (isStandardEquality(value) ? hashed.contains(value) : containsSame(scanned, value)) notFound.add(value);
+    return notFound;
+  }
+
+  private static boolean containsSame(List<Object> values, Object value) {
+    for (Object each : values)
+      if (each == value) return true;
+    return false;
+  }
+
+  /**
+   * Asserts that the given {@code Map} has the same keys as the other one, whatever their values. The failure only
+   * reports the missing and unexpected keys.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Map}.
+   * @param other the {@code Map} to compare keys with.
+   * @throws NullPointerException if the other {@code Map} is {@code null}.
+   * @throws AssertionError if the given {@code Map} is {@code null}.
+   * @throws AssertionError if the given {@code Map} does not have the same keys as the other one.
+   */
+  public void assertHasSameKeySetAs(AssertionInfo info, Map<?, ?> actual, Map<?, ?> other) {
+    if (other == null) throw new NullPointerException("The map to compare keys with should not be null");
+    assertNotNull(info, actual);
+    int differenceCount = 0;
+    List<Object> missingKeys = new ArrayList<Object>();
+    List<Object> unexpectedKeys = new ArrayList<Object>();
+    KeyLookup actualKeys = keyLookupFor(actual);
+    for (Object key : other.keySet())
+      if (!actualKeys.find(key) && differenceCount++ < maximumReportedDifferences) missingKeys.add(key);
+    if (actualKeys.foundEntries() < actual.size()) {
+      KeyLookup otherKeys = keyLookupFor(other);
+      for (Object key : actual.keySet()) {
+        if (otherKeys.containsKey(key)) continue;
+        if (differenceCount++ < maximumReportedDifferences) unexpectedKeys.add(key);
+      }
+    }
+    if (differenceCount == 0) return;
+    throw failures.failure(info, shouldHaveSameKeySet(actual.size(), other.size(), differenceCount, missingKeys,
+        unexpectedKeys));
+  }
+
+  private static void isNotEmptyOrNull(Object[] values, String description) {
+    if (values == null)
+      throw new NullPointerException(String.format("The array of %s to look for should not be null", description));
+    if (values.length == 0)
+      throw new IllegalArgumentException(String.format("The array of %s to look for should not be empty", description));
+  }
+
   private void isNotEmptyOrNull(MapEntry[] entries) {
     if (entries == null) throw new NullPointerException("The array of entries to look for should not be null");
     if (entries.length == 0) throw new IllegalArgumentException("The array of entries to look for should not be empty");
   }
 
-  private boolean containsEntry(Map<?, ?> actual, MapEntry entry) {
+  private boolean containsEntry(KeyLookup lookup, MapEntry entry) {
     if (entry == null) throw new NullPointerException("Entries to look for should not be null");
-    if (!actual.containsKey(entry.key)) return false;
-    return areEqual(actual.get(entry.key), entry.value);
+    return lookup.containsEntry(entry.key, entry.value);
+  }
+
+  @SuppressWarnings("unchecked")
+  private KeyLookup keyLookupFor(Map<?, ?> map) {
+    Comparator<?> comparator = getKeyComparator();
+    if (comparator == null) return new HashKeyLookup(map);
+    return new SortedKeyLookup(map, (Comparator<Object>) comparator);
+  }
+
+  /**
+   * Looks up the entries of a map by key.
+   */
+  private abstract class KeyLookup {
+    abstract boolean containsKey(Object key);
+
+    /**
+     * Indicates whether an entry has the given key, like <code>{@link #containsKey(Object)}</code>, remembering the
+     * entries having it.
+     */
+    abstract boolean find(Object key);
+
+    /**
+     * Returns the number of entries having one of the keys given to <code>{@link #find(Object)}</code>, each entry
+     * being counted once even if several of these keys are equal to its key.
+     */
+    abstract int foundEntries();
+
+    /** Indicates whether an entry with the given key has the given value. */
+    abstract boolean containsEntry(Object key, Object value);
+
+    /** Returns the value of an entry with the given key. */
+    abstract Object valueOf(Object key);
+  }
+
+  private class HashKeyLookup extends KeyLookup {
+    private final Map<?, ?> map;
+    private final Set<Object> foundKeys = new HashSet<Object>();
+
+    HashKeyLookup(Map<?, ?> map) {
+      this.map = map;
+    }
+
+    @Override boolean containsKey(Object key) {
+      return map.containsKey(key);
+    }
+
+    @Override boolean find(Object key) {
+      if (!map.containsKey(key)) return false;
+      foundKeys.add(key);
+      return true;
+    }
+
+    @Override int foundEntries() {
+      return foundKeys.size();
+    }
+
+    @Override boolean containsEntry(Object key, Object value) {
+      Object actualValue = map.get(key);
+      if (actualValue == null && !map.containsKey(key)) return false;
+      return valueComparisonStrategy.areEqual(actualValue, value);
+    }
+
+    @Override Object valueOf(Object key) {
+      return map.get(key);
+    }
+  }
+
+  /**
+   * Entries sorted by key with a comparator, several entries may have keys that the comparator considers equal.
+   */
+  private class SortedKeyLookup extends KeyLookup {
+    private final Comparator<Object> comparator;
+    private final Object[] keys;
+    private final Object[] values;
+    private final BitSet found = new BitSet();
+
+    SortedKeyLookup(Map<?, ?> map, final Comparator<Object> comparator) {
+      this.comparator = comparator;
+      List<Map.Entry<?, ?>> entries = new ArrayList<Map.Entry<?, ?>>(map.entrySet());
+      Collections.sort(entries, new Comparator<Map.Entry<?, ?>>() {
+        public int compare(Map.Entry<?, ?> e1, Map.Entry<?, ?> e2) {
+          return comparator.compare(e1.getKey(), e2.getKey());
+        }
+      });
+      keys = new Object[entries.size()];
+      values = new Object[entries.size()];
+      for (int i = 0; i < keys.length; i++) {
+        keys[i] = entries.get(i).getKey();
+        values[i] = entries.get(i).getValue();
+      }
+    }
+
+    @Override boolean containsKey(Object key) {
+      int first = firstIndexOf(key);
+      return first < keys.length && comparator.compare(keys[first], key) == 0;
+    }
+
+    @Override boolean find(Object key) {
+      int first = firstIndexOf(key);
+      int end = first;
+      while (end < keys.length && comparator.compare(keys[end], key) == 0)
+        end++;
+      found.set(first, end);
+      return end > first;
+    }
+
+    @Override int foundEntries() {
+      return found.cardinality();
+    }
+
+    @Override boolean containsEntry(Object key, Object value) {
+      for (int i = firstIndexOf(key); i < keys.length && comparator.compare(keys[i], key) == 0; i++)
+        if (valueComparisonStrategy.areEqual(values[i], value)) return true;
+      return false;
+    }
+
+    @Override Object valueOf(Object key) {
+      int first = firstIndexOf(key);
+      return first < keys.length && comparator.compare(keys[first], key) == 0 ? values[first] : null;
+    }
+
+    private int firstIndexOf(Object key) {
+      int low = 0;
+      int high = keys.length;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (comparator.compare(keys[middle], key) < 0) low = middle + 1;
+        else high = middle;
+      }
+      return low;
+    }
   }
 
   private void assertNotNull(AssertionInfo info, Map<?, ?> actual) {
@@ -14,6 +14,8 @@
  */
 package org.fest.assertions.internal;
 
+import static java.util.Collections.synchronizedMap;
+
 import static org.fest.assertions.error.ShouldBeEqual.shouldBeEqual;
 import static org.fest.assertions.error.ShouldBeIn.shouldBeIn;
 import static org.fest.assertions.error.ShouldBeInstance.shouldBeInstance;
@@ -23,10 +25,16 @@ import static org.fest.assertions.error.ShouldNotBeEqual.shouldNotBeEqual;
 import static org.fest.assertions.error.ShouldNotBeIn.shouldNotBeIn;
 import static org.fest.assertions.error.ShouldNotBeNull.shouldNotBeNull;
 import static org.fest.assertions.error.ShouldNotBeSame.shouldNotBeSame;
+import static org.fest.util.Arrays.isArray;
 import static org.fest.util.ToString.toStringOf;
 
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.fest.assertions.core.AssertionInfo;
 import org.fest.util.ComparatorBasedComparisonStrategy;
@@ -52,10 +60,22 @@ public class Objects {
     return INSTANCE;
   }
 
+  /** Arrays of values smaller than this are scanned, looking values up in a hash index costs more. */
+  private static final int MINIMUM_SIZE_FOR_HASH_INDEX = 64;
+
+  /** Arrays of values are indexed until this many are, then indexing starts over. */
+  private static final int MAXIMUM_INDEXED_ARRAYS = 16;
+
+  /** Arrays of values given once are remembered until this many are (e.g. varargs, which are new on every call). */
+  private static final int MAXIMUM_ARRAYS_SEEN_ONCE = 64;
+
   @VisibleForTesting
   Failures failures = Failures.instance();
 
   private ComparisonStrategy comparisonStrategy;
+
+  private final Map<Object[], Boolean> arraysSeenOnce = synchronizedMap(new WeakHashMap<Object[], Boolean>());
+  private final Map<Object[], ValuesIndex> valuesIndexes = synchronizedMap(new WeakHashMap<Object[], ValuesIndex>());
   
   @VisibleForTesting
   Objects() {
@@ -84,10 +104,17 @@ public class Objects {
    * @throws AssertionError if the given object is not an instance of the given type.
    */
   public void assertIsInstanceOf(AssertionInfo info, Object actual, Class<?> type) {
-    if (type == null) throw new NullPointerException("The given type should not be null");
-    assertNotNull(info, actual);
-    if (type.isInstance(actual)) return;
-    throw failures.failure(info, shouldBeInstance(actual, type));
+    long probe = AssertionProbe.begin();
+    try {
+      if (type == null) throw new NullPointerException("The given type should not be null");
+      assertNotNull(info, actual);
+      if (type.isInstance(actual)) return;
+      throw failures.failure(info, shouldBeInstance(actual, type));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -102,21 +129,28 @@ public class Objects {
    * @throws AssertionError if the given object is not an instance of any of the given types.
    */
   public void assertIsInstanceOfAny(AssertionInfo info, Object actual, Class<?>[] types) {
-    checkIsNotNullAndIsNotEmpty(types);
-    assertNotNull(info, actual);
-    boolean found = false;
-    for (Class<?> type : types) {
-      if (type == null) {
-        String format = "The given array of types:<%s> should not have null elements";
-        throw new NullPointerException(String.format(format, toStringOf(types)));
-      }
-      if (type.isInstance(actual)) {
-        found = true;
-        break;
+    long probe = AssertionProbe.begin();
+    try {
+      checkIsNotNullAndIsNotEmpty(types);
+      assertNotNull(info, actual);
+      boolean found = false;
+      for (Class<?> type : types) {
+        if (type == null) {
+          String format = "The given array of types:<%s> should not have null elements";
+          throw new NullPointerException(String.format(format, toStringOf(types)));
+        }
+        if (type.isInstance(actual)) {
+          found = true;
+          break;
+        }
       }
+      if (found) return;
+      throw failures.failure(info, shouldBeInstanceOfAny(actual, types));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
     }
-    if (found) return;
-    throw failures.failure(info, shouldBeInstanceOfAny(actual, types));
   }
 
   private void checkIsNotNullAndIsNotEmpty(Class<?>[] types) {
@@ -134,8 +168,15 @@ public class Objects {
    *           equal.
    */
   public void assertEqual(AssertionInfo info, Object actual, Object expected) {
-    if (areEqual(actual, expected)) return;
-    throw failures.failure(info, shouldBeEqual(actual, expected, comparisonStrategy));
+    long probe = AssertionProbe.begin();
+    try {
+      if (areEqual(actual, expected)) return;
+      throw failures.failure(info, shouldBeEqual(actual, expected, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -146,8 +187,15 @@ public class Objects {
    * @throws AssertionError if {@code actual} is equal to {@code other}.
    */
   public void assertNotEqual(AssertionInfo info, Object actual, Object other) {
-    if (!areEqual(actual, other)) return;
-    throw failures.failure(info, shouldNotBeEqual(actual, other, comparisonStrategy));
+    long probe = AssertionProbe.begin();
+    try {
+      if (!areEqual(actual, other)) return;
+      throw failures.failure(info, shouldNotBeEqual(actual, other, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -167,8 +215,15 @@ public class Objects {
    * @throws AssertionError if the given object is not {@code null}.
    */
   public void assertNull(AssertionInfo info, Object actual) {
-    if (actual == null) return;
-    throw failures.failure(info, shouldBeEqual(actual, null, comparisonStrategy));
+    long probe = AssertionProbe.begin();
+    try {
+      if (actual == null) return;
+      throw failures.failure(info, shouldBeEqual(actual, null, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -178,8 +233,15 @@ public class Objects {
    * @throws AssertionError if the given object is {@code null}.
    */
   public void assertNotNull(AssertionInfo info, Object actual) {
-    if (actual != null) return;
-    throw failures.failure(info, shouldNotBeNull());
+    long probe = AssertionProbe.begin();
+    try {
+      if (actual != null) return;
+      throw failures.failure(info, shouldNotBeNull());
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -190,8 +252,15 @@ public class Objects {
    * @throws AssertionError if the given objects do not refer to the same object.
    */
   public void assertSame(AssertionInfo info, Object actual, Object expected) {
-    if (actual == expected) return;
-    throw failures.failure(info, shouldBeSame(actual, expected));
+    long probe = AssertionProbe.begin();
+    try {
+      if (actual == expected) return;
+      throw failures.failure(info, shouldBeSame(actual, expected));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -202,12 +271,20 @@ public class Objects {
    * @throws AssertionError if the given objects refer to the same object.
    */
   public void assertNotSame(AssertionInfo info, Object actual, Object other) {
-    if (actual != other) return;
-    throw failures.failure(info, shouldNotBeSame(actual));
+    long probe = AssertionProbe.begin();
+    try {
+      if (actual != other) return;
+      throw failures.failure(info, shouldNotBeSame(actual));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
-   * Asserts that the given object is present in the given array.
+   * Asserts that the given object is present in the given array. Large arrays given several times are indexed: values
+   * replaced in such an array afterwards may not be taken into account, give a new array instead.
    * @param info contains information about the assertion.
    * @param actual the given object.
    * @param values the given array.
@@ -216,14 +293,22 @@ public class Objects {
    * @throws AssertionError if the given object is not present in the given array.
    */
   public void assertIsIn(AssertionInfo info, Object actual, Object[] values) {
-    checkIsNotNullAndNotEmpty(values);
-    assertNotNull(info, actual);
-    if (isActualIn(actual, values)) return;
-    throw failures.failure(info, shouldBeIn(actual, values, comparisonStrategy));
+    long probe = AssertionProbe.begin();
+    try {
+      checkIsNotNullAndNotEmpty(values);
+      assertNotNull(info, actual);
+      if (isActualIn(actual, values)) return;
+      throw failures.failure(info, shouldBeIn(actual, values, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
-   * Asserts that the given object is not present in the given array.
+   * Asserts that the given object is not present in the given array. Large arrays given several times are indexed:
+   * values replaced in such an array afterwards may not be taken into account, give a new array instead.
    * @param info contains information about the assertion.
    * @param actual the given object.
    * @param values the given array.
@@ -232,10 +317,17 @@ public class Objects {
    * @throws AssertionError if the given object is present in the given array.
    */
   public void assertIsNotIn(AssertionInfo info, Object actual, Object[] values) {
-    checkIsNotNullAndNotEmpty(values);
-    assertNotNull(info, actual);
-    if (!isActualIn(actual, values)) return;
-    throw failures.failure(info, shouldNotBeIn(actual, values, comparisonStrategy));
+    long probe = AssertionProbe.begin();
+    try {
+      checkIsNotNullAndNotEmpty(values);
+      assertNotNull(info, actual);
+      if (!isActualIn(actual, values)) return;
+      throw failures.failure(info, shouldNotBeIn(actual, values, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   private void checkIsNotNullAndNotEmpty(Object[] values) {
@@ -244,11 +336,92 @@ public class Objects {
   }
 
   private boolean isActualIn(Object actual, Object[] values) {
+    ValuesIndex index = values.length < MINIMUM_SIZE_FOR_HASH_INDEX || !isStandardEquality(actual) ? null
+        : indexOf(values);
+    if (index != null) {
+      int position = index.positionOf(actual);
+      // a value not found in the index of an unchanged array is not in the array
+      if (position < 0) return false;
+      if (areEqual(values[position], actual)) return true;
+    }
     for (Object value : values)
       if (areEqual(value, actual)) return true;
     return false;
   }
 
+  /**
+   * Returns the hash index of the given array, built the second time the same array is given, or {@code null} if the
+   * array is given for the first time. Arrays are weakly referenced and compared by identity. Arrays given once are
+   * remembered apart from the indexed ones, so that arrays given once only (e.g. varargs) do not evict indexes. An
+   * array found changed by its index fingerprint is indexed again.
+   */
+  private ValuesIndex indexOf(Object[] values) {
+    ValuesIndex index = valuesIndexes.get(values);
+    if (index != null && index.isUpToDate(values)) return index;
+    if (index == null && arraysSeenOnce.remove(values) == null) {
+      if (arraysSeenOnce.size() >= MAXIMUM_ARRAYS_SEEN_ONCE) arraysSeenOnce.clear();
+      arraysSeenOnce.put(values, Boolean.TRUE);
+      return null;
+    }
+    if (index == null && valuesIndexes.size() >= MAXIMUM_INDEXED_ARRAYS) valuesIndexes.clear();
+    index = new ValuesIndex(values);
+    valuesIndexes.put(values, index);
+    return index;
+  }
+
+  /**
+   * Indicates whether the given value is compared with {@code equals}, as hash based collections do. Arrays are
+   * compared by content by the standard comparison strategy.
+   */
+  private boolean isStandardEquality(Object actual) {
+    return comparisonStrategy instanceof StandardComparisonStrategy && !isArray(actual);
+  }
+
+  /**
+   * The positions of the values of an array, indexed by value. The array is not referenced so that it can be weakly
+   * referenced by the map of indexes. Its length and the values at a few positions, the first and last ones included,
+   * are kept as a fingerprint telling whether the array has been changed since it was indexed.
+   */
+  private static class ValuesIndex {
+    private static final int FINGERPRINT_SIZE = 16;
+
+    private final Map<Object, Integer> positions;
+    private final int length;
+    private final Object[] fingerprint;
+
+    ValuesIndex(Object[] array) {
+      positions = positionsOfValues(array);
+      length = array.length;
+      fingerprint = new Object[FINGERPRINT_SIZE];
+      for (int i = 0; i < FINGERPRINT_SIZE; i++)
+        fingerprint[i] = array[fingerprintPosition(i)];
+    }
+
+    private int fingerprintPosition(int i) {
+      return (int) ((long) i * (length - 1) / (FINGERPRINT_SIZE - 1));
+    }
+
+    boolean isUpToDate(Object[] array) {
+      if (array.length != length) return false;
+      for (int i = 0; i < FINGERPRINT_SIZE; i++)
+        if (array[fingerprintPosition(i)] != fingerprint[i]) return false;
+      return true;
+    }
+
+    int positionOf(Object value) {
+      Integer position = positions.get(value);
+      return position == null ? -1 : position;
+    }
+
+    private static Map<Object, Integer> positionsOfValues(Object[] array) {
+      Map<Object, Integer> index = new HashMap<Object, Integer>();
+      // walk the array backwards so that the first position of duplicated values is kept
+      for (int i = array.length - 1; i >= 0; i--)
+        index.put(array[i], i);
+      return index;
+    }
+  }
+
   /**
    * Asserts that the given object is present in the given collection.
    * @param info contains information about the assertion.
@@ -259,10 +432,17 @@ public class Objects {
    * @throws AssertionError if the given object is not present in the given collection.
    */
   public void assertIsIn(AssertionInfo info, Object actual, Collection<?> values) {
-    checkIsNotNullAndNotEmpty(values);
-    assertNotNull(info, actual);
-    if (isActualIn(actual, values)) return;
-    throw failures.failure(info, shouldBeIn(actual, values, comparisonStrategy));
+    long probe = AssertionProbe.begin();
+    try {
+      checkIsNotNullAndNotEmpty(values);
+      assertNotNull(info, actual);
+      if (isActualIn(actual, values)) return;
+      throw failures.failure(info, shouldBeIn(actual, values, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -275,10 +455,17 @@ public class Objects {
    * @throws AssertionError if the given object is present in the given collection.
    */
   public void assertIsNotIn(AssertionInfo info, Object actual, Collection<?> values) {
-    checkIsNotNullAndNotEmpty(values);
-    assertNotNull(info, actual);
-    if (!isActualIn(actual, values)) return;
-    throw failures.failure(info, shouldNotBeIn(actual, values, comparisonStrategy));
+    long probe = AssertionProbe.begin();
+    try {
+      checkIsNotNullAndNotEmpty(values);
+      assertNotNull(info, actual);
+      if (!isActualIn(actual, values)) return;
+      throw failures.failure(info, shouldNotBeIn(actual, values, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   private void checkIsNotNullAndNotEmpty(Collection<?> values) {
@@ -287,8 +474,16 @@ public class Objects {
   }
 
   private boolean isActualIn(Object actual, Collection<?> values) {
+    // hash sets look values up with equals like the standard comparison strategy does, other sets may not (sorted or
+    // identity based sets for example)
+    if (isHashSet(values) && isStandardEquality(actual))
+      return values.contains(actual);
     for (Object value : values)
       if (areEqual(value, actual)) return true;
     return false;
   }
+
+  private static boolean isHashSet(Collection<?> values) {
+    return values.getClass() == HashSet.class || values.getClass() == LinkedHashSet.class;
+  }
 }
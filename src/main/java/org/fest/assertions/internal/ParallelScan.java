@@ -0,0 +1,75 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Scans the indexes of a group of elements in parallel on a shared <code>{@link ForkJoinPool}</code>: ranges of
+ * indexes are split in halves until they are small enough to be scanned by a single task. A scan started by code
+ * running in the pool (e.g. a condition) joins its tasks through the pool, so that nested scans can not deadlock it.
+ */
+abstract class ParallelScan {
+  static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+  static final int CHUNKS_PER_THREAD = 4;
+
+  private final int chunkSize;
+  private final int size;
+
+  ParallelScan(int size) {
+    this.size = size;
+    chunkSize = Math.max(1, size / (PARALLELISM * CHUNKS_PER_THREAD));
+  }
+
+  /**
+   * Scans the element at the given index.
+   * @return whether to go on scanning the rest of the chunk.
+   */
+  abstract boolean scan(int index);
+
+  final void run() {
+    Chunk all = new Chunk(0, size);
+    if (ForkJoinTask.getPool() == Pool.INSTANCE) all.invoke();
+    else Pool.INSTANCE.invoke(all);
+  }
+
+  private class Chunk extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final int start;
+    private final int end;
+
+    Chunk(int start, int end) {
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override protected void compute() {
+      if (end - start > chunkSize) {
+        int middle = (start + end) >>> 1;
+        invokeAll(new Chunk(start, middle), new Chunk(middle, end));
+        return;
+      }
+      for (int index = start; index < end && scan(index); index++) {}
+    }
+  }
+
+  /** Lazily creates the pool shared by all parallel scans. */
+  private static class Pool {
+    static final ForkJoinPool INSTANCE = new ForkJoinPool(PARALLELISM);
+  }
+}
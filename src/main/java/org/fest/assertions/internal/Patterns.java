@@ -0,0 +1,120 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.fest.util.VisibleForTesting;
+
+/**
+ * Bounded, thread-safe cache of compiled <code>{@link Pattern}</code>s, keyed by regular expression. When the cache is
+ * full, the least recently used {@code Pattern} is evicted. Hit and miss counters are exposed to help tuning the
+ * maximum size.
+ */
+public class Patterns {
+
+  /** Default maximum number of compiled {@code Pattern}s kept by <code>{@link #instance()}</code>. */
+  public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+  private static final Patterns INSTANCE = new Patterns(DEFAULT_MAXIMUM_SIZE);
+
+  /**
+   * Returns the singleton instance of this class.
+   * @return the singleton instance of this class.
+   */
+  public static Patterns instance() {
+    return INSTANCE;
+  }
+
+  private final LruCache<String, Pattern> cache;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  /**
+   * Creates a new <code>{@link Patterns}</code>.
+   * @param maximumSize the maximum number of compiled {@code Pattern}s to keep.
+   * @throws IllegalArgumentException if the given size is negative.
+   */
+  public Patterns(int maximumSize) {
+    cache = new LruCache<String, Pattern>(maximumSize);
+  }
+
+  /**
+   * Returns the compiled form of the given regular expression, compiling and caching it if necessary.
+   * @param regex the regular expression to compile.
+   * @return the compiled {@code Pattern}.
+   * @throws NullPointerException if the given regular expression is {@code null}.
+   * @throws PatternSyntaxException if the regular expression's syntax is invalid.
+   */
+  public Pattern compile(String regex) {
+    if (regex == null) throw new NullPointerException("The regular expression to compile should not be null");
+    Pattern pattern = cache.get(regex);
+    if (pattern != null) {
+      hits.incrementAndGet();
+      return pattern;
+    }
+    misses.incrementAndGet();
+    pattern = Pattern.compile(regex);
+    cache.put(regex, pattern);
+    return pattern;
+  }
+
+  /**
+   * Returns the number of calls to <code>{@link #compile(String)}</code> that found their {@code Pattern} in the cache.
+   * @return the number of cache hits.
+   */
+  public long hits() {
+    return hits.get();
+  }
+
+  /**
+   * Returns the number of calls to <code>{@link #compile(String)}</code> that had to compile their {@code Pattern}.
+   * @return the number of cache misses.
+   */
+  public long misses() {
+    return misses.get();
+  }
+
+  /**
+   * Returns the number of compiled {@code Pattern}s currently cached.
+   * @return the number of compiled {@code Pattern}s currently cached.
+   */
+  public int size() {
+    return cache.size();
+  }
+
+  /**
+   * Returns the maximum number of compiled {@code Pattern}s this cache keeps.
+   * @return the maximum number of compiled {@code Pattern}s this cache keeps.
+   */
+  public int maximumSize() {
+    return cache.maximumSize();
+  }
+
+  /**
+   * Removes all the cached {@code Pattern}s and resets the hit and miss counters.
+   */
+  public void clear() {
+    cache.clear();
+    hits.set(0);
+    misses.set(0);
+  }
+
+  @VisibleForTesting boolean isCached(String regex) {
+    return cache.get(regex) != null;
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import static org.fest.assertions.error.ShouldPassWithin.shouldPassWithin;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.util.VisibleForTesting;
+
+/**
+ * Evaluates assertions on values produced asynchronously again and again, until they pass or a timeout expires.
+ * <p>
+ * The calling thread waits between two evaluations, no other thread is involved. The time waited starts at a given
+ * poll interval and doubles after each failed evaluation, up to a given maximum, so that assertions passing quickly are
+ * noticed quickly while slow ones are not evaluated needlessly often. The last evaluation happens when the timeout
+ * expires.
+ * </p>
+ */
+public class Polling {
+
+  private static final Polling INSTANCE = new Polling();
+
+  /**
+   * Returns the singleton instance of this class.
+   * @return the singleton instance of this class.
+   */
+  public static Polling instance() {
+    return INSTANCE;
+  }
+
+  @VisibleForTesting
+  Failures failures = Failures.instance();
+
+  @VisibleForTesting
+  Polling() {}
+
+  /**
+   * Evaluates the given assertions until they pass or the given timeout expires.
+   * @param info contains information about the assertion.
+   * @param assertions the assertions to evaluate, each evaluation should get the actual values again.
+   * @param timeout the timeout, in nanoseconds.
+   * @param pollInterval the time to wait after the first failed evaluation, in nanoseconds.
+   * @param maxPollInterval the maximum time to wait between two evaluations, in nanoseconds.
+   * @throws AssertionError if the given assertions did not pass before the timeout expired. Its cause is the
+   *           {@code AssertionError} thrown by the last evaluation.
+   * @throws AssertionError the {@code AssertionError} thrown by the last evaluation, if the current thread is
+   *           interrupted while waiting. The interrupted status of the thread is kept.
+   */
+  public void assertPassesWithin(AssertionInfo info, Runnable assertions, long timeout, long pollInterval,
+      long maxPollInterval) {
+    long deadline = nanoTime() + timeout;
+    long interval = pollInterval;
+    for (int attempts = 1;; attempts++) {
+      AssertionError lastFailure;
+      try {
+        assertions.run();
+        return;
+      } catch (AssertionError e) {
+        lastFailure = e;
+      }
+      long remaining = deadline - nanoTime();
+      if (remaining <= 0) throw didNotPassWithin(info, timeout, attempts, lastFailure);
+      try {
+        sleep(Math.min(interval, remaining));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw lastFailure;
+      }
+      interval = interval > maxPollInterval / 2 ? maxPollInterval : interval * 2;
+    }
+  }
+
+  private AssertionError didNotPassWithin(AssertionInfo info, long timeout, int attempts, AssertionError lastFailure) {
+    AssertionError error = failures.failure(info,
+        shouldPassWithin(NANOSECONDS.toMillis(timeout), attempts, lastFailure.getMessage()));
+    error.initCause(lastFailure);
+    return error;
+  }
+
+  @VisibleForTesting
+  long nanoTime() {
+    return System.nanoTime();
+  }
+
+  @VisibleForTesting
+  void sleep(long nanos) throws InterruptedException {
+    NANOSECONDS.sleep(nanos);
+  }
+}
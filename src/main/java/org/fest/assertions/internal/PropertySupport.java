@@ -20,10 +20,14 @@ import static java.util.Collections.*;
 import static org.fest.util.Collections.*;
 import static org.fest.util.Introspection.descriptorForProperty;
 
+import static org.fest.util.ToString.toStringOf;
+
 import java.beans.PropertyDescriptor;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import org.fest.util.IntrospectionError;
 import org.fest.util.VisibleForTesting;
@@ -111,6 +115,33 @@ public class PropertySupport {
     return instance().propertyValues(propertyName, asList(target));
   }
 
+  /**
+   * Returns an <code>{@link Iterable}</code> over the values of the given property name, from the elements of the given
+   * <code>{@link Iterable}</code>. Unlike <code>{@link #propertyValues(String, Collection)}</code>, no intermediate
+   * {@code List} is built: each value is read only when the returned {@code Iterable} is traversed, so that clients
+   * stopping early (e.g. a {@code contains} assertion finding its value) do not pay for the remaining elements. The
+   * returned {@code Iterable} can be traversed more than once, each traversal reading the property values again.
+   * <p>
+   * If the given {@code Iterable} is {@code null}, the returned {@code Iterable} is empty. {@code null} elements are
+   * skipped, at every level of a nested property (e.g. "address.street.number").
+   * @param propertyName the name of the property. It may be a nested property. It is left to the clients to validate
+   *          for {@code null} or empty.
+   * @param target the given {@code Iterable}.
+   * @return an {@code Iterable} over the values of the given property name, from the elements of the given
+   *         {@code Iterable}.
+   * @throws IntrospectionError (when traversing the returned {@code Iterable}) if an element in the given
+   *           {@code Iterable} does not have a property with a matching name.
+   */
+  public Iterable<Object> lazyPropertyValues(String propertyName, Iterable<?> target) {
+    if (isNestedProperty(propertyName)) {
+      String firstPropertyName = popPropertyNameFrom(propertyName);
+      Iterable<Object> propertyValues = lazyPropertyValues(firstPropertyName, target);
+      // extract next sub-property values until reaching the last sub-property
+      return lazyPropertyValues(nextPropertyNameFrom(propertyName), propertyValues);
+    }
+    return new LazyPropertyValues(propertyName, target);
+  }
+
   private List<Object> simplePropertyValues(String propertyName, Collection<?> target) {
     List<Object> propertyValues = new ArrayList<Object>();
     for (Object e : target)
@@ -147,4 +178,49 @@ public class PropertySupport {
       throw new IntrospectionError(msg, unexpected);
     }
   }
+
+  private class LazyPropertyValues implements Iterable<Object> {
+    private final String propertyName;
+    private final Iterable<?> target;
+
+    LazyPropertyValues(String propertyName, Iterable<?> target) {
+      this.propertyName = propertyName;
+      this.target = target;
+    }
+
+    public Iterator<Object> iterator() {
+      if (target == null) return emptyList().iterator();
+      final Iterator<?> elements = target.iterator();
+      return new Iterator<Object>() {
+        private Object next;
+
+        public boolean hasNext() {
+          // ignore null elements as we can't extract a property from a null object
+          while (next == null && elements.hasNext())
+            next = elements.next();
+          return next != null;
+        }
+
+        public Object next() {
+          if (!hasNext()) throw new NoSuchElementException();
+          Object element = next;
+          next = null;
+          return propertyValue(propertyName, element);
+        }
+
+        public void remove() {
+          throw new UnsupportedOperationException();
+        }
+      };
+    }
+
+    @Override public String toString() {
+      StringBuilder b = new StringBuilder("[");
+      for (Object value : this) {
+        if (b.length() > 1) b.append(", ");
+        b.append(toStringOf(value));
+      }
+      return b.append("]").toString();
+    }
+  }
 }
@@ -0,0 +1,216 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static java.lang.String.format;
+
+import static org.fest.assertions.error.ShouldContainString.shouldContain;
+import static org.fest.assertions.error.ShouldEndWith.shouldEndWith;
+import static org.fest.assertions.error.ShouldHaveSize.shouldHaveSize;
+import static org.fest.assertions.error.ShouldStartWith.shouldStartWith;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.util.VisibleForTesting;
+
+/**
+ * Reusable assertions for <code>{@link Reader}</code>s. The content of the {@code Reader} is streamed in chunks and
+ * never fully held in memory: each assertion keeps at most one chunk plus a buffer the size of the expected sequence.
+ * <p>
+ * Each assertion reads the given {@code Reader}, stopping as soon as the outcome is known. It is left to clients to
+ * close it.
+ * </p>
+ */
+public class Readers {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private static final Readers INSTANCE = new Readers();
+
+  /**
+   * Returns the singleton instance of this class.
+   * @return the singleton instance of this class.
+   */
+  public static Readers instance() {
+    return INSTANCE;
+  }
+
+  @VisibleForTesting Failures failures = Failures.instance();
+
+  @VisibleForTesting Readers() {}
+
+  /**
+   * Asserts that the number of characters read from the given {@code Reader} is equal to the expected one.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Reader}.
+   * @param expectedSize the expected number of characters.
+   * @throws AssertionError if the given {@code Reader} is {@code null}.
+   * @throws AssertionError if the number of characters read is different than the expected one.
+   * @throws ReadersException if an I/O error occurs.
+   */
+  public void assertHasSize(AssertionInfo info, Reader actual, long expectedSize) {
+    assertNotNull(info, actual);
+    long sizeOfActual = 0;
+    try {
+      char[] buffer = new char[BUFFER_SIZE];
+      for (int read; (read = actual.read(buffer)) != -1;)
+        sizeOfActual += read;
+    } catch (IOException e) {
+      throw cannotRead(actual, e);
+    }
+    if (sizeOfActual == expectedSize) return;
+    throw failures.failure(info, shouldHaveSize(actual, sizeOfActual, expectedSize));
+  }
+
+  /**
+   * Verifies that the content of the given {@code Reader} contains the given sequence. Reading stops as soon as the
+   * sequence is found.
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code Reader}.
+   * @param sequence the sequence to search for.
+   * @throws NullPointerException if the given sequence is {@code null}.
+   * @throws AssertionError if the given {@code Reader} is {@code null}.
+   * @throws AssertionError if the content of the actual {@code Reader} does not contain the given sequence.
+   * @throws ReadersException if an I/O error occurs.
+   */
+  public void assertContains(AssertionInfo info, Reader actual, String sequence) {
+    if (sequence == null) throw new NullPointerException("The sequence to look for should not be null");
+    assertNotNull(info, actual);
+    try {
+      if (contains(actual, sequence)) return;
+    } catch (IOException e) {
+      throw cannotRead(actual, e);
+    }
+    throw failures.failure(info, shouldContain(actual, sequence));
+  }
+
+  /*
+   * Knuth-Morris-Pratt: each character is read once and never pushed back, so no rolling window of the content is
+   * needed, only the partial match table of the sequence.
+   */
+  private static boolean contains(Reader actual, String sequence) throws IOException {
+    int sequenceLength = sequence.length();
+    if (sequenceLength == 0) return true;
+    int[] partialMatches = partialMatchTableOf(sequence);
+    char[] buffer = new char[BUFFER_SIZE];
+    int matched = 0;
+    for (int read; (read = actual.read(buffer)) != -1;) {
+      for (int i = 0; i < read; i++) {
+        char c = buffer[i];
+        while (matched > 0 && sequence.charAt(matched) != c)
+          matched = partialMatches[matched - 1];
+        if (sequence.charAt(matched) == c) matched++;
+        if (matched == sequenceLength) return true;
+      }
+    }
+    return false;
+  }
+
+  private static int[] partialMatchTableOf(String sequence) {
+    int[] table = new int[sequence.length()];
+    int length = 0;
+    for (int i = 1; i < sequence.length(); i++) {
+      while (length > 0 && sequence.charAt(i) != sequence.charAt(length))
+        length = table[length - 1];
+      if (sequence.charAt(i) == sequence.charAt(length)) length++;
+      table[i] = length;
+    }
+    return table;
+  }
+
+  /**
+   * Verifies that the content of the given {@code Reader} starts with the given prefix. Only the first characters, up
+   * to the length of the prefix, are read.
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code Reader}.
+   * @param prefix the given prefix.
+   * @throws NullPointerException if the given prefix is {@code null}.
+   * @throws AssertionError if the given {@code Reader} is {@code null}.
+   * @throws AssertionError if the content of the actual {@code Reader} does not start with the given prefix.
+   * @throws ReadersException if an I/O error occurs.
+   */
+  public void assertStartsWith(AssertionInfo info, Reader actual, String prefix) {
+    if (prefix == null) throw new NullPointerException("The given prefix should not be null");
+    assertNotNull(info, actual);
+    try {
+      if (startsWith(actual, prefix)) return;
+    } catch (IOException e) {
+      throw cannotRead(actual, e);
+    }
+    throw failures.failure(info, shouldStartWith(actual, prefix));
+  }
+
+  private static boolean startsWith(Reader actual, String prefix) throws IOException {
+    char[] buffer = new char[Math.min(BUFFER_SIZE, Math.max(prefix.length(), 1))];
+    int matched = 0;
+    while (matched < prefix.length()) {
+      int read = actual.read(buffer, 0, Math.min(buffer.length, prefix.length() - matched));
+      if (read == -1) return false;
+      for (int i = 0; i < read; i++)
+        if (buffer[i] != prefix.charAt(matched++)) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Verifies that the content of the given {@code Reader} ends with the given suffix. The whole content is read, but
+   * only the last characters, up to the length of the suffix, are kept.
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code Reader}.
+   * @param suffix the given suffix.
+   * @throws NullPointerException if the given suffix is {@code null}.
+   * @throws AssertionError if the given {@code Reader} is {@code null}.
+   * @throws AssertionError if the content of the actual {@code Reader} does not end with the given suffix.
+   * @throws ReadersException if an I/O error occurs.
+   */
+  public void assertEndsWith(AssertionInfo info, Reader actual, String suffix) {
+    if (suffix == null) throw new NullPointerException("The given suffix should not be null");
+    assertNotNull(info, actual);
+    try {
+      if (endsWith(actual, suffix)) return;
+    } catch (IOException e) {
+      throw cannotRead(actual, e);
+    }
+    throw failures.failure(info, shouldEndWith(actual, suffix));
+  }
+
+  private static boolean endsWith(Reader actual, String suffix) throws IOException {
+    int suffixLength = suffix.length();
+    if (suffixLength == 0) return true;
+    // ring buffer holding the last characters read
+    char[] tail = new char[suffixLength];
+    char[] buffer = new char[BUFFER_SIZE];
+    long count = 0;
+    for (int read; (read = actual.read(buffer)) != -1;) {
+      for (int i = 0; i < read; i++)
+        tail[(int) (count++ % suffixLength)] = buffer[i];
+    }
+    if (count < suffixLength) return false;
+    int oldest = (int) (count % suffixLength);
+    for (int i = 0; i < suffixLength; i++)
+      if (tail[(oldest + i) % suffixLength] != suffix.charAt(i)) return false;
+    return true;
+  }
+
+  private static ReadersException cannotRead(Reader actual, IOException cause) {
+    return new ReadersException(format("Unable to read contents of Reader:<%s>", actual), cause);
+  }
+
+  private static void assertNotNull(AssertionInfo info, Reader actual) {
+    Objects.instance().assertNotNull(info, actual);
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.fest.util.VisibleForTesting;
+
+/**
+ * Finds where a group of elements stops being sorted.
+ * <p>
+ * Groups of at least <code>{@link #MINIMUM_SIZE_FOR_PARALLEL_CHECK}</code> elements supporting fast random access are
+ * checked in parallel by a <code>{@link ParallelScan}</code> when compared with <code>{@link #NATURAL_ORDER}</code>,
+ * as are large {@code int} arrays: each chunk of indexes also compares its last element with the first element of the
+ * next chunk, and the lowest index of an element out of order is reported whatever the chunk it was found in, so the
+ * outcome is the same as a check made in the calling thread. Comparators given by users are always called in the
+ * calling thread, since they are not required to be thread-safe.
+ * </p>
+ */
+final class SortedOrder {
+
+  /** Smaller groups are checked in the calling thread: comparing their elements costs less than splitting them. */
+  @VisibleForTesting static final int MINIMUM_SIZE_FOR_PARALLEL_CHECK = 1 << 16;
+
+  /** Compares {@code Comparable}s according to their natural ordering, throwing a {@code ClassCastException} if not. */
+  static final Comparator<Comparable<Object>> NATURAL_ORDER = new Comparator<Comparable<Object>>() {
+    public int compare(Comparable<Object> o1, Comparable<Object> o2) {
+      return o1.compareTo(o2);
+    }
+  };
+
+  /**
+   * Returns the index of the first element of the given list that is greater than the next one according to the given
+   * comparator, or -1 if the list is sorted. Lists that do not support fast random access (e.g. {@code LinkedList}) are
+   * walked once with an {@code Iterator} instead of being indexed, which would be quadratic. Only lists compared with
+   * <code>{@link #NATURAL_ORDER}</code> may be checked in parallel, other comparators are called in the calling thread.
+   * @param elements the list to check.
+   * @param comparator the comparator defining the order of elements.
+   * @return the index of the first element out of order, or -1 if there is none.
+   * @throws ClassCastException if the given comparator can't be applied to the elements of the list.
+   */
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  static int indexOfFirstElementNotSorted(final List<?> elements, Comparator<?> comparator) {
+    final Comparator rawComparator = comparator;
+    // Empty lists are considered sorted even if comparator can't be applied to their element type
+    if (elements.isEmpty()) return -1;
+    if (!(elements instanceof RandomAccess)) return indexOfFirstElementNotSorted(elements.iterator(), rawComparator);
+    int size = elements.size();
+    // Compare unique element with itself to verify that it is compatible with comparator (a ClassCastException is
+    // thrown if not).
+    if (size == 1) verifyComparable(elements.get(0), rawComparator);
+    if (comparator == NATURAL_ORDER && size >= MINIMUM_SIZE_FOR_PARALLEL_CHECK) return new OrderScan(size) {
+      @Override boolean inOrder(int index) {
+        return rawComparator.compare(elements.get(index), elements.get(index + 1)) <= 0;
+      }
+    }.indexOfFirstElementNotSorted();
+    for (int i = 0; i < size - 1; i++) {
+      // elements are sorted iif current element is less or equal than next element
+      if (rawComparator.compare(elements.get(i), elements.get(i + 1)) > 0) return i;
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the index of the first element of the given array that is greater than the next one, or -1 if the array is
+   * sorted in ascending order.
+   * @param elements the array to check.
+   * @return the index of the first element out of order, or -1 if there is none.
+   */
+  static int indexOfFirstElementNotSorted(final int[] elements) {
+    if (elements.length >= MINIMUM_SIZE_FOR_PARALLEL_CHECK) return new OrderScan(elements.length) {
+      @Override boolean inOrder(int index) {
+        return elements[index] <= elements[index + 1];
+      }
+    }.indexOfFirstElementNotSorted();
+    for (int i = 0; i < elements.length - 1; i++) {
+      if (elements[i] > elements[i + 1]) return i;
+    }
+    return -1;
+  }
+
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  private static int indexOfFirstElementNotSorted(Iterator<?> iterator, Comparator comparator) {
+    Object previous = iterator.next();
+    if (!iterator.hasNext()) verifyComparable(previous, comparator);
+    for (int i = 0; iterator.hasNext(); i++) {
+      Object current = iterator.next();
+      if (comparator.compare(previous, current) > 0) return i;
+      previous = current;
+    }
+    return -1;
+  }
+
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  private static void verifyComparable(Object element, Comparator comparator) {
+    // a single null element is sorted according to natural ordering: there is no other element to compare it with
+    if (element == null && comparator == NATURAL_ORDER) return;
+    comparator.compare(element, element);
+  }
+
+  /**
+   * Compares each element with the next one in parallel. The pairs starting at the indexes of a chunk overlap the next
+   * chunk by one element, so no pair is left unchecked.
+   */
+  private abstract static class OrderScan extends ParallelScan {
+    private final AtomicInteger lowestIndexNotSorted = new AtomicInteger(Integer.MAX_VALUE);
+    private final AtomicInteger lowestIndexNotComparable = new AtomicInteger(Integer.MAX_VALUE);
+
+    OrderScan(int size) {
+      super(size - 1);
+    }
+
+    /**
+     * Indicates whether the element at the given index is less or equal than the next one.
+     * @throws ClassCastException if the elements can't be compared.
+     */
+    abstract boolean inOrder(int index);
+
+    @Override boolean scan(int index) {
+      // elements after one already found out of order do not change the outcome
+      if (index >= Math.min(lowestIndexNotSorted.get(), lowestIndexNotComparable.get())) return false;
+      try {
+        if (inOrder(index)) return true;
+        lower(lowestIndexNotSorted, index);
+      } catch (ClassCastException e) {
+        lower(lowestIndexNotComparable, index);
+      }
+      return false;
+    }
+
+    private static void lower(AtomicInteger lowestIndex, int index) {
+      for (int lowest; index < (lowest = lowestIndex.get());)
+        if (lowestIndex.compareAndSet(lowest, index)) break;
+    }
+
+    final int indexOfFirstElementNotSorted() {
+      run();
+      int notComparable = lowestIndexNotComparable.get();
+      int notSorted = lowestIndexNotSorted.get();
+      // report what a check made in the calling thread would have found first
+      if (notComparable < notSorted)
+        throw new ClassCastException(String.format("Elements at index %s and %s can not be compared", notComparable,
+            notComparable + 1));
+      return notSorted == Integer.MAX_VALUE ? -1 : notSorted;
+    }
+  }
+
+  private SortedOrder() {}
+}
@@ -17,6 +17,7 @@ package org.fest.assertions.internal;
 import static org.fest.assertions.error.ShouldBeEmpty.shouldBeEmpty;
 import static org.fest.assertions.error.ShouldBeEqualIgnoringCase.shouldBeEqual;
 import static org.fest.assertions.error.ShouldBeNullOrEmpty.shouldBeNullOrEmpty;
+import static org.fest.assertions.error.ShouldContainAnyOf.shouldContainAnyOf;
 import static org.fest.assertions.error.ShouldContainString.*;
 import static org.fest.assertions.error.ShouldEndWith.shouldEndWith;
 import static org.fest.assertions.error.ShouldHaveSize.shouldHaveSize;
@@ -25,12 +26,17 @@ import static org.fest.assertions.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static org.fest.assertions.error.ShouldNotContainString.shouldNotContain;
 import static org.fest.assertions.error.ShouldNotMatchPattern.shouldNotMatch;
 import static org.fest.assertions.error.ShouldStartWith.shouldStartWith;
+import static org.fest.assertions.internal.CommonErrors.*;
 
 import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.error.ShouldContain;
+import org.fest.assertions.error.ShouldNotContain;
 import org.fest.util.ComparatorBasedComparisonStrategy;
 import org.fest.util.ComparisonStrategy;
 import org.fest.util.StandardComparisonStrategy;
@@ -56,6 +62,8 @@ public class Strings {
 
   @VisibleForTesting Failures failures = Failures.instance();
 
+  @VisibleForTesting Patterns patterns = Patterns.instance();
+
   @VisibleForTesting Strings() {
     this(StandardComparisonStrategy.instance());
   }
@@ -81,8 +89,15 @@ public class Strings {
    * @throws AssertionError if the given {@code String} is not {@code null} *and* it is not empty.
    */
   public void assertNullOrEmpty(AssertionInfo info, String actual) {
-    if (actual == null || !hasContents(actual)) return;
-    throw failures.failure(info, shouldBeNullOrEmpty(actual));
+    long probe = AssertionProbe.begin();
+    try {
+      if (actual == null || !hasContents(actual)) return;
+      throw failures.failure(info, shouldBeNullOrEmpty(actual));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -93,9 +108,16 @@ public class Strings {
    * @throws AssertionError if the given {@code String} is not empty.
    */
   public void assertEmpty(AssertionInfo info, String actual) {
-    assertNotNull(info, actual);
-    if (!hasContents(actual)) return;
-    throw failures.failure(info, shouldBeEmpty(actual));
+    long probe = AssertionProbe.begin();
+    try {
+      assertNotNull(info, actual);
+      if (!hasContents(actual)) return;
+      throw failures.failure(info, shouldBeEmpty(actual));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -106,9 +128,16 @@ public class Strings {
    * @throws AssertionError if the given {@code String} is empty.
    */
   public void assertNotEmpty(AssertionInfo info, String actual) {
-    assertNotNull(info, actual);
-    if (hasContents(actual)) return;
-    throw failures.failure(info, shouldNotBeEmpty());
+    long probe = AssertionProbe.begin();
+    try {
+      assertNotNull(info, actual);
+      if (hasContents(actual)) return;
+      throw failures.failure(info, shouldNotBeEmpty());
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   private static boolean hasContents(String s) {
@@ -124,10 +153,17 @@ public class Strings {
    * @throws AssertionError if the size of the given {@code String} is different than the expected one.
    */
   public void assertHasSize(AssertionInfo info, String actual, int expectedSize) {
-    assertNotNull(info, actual);
-    int sizeOfActual = actual.length();
-    if (sizeOfActual == expectedSize) return;
-    throw failures.failure(info, shouldHaveSize(actual, sizeOfActual, expectedSize));
+    long probe = AssertionProbe.begin();
+    try {
+      assertNotNull(info, actual);
+      int sizeOfActual = actual.length();
+      if (sizeOfActual == expectedSize) return;
+      throw failures.failure(info, shouldHaveSize(actual, sizeOfActual, expectedSize));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -140,10 +176,17 @@ public class Strings {
    * @throws AssertionError if the actual {@code String} does not contain the given sequence.
    */
   public void assertContains(AssertionInfo info, String actual, String sequence) {
-    checkSequenceIsNotNull(sequence);
-    assertNotNull(info, actual);
-    if (stringContains(actual, sequence)) return;
-    throw failures.failure(info, shouldContain(actual, sequence, comparisonStrategy));
+    long probe = AssertionProbe.begin();
+    try {
+      checkSequenceIsNotNull(sequence);
+      assertNotNull(info, actual);
+      if (stringContains(actual, sequence)) return;
+      throw failures.failure(info, shouldContain(actual, sequence, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -163,10 +206,48 @@ public class Strings {
    * @throws AssertionError if the actual {@code String} does not contain the given sequence.
    */
   public void assertContainsIgnoringCase(AssertionInfo info, String actual, String sequence) {
-    checkSequenceIsNotNull(sequence);
-    assertNotNull(info, actual);
-    if (actual.toLowerCase().contains(sequence.toLowerCase())) return;
-    throw failures.failure(info, shouldContainIgnoringCase(actual, sequence));
+    long probe = AssertionProbe.begin();
+    try {
+      checkSequenceIsNotNull(sequence);
+      assertNotNull(info, actual);
+      if (containsIgnoringCase(actual, sequence)) return;
+      throw failures.failure(info, shouldContainIgnoringCase(actual, sequence));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
+  }
+
+  /*
+   * Compares code points in place instead of lower-casing copies of both Strings: no allocation, and no dependency on
+   * the default Locale.
+   */
+  private static boolean containsIgnoringCase(String actual, String sequence) {
+    if (!hasContents(sequence)) return true;
+    int firstCodePoint = foldCase(sequence.codePointAt(0));
+    for (int start = 0; start < actual.length(); start += Character.charCount(actual.codePointAt(start))) {
+      if (foldCase(actual.codePointAt(start)) != firstCodePoint) continue;
+      if (regionMatchesIgnoringCase(actual, start, sequence)) return true;
+    }
+    return false;
+  }
+
+  private static boolean regionMatchesIgnoringCase(String actual, int start, String sequence) {
+    int i = start, j = 0;
+    while (j < sequence.length()) {
+      if (i >= actual.length()) return false;
+      int actualCodePoint = actual.codePointAt(i), sequenceCodePoint = sequence.codePointAt(j);
+      if (actualCodePoint != sequenceCodePoint && foldCase(actualCodePoint) != foldCase(sequenceCodePoint)) return false;
+      i += Character.charCount(actualCodePoint);
+      j += Character.charCount(sequenceCodePoint);
+    }
+    return true;
+  }
+
+  private static int foldCase(int codePoint) {
+    // upper then lower case, like String.equalsIgnoreCase, to handle letters having several upper or lower case forms
+    return Character.toLowerCase(Character.toUpperCase(codePoint));
   }
 
   /**
@@ -179,10 +260,129 @@ public class Strings {
    * @throws AssertionError if the actual {@code String} contains the given sequence.
    */
   public void assertDoesNotContain(AssertionInfo info, String actual, String sequence) {
-    checkSequenceIsNotNull(sequence);
-    assertNotNull(info, actual);
-    if (!stringContains(actual, sequence)) return;
-    throw failures.failure(info, shouldNotContain(actual, sequence, comparisonStrategy));
+    long probe = AssertionProbe.begin();
+    try {
+      checkSequenceIsNotNull(sequence);
+      assertNotNull(info, actual);
+      if (!stringContains(actual, sequence)) return;
+      throw failures.failure(info, shouldNotContain(actual, sequence, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
+  }
+
+  /**
+   * Verifies that the given {@code String} contains all the given sequences, in any order.
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code String}.
+   * @param sequences the sequences to search for.
+   * @throws NullPointerException if the given array of sequences is {@code null}.
+   * @throws IllegalArgumentException if the given array of sequences is empty.
+   * @throws NullPointerException if any of the given sequences is {@code null}.
+   * @throws AssertionError if the given {@code String} is {@code null}.
+   * @throws AssertionError if the actual {@code String} does not contain all the given sequences.
+   */
+  public void assertContainsAll(AssertionInfo info, String actual, String[] sequences) {
+    long probe = AssertionProbe.begin();
+    try {
+      checkSequencesAreNotNullOrEmpty(sequences);
+      assertNotNull(info, actual);
+      boolean[] found = new boolean[sequences.length];
+      if (searchSequences(actual, sequences, found, sequences.length) == sequences.length) return;
+      Set<String> notFound = sequencesFlagged(sequences, found, false);
+      throw failures.failure(info, ShouldContain.shouldContain(actual, sequences, notFound, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
+  }
+
+  /**
+   * Verifies that the given {@code String} contains at least one of the given sequences.
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code String}.
+   * @param sequences the sequences to search for.
+   * @throws NullPointerException if the given array of sequences is {@code null}.
+   * @throws IllegalArgumentException if the given array of sequences is empty.
+   * @throws NullPointerException if any of the given sequences is {@code null}.
+   * @throws AssertionError if the given {@code String} is {@code null}.
+   * @throws AssertionError if the actual {@code String} does not contain any of the given sequences.
+   */
+  public void assertContainsAny(AssertionInfo info, String actual, String[] sequences) {
+    long probe = AssertionProbe.begin();
+    try {
+      checkSequencesAreNotNullOrEmpty(sequences);
+      assertNotNull(info, actual);
+      if (searchSequences(actual, sequences, new boolean[sequences.length], 1) > 0) return;
+      throw failures.failure(info, shouldContainAnyOf(actual, sequences, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
+  }
+
+  /**
+   * Verifies that the given {@code String} does not contain any of the given sequences.
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code String}.
+   * @param sequences the sequences to search for.
+   * @throws NullPointerException if the given array of sequences is {@code null}.
+   * @throws IllegalArgumentException if the given array of sequences is empty.
+   * @throws NullPointerException if any of the given sequences is {@code null}.
+   * @throws AssertionError if the given {@code String} is {@code null}.
+   * @throws AssertionError if the actual {@code String} contains any of the given sequences.
+   */
+  public void assertDoesNotContainAny(AssertionInfo info, String actual, String[] sequences) {
+    long probe = AssertionProbe.begin();
+    try {
+      checkSequencesAreNotNullOrEmpty(sequences);
+      assertNotNull(info, actual);
+      // search for all the sequences, to report every one of them found in actual
+      boolean[] found = new boolean[sequences.length];
+      if (searchSequences(actual, sequences, found, sequences.length) == 0) return;
+      Set<String> foundSequences = sequencesFlagged(sequences, found, true);
+      throw failures.failure(info,
+          ShouldNotContain.shouldNotContain(actual, sequences, foundSequences, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
+  }
+
+  /*
+   * With the standard comparison strategy, all sequences are searched for in a single pass over actual, using an
+   * Aho-Corasick automaton built once per set of sequences. Other strategies only know how to look for one sequence at
+   * a time.
+   */
+  private int searchSequences(String actual, String[] sequences, boolean[] found, int enough) {
+    if (comparisonStrategy instanceof StandardComparisonStrategy)
+      return AhoCorasick.forNeedles(sequences).search(actual, found, enough);
+    int count = 0;
+    for (int i = 0; i < sequences.length && count < enough; i++) {
+      if (!stringContains(actual, sequences[i])) continue;
+      found[i] = true;
+      count++;
+    }
+    return count;
+  }
+
+  private static Set<String> sequencesFlagged(String[] sequences, boolean[] found, boolean flag) {
+    Set<String> flagged = new LinkedHashSet<String>();
+    for (int i = 0; i < sequences.length; i++)
+      if (found[i] == flag) flagged.add(sequences[i]);
+    return flagged;
+  }
+
+  private void checkSequencesAreNotNullOrEmpty(String[] sequences) {
+    if (sequences == null) throw arrayOfValuesToLookForIsNull();
+    if (sequences.length == 0) throw arrayOfValuesToLookForIsEmpty();
+    for (String sequence : sequences)
+      checkSequenceIsNotNull(sequence);
   }
 
   private void checkSequenceIsNotNull(String sequence) {
@@ -197,8 +397,15 @@ public class Strings {
    * @throws AssertionError if the given {@code String}s are not equal.
    */
   public void assertEqualsIgnoringCase(AssertionInfo info, String actual, String expected) {
-    if (areEqualIgnoringCase(actual, expected)) return;
-    throw failures.failure(info, shouldBeEqual(actual, expected));
+    long probe = AssertionProbe.begin();
+    try {
+      if (areEqualIgnoringCase(actual, expected)) return;
+      throw failures.failure(info, shouldBeEqual(actual, expected));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   private boolean areEqualIgnoringCase(String actual, String expected) {
@@ -216,10 +423,17 @@ public class Strings {
    * @throws AssertionError if the actual {@code String} does not start with the given prefix.
    */
   public void assertStartsWith(AssertionInfo info, String actual, String prefix) {
-    if (prefix == null) throw new NullPointerException("The given prefix should not be null");
-    assertNotNull(info, actual);
-    if (comparisonStrategy.stringStartsWith(actual, prefix)) return;
-    throw failures.failure(info, shouldStartWith(actual, prefix, comparisonStrategy));
+    long probe = AssertionProbe.begin();
+    try {
+      if (prefix == null) throw new NullPointerException("The given prefix should not be null");
+      assertNotNull(info, actual);
+      if (comparisonStrategy.stringStartsWith(actual, prefix)) return;
+      throw failures.failure(info, shouldStartWith(actual, prefix, comparisonStrategy));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
   
   /**
@@ -232,10 +446,17 @@ public class Strings {
    * @throws AssertionError if the actual {@code String} does not end with the given suffix.
    */
   public void assertEndsWith(AssertionInfo info, String actual, String suffix) {
-    if (suffix == null) throw new NullPointerException("The given suffix should not be null");
-    assertNotNull(info, actual);
-    if (comparisonStrategy.stringEndsWith(actual, suffix)) return;
-    throw failures.failure(info, shouldEndWith(actual, suffix, comparisonStrategy)); 
+    long probe = AssertionProbe.begin();
+    try {
+      if (suffix == null) throw new NullPointerException("The given suffix should not be null");
+      assertNotNull(info, actual);
+      if (comparisonStrategy.stringEndsWith(actual, suffix)) return;
+      throw failures.failure(info, shouldEndWith(actual, suffix, comparisonStrategy)); 
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -249,10 +470,17 @@ public class Strings {
    * @throws AssertionError if the actual {@code String} does not match the given regular expression.
    */
   public void assertMatches(AssertionInfo info, String actual, String regex) {
-    checkRegexIsNotNull(regex);
-    assertNotNull(info, actual);
-    if (Pattern.matches(regex, actual)) return;
-    throw failures.failure(info, shouldMatch(actual, regex));
+    long probe = AssertionProbe.begin();
+    try {
+      checkRegexIsNotNull(regex);
+      assertNotNull(info, actual);
+      if (patterns.compile(regex).matcher(actual).matches()) return;
+      throw failures.failure(info, shouldMatch(actual, regex));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -265,9 +493,16 @@ public class Strings {
    * @throws AssertionError if the actual {@code String} matches the given regular expression.
    */
   public void assertDoesNotMatch(AssertionInfo info, String actual, String regex) {
-    checkRegexIsNotNull(regex);
-    if (actual == null || !Pattern.matches(regex, actual)) return;
-    throw failures.failure(info, shouldNotMatch(actual, regex));
+    long probe = AssertionProbe.begin();
+    try {
+      checkRegexIsNotNull(regex);
+      if (actual == null || !patterns.compile(regex).matcher(actual).matches()) return;
+      throw failures.failure(info, shouldNotMatch(actual, regex));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   private void checkRegexIsNotNull(String regex) {
@@ -284,10 +519,17 @@ public class Strings {
    * @throws AssertionError if the given {@code String} does not match the given regular expression.
    */
   public void assertMatches(AssertionInfo info, String actual, Pattern pattern) {
-    checkIsNotNull(pattern);
-    assertNotNull(info, actual);
-    if (pattern.matcher(actual).matches()) return;
-    throw failures.failure(info, shouldMatch(actual, pattern.pattern()));
+    long probe = AssertionProbe.begin();
+    try {
+      checkIsNotNull(pattern);
+      assertNotNull(info, actual);
+      if (pattern.matcher(actual).matches()) return;
+      throw failures.failure(info, shouldMatch(actual, pattern.pattern()));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   /**
@@ -299,9 +541,16 @@ public class Strings {
    * @throws AssertionError if the given {@code String} matches the given regular expression.
    */
   public void assertDoesNotMatch(AssertionInfo info, String actual, Pattern pattern) {
-    checkIsNotNull(pattern);
-    if (actual == null || !pattern.matcher(actual).matches()) return;
-    throw failures.failure(info, shouldNotMatch(actual, pattern.pattern()));
+    long probe = AssertionProbe.begin();
+    try {
+      checkIsNotNull(pattern);
+      if (actual == null || !pattern.matcher(actual).matches()) return;
+      throw failures.failure(info, shouldNotMatch(actual, pattern.pattern()));
+    } catch (RuntimeException e) {
+      throw AssertionProbe.aborted(probe, e);
+    } finally {
+      AssertionProbe.end(probe, actual);
+    }
   }
 
   private void checkIsNotNull(Pattern pattern) {
@@ -0,0 +1,297 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static java.util.Calendar.*;
+
+import static org.fest.assertions.error.ShouldBeStrictlyIncreasing.shouldBeStrictlyIncreasing;
+import static org.fest.assertions.error.ShouldHaveAllDatesBetween.shouldHaveAllDatesBetween;
+import static org.fest.assertions.error.ShouldHaveAllDatesInSameDay.shouldHaveAllDatesInSameDay;
+import static org.fest.assertions.error.ShouldHaveMaxGap.shouldHaveMaxGap;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Iterator;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.util.VisibleForTesting;
+
+/**
+ * Reusable assertions for groups of dates, given as arrays of milliseconds since the epoch (timestamps) or as
+ * {@code Iterable}s of {@code Date}s.
+ * <p>
+ * Each assertion checks all timestamps in a single pass over the group, without copying it, only creating
+ * {@code Date}s to report the first timestamp that does not satisfy it.
+ * </p>
+ */
+public class Timestamps {
+
+  private static final Timestamps INSTANCE = new Timestamps();
+
+  /**
+   * Returns the singleton instance of this class.
+   * @return the singleton instance of this class.
+   */
+  public static Timestamps instance() {
+    return INSTANCE;
+  }
+
+  @VisibleForTesting Failures failures = Failures.instance();
+
+  @VisibleForTesting Timestamps() {}
+
+  /**
+   * Verifies that all the given timestamps are in <i>start:end</i> period.<br>
+   * start date belongs to the period if inclusiveStart is true.<br>
+   * end date belongs to the period if inclusiveEnd is true.<br>
+   * @param info contains information about the assertion.
+   * @param actual the given timestamps.
+   * @param start the period start, expected not to be null.
+   * @param end the period end, expected not to be null.
+   * @param inclusiveStart wether to include start date in period.
+   * @param inclusiveEnd wether to include end date in period.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws NullPointerException if start {@code Date} is {@code null}.
+   * @throws NullPointerException if end {@code Date} is {@code null}.
+   * @throws AssertionError if one of the given timestamps is not in <i>start:end</i> period.
+   */
+  public void assertAllInRange(AssertionInfo info, long[] actual, Date start, Date end, boolean inclusiveStart,
+      boolean inclusiveEnd) {
+    assertNotNull(info, actual);
+    assertAllInRange(info, cursor(actual), start, end, inclusiveStart, inclusiveEnd);
+  }
+
+  /**
+   * Verifies that all the given dates are in <i>start:end</i> period.<br>
+   * start date belongs to the period if inclusiveStart is true.<br>
+   * end date belongs to the period if inclusiveEnd is true.<br>
+   * @param info contains information about the assertion.
+   * @param actual the given dates.
+   * @param start the period start, expected not to be null.
+   * @param end the period end, expected not to be null.
+   * @param inclusiveStart wether to include start date in period.
+   * @param inclusiveEnd wether to include end date in period.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws NullPointerException if start {@code Date} is {@code null}.
+   * @throws NullPointerException if end {@code Date} is {@code null}.
+   * @throws NullPointerException if one of the given dates is {@code null}.
+   * @throws AssertionError if one of the given dates is not in <i>start:end</i> period.
+   */
+  public void assertAllInRange(AssertionInfo info, Iterable<? extends Date> actual, Date start, Date end,
+      boolean inclusiveStart, boolean inclusiveEnd) {
+    assertNotNull(info, actual);
+    assertAllInRange(info, cursor(actual), start, end, inclusiveStart, inclusiveEnd);
+  }
+
+  private void assertAllInRange(AssertionInfo info, Cursor actual, Date start, Date end, boolean inclusiveStart,
+      boolean inclusiveEnd) {
+    if (start == null)
+      throw new NullPointerException("The start date of period to compare actual with should not be null");
+    if (end == null) throw new NullPointerException("The end date of period to compare actual with should not be null");
+    // turns the period into an inclusive one, so that each timestamp is checked with two comparisons only
+    long lowest = inclusiveStart ? start.getTime() : start.getTime() + 1;
+    long highest = inclusiveEnd ? end.getTime() : end.getTime() - 1;
+    for (int i = 0; actual.hasNext(); i++) {
+      long timestamp = actual.next();
+      if (timestamp < lowest || timestamp > highest)
+        throw failures.failure(info,
+            shouldHaveAllDatesBetween(i, new Date(timestamp), start, end, inclusiveStart, inclusiveEnd));
+    }
+  }
+
+  /**
+   * Verifies that each of the given timestamps is strictly after the previous one.
+   * @param info contains information about the assertion.
+   * @param actual the given timestamps.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if one of the given timestamps is before or equal to the previous one.
+   */
+  public void assertStrictlyIncreasing(AssertionInfo info, long[] actual) {
+    assertNotNull(info, actual);
+    assertStrictlyIncreasing(info, cursor(actual));
+  }
+
+  /**
+   * Verifies that each of the given dates is strictly after the previous one.
+   * @param info contains information about the assertion.
+   * @param actual the given dates.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws NullPointerException if one of the given dates is {@code null}.
+   * @throws AssertionError if one of the given dates is before or equal to the previous one.
+   */
+  public void assertStrictlyIncreasing(AssertionInfo info, Iterable<? extends Date> actual) {
+    assertNotNull(info, actual);
+    assertStrictlyIncreasing(info, cursor(actual));
+  }
+
+  private void assertStrictlyIncreasing(AssertionInfo info, Cursor actual) {
+    if (!actual.hasNext()) return;
+    long previous = actual.next();
+    for (int i = 1; actual.hasNext(); i++) {
+      long timestamp = actual.next();
+      if (timestamp <= previous)
+        throw failures.failure(info, shouldBeStrictlyIncreasing(i, new Date(timestamp), new Date(previous)));
+      previous = timestamp;
+    }
+  }
+
+  /**
+   * Verifies that the gap between each of the given timestamps and the previous one is at most the given one. The gap
+   * between two timestamps is the absolute value of their difference.
+   * @param info contains information about the assertion.
+   * @param actual the given timestamps.
+   * @param maxGapInMilliseconds the maximum gap, in milliseconds.
+   * @throws IllegalArgumentException if the maximum gap is negative.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the gap between one of the given timestamps and the previous one is greater than the
+   *           given one.
+   */
+  public void assertMaxGapIsAtMost(AssertionInfo info, long[] actual, long maxGapInMilliseconds) {
+    verifyIsNotNegative(maxGapInMilliseconds);
+    assertNotNull(info, actual);
+    assertMaxGapIsAtMost(info, cursor(actual), maxGapInMilliseconds);
+  }
+
+  /**
+   * Verifies that the gap between each of the given dates and the previous one is at most the given one. The gap
+   * between two dates is the absolute value of the difference of their timestamps.
+   * @param info contains information about the assertion.
+   * @param actual the given dates.
+   * @param maxGapInMilliseconds the maximum gap, in milliseconds.
+   * @throws IllegalArgumentException if the maximum gap is negative.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws NullPointerException if one of the given dates is {@code null}.
+   * @throws AssertionError if the gap between one of the given dates and the previous one is greater than the given
+   *           one.
+   */
+  public void assertMaxGapIsAtMost(AssertionInfo info, Iterable<? extends Date> actual, long maxGapInMilliseconds) {
+    verifyIsNotNegative(maxGapInMilliseconds);
+    assertNotNull(info, actual);
+    assertMaxGapIsAtMost(info, cursor(actual), maxGapInMilliseconds);
+  }
+
+  private void assertMaxGapIsAtMost(AssertionInfo info, Cursor actual, long maxGapInMilliseconds) {
+    if (!actual.hasNext()) return;
+    long previous = actual.next();
+    for (int i = 1; actual.hasNext(); i++) {
+      long timestamp = actual.next();
+      long gap = Math.abs(timestamp - previous);
+      if (gap > maxGapInMilliseconds)
+        throw failures.failure(info,
+            shouldHaveMaxGap(i, new Date(timestamp), new Date(previous), gap, maxGapInMilliseconds));
+      previous = timestamp;
+    }
+  }
+
+  /**
+   * Verifies that all the given timestamps are in the same year, month and day of month as the given date, in the
+   * default time zone.
+   * @param info contains information about the assertion.
+   * @param actual the given timestamps.
+   * @param other the date to compare timestamps to.
+   * @throws NullPointerException if other {@code Date} is {@code null}.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if one of the given timestamps is not in the same day as the given date.
+   */
+  public void assertAllInSameDayAs(AssertionInfo info, long[] actual, Date other) {
+    assertNotNull(info, actual);
+    assertAllInSameDayAs(info, cursor(actual), other);
+  }
+
+  /**
+   * Verifies that all the given dates are in the same year, month and day of month as the given date, in the default
+   * time zone.
+   * @param info contains information about the assertion.
+   * @param actual the given dates.
+   * @param other the date to compare the given dates to.
+   * @throws NullPointerException if other {@code Date} is {@code null}.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws NullPointerException if one of the given dates is {@code null}.
+   * @throws AssertionError if one of the given dates is not in the same day as the given date.
+   */
+  public void assertAllInSameDayAs(AssertionInfo info, Iterable<? extends Date> actual, Date other) {
+    assertNotNull(info, actual);
+    assertAllInSameDayAs(info, cursor(actual), other);
+  }
+
+  private void assertAllInSameDayAs(AssertionInfo info, Cursor actual, Date other) {
+    if (other == null) throw new NullPointerException("The date to compare actual with should not be null");
+    // computes the bounds of the day once, a timestamp is in the same day if it is between them.
+    Calendar calendar = Calendar.getInstance();
+    calendar.setTime(other);
+    long startOfDay = startOfDay(calendar);
+    calendar.add(DAY_OF_MONTH, 1);
+    long startOfNextDay = startOfDay(calendar);
+    for (int i = 0; actual.hasNext(); i++) {
+      long timestamp = actual.next();
+      if (timestamp < startOfDay || timestamp >= startOfNextDay)
+        throw failures.failure(info, shouldHaveAllDatesInSameDay(i, new Date(timestamp), other));
+    }
+  }
+
+  private static long startOfDay(Calendar calendar) {
+    calendar.set(HOUR_OF_DAY, 0);
+    calendar.set(MINUTE, 0);
+    calendar.set(SECOND, 0);
+    calendar.set(MILLISECOND, 0);
+    return calendar.getTimeInMillis();
+  }
+
+  private static void verifyIsNotNegative(long maxGapInMilliseconds) {
+    if (maxGapInMilliseconds < 0) throw new IllegalArgumentException("The maximum gap should not be negative");
+  }
+
+  private static void assertNotNull(AssertionInfo info, Object actual) {
+    Objects.instance().assertNotNull(info, actual);
+  }
+
+  private static Cursor cursor(final long[] timestamps) {
+    return new Cursor() {
+      private int index;
+
+      @Override boolean hasNext() {
+        return index < timestamps.length;
+      }
+
+      @Override long next() {
+        return timestamps[index++];
+      }
+    };
+  }
+
+  private static Cursor cursor(Iterable<? extends Date> dates) {
+    final Iterator<? extends Date> iterator = dates.iterator();
+    return new Cursor() {
+      @Override boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override long next() {
+        Date date = iterator.next();
+        if (date == null) throw new NullPointerException("The dates to verify should not contain null elements");
+        return date.getTime();
+      }
+    };
+  }
+
+  /**
+   * Reads timestamps one after the other, from an array or from the dates of an {@code Iterable}.
+   */
+  private abstract static class Cursor {
+    abstract boolean hasNext();
+
+    abstract long next();
+  }
+}
@@ -16,6 +16,7 @@ package org.fest.assertions.util;
 
 import java.lang.reflect.Array;
 import java.util.AbstractList;
+import java.util.RandomAccess;
 
 import org.fest.util.VisibleForTesting;
 
@@ -26,7 +27,7 @@ import org.fest.util.VisibleForTesting;
  * @author Alex Ruiz
  * @author Yvonne Wang
  */
-public class ArrayWrapperList extends AbstractList<Object> {
+public class ArrayWrapperList extends AbstractList<Object> implements RandomAccess {
 
   /**
    * Wraps a given array with a <code>{@link ArrayWrapperList}</code>
@@ -1,6 +1,6 @@
 package org.fest.assertions.api;
 
-import static org.fest.assertions.api.DateAssert.dateFormat;
+import static org.fest.assertions.api.DateAssert.dateParser;
 import static org.fest.assertions.test.ExpectedException.none;
 
 import static org.junit.Assert.assertSame;
@@ -60,20 +60,20 @@ public abstract class AbstractDateAssertWithDateArg_Test extends AbstractBaseDat
   @Test
   public void should_verify_assertion_with_date_arg_string_with_default_format() throws ParseException {
     assertionInvocationWithStringArg(dateAsStringWithDefaultFormat);
-    verifyAssertionInvocation(dateFormat.parse(dateAsStringWithDefaultFormat));
+    verifyAssertionInvocation(dateParser.format.parse(dateAsStringWithDefaultFormat));
   }
 
   @Test
   public void should_verify_assertion_with_date_arg_string_following_custom_format() throws ParseException {
     assertions.withDateFormat(customDateFormat);
     assertionInvocationWithStringArg(dateAsStringWithCustomFormat);
-    verifyAssertionInvocation(dateFormat.parse(dateAsStringWithCustomFormat));
+    verifyAssertionInvocation(dateParser.format.parse(dateAsStringWithCustomFormat));
     assertions.withIsoDateFormat();
   }
 
   @Test
   public void should_fail_because_date_string_representation_does_not_follow_expected_format() {
-    thrown.expectAssertionError("Failed to parse " + dateAsStringWithBadFormat + " with date format " + dateFormat);
+    thrown.expectAssertionError("Failed to parse " + dateAsStringWithBadFormat + " with date format " + dateParser.format);
     assertionInvocationWithStringArg(dateAsStringWithBadFormat);
   }
 
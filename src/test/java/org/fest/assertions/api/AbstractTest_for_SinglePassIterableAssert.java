@@ -0,0 +1,39 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static java.util.Collections.emptyList;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Before;
+
+import org.fest.assertions.internal.IterableChecks;
+
+/**
+ * Base class for tests of <code>{@link SinglePassIterableAssert}</code>.
+ */
+public class AbstractTest_for_SinglePassIterableAssert {
+
+  protected IterableChecks checks;
+  protected ConcreteIterableAssert assertion;
+  protected SinglePassIterableAssert<ConcreteIterableAssert> assertions;
+
+  @Before public void setUp() {
+    checks = mock(IterableChecks.class);
+    assertion = new ConcreteIterableAssert(emptyList());
+    assertions = new SinglePassIterableAssert<ConcreteIterableAssert>(assertion.info, assertion.actual, checks,
+        assertion);
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static org.fest.util.Collections.list;
+import static org.junit.Assert.*;
+
+import java.util.Date;
+import java.util.List;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Assertions#assertThatDates(Iterable)}</code>.
+ */
+public class Assertions_assertThatDates_Test {
+
+  private static List<Date> actual;
+
+  @BeforeClass public static void setUpOnce() {
+    actual = list(new Date(1000L), new Date(2000L));
+  }
+
+  @Test public void should_create_Assert() {
+    DatesAssert assertions = Assertions.assertThatDates(actual);
+    assertNotNull(assertions);
+  }
+
+  @Test public void should_pass_actual() {
+    DatesAssert assertions = Assertions.assertThatDates(actual);
+    assertSame(actual, assertions.actual);
+  }
+}
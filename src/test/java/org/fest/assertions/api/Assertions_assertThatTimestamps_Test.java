@@ -0,0 +1,42 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static org.junit.Assert.*;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Assertions#assertThatTimestamps(long[])}</code>.
+ */
+public class Assertions_assertThatTimestamps_Test {
+
+  private static long[] actual;
+
+  @BeforeClass public static void setUpOnce() {
+    actual = new long[] { 1000L, 2000L };
+  }
+
+  @Test public void should_create_Assert() {
+    TimestampsAssert assertions = Assertions.assertThatTimestamps(actual);
+    assertNotNull(assertions);
+  }
+
+  @Test public void should_pass_actual() {
+    TimestampsAssert assertions = Assertions.assertThatTimestamps(actual);
+    assertSame(actual, assertions.actual);
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Assertions#assertThat(CharSequence)}</code>.
+ */
+public class Assertions_assertThat_with_CharSequence_Test {
+
+  @Test public void should_create_Assert() {
+    CharSequenceAssert assertions = Assertions.assertThat(new StringBuilder("Yoda"));
+    assertNotNull(assertions);
+  }
+
+  @Test public void should_pass_actual() {
+    CharSequence actual = new StringBuilder("Yoda");
+    CharSequenceAssert assertions = Assertions.assertThat(actual);
+    assertSame(actual, assertions.actual);
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Assertions#assertThat(Iterator)}</code>.
+ */
+public class Assertions_assertThat_with_Iterator_Test {
+
+  @Test
+  public void should_create_Assert() {
+    IteratorAssert assertions = Assertions.assertThat(new ArrayList<String>().iterator());
+    assertNotNull(assertions);
+  }
+
+  @Test
+  public void should_pass_actual() {
+    Iterator<String> names = new ArrayList<String>().iterator();
+    IteratorAssert assertions = Assertions.assertThat(names);
+    assertSame(names, assertions.actual);
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import org.fest.assertions.internal.Polling;
+
+/**
+ * Tests for <code>{@link Assertions#await()}</code>.
+ */
+public class Assertions_await_Test {
+
+  @Test
+  public void should_create_Await() {
+    Await await = Assertions.await();
+    assertSame(Polling.instance(), await.polling);
+  }
+
+  @Test
+  public void should_create_new_Await_every_time() {
+    assertNotSame(Assertions.await(), Assertions.await());
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static org.fest.assertions.test.ExpectedException.none;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link Await#atMost(long, java.util.concurrent.TimeUnit)}</code>.
+ */
+public class Await_atMost_Test {
+
+  @Rule
+  public ExpectedException thrown = none();
+
+  private final Await await = new Await();
+
+  @Test public void should_set_timeout() {
+    await.atMost(300, MILLISECONDS);
+    assertEquals(MILLISECONDS.toNanos(300), await.timeout);
+  }
+
+  @Test public void should_accept_zero_timeout() {
+    await.atMost(0, MILLISECONDS);
+    assertEquals(0, await.timeout);
+  }
+
+  @Test public void should_throw_error_if_timeout_is_negative() {
+    thrown.expectIllegalArgumentException("The timeout should not be negative");
+    await.atMost(-1, MILLISECONDS);
+  }
+
+  @Test public void should_throw_error_if_unit_is_null() {
+    thrown.expectNullPointerException("The time unit should not be null");
+    await.atMost(1, null);
+  }
+
+  @Test public void should_return_this() {
+    Await returned = await.atMost(1, MILLISECONDS);
+    assertSame(await, returned);
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static org.fest.assertions.test.ExpectedException.none;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link Await#maxPollInterval(long, java.util.concurrent.TimeUnit)}</code>.
+ */
+public class Await_maxPollInterval_Test {
+
+  @Rule
+  public ExpectedException thrown = none();
+
+  private final Await await = new Await();
+
+  @Test public void should_set_maximum_poll_interval() {
+    await.maxPollInterval(100, MILLISECONDS);
+    assertEquals(MILLISECONDS.toNanos(10), await.pollInterval);
+    assertEquals(MILLISECONDS.toNanos(100), await.maxPollInterval);
+  }
+
+  @Test public void should_lower_poll_interval_if_greater() {
+    await.maxPollInterval(2, MILLISECONDS);
+    assertEquals(MILLISECONDS.toNanos(2), await.pollInterval);
+    assertEquals(MILLISECONDS.toNanos(2), await.maxPollInterval);
+  }
+
+  @Test public void should_throw_error_if_maximum_poll_interval_is_not_positive() {
+    thrown.expectIllegalArgumentException("The maximum poll interval should be positive");
+    await.maxPollInterval(0, MILLISECONDS);
+  }
+
+  @Test public void should_return_this() {
+    Await returned = await.maxPollInterval(1, MILLISECONDS);
+    assertSame(await, returned);
+  }
+}
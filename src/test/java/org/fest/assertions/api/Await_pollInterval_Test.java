@@ -0,0 +1,65 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static org.fest.assertions.test.ExpectedException.none;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link Await#pollInterval(long, java.util.concurrent.TimeUnit)}</code>.
+ */
+public class Await_pollInterval_Test {
+
+  @Rule
+  public ExpectedException thrown = none();
+
+  private final Await await = new Await();
+
+  @Test public void should_set_poll_interval() {
+    await.pollInterval(5, MILLISECONDS);
+    assertEquals(MILLISECONDS.toNanos(5), await.pollInterval);
+    assertEquals(MILLISECONDS.toNanos(250), await.maxPollInterval);
+  }
+
+  @Test public void should_raise_maximum_poll_interval_if_smaller() {
+    await.pollInterval(1, SECONDS);
+    assertEquals(SECONDS.toNanos(1), await.pollInterval);
+    assertEquals(SECONDS.toNanos(1), await.maxPollInterval);
+  }
+
+  @Test public void should_throw_error_if_poll_interval_is_not_positive() {
+    thrown.expectIllegalArgumentException("The poll interval should be positive");
+    await.pollInterval(0, MILLISECONDS);
+  }
+
+  @Test public void should_throw_error_if_unit_is_null() {
+    thrown.expectNullPointerException("The time unit should not be null");
+    await.pollInterval(1, null);
+  }
+
+  @Test public void should_return_this() {
+    Await returned = await.pollInterval(1, MILLISECONDS);
+    assertSame(await, returned);
+  }
+}
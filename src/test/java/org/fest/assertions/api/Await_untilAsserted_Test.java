@@ -0,0 +1,66 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.fest.assertions.internal.Polling;
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link Await#untilAsserted(Runnable)}</code>.
+ */
+public class Await_untilAsserted_Test {
+
+  @Rule
+  public ExpectedException thrown = none();
+
+  private Polling polling;
+  private Await await;
+  private Runnable assertions;
+
+  @Before public void setUp() {
+    polling = mock(Polling.class);
+    await = new Await();
+    await.polling = polling;
+    assertions = mock(Runnable.class);
+  }
+
+  @Test public void should_evaluate_assertions_with_default_timeout_and_poll_intervals() {
+    await.untilAsserted(assertions);
+    verify(polling).assertPassesWithin(await.info, assertions, SECONDS.toNanos(10), MILLISECONDS.toNanos(10),
+        MILLISECONDS.toNanos(250));
+  }
+
+  @Test public void should_evaluate_assertions_with_given_timeout_and_poll_intervals() {
+    await.atMost(2, SECONDS).pollInterval(1, MILLISECONDS).maxPollInterval(50, MILLISECONDS).untilAsserted(assertions);
+    verify(polling).assertPassesWithin(await.info, assertions, SECONDS.toNanos(2), MILLISECONDS.toNanos(1),
+        MILLISECONDS.toNanos(50));
+  }
+
+  @Test public void should_throw_error_if_assertions_are_null() {
+    thrown.expectNullPointerException("The assertions to evaluate should not be null");
+    await.untilAsserted(null);
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static junit.framework.Assert.assertSame;
+import static org.mockito.Mockito.*;
+
+import org.fest.assertions.internal.CharSequences;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link CharSequenceAssert#startsWith(String)}</code>.
+ */
+public class CharSequenceAssert_startsWith_Test {
+
+  private CharSequences charSequences;
+  private CharSequenceAssert assertions;
+
+  @Before public void setUp() {
+    charSequences = mock(CharSequences.class);
+    assertions = new CharSequenceAssert(new StringBuilder("Yoda"));
+    assertions.charSequences = charSequences;
+  }
+
+  @Test public void should_verify_that_actual_starts_with_prefix() {
+    assertions.startsWith("Yo");
+    verify(charSequences).assertStartsWith(assertions.info, assertions.actual, "Yo");
+  }
+
+  @Test public void should_return_this() {
+    CharSequenceAssert returned = assertions.startsWith("Yo");
+    assertSame(assertions, returned);
+  }
+}
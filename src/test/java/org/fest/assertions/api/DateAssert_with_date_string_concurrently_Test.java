@@ -0,0 +1,86 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests that {@link DateAssert} assertions taking a date as String can be used from several threads at the same time.
+ */
+public class DateAssert_with_date_string_concurrently_Test {
+
+  private static final int THREADS = 8;
+  private static final int ASSERTIONS_PER_THREAD = 500;
+
+  @After
+  public void tearDown() {
+    DateAssert.useIsoDateFormat();
+  }
+
+  @Test
+  public void should_parse_dates_correctly_from_several_threads() throws Exception {
+    ExecutorService executor = newFixedThreadPool(THREADS);
+    try {
+      List<Future<Void>> results = new ArrayList<Future<Void>>();
+      for (int i = 0; i < THREADS; i++) {
+        final int thread = i;
+        results.add(executor.submit(new Callable<Void>() {
+          public Void call() throws ParseException {
+            for (int day = 1; day <= ASSERTIONS_PER_THREAD; day++) {
+              String dateAsString = String.format("%04d-%02d-%02d", 2000 + thread, 1 + day % 12, 1 + day % 28);
+              Date date = new SimpleDateFormat("yyyy-MM-dd").parse(dateAsString);
+              assertThat(date).isEqualTo(dateAsString);
+            }
+            return null;
+          }
+        }));
+      }
+      for (Future<Void> result : results)
+        result.get(30, SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void should_not_reuse_dates_parsed_with_previous_date_format() throws ParseException {
+    assertThat(new SimpleDateFormat("yyyy-MM-dd").parse("2000-01-02")).isEqualTo("2000-01-02");
+    DateAssert.useDateFormat(new SimpleDateFormat("yyyy-dd-MM"));
+    assertThat(new SimpleDateFormat("yyyy-MM-dd").parse("2000-02-01")).isEqualTo("2000-01-02");
+  }
+
+  @Test
+  public void should_not_be_affected_by_changes_to_date_format_once_used() throws ParseException {
+    SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
+    DateAssert.useDateFormat(format);
+    format.applyPattern("yyyy-dd-MM");
+    assertThat(new SimpleDateFormat("yyyy-MM-dd").parse("2000-01-02")).isEqualTo("2000-01-02");
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static junit.framework.Assert.assertSame;
+import static org.fest.util.Collections.list;
+import static org.fest.util.Dates.parse;
+import static org.mockito.Mockito.*;
+
+import java.util.Date;
+
+import org.fest.assertions.internal.Timestamps;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link DatesAssert#allInRange(Date, Date, boolean, boolean)}</code>.
+ */
+public class DatesAssert_allInRangeSpecifyingBoundariesInclusion_Test {
+
+  private Timestamps timestamps;
+  private DatesAssert assertions;
+
+  @Before public void setUp() {
+    timestamps = mock(Timestamps.class);
+    assertions = new DatesAssert(list(parse("2011-01-01")));
+    assertions.timestamps = timestamps;
+  }
+
+  @Test public void should_verify_that_all_actual_dates_are_in_period() {
+    assertions.allInRange(parse("2011-01-01"), parse("2012-01-01"), false, true);
+    verify(timestamps).assertAllInRange(assertions.info, assertions.actual, parse("2011-01-01"),
+        parse("2012-01-01"), false, true);
+  }
+
+  @Test public void should_return_this() {
+    DatesAssert returned = assertions.allInRange(parse("2011-01-01"), parse("2012-01-01"), false, true);
+    assertSame(assertions, returned);
+  }
+}
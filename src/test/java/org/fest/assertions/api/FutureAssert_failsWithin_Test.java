@@ -0,0 +1,37 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import static junit.framework.Assert.assertSame;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link FutureAssert#failsWithin(long, java.util.concurrent.TimeUnit)}</code>.
+ */
+public class FutureAssert_failsWithin_Test extends AbstractTest_for_FutureAssert {
+
+  @Test public void should_return_assertion_on_exception_thrown_by_computation_of_future() {
+    IOException failure = new IOException("disconnected");
+    when(futures.assertFailsWithin(assertions.info, assertions.actual, 2, SECONDS)).thenReturn(failure);
+    ThrowableAssert returned = assertions.failsWithin(2, SECONDS);
+    assertSame(failure, returned.actual);
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static junit.framework.Assert.assertSame;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Test;
+
+import org.fest.assertions.core.TestCondition;
+
+/**
+ * Tests for <code>{@link FutureAssert#isCompletedWithValueMatching(org.fest.assertions.core.Condition)}</code>.
+ */
+public class FutureAssert_isCompletedWithValueMatching_Test extends AbstractTest_for_FutureAssert {
+
+  private final TestCondition<String> condition = new TestCondition<String>();
+
+  @Test public void should_verify_that_actual_is_completed_with_value_matching_condition() {
+    assertions.isCompletedWithValueMatching(condition);
+    verify(futures).assertIsCompletedWithValueMatching(assertions.info, assertions.actual, condition);
+  }
+
+  @Test public void should_return_this() {
+    FutureAssert returned = assertions.isCompletedWithValueMatching(condition);
+    assertSame(assertions, returned);
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import static junit.framework.Assert.assertSame;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link FutureAssert#succeedsWithin(long, java.util.concurrent.TimeUnit)}</code>.
+ */
+public class FutureAssert_succeedsWithin_Test extends AbstractTest_for_FutureAssert {
+
+  @Test public void should_return_assertion_on_value_of_future() {
+    when(futures.assertSucceedsWithin(assertions.info, assertions.actual, 2, SECONDS)).thenReturn("Yoda");
+    ObjectAssert returned = assertions.succeedsWithin(2, SECONDS);
+    assertSame("Yoda", returned.actual);
+  }
+}
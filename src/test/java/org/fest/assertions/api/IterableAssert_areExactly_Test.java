@@ -0,0 +1,50 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static junit.framework.Assert.assertSame;
+import static org.mockito.Mockito.*;
+
+import org.junit.*;
+
+import org.fest.assertions.core.Condition;
+import org.fest.assertions.core.TestCondition;
+import org.fest.assertions.internal.Conditions;
+
+/**
+ * Tests for <code>{@link AbstractIterableAssert#areExactly(int, Condition)}</code>.
+ */
+public class IterableAssert_areExactly_Test extends AbstractTest_for_IterableAssert {
+
+  private Conditions conditions;
+  private Condition<Object> jedi;
+
+  @Override @Before public void setUp() {
+    super.setUp();
+    conditions = mock(Conditions.class);
+    assertions.conditions = conditions;
+    jedi = new TestCondition<Object>("Jedi");
+  }
+
+  @Test public void should_verify_that_exactly_given_number_of_elements_satisfy_condition() {
+    assertions.areExactly(2, jedi);
+    verify(conditions).assertAreExactly(assertions.info, assertions.actual, 2, jedi);
+  }
+
+  @Test public void should_return_this() {
+    ConcreteIterableAssert returned = assertions.areExactly(2, jedi);
+    assertSame(assertions, returned);
+  }
+}
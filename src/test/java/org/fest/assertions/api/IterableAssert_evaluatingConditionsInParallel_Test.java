@@ -0,0 +1,37 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static junit.framework.Assert.assertSame;
+
+import org.junit.Test;
+
+import org.fest.assertions.internal.Conditions;
+
+/**
+ * Tests for <code>{@link AbstractIterableAssert#evaluatingConditionsInParallel()}</code>.
+ */
+public class IterableAssert_evaluatingConditionsInParallel_Test extends AbstractTest_for_IterableAssert {
+
+  @Test public void should_evaluate_conditions_in_parallel() {
+    assertions.evaluatingConditionsInParallel();
+    assertSame(Conditions.parallelInstance(), assertions.conditions);
+  }
+
+  @Test public void should_return_this() {
+    ConcreteIterableAssert returned = assertions.evaluatingConditionsInParallel();
+    assertSame(assertions, returned);
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static junit.framework.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+
+import org.fest.assertions.internal.IterableChecks;
+
+/**
+ * Tests for <code>{@link AbstractIterableAssert#inSinglePass()}</code>.
+ */
+public class IterableAssert_inSinglePass_Test extends AbstractTest_for_IterableAssert {
+
+  @Test public void should_record_checks_with_checks_of_iterables() {
+    IterableChecks checks = mock(IterableChecks.class);
+    when(iterables.singlePassChecks()).thenReturn(checks);
+    SinglePassIterableAssert<ConcreteIterableAssert> singlePass = assertions.inSinglePass();
+    assertSame(checks, singlePass.checks);
+    assertSame(assertions.info, singlePass.info);
+    assertSame(assertions.actual, singlePass.actual);
+  }
+
+  @Test public void should_return_this_once_checks_are_verified() {
+    IterableChecks checks = mock(IterableChecks.class);
+    when(iterables.singlePassChecks()).thenReturn(checks);
+    ConcreteIterableAssert returned = assertions.inSinglePass().verify();
+    assertSame(assertions, returned);
+  }
+}
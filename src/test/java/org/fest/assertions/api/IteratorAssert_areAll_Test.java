@@ -0,0 +1,56 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static junit.framework.Assert.assertSame;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import org.fest.assertions.core.Condition;
+import org.fest.assertions.core.TestCondition;
+import org.fest.assertions.internal.Iterators;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link IteratorAssert#areAll(Condition)}</code>.
+ */
+public class IteratorAssert_areAll_Test {
+
+  private Iterators iterators;
+  private IteratorAssert assertions;
+  private Condition<Object> jedi = new TestCondition<Object>();
+
+  @Before public void setUp() {
+    iterators = mock(Iterators.class);
+    assertions = new IteratorAssert(emptyIterator());
+    assertions.iterators = iterators;
+  }
+
+  @Test public void should_verify_that_all_elements_satisfy_condition() {
+    assertions.areAll(jedi);
+    verify(iterators).assertAreAll(assertions.info, assertions.actual, jedi);
+  }
+
+  @Test public void should_return_this() {
+    IteratorAssert returned = assertions.areAll(jedi);
+    assertSame(assertions, returned);
+  }
+
+  private static Iterator<Object> emptyIterator() {
+    return new ArrayList<Object>().iterator();
+  }
+}
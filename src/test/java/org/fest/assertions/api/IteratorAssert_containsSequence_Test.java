@@ -0,0 +1,53 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static junit.framework.Assert.assertSame;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import org.fest.assertions.internal.Iterators;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link IteratorAssert#containsSequence(Object...)}</code>.
+ */
+public class IteratorAssert_containsSequence_Test {
+
+  private Iterators iterators;
+  private IteratorAssert assertions;
+
+  @Before public void setUp() {
+    iterators = mock(Iterators.class);
+    assertions = new IteratorAssert(emptyIterator());
+    assertions.iterators = iterators;
+  }
+
+  @Test public void should_verify_that_actual_contains_given_sequence() {
+    assertions.containsSequence("Yoda", "Luke");
+    verify(iterators).assertContainsSequence(assertions.info, assertions.actual, new Object[] { "Yoda", "Luke" });
+  }
+
+  @Test public void should_return_this() {
+    IteratorAssert returned = assertions.containsSequence("Yoda", "Luke");
+    assertSame(assertions, returned);
+  }
+
+  private static Iterator<Object> emptyIterator() {
+    return new ArrayList<Object>().iterator();
+  }
+}
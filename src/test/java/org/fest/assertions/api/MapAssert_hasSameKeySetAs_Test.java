@@ -0,0 +1,52 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static java.util.Collections.emptyMap;
+import static junit.framework.Assert.assertSame;
+import static org.fest.assertions.data.MapEntry.entry;
+import static org.fest.assertions.test.MapFactory.map;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+
+import org.fest.assertions.internal.Maps;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link MapAssert#hasSameKeySetAs(Map)}</code>.
+ */
+public class MapAssert_hasSameKeySetAs_Test {
+
+  private Maps maps;
+  private MapAssert assertions;
+  private Map<?, ?> other = map(entry("name", "Yoda"));
+
+  @Before public void setUp() {
+    maps = mock(Maps.class);
+    assertions = new MapAssert(emptyMap());
+    assertions.maps = maps;
+  }
+
+  @Test public void should_verify_that_actual_has_same_keys_as_given_map() {
+    assertions.hasSameKeySetAs(other);
+    verify(maps).assertHasSameKeySetAs(assertions.info, assertions.actual, other);
+  }
+
+  @Test public void should_return_this() {
+    MapAssert returned = assertions.hasSameKeySetAs(other);
+    assertSame(assertions, returned);
+  }
+}
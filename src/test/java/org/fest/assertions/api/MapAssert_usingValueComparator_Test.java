@@ -0,0 +1,45 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static java.util.Collections.emptyMap;
+import static junit.framework.Assert.*;
+
+import org.junit.Test;
+
+import org.fest.assertions.util.CaseInsensitiveStringComparator;
+
+/**
+ * Tests for <code>{@link MapAssert#usingValueComparator(java.util.Comparator)}</code> and
+ * <code>{@link MapAssert#usingDefaultValueComparator()}</code>.
+ */
+public class MapAssert_usingValueComparator_Test {
+
+  private MapAssert assertions = new MapAssert(emptyMap());
+
+  @Test
+  public void using_default_value_comparator_test() {
+    assertions.usingValueComparator(CaseInsensitiveStringComparator.instance).usingDefaultValueComparator();
+    assertNull(assertions.maps.getValueComparator());
+  }
+
+  @Test
+  public void using_custom_value_comparator_test() {
+    MapAssert returned = assertions.usingValueComparator(CaseInsensitiveStringComparator.instance);
+    assertSame(assertions, returned);
+    assertSame(CaseInsensitiveStringComparator.instance, assertions.maps.getValueComparator());
+    assertNull(assertions.maps.getKeyComparator());
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static java.util.Collections.emptyMap;
+import static junit.framework.Assert.assertSame;
+import static org.mockito.Mockito.*;
+
+import org.fest.assertions.internal.Maps;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link MapAssert#withMaximumReportedDifferences(int)}</code>.
+ */
+public class MapAssert_withMaximumReportedDifferences_Test {
+
+  private Maps maps;
+  private MapAssert assertions;
+
+  @Before public void setUp() {
+    maps = mock(Maps.class);
+    assertions = new MapAssert(emptyMap());
+    assertions.maps = maps;
+  }
+
+  @Test public void should_use_maps_reporting_given_maximum_number_of_differences() {
+    Maps copy = mock(Maps.class);
+    when(maps.withMaximumReportedDifferences(5)).thenReturn(copy);
+    assertions.withMaximumReportedDifferences(5);
+    assertSame(copy, assertions.maps);
+  }
+
+  @Test public void should_return_this() {
+    MapAssert returned = assertions.withMaximumReportedDifferences(5);
+    assertSame(assertions, returned);
+  }
+}
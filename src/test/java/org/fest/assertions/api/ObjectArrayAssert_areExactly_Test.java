@@ -0,0 +1,54 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static junit.framework.Assert.assertSame;
+
+import static org.fest.assertions.test.ObjectArrayFactory.emptyArray;
+
+import static org.mockito.Mockito.*;
+
+import org.junit.*;
+
+import org.fest.assertions.core.Condition;
+import org.fest.assertions.core.TestCondition;
+import org.fest.assertions.internal.Conditions;
+
+/**
+ * Tests for <code>{@link ObjectArrayAssert#areExactly(int, Condition)}</code>.
+ */
+public class ObjectArrayAssert_areExactly_Test {
+
+  private Conditions conditions;
+  private ObjectArrayAssert assertions;
+  private Condition<Object> jedi;
+
+  @Before public void setUp() {
+    conditions = mock(Conditions.class);
+    assertions = new ObjectArrayAssert(emptyArray());
+    assertions.conditions = conditions;
+    jedi = new TestCondition<Object>("Jedi");
+  }
+
+  @Test public void should_verify_that_exactly_given_number_of_elements_satisfy_condition() {
+    assertions.areExactly(2, jedi);
+    verify(conditions).assertAreExactly(assertions.info, assertions.actual, 2, jedi);
+  }
+
+  @Test public void should_return_this() {
+    ObjectArrayAssert returned = assertions.areExactly(2, jedi);
+    assertSame(assertions, returned);
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static junit.framework.Assert.assertSame;
+import static org.mockito.Mockito.*;
+
+import java.io.StringReader;
+
+import org.fest.assertions.internal.Readers;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link ReaderAssert#hasSize(long)}</code>.
+ */
+public class ReaderAssert_hasSize_Test {
+
+  private Readers readers;
+  private ReaderAssert assertions;
+
+  @Before public void setUp() {
+    readers = mock(Readers.class);
+    assertions = new ReaderAssert(new StringReader("Yoda"));
+    assertions.readers = readers;
+  }
+
+  @Test public void should_verify_that_actual_has_expected_size() {
+    assertions.hasSize(4);
+    verify(readers).assertHasSize(assertions.info, assertions.actual, 4);
+  }
+
+  @Test public void should_return_this() {
+    ReaderAssert returned = assertions.hasSize(4);
+    assertSame(assertions, returned);
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.api;
+
+import static junit.framework.Assert.assertSame;
+import static org.fest.util.Arrays.array;
+import static org.mockito.Mockito.*;
+
+import org.fest.assertions.internal.Strings;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link StringAssert#doesNotContainAny(String...)}</code>.
+ */
+public class StringAssert_doesNotContainAny_Test {
+
+  private Strings strings;
+  private StringAssert assertions;
+
+  @Before public void setUp() {
+    strings = mock(Strings.class);
+    assertions = new StringAssert("Yoda");
+    assertions.strings = strings;
+  }
+
+  @Test public void should_verify_that_actual_does_not_contain_any_sequence() {
+    assertions.doesNotContainAny("Yo", "da");
+    verify(strings).assertDoesNotContainAny(assertions.info, assertions.actual, array("Yo", "da"));
+  }
+
+  @Test public void should_return_this() {
+    StringAssert returned = assertions.doesNotContainAny("Yo", "da");
+    assertSame(assertions, returned);
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.condition;
+
+import static junit.framework.Assert.*;
+import static org.fest.util.Arrays.array;
+import static org.fest.util.Collections.list;
+
+import java.util.*;
+
+import org.junit.Test;
+
+import org.fest.assertions.core.*;
+
+/**
+ * Tests for <code>{@link AnyOf#anyOfEvaluatedByCost(Condition...)}</code> and
+ * <code>{@link AnyOf#anyOfEvaluatedByCost(Collection)}</code>.
+ */
+public class AnyOf_anyOfEvaluatedByCost_Test {
+
+  @SuppressWarnings("unchecked")
+  @Test public void should_create_new_AnyOf_evaluated_by_cost_with_passed_Conditions() {
+    Condition<Object>[] conditions = array(new TestCondition<Object>(), new TestCondition<Object>());
+    AnyOf<Object> anyOf = AnyOf.anyOfEvaluatedByCost(conditions);
+    assertEquals(list(conditions), anyOf.conditions);
+    assertTrue(anyOf.evaluatedByCost);
+  }
+
+  @Test public void should_create_new_AnyOf_evaluated_by_cost_with_passed_Collection_of_Conditions() {
+    Collection<Condition<Object>> conditions = new ArrayList<Condition<Object>>();
+    conditions.add(new TestCondition<Object>());
+    AnyOf<Object> anyOf = AnyOf.anyOfEvaluatedByCost(conditions);
+    assertEquals(conditions, anyOf.conditions);
+    assertTrue(anyOf.evaluatedByCost);
+  }
+}
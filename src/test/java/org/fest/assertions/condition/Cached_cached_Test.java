@@ -0,0 +1,49 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.condition;
+
+import static junit.framework.Assert.*;
+import static org.fest.assertions.condition.Cached.*;
+import static org.fest.assertions.test.ExpectedException.none;
+
+import org.junit.*;
+
+import org.fest.assertions.core.TestCondition;
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link Cached#cached(org.fest.assertions.core.Condition)}</code> and its variants.
+ */
+public class Cached_cached_Test {
+
+  @Rule public ExpectedException thrown = none();
+
+  @Test public void should_create_new_Cached_with_description_of_given_condition() {
+    TestCondition<Object> condition = new TestCondition<Object>("a Jedi");
+    Cached<Object> cached = cached(condition);
+    assertSame(condition, cached.condition);
+    assertEquals("a Jedi", cached.toString());
+  }
+
+  @Test public void should_throw_error_if_condition_is_null() {
+    thrown.expectNullPointerException("The condition to cache should not be null");
+    cached(null);
+  }
+
+  @Test public void should_throw_error_if_maximum_size_is_negative() {
+    thrown.expectIllegalArgumentException("The maximum size of the cache should not be negative");
+    cachedByIdentity(new TestCondition<Object>(), -1);
+  }
+}
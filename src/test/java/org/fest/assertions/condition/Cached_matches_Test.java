@@ -0,0 +1,97 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.condition;
+
+import static junit.framework.Assert.*;
+import static org.fest.assertions.condition.Cached.*;
+
+import org.junit.*;
+
+import org.fest.assertions.core.Condition;
+
+/**
+ * Tests for <code>{@link Cached#matches(Object)}</code>.
+ */
+public class Cached_matches_Test {
+
+  private CountingCondition condition;
+
+  @Before public void setUp() {
+    condition = new CountingCondition();
+  }
+
+  @Test public void should_evaluate_condition_once_per_equal_value() {
+    Cached<String> cached = cached(condition);
+    assertTrue(cached.matches("Yoda"));
+    assertTrue(cached.matches(new String("Yoda")));
+    assertFalse(cached.matches("Luke"));
+    assertFalse(cached.matches("Luke"));
+    assertEquals(2, condition.evaluations);
+  }
+
+  @Test public void should_evaluate_condition_once_per_identical_value_if_cached_by_identity() {
+    Cached<String> cached = cachedByIdentity(condition);
+    String yoda = "Yoda";
+    assertTrue(cached.matches(yoda));
+    assertTrue(cached.matches(yoda));
+    assertTrue(cached.matches(new String("Yoda")));
+    assertEquals(2, condition.evaluations);
+  }
+
+  @Test public void should_remember_result_for_null() {
+    Cached<String> cached = cached(condition);
+    assertFalse(cached.matches(null));
+    assertFalse(cached.matches(null));
+    assertEquals(1, condition.evaluations);
+  }
+
+  @Test public void should_evict_least_recently_used_result_when_full() {
+    Cached<String> cached = cached(condition, 2);
+    cached.matches("Yoda");
+    cached.matches("Luke");
+    cached.matches("Yoda");
+    cached.matches("Leia");
+    assertEquals(2, cached.size());
+    cached.matches("Yoda");
+    assertEquals(3, condition.evaluations);
+    cached.matches("Luke");
+    assertEquals(4, condition.evaluations);
+  }
+
+  @Test public void should_not_remember_results_if_maximum_size_is_zero() {
+    Cached<String> cached = cached(condition, 0);
+    cached.matches("Yoda");
+    cached.matches("Yoda");
+    assertEquals(2, condition.evaluations);
+    assertEquals(0, cached.size());
+  }
+
+  @Test public void should_evaluate_condition_again_once_cleared() {
+    Cached<String> cached = cached(condition);
+    cached.matches("Yoda");
+    cached.clear();
+    cached.matches("Yoda");
+    assertEquals(2, condition.evaluations);
+  }
+
+  private static class CountingCondition extends Condition<String> {
+    int evaluations;
+
+    @Override public boolean matches(String value) {
+      evaluations++;
+      return "Yoda".equals(value);
+    }
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.condition;
+
+import static junit.framework.Assert.*;
+import static org.fest.assertions.condition.AllOf.*;
+import static org.fest.assertions.condition.AnyOf.anyOfEvaluatedByCost;
+import static org.fest.assertions.test.ExpectedException.none;
+
+import org.junit.*;
+
+import org.fest.assertions.core.Condition;
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link Join#evaluatedByCost(double...)}</code>.
+ */
+public class Join_evaluatedByCost_Test {
+
+  @Rule public ExpectedException thrown = none();
+
+  private CountingCondition alwaysTrue;
+  private CountingCondition alwaysFalse;
+
+  @Before public void setUp() {
+    alwaysTrue = new CountingCondition("always true", true);
+    alwaysFalse = new CountingCondition("always false", false);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test public void should_evaluate_conditions_in_given_order_by_default() {
+    Condition<Object> allOf = allOf(alwaysTrue, alwaysFalse);
+    for (int i = 0; i < 1000; i++)
+      assertFalse(allOf.matches("Yoda"));
+    assertEquals(1000, alwaysTrue.evaluations);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test public void should_evaluate_cheapest_condition_first_according_to_cost_hints() {
+    CountingCondition otherAlwaysFalse = new CountingCondition("other always false", false);
+    Condition<Object> allOf = allOfEvaluatedByCost(alwaysFalse, otherAlwaysFalse).evaluatedByCost(1000, 1);
+    assertFalse(allOf.matches("Yoda"));
+    assertEquals(0, alwaysFalse.evaluations);
+    assertEquals(1, otherAlwaysFalse.evaluations);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test public void should_evaluate_condition_deciding_all_of_most_often_first() {
+    Condition<Object> allOf = allOfEvaluatedByCost(alwaysTrue, alwaysFalse).evaluatedByCost(1, 1);
+    for (int i = 0; i < 1000; i++)
+      assertFalse(allOf.matches("Yoda"));
+    alwaysTrue.evaluations = 0;
+    for (int i = 0; i < 1000; i++)
+      assertFalse(allOf.matches("Yoda"));
+    assertEquals(0, alwaysTrue.evaluations);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test public void should_evaluate_condition_deciding_any_of_most_often_first() {
+    Condition<Object> anyOf = anyOfEvaluatedByCost(alwaysFalse, alwaysTrue).evaluatedByCost(1, 1);
+    for (int i = 0; i < 1000; i++)
+      assertTrue(anyOf.matches("Yoda"));
+    alwaysFalse.evaluations = 0;
+    for (int i = 0; i < 1000; i++)
+      assertTrue(anyOf.matches("Yoda"));
+    assertEquals(0, alwaysFalse.evaluations);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test public void should_evaluate_all_conditions_when_needed_if_costs_are_measured() {
+    CountingCondition otherAlwaysTrue = new CountingCondition("other always true", true);
+    Condition<Object> allOf = allOfEvaluatedByCost(alwaysTrue, otherAlwaysTrue);
+    for (int i = 0; i < 1000; i++)
+      assertTrue(allOf.matches("Yoda"));
+    assertEquals(1000, alwaysTrue.evaluations);
+    assertEquals(1000, otherAlwaysTrue.evaluations);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test public void should_keep_description_in_given_order() {
+    Condition<Object> allOf = allOfEvaluatedByCost(alwaysTrue, alwaysFalse).evaluatedByCost(1000, 1);
+    for (int i = 0; i < 1000; i++)
+      allOf.matches("Yoda");
+    assertEquals("all of:<[always true, always false]>", allOf.toString());
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test public void should_throw_error_if_number_of_cost_hints_is_not_number_of_conditions() {
+    thrown.expectIllegalArgumentException("Expecting one cost hint per condition (2) but got 1");
+    allOfEvaluatedByCost(alwaysTrue, alwaysFalse).evaluatedByCost(1);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test public void should_throw_error_if_one_cost_hint_is_negative() {
+    thrown.expectIllegalArgumentException("The cost hints should not be negative");
+    allOfEvaluatedByCost(alwaysTrue, alwaysFalse).evaluatedByCost(1, -1);
+  }
+
+  private static class CountingCondition extends Condition<Object> {
+    private final boolean matches;
+    int evaluations;
+
+    CountingCondition(String description, boolean matches) {
+      super(description);
+      this.matches = matches;
+    }
+
+    @Override public boolean matches(Object value) {
+      evaluations++;
+      return matches;
+    }
+  }
+}
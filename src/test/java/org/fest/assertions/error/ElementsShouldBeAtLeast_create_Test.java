@@ -0,0 +1,38 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import static junit.framework.Assert.assertEquals;
+
+import static org.fest.assertions.error.ElementsShouldBeAtLeast.elementsShouldBeAtLeast;
+import static org.fest.util.Collections.list;
+
+import org.junit.Test;
+
+import org.fest.assertions.core.TestCondition;
+import org.fest.assertions.description.*;
+
+/**
+ * Tests for <code>{@link ElementsShouldBeAtLeast#create(Description)}</code>.
+ */
+public class ElementsShouldBeAtLeast_create_Test {
+
+  @Test
+  public void should_create_error_message() {
+    ErrorMessageFactory factory = elementsShouldBeAtLeast(list("Yoda", "Vader"), 2, 1, new TestCondition<String>("Jedi"));
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expecting at least 2 elements of:<['Yoda', 'Vader']> to be:<Jedi> but only 1 were", message);
+  }
+}
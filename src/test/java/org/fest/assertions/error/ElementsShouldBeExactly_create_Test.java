@@ -0,0 +1,45 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import static junit.framework.Assert.assertEquals;
+
+import static org.fest.assertions.error.ElementsShouldBeExactly.elementsShouldBeExactly;
+import static org.fest.util.Collections.list;
+
+import org.junit.Test;
+
+import org.fest.assertions.core.TestCondition;
+import org.fest.assertions.description.*;
+
+/**
+ * Tests for <code>{@link ElementsShouldBeExactly#create(Description)}</code>.
+ */
+public class ElementsShouldBeExactly_create_Test {
+
+  @Test
+  public void should_create_error_message_if_less_elements_satisfy_condition() {
+    ErrorMessageFactory factory = elementsShouldBeExactly(list("Yoda", "Vader"), 2, 1, new TestCondition<String>("Jedi"));
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expecting exactly 2 elements of:<['Yoda', 'Vader']> to be:<Jedi> but only 1 were", message);
+  }
+
+  @Test
+  public void should_create_error_message_if_more_elements_satisfy_condition() {
+    ErrorMessageFactory factory = elementsShouldBeExactly(list("Yoda", "Luke"), 1, 2, new TestCondition<String>("Jedi"));
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expecting exactly 1 elements of:<['Yoda', 'Luke']> to be:<Jedi> but more were", message);
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import static junit.framework.Assert.assertEquals;
+
+import static org.fest.assertions.error.ElementsShouldNotBe.elementsShouldNotBe;
+import static org.fest.util.Collections.list;
+
+import org.junit.Test;
+
+import org.fest.assertions.core.TestCondition;
+import org.fest.assertions.description.*;
+
+/**
+ * Tests for <code>{@link ElementsShouldNotBe#create(Description)}</code>.
+ */
+public class ElementsShouldNotBe_create_Test {
+
+  @Test
+  public void should_create_error_message() {
+    ErrorMessageFactory factory = elementsShouldNotBe(list("Vader", "Yoda"), 1, "Yoda", new TestCondition<String>("Jedi"));
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expecting no elements of:<['Vader', 'Yoda']> to be:<Jedi> but element at index 1:<'Yoda'> was", message);
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import static junit.framework.Assert.assertEquals;
+
+import static org.fest.assertions.error.IteratorShouldStartWith.iteratorShouldStartWith;
+import static org.fest.util.Arrays.array;
+
+import org.junit.Test;
+
+import org.fest.assertions.description.*;
+
+/**
+ * Tests for <code>{@link IteratorShouldStartWith#create(Description)}</code>.
+ */
+public class IteratorShouldStartWith_create_Test {
+
+  @Test public void should_create_error_message_with_element_not_matching_sequence() {
+    ErrorMessageFactory factory = iteratorShouldStartWith(array("Yoda", "Luke"), 1, "Leia");
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expecting iterator to start with:<['Yoda', 'Luke']> but found element at index 1:<'Leia'>",
+        message);
+  }
+
+  @Test public void should_create_error_message_with_size_smaller_than_sequence() {
+    ErrorMessageFactory factory = iteratorShouldStartWith(array("Yoda", "Luke"), 1);
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expecting iterator to start with:<['Yoda', 'Luke']> but it only had 1 elements", message);
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import static junit.framework.Assert.assertEquals;
+
+import static org.fest.assertions.error.ShouldBeCompletedWithValueMatching.*;
+
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.fest.assertions.core.TestCondition;
+import org.fest.assertions.description.*;
+
+/**
+ * Tests for <code>{@link ShouldBeCompletedWithValueMatching#create(Description)}</code>.
+ */
+public class ShouldBeCompletedWithValueMatching_create_Test {
+
+  private TestCondition<String> condition;
+
+  @Before public void setUp() {
+    condition = new TestCondition<String>("Jedi");
+  }
+
+  @Test public void should_create_error_message_for_future_not_completed() {
+    ErrorMessageFactory factory = shouldBeCompleted(condition);
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expecting future to be completed with a value matching:<Jedi> but it was not completed",
+        message);
+  }
+
+  @Test public void should_create_error_message_for_failed_future() {
+    ErrorMessageFactory factory = shouldBeCompletedSuccessfully(condition, new IOException("disconnected"));
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expecting future to be completed with a value matching:<Jedi> but it failed with:"
+        + "<java.io.IOException: disconnected>", message);
+  }
+
+  @Test public void should_create_error_message_for_value_not_matching() {
+    ErrorMessageFactory factory = shouldBeCompletedWithValueMatching(condition, "Yoda");
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expecting future to be completed with a value matching:<Jedi> but it was completed with:"
+        + "<'Yoda'>", message);
+  }
+}
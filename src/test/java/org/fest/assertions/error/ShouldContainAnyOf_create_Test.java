@@ -0,0 +1,50 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import static junit.framework.Assert.assertEquals;
+import static org.fest.assertions.error.ShouldContainAnyOf.shouldContainAnyOf;
+import static org.fest.util.Arrays.array;
+
+import org.junit.Test;
+
+import org.fest.assertions.description.Description;
+import org.fest.assertions.description.TextDescription;
+import org.fest.assertions.util.CaseInsensitiveStringComparator;
+import org.fest.util.ComparatorBasedComparisonStrategy;
+
+/**
+ * Tests for <code>{@link ShouldContainAnyOf#create(Description)}</code>.
+ */
+public class ShouldContainAnyOf_create_Test {
+
+  private ErrorMessageFactory factory;
+
+  @Test
+  public void should_create_error_message() {
+    factory = shouldContainAnyOf("Yoda", array("Luke", "Leia"));
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expecting:<'Yoda'> to contain any of:<['Luke', 'Leia']>", message);
+  }
+
+  @Test
+  public void should_create_error_message_with_custom_comparison_strategy() {
+    factory = shouldContainAnyOf("Yoda", array("Luke", "Leia"), new ComparatorBasedComparisonStrategy(
+        CaseInsensitiveStringComparator.instance));
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expecting:<'Yoda'> to contain any of:<['Luke', 'Leia']> "
+        + "according to 'CaseInsensitiveStringComparator' comparator", message);
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import static junit.framework.Assert.assertEquals;
+
+import static org.fest.assertions.error.ShouldContainValues.shouldContainValues;
+import static org.fest.util.Arrays.array;
+import static org.fest.util.Collections.*;
+
+import org.junit.Test;
+
+import org.fest.assertions.description.*;
+
+/**
+ * Tests for <code>{@link ShouldContainValues#create(Description)}</code>.
+ */
+public class ShouldContainValues_create_Test {
+
+  @Test public void should_create_error_message() {
+    ErrorMessageFactory factory = shouldContainValues(3, array("Yoda", "Luke"), set("Luke"));
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expecting map of size:<3> "
+        + "to contain values:<['Yoda', 'Luke']> but could not find:<['Luke']>", message);
+  }
+}
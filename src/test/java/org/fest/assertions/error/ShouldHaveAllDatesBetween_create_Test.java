@@ -0,0 +1,38 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import static junit.framework.Assert.assertEquals;
+
+import static org.fest.assertions.error.ShouldHaveAllDatesBetween.shouldHaveAllDatesBetween;
+import static org.fest.util.Dates.parse;
+
+import org.junit.Test;
+
+import org.fest.assertions.description.*;
+
+/**
+ * Tests for <code>{@link ShouldHaveAllDatesBetween#create(Description)}</code>.
+ */
+public class ShouldHaveAllDatesBetween_create_Test {
+
+  @Test
+  public void should_create_error_message() {
+    ErrorMessageFactory factory = shouldHaveAllDatesBetween(2, parse("2012-01-01"), parse("2011-01-01"), parse("2011-12-31"),
+        true, false);
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expected all dates to be in period [2011-01-01T00:00:00, 2011-12-31T00:00:00[ but date at index 2:<2012-01-01T00:00:00> was not", message);
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import static junit.framework.Assert.assertEquals;
+
+import static org.fest.assertions.data.MapEntry.entry;
+import static org.fest.assertions.error.ShouldHaveSameEntries.shouldHaveSameEntries;
+import static org.fest.assertions.test.MapFactory.map;
+import static org.fest.util.Collections.list;
+
+import java.util.*;
+
+import org.junit.Test;
+
+import org.fest.assertions.description.*;
+
+/**
+ * Tests for <code>{@link ShouldHaveSameEntries#create(Description)}</code>.
+ */
+public class ShouldHaveSameEntries_create_Test {
+
+  @Test public void should_create_error_message_with_all_differences() {
+    ErrorMessageFactory factory = shouldHaveSameEntries(3, 3, 3, list("planet"), list("color"),
+        map(entry("name", "Luke")), map(entry("name", "Yoda")));
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expecting map of size:<3> to have the same entries as map of size:<3> but found 3 "
+        + "difference(s): missing keys:<['planet']>, unexpected keys:<['color']>, "
+        + "values expected:<{'name'='Luke'}> but were:<{'name'='Yoda'}>", message);
+  }
+
+  @Test public void should_create_error_message_without_empty_differences() {
+    ErrorMessageFactory factory = shouldHaveSameEntries(2, 1, 1, new ArrayList<Object>(), list("color"),
+        new HashMap<Object, Object>(), new HashMap<Object, Object>());
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expecting map of size:<2> to have the same entries as map of size:<1> but found 1 "
+        + "difference(s): unexpected keys:<['color']>", message);
+  }
+
+  @Test public void should_create_error_message_mentioning_that_only_first_differences_are_shown() {
+    ErrorMessageFactory factory = shouldHaveSameEntries(100, 50, 60, list("a", "b"), new ArrayList<Object>(),
+        new HashMap<Object, Object>(), new HashMap<Object, Object>());
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expecting map of size:<100> to have the same entries as map of size:<50> but found 60 "
+        + "difference(s): missing keys:<['a', 'b']> (only the first 2 differences are shown)", message);
+  }
+}
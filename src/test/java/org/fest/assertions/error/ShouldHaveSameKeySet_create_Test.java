@@ -0,0 +1,53 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import static junit.framework.Assert.assertEquals;
+
+import static org.fest.assertions.error.ShouldHaveSameKeySet.shouldHaveSameKeySet;
+import static org.fest.util.Collections.list;
+
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+import org.fest.assertions.description.*;
+
+/**
+ * Tests for <code>{@link ShouldHaveSameKeySet#create(Description)}</code>.
+ */
+public class ShouldHaveSameKeySet_create_Test {
+
+  @Test public void should_create_error_message_with_missing_and_unexpected_keys() {
+    ErrorMessageFactory factory = shouldHaveSameKeySet(3, 2, 3, list("job"), list("color", "planet"));
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expecting map of size:<3> to have the same keys as map of size:<2> but found 3 difference(s):"
+        + " missing keys:<['job']>, unexpected keys:<['color', 'planet']>", message);
+  }
+
+  @Test public void should_create_error_message_with_unexpected_keys_only() {
+    ErrorMessageFactory factory = shouldHaveSameKeySet(2, 1, 1, new ArrayList<Object>(), list("color"));
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expecting map of size:<2> to have the same keys as map of size:<1> but found 1 difference(s):"
+        + " unexpected keys:<['color']>", message);
+  }
+
+  @Test public void should_create_error_message_mentioning_that_only_first_differences_are_shown() {
+    ErrorMessageFactory factory = shouldHaveSameKeySet(3, 100, 103, list("a", "b"), new ArrayList<Object>());
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expecting map of size:<3> to have the same keys as map of size:<100> but found 103 "
+        + "difference(s): missing keys:<['a', 'b']> (only the first 2 differences are shown)", message);
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.error;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import static junit.framework.Assert.assertEquals;
+
+import static org.fest.assertions.error.ShouldSucceedWithin.shouldSucceedWithin;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+import org.fest.assertions.description.*;
+
+/**
+ * Tests for <code>{@link ShouldSucceedWithin#create(Description)}</code>.
+ */
+public class ShouldSucceedWithin_create_Test {
+
+  @Test public void should_create_error_message_for_future_not_completed() {
+    ErrorMessageFactory factory = shouldSucceedWithin(2, SECONDS);
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expecting future to succeed within <2 SECONDS> but it was not completed", message);
+  }
+
+  @Test public void should_create_error_message_for_failed_future() {
+    ErrorMessageFactory factory = shouldSucceedWithin(2, SECONDS, new IOException("disconnected"));
+    String message = factory.create(new TextDescription("Test"));
+    assertEquals("[Test] expecting future to succeed within <2 SECONDS> but it failed with:"
+        + "<java.io.IOException: disconnected>", message);
+  }
+}
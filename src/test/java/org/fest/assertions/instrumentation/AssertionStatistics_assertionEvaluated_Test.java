@@ -0,0 +1,87 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.instrumentation;
+
+import static junit.framework.Assert.*;
+
+import java.util.List;
+
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link AssertionStatistics#assertionEvaluated(String, int, long, boolean)}</code>.
+ */
+public class AssertionStatistics_assertionEvaluated_Test {
+
+  private AssertionStatistics statistics;
+
+  @Before public void setUp() {
+    statistics = new AssertionStatistics();
+  }
+
+  @Test public void should_count_passed_and_failed_evaluations() {
+    statistics.assertionEvaluated("Iterables.assertContains", 3, 100, true);
+    statistics.assertionEvaluated("Iterables.assertContains", 5, 300, false);
+    statistics.assertionEvaluated("Iterables.assertContains", -1, 200, true);
+    AssertionStatistics.Entry entry = statistics.statisticsOf("Iterables.assertContains");
+    assertEquals(2, entry.passed());
+    assertEquals(1, entry.failed());
+    assertEquals(8, entry.elements());
+    assertEquals(3, entry.latencies().count());
+    assertEquals(600, entry.latencies().total());
+    assertEquals(0, entry.failureMessages().count());
+  }
+
+  @Test public void should_return_null_for_assertion_not_evaluated() {
+    assertNull(statistics.statisticsOf("Objects.assertEqual"));
+  }
+
+  @Test public void should_sort_statistics_by_total_time() {
+    statistics.assertionEvaluated("Objects.assertEqual", -1, 100, true);
+    statistics.assertionEvaluated("Strings.assertContains", 4, 500, true);
+    statistics.assertionEvaluated("Objects.assertEqual", -1, 100, true);
+    List<AssertionStatistics.Entry> byTotalTime = statistics.byTotalTime();
+    assertEquals(2, byTotalTime.size());
+    assertEquals("Strings.assertContains", byTotalTime.get(0).assertion());
+    assertEquals("Objects.assertEqual", byTotalTime.get(1).assertion());
+    assertTrue(statistics.toString().startsWith("Strings.assertContains: passed=1, failed=0, elements=4, total=500ns"));
+  }
+
+  @Test public void should_count_concurrent_evaluations() throws Exception {
+    Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread() {
+        @Override public void run() {
+          for (int j = 0; j < 1000; j++)
+            statistics.assertionEvaluated("Objects.assertEqual", -1, j, true);
+        }
+      };
+      threads[i].start();
+    }
+    for (Thread thread : threads)
+      thread.join();
+    assertEquals(4000, statistics.statisticsOf("Objects.assertEqual").passed());
+    assertEquals(4000, statistics.statisticsOf("Objects.assertEqual").latencies().count());
+    assertEquals(999, statistics.statisticsOf("Objects.assertEqual").latencies().max());
+  }
+
+  @Test public void should_forget_statistics_when_reset() {
+    statistics.assertionEvaluated("Objects.assertEqual", -1, 100, true);
+    statistics.failureMessageRendered("Objects.assertEqual", 10, 100);
+    statistics.reset();
+    assertTrue(statistics.byTotalTime().isEmpty());
+    assertEquals("", statistics.toString());
+  }
+}
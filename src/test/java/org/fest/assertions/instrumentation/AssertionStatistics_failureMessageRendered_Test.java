@@ -0,0 +1,60 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.instrumentation;
+
+import static junit.framework.Assert.*;
+
+import java.util.List;
+
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link AssertionStatistics#failureMessageRendered(String, int, long)}</code>.
+ */
+public class AssertionStatistics_failureMessageRendered_Test {
+
+  private AssertionStatistics statistics;
+
+  @Before public void setUp() {
+    statistics = new AssertionStatistics();
+  }
+
+  @Test public void should_count_failure_messages_and_their_characters() {
+    statistics.failureMessageRendered("Iterables.assertContains", 30, 100);
+    statistics.failureMessageRendered("Iterables.assertContains", 12, 300);
+    AssertionStatistics.Entry entry = statistics.statisticsOf("Iterables.assertContains");
+    assertEquals(42, entry.characters());
+    assertEquals(2, entry.failureMessages().count());
+    assertEquals(400, entry.failureMessages().total());
+    assertEquals(0, entry.failed());
+    assertEquals(0, entry.latencies().count());
+  }
+
+  @Test public void should_report_failure_messages_after_evaluations() {
+    statistics.assertionEvaluated("Objects.assertEqual", 4, 100, false);
+    statistics.failureMessageRendered("Objects.assertEqual", 30, 200);
+    assertTrue(statistics.toString().startsWith("Objects.assertEqual: passed=0, failed=1, elements=4, total=100ns"));
+    assertTrue(statistics.toString().contains(", failure messages: count=1, characters=30, total=200ns, max=200ns"));
+  }
+
+  @Test public void should_count_failure_messages_in_total_time() {
+    statistics.assertionEvaluated("Objects.assertEqual", -1, 300, true);
+    statistics.assertionEvaluated("Strings.assertContains", 4, 200, false);
+    statistics.failureMessageRendered("Strings.assertContains", 40, 200);
+    List<AssertionStatistics.Entry> byTotalTime = statistics.byTotalTime();
+    assertEquals("Strings.assertContains", byTotalTime.get(0).assertion());
+    assertEquals("Objects.assertEqual", byTotalTime.get(1).assertion());
+  }
+}
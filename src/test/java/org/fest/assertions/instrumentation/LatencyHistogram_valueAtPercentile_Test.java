@@ -0,0 +1,86 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.instrumentation;
+
+import static junit.framework.Assert.assertEquals;
+
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link LatencyHistogram#valueAtPercentile(double)}</code>.
+ */
+public class LatencyHistogram_valueAtPercentile_Test {
+
+  private LatencyHistogram histogram;
+
+  @Before public void setUp() {
+    histogram = new LatencyHistogram();
+  }
+
+  @Test public void should_return_zero_if_no_duration_has_been_recorded() {
+    assertEquals(0, histogram.valueAtPercentile(50));
+  }
+
+  @Test public void should_return_exact_values_for_short_durations() {
+    for (long duration = 1; duration <= 50; duration++)
+      histogram.record(duration);
+    assertEquals(25, histogram.valueAtPercentile(50));
+    assertEquals(50, histogram.valueAtPercentile(100));
+    assertEquals(1, histogram.valueAtPercentile(0));
+  }
+
+  @Test public void should_return_values_within_precision_for_long_durations() {
+    for (int i = 0; i < 99; i++)
+      histogram.record(1000000);
+    histogram.record(5000000000L);
+    assertWithinPrecision(1000000, histogram.valueAtPercentile(50));
+    assertWithinPrecision(1000000, histogram.valueAtPercentile(99));
+    assertEquals(5000000000L, histogram.valueAtPercentile(100));
+  }
+
+  @Test public void should_record_negative_durations_as_zero() {
+    histogram.record(-8);
+    assertEquals(0, histogram.valueAtPercentile(100));
+    assertEquals(1, histogram.count());
+  }
+
+  @Test public void should_keep_count_total_and_max() {
+    histogram.record(10);
+    histogram.record(30);
+    assertEquals(2, histogram.count());
+    assertEquals(40, histogram.total());
+    assertEquals(30, histogram.max());
+    assertEquals(20d, histogram.mean());
+  }
+
+  @Test public void should_forget_recorded_durations_when_reset() {
+    histogram.record(10);
+    histogram.reset();
+    assertEquals(0, histogram.count());
+    assertEquals(0, histogram.max());
+    assertEquals(0, histogram.valueAtPercentile(100));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_percentile_is_greater_than_100() {
+    histogram.valueAtPercentile(101);
+  }
+
+  private static void assertWithinPrecision(long expected, long actual) {
+    long error = Math.abs(actual - expected);
+    if (error * LatencyHistogram.SUB_BUCKET_COUNT > expected)
+      throw new AssertionError(actual + " is not close to " + expected);
+  }
+}
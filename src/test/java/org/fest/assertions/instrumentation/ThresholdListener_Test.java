@@ -0,0 +1,78 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.instrumentation;
+
+import static junit.framework.Assert.assertEquals;
+
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link ThresholdListener}</code>.
+ */
+public class ThresholdListener_Test {
+
+  private AssertionStatistics statistics;
+  private ThresholdListener listener;
+
+  @Before public void setUp() {
+    statistics = new AssertionStatistics();
+    listener = new ThresholdListener(100, statistics);
+  }
+
+  @Test public void should_only_forward_evaluations_taking_at_least_threshold() {
+    listener.assertionEvaluated("Objects.assertEqual", 1, 99, true);
+    listener.assertionEvaluated("Objects.assertEqual", 2, 100, true);
+    listener.assertionEvaluated("Objects.assertEqual", 3, 250, false);
+    assertEquals(1, statistics.statisticsOf("Objects.assertEqual").passed());
+    assertEquals(1, statistics.statisticsOf("Objects.assertEqual").failed());
+    assertEquals(5, statistics.statisticsOf("Objects.assertEqual").elements());
+  }
+
+  @Test public void should_only_forward_failure_messages_taking_at_least_threshold() {
+    listener.failureMessageRendered("Objects.assertEqual", 10, 99);
+    listener.failureMessageRendered("Objects.assertEqual", 20, 100);
+    listener.failureMessageRendered("Objects.assertEqual", 30, 250);
+    assertEquals(2, statistics.statisticsOf("Objects.assertEqual").failureMessages().count());
+    assertEquals(50, statistics.statisticsOf("Objects.assertEqual").characters());
+  }
+
+  @Test public void should_filter_evaluations_and_failure_messages_with_their_own_threshold() {
+    listener = new ThresholdListener(100, 1000, statistics);
+    listener.assertionEvaluated("Iterables.assertContains", 50000, 500, false);
+    listener.failureMessageRendered("Iterables.assertContains", 300000, 500);
+    listener.failureMessageRendered("Iterables.assertContains", 400000, 1000);
+    AssertionStatistics.Entry entry = statistics.statisticsOf("Iterables.assertContains");
+    assertEquals(1, entry.failed());
+    assertEquals(50000, entry.elements());
+    assertEquals(500, entry.latencies().total());
+    assertEquals(1, entry.failureMessages().count());
+    assertEquals(400000, entry.characters());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_threshold_is_negative() {
+    new ThresholdListener(-1, statistics);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_failure_message_threshold_is_negative() {
+    new ThresholdListener(100, -1, statistics);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_listener_is_null() {
+    new ThresholdListener(100, null);
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.mockito.Mockito.spy;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+
+import org.junit.Before;
+import org.junit.Rule;
+
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Base class for tests of <code>{@link Futures}</code>.
+ */
+public class AbstractTest_for_Futures {
+
+  @Rule
+  public ExpectedException thrown = none();
+
+  protected Failures failures;
+  protected Futures futures;
+
+  @Before
+  public void setUp() {
+    failures = spy(new Failures());
+    futures = new Futures();
+    futures.failures = failures;
+  }
+
+  protected static FutureTask<String> completedWith(final String value) {
+    FutureTask<String> future = notCompleted(value);
+    future.run();
+    return future;
+  }
+
+  protected static FutureTask<String> failedWith(final Exception failure) {
+    FutureTask<String> future = new FutureTask<String>(new Callable<String>() {
+      public String call() throws Exception {
+        throw failure;
+      }
+    });
+    future.run();
+    return future;
+  }
+
+  protected static FutureTask<String> cancelled() {
+    FutureTask<String> future = notCompleted("Yoda");
+    future.cancel(false);
+    return future;
+  }
+
+  protected static FutureTask<String> notCompleted(final String value) {
+    return new FutureTask<String>(new Callable<String>() {
+      public String call() {
+        return value;
+      }
+    });
+  }
+}
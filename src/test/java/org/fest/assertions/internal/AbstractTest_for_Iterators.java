@@ -0,0 +1,75 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.test.ExpectedException.none;
+
+import static org.mockito.Mockito.spy;
+
+import java.util.Iterator;
+
+import org.junit.Before;
+import org.junit.Rule;
+
+import org.fest.assertions.test.ExpectedException;
+import org.fest.assertions.util.CaseInsensitiveStringComparator;
+import org.fest.util.ComparatorBasedComparisonStrategy;
+
+/**
+ * Base class for testing <code>{@link Iterators}</code>, set up an instance with the standard comparison strategy and
+ * another with a case insensitive one.
+ */
+public class AbstractTest_for_Iterators {
+
+  @Rule
+  public ExpectedException thrown = none();
+
+  protected Failures failures;
+  protected Iterators iterators;
+
+  protected ComparatorBasedComparisonStrategy comparisonStrategy;
+  protected Iterators iteratorsWithCaseInsensitiveComparisonStrategy;
+
+  @Before
+  public void setUp() {
+    failures = spy(new Failures());
+    iterators = new Iterators();
+    iterators.failures = failures;
+    comparisonStrategy = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+    iteratorsWithCaseInsensitiveComparisonStrategy = new Iterators(comparisonStrategy);
+    iteratorsWithCaseInsensitiveComparisonStrategy.failures = failures;
+  }
+
+  /**
+   * Returns an iterator over all integers from the given one, never running out of elements.
+   */
+  protected static Iterator<Integer> integersFrom(final int first) {
+    return new Iterator<Integer>() {
+      private int next = first;
+
+      public boolean hasNext() {
+        return true;
+      }
+
+      public Integer next() {
+        return next++;
+      }
+
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+}
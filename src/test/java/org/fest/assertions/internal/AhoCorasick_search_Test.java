@@ -0,0 +1,76 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static junit.framework.Assert.*;
+import static org.fest.util.Arrays.array;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link AhoCorasick#search(CharSequence, boolean[], int)}</code>.
+ */
+public class AhoCorasick_search_Test {
+
+  @Test public void should_find_all_needles_occurring_in_text() {
+    String[] needles = array("he", "she", "his", "hers");
+    boolean[] found = new boolean[needles.length];
+    int count = AhoCorasick.forNeedles(needles).search("ushers", found, needles.length);
+    assertEquals(3, count);
+    assertTrue(found[0]);
+    assertTrue(found[1]);
+    assertFalse(found[2]);
+    assertTrue(found[3]);
+  }
+
+  @Test public void should_find_needles_reachable_only_through_failure_links() {
+    String[] needles = array("abcd", "bc", "c");
+    boolean[] found = new boolean[needles.length];
+    int count = AhoCorasick.forNeedles(needles).search("xabcx", found, needles.length);
+    assertEquals(2, count);
+    assertFalse(found[0]);
+    assertTrue(found[1]);
+    assertTrue(found[2]);
+  }
+
+  @Test public void should_stop_searching_once_enough_needles_are_found() {
+    String[] needles = array("Yoda", "Luke", "Leia");
+    boolean[] found = new boolean[needles.length];
+    int count = AhoCorasick.forNeedles(needles).search("Yoda and Luke", found, 1);
+    assertEquals(1, count);
+    assertTrue(found[0]);
+    assertFalse(found[1]);
+  }
+
+  @Test public void should_find_duplicate_and_empty_needles() {
+    String[] needles = array("Yoda", "Yoda", "");
+    boolean[] found = new boolean[needles.length];
+    int count = AhoCorasick.forNeedles(needles).search("Yoda", found, needles.length);
+    assertEquals(3, count);
+  }
+
+  @Test public void should_not_find_anything_in_empty_text() {
+    String[] needles = array("Yoda");
+    boolean[] found = new boolean[needles.length];
+    assertEquals(0, AhoCorasick.forNeedles(needles).search("", found, needles.length));
+    assertFalse(found[0]);
+  }
+
+  @Test public void should_reuse_automaton_built_for_same_needles() {
+    AhoCorasick automaton = AhoCorasick.forNeedles(array("Yoda", "Luke"));
+    assertSame(automaton, AhoCorasick.forNeedles(array("Yoda", "Luke")));
+    assertEquals(2, automaton.needleCount());
+  }
+}
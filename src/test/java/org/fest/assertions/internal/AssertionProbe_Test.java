@@ -0,0 +1,180 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static junit.framework.Assert.*;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.fest.util.Collections.list;
+
+import java.util.*;
+
+import org.junit.*;
+
+import org.fest.assertions.description.Description;
+import org.fest.assertions.instrumentation.AssertionListener;
+import org.fest.assertions.instrumentation.Instrumentation;
+
+/**
+ * Tests for <code>{@link AssertionProbe}</code>, measuring the assertions of the internal classes.
+ */
+public class AssertionProbe_Test {
+
+  private RecordingListener listener;
+
+  @Before public void setUp() {
+    listener = new RecordingListener();
+    Instrumentation.setListener(listener);
+  }
+
+  @After public void tearDown() {
+    Instrumentation.removeListener();
+  }
+
+  @Test public void should_report_passed_assertion_with_size_of_actual_value() {
+    assertThat(list("Yoda", "Luke")).contains("Yoda");
+    assertEquals(list("Iterables.assertContains size=2 passed"), listener.events);
+    assertTrue(listener.durations.get(0) >= 0);
+  }
+
+  @Test public void should_report_assertion_on_array() {
+    assertThat(new int[] { 1, 2, 3 }).contains(2);
+    assertEquals(list("Arrays.assertContains size=3 passed"), listener.events);
+  }
+
+  @Test public void should_report_failed_assertion_and_its_failure_message() {
+    try {
+      assertThat("Yoda").startsWith("Luke");
+    } catch (AssertionError e) {
+      assertEquals(list("Strings.assertStartsWith message length=" + e.getMessage().length(),
+          "Strings.assertStartsWith size=4 failed"), listener.events);
+      return;
+    }
+    fail("AssertionError expected");
+  }
+
+  @Test public void should_only_report_outermost_assertion() {
+    try {
+      assertThat((List<String>) null).contains("Yoda");
+    } catch (AssertionError e) {
+      assertEquals(list("Iterables.assertContains message length=" + e.getMessage().length(),
+          "Iterables.assertContains size=-1 failed"), listener.events);
+      return;
+    }
+    fail("AssertionError expected");
+  }
+
+  @Test public void should_not_count_creation_of_failure_message_in_evaluation() {
+    try {
+      assertThat("Yoda").as(new SlowDescription()).isEqualTo("Luke");
+    } catch (AssertionError e) {
+      assertEquals("Objects.assertEqual size=4 failed", listener.events.get(1));
+      assertTrue(listener.durations.get(0) >= SlowDescription.DURATION_IN_NANOS);
+      assertTrue(listener.durations.get(1) < SlowDescription.DURATION_IN_NANOS);
+      return;
+    }
+    fail("AssertionError expected");
+  }
+
+  @Test public void should_name_failure_created_outside_of_measured_assertion_after_outermost_internal_method() {
+    try {
+      assertThat(new HashMap<String, String>()).hasSize(1);
+    } catch (AssertionError e) {
+      assertEquals(list("Objects.assertNotNull size=0 passed",
+          "Maps.assertHasSize message length=" + e.getMessage().length()), listener.events);
+      return;
+    }
+    fail("AssertionError expected");
+  }
+
+  @Test public void should_not_report_assertion_given_invalid_arguments() {
+    try {
+      assertThat(list("Yoda")).contains();
+    } catch (IllegalArgumentException e) {
+      assertTrue(listener.events.isEmpty());
+      return;
+    }
+    fail("IllegalArgumentException expected");
+  }
+
+  @Test public void should_report_assertions_following_one_given_invalid_arguments() {
+    try {
+      assertThat(list("Yoda")).contains();
+    } catch (IllegalArgumentException expected) {}
+    assertThat("Yoda").isEqualTo("Yoda");
+    assertEquals(list("Objects.assertEqual size=4 passed"), listener.events);
+  }
+
+  @Test public void should_not_report_assertions_once_listener_is_removed() {
+    Instrumentation.removeListener();
+    try {
+      assertThat("Yoda").isEqualTo("Luke");
+    } catch (AssertionError e) {
+      assertTrue(listener.events.isEmpty());
+      assertFalse(Instrumentation.isEnabled());
+      return;
+    }
+    fail("AssertionError expected");
+  }
+
+  @Test public void should_name_measured_assertion_after_caller_of_probe() {
+    StackTraceElement[] stack = { element(AssertionProbe.class, "begin"), element(Objects.class, "assertNotNull"),
+        element(Iterables.class, "assertContains") };
+    assertEquals("Objects.assertNotNull", AssertionProbe.nameOfCaller(stack));
+  }
+
+  @Test public void should_name_failure_after_outermost_method_of_internal_package() {
+    StackTraceElement[] stack = { element(AssertionProbe.class, "failureCreated"), element(Failures.class, "failure"),
+        element(Objects.class, "assertNotNull"), element(Iterables.class, "assertContains"),
+        element(String.class, "valueOf"), element(Objects.class, "assertEqual") };
+    assertEquals("Iterables.assertContains", AssertionProbe.assertionName(stack));
+  }
+
+  @Test public void should_name_failure_after_caller_of_failures_if_not_in_internal_package() {
+    StackTraceElement[] stack = { element(Failures.class, "failure"), element(String.class, "valueOf") };
+    assertEquals("String.valueOf", AssertionProbe.assertionName(stack));
+  }
+
+  private static StackTraceElement element(Class<?> type, String method) {
+    return new StackTraceElement(type.getName(), method, null, -1);
+  }
+
+  private static class RecordingListener implements AssertionListener {
+    final List<String> events = new ArrayList<String>();
+    final List<Long> durations = new ArrayList<Long>();
+
+    public void assertionEvaluated(String assertion, int size, long durationInNanos, boolean passed) {
+      events.add(assertion + " size=" + size + (passed ? " passed" : " failed"));
+      durations.add(durationInNanos);
+    }
+
+    public void failureMessageRendered(String assertion, int messageLength, long durationInNanos) {
+      events.add(assertion + " message length=" + messageLength);
+      durations.add(durationInNanos);
+    }
+  }
+
+  private static class SlowDescription extends Description {
+    static final long DURATION_IN_NANOS = 50000000;
+
+    @Override public String value() {
+      try {
+        Thread.sleep(DURATION_IN_NANOS / 1000000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return "slow";
+    }
+  }
+}
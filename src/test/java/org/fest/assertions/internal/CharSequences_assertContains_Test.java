@@ -0,0 +1,86 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.ShouldContainString.shouldContain;
+import static org.fest.assertions.test.ErrorMessages.sequenceToLookForIsNull;
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+
+import static org.mockito.Mockito.*;
+
+import org.junit.*;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link CharSequences#assertContains(AssertionInfo, CharSequence, String)}</code>.
+ */
+public class CharSequences_assertContains_Test {
+
+  @Rule public ExpectedException thrown = none();
+
+  private Failures failures;
+  private CharSequences charSequences;
+  private CharSequence actual;
+
+  @Before public void setUp() {
+    failures = spy(new Failures());
+    charSequences = new CharSequences();
+    charSequences.failures = failures;
+    actual = new StringBuilder("Yoda and Luke");
+  }
+
+  @Test public void should_fail_if_actual_does_not_contain_sequence() {
+    AssertionInfo info = someInfo();
+    try {
+      charSequences.assertContains(info, actual, "Leia");
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContain(actual, "Leia"));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_fail_if_sequence_is_longer_than_actual() {
+    AssertionInfo info = someInfo();
+    try {
+      charSequences.assertContains(info, actual, "Yoda and Luke and Leia");
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContain(actual, "Yoda and Luke and Leia"));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_throw_error_if_sequence_is_null() {
+    thrown.expectNullPointerException(sequenceToLookForIsNull());
+    charSequences.assertContains(someInfo(), actual, null);
+  }
+
+  @Test public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    charSequences.assertContains(someInfo(), null, "Yoda");
+  }
+
+  @Test public void should_pass_if_actual_contains_sequence() {
+    charSequences.assertContains(someInfo(), actual, "and");
+    charSequences.assertContains(someInfo(), actual, "Luke");
+    charSequences.assertContains(someInfo(), actual, "");
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.ShouldHaveSize.shouldHaveSize;
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+
+import static org.mockito.Mockito.*;
+
+import java.nio.CharBuffer;
+
+import org.junit.*;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link CharSequences#assertHasSize(AssertionInfo, CharSequence, int)}</code>.
+ */
+public class CharSequences_assertHasSize_Test {
+
+  @Rule public ExpectedException thrown = none();
+
+  private Failures failures;
+  private CharSequences charSequences;
+  private CharSequence actual;
+
+  @Before public void setUp() {
+    failures = spy(new Failures());
+    charSequences = new CharSequences();
+    charSequences.failures = failures;
+    actual = CharBuffer.wrap("Yoda");
+  }
+
+  @Test public void should_fail_if_size_of_actual_is_not_equal_to_expected_size() {
+    AssertionInfo info = someInfo();
+    try {
+      charSequences.assertHasSize(info, actual, 6);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSize(actual, 4, 6));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    charSequences.assertHasSize(someInfo(), null, 4);
+  }
+
+  @Test public void should_pass_if_size_of_actual_is_equal_to_expected_size() {
+    charSequences.assertHasSize(someInfo(), actual, 4);
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.ShouldStartWith.shouldStartWith;
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+
+import static org.mockito.Mockito.*;
+
+import org.junit.*;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link CharSequences#assertStartsWith(AssertionInfo, CharSequence, String)}</code>.
+ */
+public class CharSequences_assertStartsWith_Test {
+
+  @Rule public ExpectedException thrown = none();
+
+  private Failures failures;
+  private CharSequences charSequences;
+  private CharSequence actual;
+
+  @Before public void setUp() {
+    failures = spy(new Failures());
+    charSequences = new CharSequences();
+    charSequences.failures = failures;
+    actual = new StringBuilder("Yoda");
+  }
+
+  @Test public void should_fail_if_actual_does_not_start_with_prefix() {
+    AssertionInfo info = someInfo();
+    try {
+      charSequences.assertStartsWith(info, actual, "Luke");
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldStartWith(actual, "Luke"));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_fail_if_prefix_is_longer_than_actual() {
+    AssertionInfo info = someInfo();
+    try {
+      charSequences.assertStartsWith(info, actual, "Yoda and Luke");
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldStartWith(actual, "Yoda and Luke"));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_throw_error_if_prefix_is_null() {
+    thrown.expectNullPointerException("The given prefix should not be null");
+    charSequences.assertStartsWith(someInfo(), actual, null);
+  }
+
+  @Test public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    charSequences.assertStartsWith(someInfo(), null, "Yoda");
+  }
+
+  @Test public void should_pass_if_actual_starts_with_prefix() {
+    charSequences.assertStartsWith(someInfo(), actual, "Yo");
+    charSequences.assertStartsWith(someInfo(), actual, "Yoda");
+  }
+}
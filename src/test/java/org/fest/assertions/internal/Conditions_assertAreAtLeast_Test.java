@@ -0,0 +1,107 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.ElementsShouldBeAtLeast.elementsShouldBeAtLeast;
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Arrays.array;
+import static org.fest.util.Collections.list;
+
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.*;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.core.Condition;
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link Conditions#assertAreAtLeast(AssertionInfo, Iterable, int, Condition)}</code> and
+ * <code>{@link Conditions#assertAreAtLeast(AssertionInfo, Object[], int, Condition)}</code>.
+ */
+public class Conditions_assertAreAtLeast_Test {
+
+  @Rule public ExpectedException thrown = none();
+
+  private Failures failures;
+  private Conditions conditions;
+  private Condition<String> jedi;
+
+  @Before public void setUp() {
+    failures = spy(new Failures());
+    conditions = new Conditions();
+    conditions.failures = failures;
+    jedi = new Condition<String>("Jedi") {
+      @Override public boolean matches(String value) {
+        return value.startsWith("Jedi ");
+      }
+    };
+  }
+
+  @Test public void should_pass_if_enough_elements_satisfy_condition() {
+    conditions.assertAreAtLeast(someInfo(), list("Jedi Yoda", "Vader", "Jedi Luke"), 2, jedi);
+    conditions.assertAreAtLeast(someInfo(), array("Jedi Yoda", "Vader", "Jedi Luke"), 1, jedi);
+    conditions.assertAreAtLeast(someInfo(), list("Vader"), 0, jedi);
+  }
+
+  @Test public void should_stop_evaluating_once_enough_elements_satisfy_condition() {
+    // evaluating the null element would throw a NullPointerException
+    conditions.assertAreAtLeast(someInfo(), list("Jedi Yoda", "Jedi Luke", null), 2, jedi);
+  }
+
+  @Test public void should_fail_if_not_enough_elements_satisfy_condition() {
+    AssertionInfo info = someInfo();
+    List<String> actual = list("Jedi Yoda", "Vader", "Sidious");
+    try {
+      conditions.assertAreAtLeast(info, actual, 2, jedi);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, elementsShouldBeAtLeast(actual, 2, 1, jedi));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_fail_if_not_enough_elements_of_array_satisfy_condition() {
+    AssertionInfo info = someInfo();
+    String[] actual = array("Vader");
+    try {
+      conditions.assertAreAtLeast(info, actual, 1, jedi);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, elementsShouldBeAtLeast(actual, 1, 0, jedi));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_throw_error_if_number_of_elements_is_negative() {
+    thrown.expectIllegalArgumentException("The number of elements should not be negative");
+    conditions.assertAreAtLeast(someInfo(), list("Vader"), -1, jedi);
+  }
+
+  @Test public void should_throw_error_if_condition_is_null() {
+    thrown.expectNullPointerException("The condition to evaluate should not be null");
+    conditions.assertAreAtLeast(someInfo(), list("Vader"), 1, null);
+  }
+
+  @Test public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    conditions.assertAreAtLeast(someInfo(), (Iterable<?>) null, 1, jedi);
+  }
+}
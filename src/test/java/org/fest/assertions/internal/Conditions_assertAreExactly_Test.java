@@ -0,0 +1,115 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.ElementsShouldBeExactly.elementsShouldBeExactly;
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Arrays.array;
+import static org.fest.util.Collections.list;
+
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.*;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.core.Condition;
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link Conditions#assertAreExactly(AssertionInfo, Iterable, int, Condition)}</code> and
+ * <code>{@link Conditions#assertAreExactly(AssertionInfo, Object[], int, Condition)}</code>.
+ */
+public class Conditions_assertAreExactly_Test {
+
+  @Rule public ExpectedException thrown = none();
+
+  private Failures failures;
+  private Conditions conditions;
+  private Condition<String> jedi;
+
+  @Before public void setUp() {
+    failures = spy(new Failures());
+    conditions = new Conditions();
+    conditions.failures = failures;
+    jedi = new Condition<String>("Jedi") {
+      @Override public boolean matches(String value) {
+        return value.startsWith("Jedi ");
+      }
+    };
+  }
+
+  @Test public void should_pass_if_exactly_given_number_of_elements_satisfy_condition() {
+    conditions.assertAreExactly(someInfo(), list("Jedi Yoda", "Vader", "Jedi Luke"), 2, jedi);
+    conditions.assertAreExactly(someInfo(), array("Jedi Yoda", "Vader"), 1, jedi);
+    conditions.assertAreExactly(someInfo(), list("Vader"), 0, jedi);
+  }
+
+  @Test public void should_fail_if_less_elements_satisfy_condition() {
+    AssertionInfo info = someInfo();
+    List<String> actual = list("Jedi Yoda", "Vader");
+    try {
+      conditions.assertAreExactly(info, actual, 2, jedi);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, elementsShouldBeExactly(actual, 2, 1, jedi));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_fail_as_soon_as_too_many_elements_satisfy_condition() {
+    AssertionInfo info = someInfo();
+    // evaluating the null element would throw a NullPointerException
+    String[] actual = array("Jedi Yoda", "Jedi Luke", null);
+    try {
+      conditions.assertAreExactly(info, actual, 1, jedi);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, elementsShouldBeExactly(actual, 1, 2, jedi));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_count_matching_elements_if_number_of_elements_is_the_largest_int() {
+    AssertionInfo info = someInfo();
+    List<String> actual = list("Jedi Yoda", "Jedi Luke");
+    try {
+      conditions.assertAreExactly(info, actual, Integer.MAX_VALUE, jedi);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, elementsShouldBeExactly(actual, Integer.MAX_VALUE, 2, jedi));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_throw_error_if_number_of_elements_is_negative() {
+    thrown.expectIllegalArgumentException("The number of elements should not be negative");
+    conditions.assertAreExactly(someInfo(), array("Vader"), -1, jedi);
+  }
+
+  @Test public void should_throw_error_if_condition_is_null() {
+    thrown.expectNullPointerException("The condition to evaluate should not be null");
+    conditions.assertAreExactly(someInfo(), list("Vader"), 1, null);
+  }
+
+  @Test public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    conditions.assertAreExactly(someInfo(), (Object[]) null, 1, jedi);
+  }
+}
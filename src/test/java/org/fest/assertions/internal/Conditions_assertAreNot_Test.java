@@ -0,0 +1,96 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.ElementsShouldNotBe.elementsShouldNotBe;
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Arrays.array;
+import static org.fest.util.Collections.list;
+
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.*;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.core.Condition;
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link Conditions#assertAreNot(AssertionInfo, Iterable, Condition)}</code> and
+ * <code>{@link Conditions#assertAreNot(AssertionInfo, Object[], Condition)}</code>.
+ */
+public class Conditions_assertAreNot_Test {
+
+  @Rule public ExpectedException thrown = none();
+
+  private Failures failures;
+  private Conditions conditions;
+  private Condition<String> jedi;
+
+  @Before public void setUp() {
+    failures = spy(new Failures());
+    conditions = new Conditions();
+    conditions.failures = failures;
+    jedi = new Condition<String>("Jedi") {
+      @Override public boolean matches(String value) {
+        return value.startsWith("Jedi ");
+      }
+    };
+  }
+
+  @Test public void should_pass_if_no_element_satisfies_condition() {
+    conditions.assertAreNot(someInfo(), list("Vader", "Sidious"), jedi);
+    conditions.assertAreNot(someInfo(), array("Vader", "Sidious"), jedi);
+  }
+
+  @Test public void should_fail_at_first_element_satisfying_condition() {
+    AssertionInfo info = someInfo();
+    List<String> actual = list("Vader", "Jedi Luke", null);
+    try {
+      conditions.assertAreNot(info, actual, jedi);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, elementsShouldNotBe(actual, 1, "Jedi Luke", jedi));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_fail_if_one_element_of_array_satisfies_condition() {
+    AssertionInfo info = someInfo();
+    String[] actual = array("Vader", "Jedi Luke");
+    try {
+      conditions.assertAreNot(info, actual, jedi);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, elementsShouldNotBe(actual, 1, "Jedi Luke", jedi));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_throw_error_if_condition_is_null() {
+    thrown.expectNullPointerException("The condition to evaluate should not be null");
+    conditions.assertAreNot(someInfo(), array("Vader"), null);
+  }
+
+  @Test public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    conditions.assertAreNot(someInfo(), (Object[]) null, jedi);
+  }
+}
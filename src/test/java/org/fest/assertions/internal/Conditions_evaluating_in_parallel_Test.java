@@ -0,0 +1,137 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.ElementsShouldBe.elementsShouldBe;
+import static org.fest.assertions.error.ElementsShouldBeAtLeast.elementsShouldBeAtLeast;
+import static org.fest.assertions.error.ElementsShouldBeExactly.elementsShouldBeExactly;
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.*;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.core.Condition;
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for assertions of <code>{@link Conditions}</code> on groups of values, evaluating conditions in parallel.
+ */
+public class Conditions_evaluating_in_parallel_Test {
+
+  private static final int SIZE = 10000;
+
+  @Rule public ExpectedException thrown = none();
+
+  private Failures failures;
+  private Conditions conditions;
+  private Condition<Integer> even;
+  private List<Integer> actual;
+
+  @Before public void setUp() {
+    failures = spy(new Failures());
+    conditions = new Conditions(true);
+    conditions.failures = failures;
+    conditions.minimumSizeForParallelEvaluation = 2;
+    even = new Condition<Integer>("even") {
+      @Override public boolean matches(Integer value) {
+        return value % 2 == 0;
+      }
+    };
+    actual = new ArrayList<Integer>();
+    for (int i = 0; i < SIZE; i++)
+      actual.add(i * 2);
+  }
+
+  @Test public void should_pass_if_all_elements_satisfy_condition() {
+    conditions.assertAreAll(someInfo(), actual, even);
+    conditions.assertAreAll(someInfo(), new LinkedList<Integer>(actual), even);
+    conditions.assertAreAll(someInfo(), actual.toArray(), even);
+  }
+
+  @Test public void should_report_lowest_index_of_elements_not_satisfying_condition() {
+    actual.set(7000, 1);
+    actual.set(5000, 3);
+    actual.set(9000, 5);
+    AssertionInfo info = someInfo();
+    try {
+      conditions.assertAreAll(info, actual, even);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, elementsShouldBe(actual, 5000, 3, even));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_count_elements_satisfying_condition() {
+    for (int i = 0; i < 100; i++)
+      actual.set(i * 3, 1);
+    conditions.assertAreAtLeast(someInfo(), actual, SIZE - 100, even);
+    conditions.assertAreExactly(someInfo(), actual, SIZE - 100, even);
+    AssertionInfo info = someInfo();
+    try {
+      conditions.assertAreAtLeast(info, actual, SIZE - 99, even);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, elementsShouldBeAtLeast(actual, SIZE - 99, SIZE - 100, even));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_fail_if_too_many_elements_satisfy_condition() {
+    AssertionInfo info = someInfo();
+    try {
+      conditions.assertAreExactly(info, actual, 10, even);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, elementsShouldBeExactly(actual, 10, 11, even));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_rethrow_exception_thrown_by_condition() {
+    actual.set(SIZE / 2, null);
+    thrown.expect(NullPointerException.class);
+    conditions.assertAreAll(someInfo(), actual, even);
+  }
+
+  @Test public void should_evaluate_condition_in_calling_thread_if_group_is_small() {
+    final Thread caller = Thread.currentThread();
+    Condition<Object> inCallingThread = new Condition<Object>("evaluated in calling thread") {
+      @Override public boolean matches(Object value) {
+        return Thread.currentThread() == caller;
+      }
+    };
+    new Conditions(true).assertAreAll(someInfo(), actual, inCallingThread);
+  }
+
+  @Test public void should_not_deadlock_when_condition_evaluates_conditions_in_parallel() {
+    final List<Integer> elements = actual.subList(0, 100);
+    Condition<Object> evaluatingInParallel = new Condition<Object>() {
+      @Override public boolean matches(Object value) {
+        conditions.assertAreAll(someInfo(), elements, even);
+        return true;
+      }
+    };
+    conditions.assertAreAll(someInfo(), elements, evaluatingInParallel);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static java.util.Calendar.*;
+
+import static org.fest.assertions.internal.DateFields.fieldsOf;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Calendar;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link DateFields#fieldsOf(long, TimeZone)}</code>.
+ */
+public class DateFields_fieldsOf_Test {
+
+  private static final String[] TIME_ZONES = { "UTC", "Europe/Paris", "America/New_York", "Australia/Lord_Howe",
+      "Asia/Kolkata", "Pacific/Chatham", "America/St_Johns" };
+
+  private Locale defaultLocale;
+
+  @Before
+  public void setUp() {
+    defaultLocale = Locale.getDefault();
+    Locale.setDefault(Locale.US);
+  }
+
+  @After
+  public void tearDown() {
+    Locale.setDefault(defaultLocale);
+  }
+
+  @Test
+  public void should_compute_same_fields_as_calendar() {
+    Random random = new Random(42);
+    for (String timeZoneId : TIME_ZONES) {
+      TimeZone timeZone = TimeZone.getTimeZone(timeZoneId);
+      for (int i = 0; i < 10000; i++) {
+        // from around 1600 to around 2400
+        long millis = (long) ((random.nextDouble() - 0.5) * 25000000000000L);
+        assertSameFieldsAsCalendar(millis, timeZone);
+      }
+    }
+  }
+
+  @Test
+  public void should_compute_same_fields_as_calendar_around_daylight_saving_time_changes() {
+    TimeZone timeZone = TimeZone.getTimeZone("Europe/Paris");
+    // 2011-03-27T01:00Z and 2011-10-30T01:00Z
+    for (long change : new long[] { 1301187600000L, 1319936400000L })
+      for (long millis = change - 3600000; millis <= change + 3600000; millis += 60000)
+        assertSameFieldsAsCalendar(millis, timeZone);
+  }
+
+  @Test
+  public void should_compute_same_fields_as_calendar_around_epoch_and_leap_days() {
+    TimeZone timeZone = TimeZone.getTimeZone("UTC");
+    // 1969-12-31T23:59:59.999Z, 1970-01-01T00:00Z, 2000-02-29T12:00Z, 2100-03-01T00:00Z
+    for (long millis : new long[] { -1L, 0L, 951825600000L, 4107542400000L })
+      assertSameFieldsAsCalendar(millis, timeZone);
+  }
+
+  @Test
+  public void should_compute_same_fields_as_calendar_before_gregorian_cutover() {
+    TimeZone timeZone = TimeZone.getTimeZone("UTC");
+    // 1500-06-15T00:00Z in the Julian calendar
+    assertSameFieldsAsCalendar(-14659689600000L, timeZone);
+  }
+
+  @Test
+  public void should_compute_same_fields_as_calendar_of_non_gregorian_default_locale() {
+    Locale.setDefault(new Locale("th", "TH"));
+    TimeZone timeZone = TimeZone.getTimeZone("Asia/Bangkok");
+    assertSameFieldsAsCalendar(1301187600000L, timeZone);
+  }
+
+  private static void assertSameFieldsAsCalendar(long millis, TimeZone timeZone) {
+    Calendar calendar = Calendar.getInstance(timeZone);
+    calendar.setTimeInMillis(millis);
+    DateFields fields = fieldsOf(millis, timeZone);
+    String message = millis + " in " + timeZone.getID();
+    assertEquals(message, calendar.get(YEAR), fields.year);
+    assertEquals(message, calendar.get(MONTH) + 1, fields.month);
+    assertEquals(message, calendar.get(DAY_OF_MONTH), fields.dayOfMonth);
+    assertEquals(message, calendar.get(DAY_OF_WEEK), fields.dayOfWeek);
+    assertEquals(message, calendar.get(HOUR_OF_DAY), fields.hourOfDay);
+    assertEquals(message, calendar.get(MINUTE), fields.minute);
+    assertEquals(message, calendar.get(SECOND), fields.second);
+    assertEquals(message, calendar.get(MILLISECOND), fields.millisecond);
+  }
+}
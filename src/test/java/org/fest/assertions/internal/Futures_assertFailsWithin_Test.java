@@ -0,0 +1,89 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+import static org.fest.assertions.error.ShouldFailWithin.shouldFailWithin;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.fest.assertions.core.AssertionInfo;
+
+/**
+ * Tests for <code>{@link Futures#assertFailsWithin(AssertionInfo, Future, long, TimeUnit)}</code>.
+ */
+public class Futures_assertFailsWithin_Test extends AbstractTest_for_Futures {
+
+  @Test
+  public void should_return_exception_thrown_by_computation_of_failed_future() {
+    IOException failure = new IOException("disconnected");
+    assertSame(failure, futures.assertFailsWithin(someInfo(), failedWith(failure), 1, SECONDS));
+  }
+
+  @Test
+  public void should_return_cancellation_exception_of_cancelled_future() {
+    assertTrue(futures.assertFailsWithin(someInfo(), cancelled(), 1, SECONDS) instanceof CancellationException);
+  }
+
+  @Test
+  public void should_fail_if_future_is_not_completed_within_timeout() {
+    AssertionInfo info = someInfo();
+    try {
+      futures.assertFailsWithin(info, notCompleted("Yoda"), 10, MILLISECONDS);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldFailWithin(10, MILLISECONDS));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_future_succeeded() {
+    AssertionInfo info = someInfo();
+    try {
+      futures.assertFailsWithin(info, completedWith("Yoda"), 1, SECONDS);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldFailWithin(1, SECONDS, "Yoda"));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_if_timeout_is_negative() {
+    thrown.expectIllegalArgumentException("The timeout should not be negative");
+    futures.assertFailsWithin(someInfo(), cancelled(), -1, SECONDS);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    futures.assertFailsWithin(someInfo(), null, 1, SECONDS);
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.ShouldBeCompletedWithValueMatching.*;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.core.Condition;
+import org.fest.assertions.core.TestCondition;
+
+/**
+ * Tests for <code>{@link Futures#assertIsCompletedWithValueMatching(AssertionInfo, Future, Condition)}</code>.
+ */
+public class Futures_assertIsCompletedWithValueMatching_Test extends AbstractTest_for_Futures {
+
+  private TestCondition<String> condition;
+
+  @Override
+  @Before
+  public void setUp() {
+    super.setUp();
+    condition = new TestCondition<String>("Jedi");
+  }
+
+  @Test
+  public void should_pass_if_value_of_completed_future_satisfies_condition() {
+    condition.shouldMatch(true);
+    futures.assertIsCompletedWithValueMatching(someInfo(), completedWith("Yoda"), condition);
+  }
+
+  @Test
+  public void should_fail_if_value_of_completed_future_does_not_satisfy_condition() {
+    AssertionInfo info = someInfo();
+    condition.shouldMatch(false);
+    try {
+      futures.assertIsCompletedWithValueMatching(info, completedWith("Yoda"), condition);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeCompletedWithValueMatching(condition, "Yoda"));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_without_waiting_if_future_is_not_completed() {
+    AssertionInfo info = someInfo();
+    condition.shouldMatch(true);
+    try {
+      futures.assertIsCompletedWithValueMatching(info, notCompleted("Yoda"), condition);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeCompleted(condition));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_future_failed() {
+    AssertionInfo info = someInfo();
+    IOException failure = new IOException("disconnected");
+    condition.shouldMatch(true);
+    try {
+      futures.assertIsCompletedWithValueMatching(info, failedWith(failure), condition);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeCompletedSuccessfully(condition, failure));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_if_condition_is_null() {
+    thrown.expectNullPointerException("The condition to evaluate should not be null");
+    futures.assertIsCompletedWithValueMatching(someInfo(), completedWith("Yoda"), null);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    futures.assertIsCompletedWithValueMatching(someInfo(), null, condition);
+  }
+}
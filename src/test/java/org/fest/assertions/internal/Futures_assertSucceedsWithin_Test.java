@@ -0,0 +1,133 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static org.fest.assertions.error.ShouldSucceedWithin.shouldSucceedWithin;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.fest.assertions.core.AssertionInfo;
+
+/**
+ * Tests for <code>{@link Futures#assertSucceedsWithin(AssertionInfo, Future, long, TimeUnit)}</code>.
+ */
+public class Futures_assertSucceedsWithin_Test extends AbstractTest_for_Futures {
+
+  @Test
+  public void should_return_value_of_completed_future() {
+    assertEquals("Yoda", futures.assertSucceedsWithin(someInfo(), completedWith("Yoda"), 0, SECONDS));
+  }
+
+  @Test
+  public void should_wait_for_future_completed_by_another_thread() {
+    final FutureTask<String> future = notCompleted("Yoda");
+    new Thread() {
+      @Override public void run() {
+        try {
+          Thread.sleep(20);
+        } catch (InterruptedException e) {
+          return;
+        }
+        future.run();
+      }
+    }.start();
+    assertEquals("Yoda", futures.assertSucceedsWithin(someInfo(), future, 5, SECONDS));
+  }
+
+  @Test
+  public void should_fail_if_future_is_not_completed_within_timeout() {
+    AssertionInfo info = someInfo();
+    try {
+      futures.assertSucceedsWithin(info, notCompleted("Yoda"), 10, MILLISECONDS);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldSucceedWithin(10, MILLISECONDS));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_future_failed() {
+    AssertionInfo info = someInfo();
+    IOException failure = new IOException("disconnected");
+    try {
+      futures.assertSucceedsWithin(info, failedWith(failure), 1, SECONDS);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldSucceedWithin(1, SECONDS, failure));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_future_was_cancelled() {
+    AssertionInfo info = someInfo();
+    try {
+      futures.assertSucceedsWithin(info, cancelled(), 1, SECONDS);
+    } catch (AssertionError e) {
+      assertEquals("expecting future to succeed within <1 SECONDS> but it failed with:<"
+          + CancellationException.class.getName() + ">", e.getMessage());
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_and_keep_interrupted_status_if_interrupted_while_waiting() {
+    Thread.currentThread().interrupt();
+    try {
+      futures.assertSucceedsWithin(someInfo(), notCompleted("Yoda"), 1, SECONDS);
+    } catch (IllegalStateException e) {
+      assertSame(InterruptedException.class, e.getCause().getClass());
+      assertEquals(true, Thread.interrupted());
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_if_timeout_is_negative() {
+    thrown.expectIllegalArgumentException("The timeout should not be negative");
+    futures.assertSucceedsWithin(someInfo(), completedWith("Yoda"), -1, SECONDS);
+  }
+
+  @Test
+  public void should_throw_error_if_unit_is_null() {
+    thrown.expectNullPointerException("The time unit should not be null");
+    futures.assertSucceedsWithin(someInfo(), completedWith("Yoda"), 1, null);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    futures.assertSucceedsWithin(someInfo(), null, 1, SECONDS);
+  }
+}
@@ -0,0 +1,340 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static junit.framework.Assert.assertEquals;
+import static org.fest.assertions.error.ShouldContain.shouldContain;
+import static org.fest.assertions.error.ShouldContainOnly.shouldContainOnly;
+import static org.fest.assertions.error.ShouldHaveSize.shouldHaveSize;
+import static org.fest.assertions.error.ShouldNotBeEmpty.shouldNotBeEmpty;
+import static org.fest.assertions.error.ShouldNotContain.shouldNotContain;
+import static org.fest.assertions.error.ShouldNotContainNull.shouldNotContainNull;
+import static org.fest.assertions.error.ShouldNotHaveDuplicates.shouldNotHaveDuplicates;
+import static org.fest.assertions.error.ShouldStartWith.shouldStartWith;
+import static org.fest.assertions.test.ErrorMessages.*;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.ObjectArrayFactory.emptyArray;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Arrays.array;
+import static org.fest.util.Collections.*;
+import static java.util.Collections.emptyList;
+
+import static org.mockito.Mockito.verify;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.util.StandardComparisonStrategy;
+
+/**
+ * Tests for <code>{@link IterableChecks#verify(AssertionInfo, Iterable)}</code>.
+ */
+public class IterableChecks_verify_Test extends AbstractTest_for_Iterables {
+
+  @Test
+  public void should_pass_if_actual_satisfies_all_recorded_checks() {
+    IterableChecks checks = iterables.singlePassChecks();
+    checks.assertNotEmpty();
+    checks.assertHasSize(3);
+    checks.assertContains(array("Leia", "Luke"));
+    checks.assertContainsOnly(array("Yoda", "Leia", "Luke"));
+    checks.assertDoesNotContain(array("Han"));
+    checks.assertDoesNotHaveDuplicates();
+    checks.assertStartsWith(array("Luke", "Yoda"));
+    checks.assertDoesNotContainNull();
+    checks.verify(someInfo(), actual);
+  }
+
+  @Test
+  public void should_pass_if_nothing_was_recorded() {
+    iterables.singlePassChecks().verify(someInfo(), null);
+  }
+
+  @Test
+  public void should_iterate_over_actual_only_once() {
+    CountingIterable counting = new CountingIterable(actual);
+    IterableChecks checks = iterables.singlePassChecks();
+    checks.assertHasSize(3);
+    checks.assertContains(array("Leia"));
+    checks.assertDoesNotHaveDuplicates();
+    checks.assertDoesNotContainNull();
+    checks.verify(someInfo(), counting);
+    assertEquals(1, counting.iterations);
+    assertEquals(3, counting.elements);
+  }
+
+  @Test
+  public void should_stop_iterating_once_outcome_of_all_checks_is_known() {
+    CountingIterable counting = new CountingIterable(list("Luke", "Yoda", "Leia", "Han", "Chewbacca"));
+    IterableChecks checks = iterables.singlePassChecks();
+    checks.assertNotEmpty();
+    checks.assertStartsWith(array("Luke"));
+    checks.assertContains(array("Yoda"));
+    checks.verify(someInfo(), counting);
+    assertEquals(2, counting.elements);
+  }
+
+  @Test
+  public void should_not_iterate_over_collection_to_know_its_size() {
+    IterableChecks checks = iterables.singlePassChecks();
+    checks.assertNotEmpty();
+    checks.assertHasSize(3);
+    checks.verify(someInfo(), new UniterableList(actual));
+  }
+
+  @Test
+  public void should_fail_with_first_recorded_check_not_satisfied() {
+    AssertionInfo info = someInfo();
+    Object[] values = array("Han", "Luke");
+    IterableChecks checks = iterables.singlePassChecks();
+    checks.assertHasSize(3);
+    checks.assertContains(values);
+    checks.assertHasSize(6);
+    try {
+      checks.verify(info, actual);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContain(actual, values, set("Han"), StandardComparisonStrategy.instance()));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_like_Iterables_if_size_is_not_the_expected_one() {
+    AssertionInfo info = someInfo();
+    IterableChecks checks = iterables.singlePassChecks();
+    checks.assertHasSize(6);
+    CountingIterable counting = new CountingIterable(actual);
+    try {
+      checks.verify(info, counting);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSize(counting, 3, 6));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_like_Iterables_if_actual_is_empty() {
+    AssertionInfo info = someInfo();
+    IterableChecks checks = iterables.singlePassChecks();
+    checks.assertNotEmpty();
+    try {
+      checks.verify(info, new CountingIterable(emptyList()));
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldNotBeEmpty());
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_like_Iterables_if_actual_contains_values_not_expected() {
+    AssertionInfo info = someInfo();
+    Object[] values = array("Luke", "Han", "Leia");
+    IterableChecks checks = iterables.singlePassChecks();
+    checks.assertDoesNotContain(values);
+    try {
+      checks.verify(info, actual);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldNotContain(actual, values, set("Luke", "Leia"),
+          StandardComparisonStrategy.instance()));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_like_Iterables_if_actual_does_not_contain_only_given_values() {
+    AssertionInfo info = someInfo();
+    Object[] values = array("Luke", "Han");
+    IterableChecks checks = iterables.singlePassChecks();
+    checks.assertContainsOnly(values);
+    try {
+      checks.verify(info, actual);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContainOnly(actual, values, set("Han"), set("Yoda", "Leia"),
+          StandardComparisonStrategy.instance()));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_like_Iterables_if_actual_has_duplicates() {
+    AssertionInfo info = someInfo();
+    actual = list("Luke", "Yoda", "Luke", "Yoda", "Leia");
+    IterableChecks checks = iterables.singlePassChecks();
+    checks.assertDoesNotHaveDuplicates();
+    try {
+      checks.verify(info, actual);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldNotHaveDuplicates(actual, set("Luke", "Yoda"),
+          StandardComparisonStrategy.instance()));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_like_Iterables_if_actual_does_not_start_with_sequence() {
+    AssertionInfo info = someInfo();
+    Object[] sequence = array("Luke", "Yoda", "Leia", "Han");
+    IterableChecks checks = iterables.singlePassChecks();
+    checks.assertStartsWith(sequence);
+    try {
+      checks.verify(info, actual);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldStartWith(actual, sequence, StandardComparisonStrategy.instance()));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_like_Iterables_if_actual_contains_null() {
+    AssertionInfo info = someInfo();
+    actual.add(null);
+    IterableChecks checks = iterables.singlePassChecks();
+    checks.assertDoesNotContainNull();
+    try {
+      checks.verify(info, actual);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldNotContainNull(actual));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_report_failure_recorded_before_check_with_null_values() {
+    AssertionInfo info = someInfo();
+    IterableChecks checks = iterables.singlePassChecks();
+    checks.assertHasSize(6);
+    checks.assertContains(null);
+    try {
+      checks.verify(info, actual);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSize(actual, 3, 6));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_if_values_of_first_check_not_satisfied_are_null() {
+    thrown.expectNullPointerException(valuesToLookForIsNull());
+    IterableChecks checks = iterables.singlePassChecks();
+    checks.assertHasSize(3);
+    checks.assertContains(null);
+    checks.assertHasSize(6);
+    checks.verify(someInfo(), actual);
+  }
+
+  @Test
+  public void should_throw_error_if_values_of_first_check_not_satisfied_are_empty() {
+    thrown.expectIllegalArgumentException(valuesToLookForIsEmpty());
+    IterableChecks checks = iterables.singlePassChecks();
+    checks.assertDoesNotContain(emptyArray());
+    checks.verify(someInfo(), actual);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    IterableChecks checks = iterables.singlePassChecks();
+    checks.assertDoesNotContainNull();
+    checks.verify(someInfo(), null);
+  }
+
+  @Test
+  public void should_pass_if_actual_satisfies_all_recorded_checks_according_to_custom_comparison_strategy() {
+    IterableChecks checks = iterablesWithCaseInsensitiveComparisonStrategy.singlePassChecks();
+    checks.assertContains(array("LEIA", "luke"));
+    checks.assertContainsOnly(array("yoda", "LEIA", "Luke"));
+    checks.assertDoesNotContain(array("han"));
+    checks.assertStartsWith(array("LUKE"));
+    checks.verify(someInfo(), actual);
+  }
+
+  @Test
+  public void should_fail_if_actual_has_duplicates_according_to_custom_comparison_strategy() {
+    AssertionInfo info = someInfo();
+    actual = list("Luke", "LUKE", "Leia");
+    IterableChecks checks = iterablesWithCaseInsensitiveComparisonStrategy.singlePassChecks();
+    checks.assertDoesNotHaveDuplicates();
+    try {
+      checks.verify(info, actual);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldNotHaveDuplicates(actual, set("LUKE"), comparisonStrategy));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  private static class CountingIterable implements Iterable<Object> {
+    private final List<?> values;
+    int iterations;
+    int elements;
+
+    CountingIterable(List<?> values) {
+      this.values = values;
+    }
+
+    public Iterator<Object> iterator() {
+      iterations++;
+      final Iterator<?> iterator = values.iterator();
+      return new Iterator<Object>() {
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        public Object next() {
+          elements++;
+          return iterator.next();
+        }
+
+        public void remove() {
+          throw new UnsupportedOperationException();
+        }
+      };
+    }
+  }
+
+  private static class UniterableList extends AbstractList<Object> {
+    private final List<?> values;
+
+    UniterableList(List<?> values) {
+      this.values = values;
+    }
+
+    @Override public Object get(int index) {
+      return values.get(index);
+    }
+
+    @Override public int size() {
+      return values.size();
+    }
+
+    @Override public Iterator<Object> iterator() {
+      throw new UnsupportedOperationException("should not iterate");
+    }
+  }
+}
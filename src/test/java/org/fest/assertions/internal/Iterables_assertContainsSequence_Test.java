@@ -26,6 +26,8 @@ import static org.fest.util.Collections.list;
 import static org.mockito.Mockito.verify;
 
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -124,6 +126,31 @@ public class Iterables_assertContainsSequence_Test extends AbstractTest_for_Iter
     iterables.assertContainsSequence(someInfo(), actual, array("Yoda", "Obi-Wan"));
   }
 
+  @Test
+  public void should_pass_if_actual_does_not_support_random_access_and_contains_both_partial_and_complete_sequence() {
+    actual = new LinkedList<String>(list("Yoda", "Luke", "Yoda", "Obi-Wan"));
+    iterables.assertContainsSequence(someInfo(), actual, array("Yoda", "Obi-Wan"));
+  }
+
+  @Test
+  public void should_pass_if_actual_is_not_a_list_and_contains_sequence_at_its_end() {
+    iterables.assertContainsSequence(someInfo(), new LinkedHashSet<String>(actual), array("Leia", "Obi-Wan"));
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_support_random_access_and_does_not_contain_whole_sequence() {
+    AssertionInfo info = someInfo();
+    actual = new LinkedList<String>(actual);
+    Object[] sequence = { "Leia", "Obi-Wan", "Han" };
+    try {
+      iterables.assertContainsSequence(info, actual, sequence);
+    } catch (AssertionError e) {
+      verifyFailureThrownWhenSequenceNotFound(info, sequence);
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
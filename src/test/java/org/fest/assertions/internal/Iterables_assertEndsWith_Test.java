@@ -26,6 +26,8 @@ import static org.fest.util.Collections.list;
 import static org.mockito.Mockito.verify;
 
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 
 import org.junit.Test;
 
@@ -125,6 +127,30 @@ public class Iterables_assertEndsWith_Test extends AbstractTest_for_Iterables {
     iterables.assertEndsWith(someInfo(), actual, array("Yoda", "Luke", "Leia", "Obi-Wan"));
   }
 
+  @Test
+  public void should_pass_if_actual_does_not_support_random_access_and_ends_with_sequence() {
+    iterables.assertEndsWith(someInfo(), new LinkedList<String>(actual), array("Leia", "Obi-Wan"));
+  }
+
+  @Test
+  public void should_pass_if_actual_is_not_a_list_and_ends_with_sequence() {
+    iterables.assertEndsWith(someInfo(), new LinkedHashSet<String>(actual), array("Leia", "Obi-Wan"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_a_list_and_does_not_end_with_sequence() {
+    AssertionInfo info = someInfo();
+    Collection<String> actual = new LinkedHashSet<String>(Iterables_assertEndsWith_Test.actual);
+    Object[] sequence = { "Luke", "Leia" };
+    try {
+      iterables.assertEndsWith(info, actual, sequence);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldEndWith(actual, sequence));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
@@ -0,0 +1,71 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.IteratorElementsShouldBe.iteratorElementsShouldBe;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Collections.list;
+
+import static org.mockito.Mockito.verify;
+
+import java.util.Iterator;
+
+import org.junit.Test;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.core.Condition;
+
+/**
+ * Tests for <code>{@link Iterators#assertAreAll(AssertionInfo, Iterator, Condition)}</code>.
+ */
+public class Iterators_assertAreAll_Test extends AbstractTest_for_Iterators {
+
+  private final Condition<Integer> smallerThanTen = new Condition<Integer>("smaller than ten") {
+    @Override public boolean matches(Integer value) {
+      return value < 10;
+    }
+  };
+
+  @Test
+  public void should_pass_if_all_elements_satisfy_condition() {
+    iterators.assertAreAll(someInfo(), list(1, 2, 3).iterator(), smallerThanTen);
+  }
+
+  @Test
+  public void should_throw_error_if_condition_is_null() {
+    thrown.expectNullPointerException("The condition to evaluate should not be null");
+    iterators.assertAreAll(someInfo(), list(1, 2, 3).iterator(), null);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    iterators.assertAreAll(someInfo(), null, smallerThanTen);
+  }
+
+  @Test
+  public void should_fail_at_first_element_not_satisfying_condition() {
+    AssertionInfo info = someInfo();
+    try {
+      iterators.assertAreAll(info, integersFrom(5), smallerThanTen);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, iteratorElementsShouldBe(5, 10, smallerThanTen));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static junit.framework.Assert.assertEquals;
+
+import static org.fest.assertions.error.IteratorShouldContainSequence.iteratorShouldContainSequence;
+import static org.fest.assertions.test.ErrorMessages.*;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.ObjectArrayFactory.emptyArray;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Arrays.array;
+import static org.fest.util.Collections.list;
+
+import static org.mockito.Mockito.verify;
+
+import java.util.Iterator;
+
+import org.junit.Test;
+
+import org.fest.assertions.core.AssertionInfo;
+
+/**
+ * Tests for <code>{@link Iterators#assertContainsSequence(AssertionInfo, Iterator, Object[])}</code>.
+ */
+public class Iterators_assertContainsSequence_Test extends AbstractTest_for_Iterators {
+
+  @Test
+  public void should_pass_and_stop_iterating_once_sequence_is_found() {
+    Iterator<Integer> actual = integersFrom(0);
+    iterators.assertContainsSequence(someInfo(), actual, array(7, 8, 9));
+    assertEquals(10, actual.next().intValue());
+  }
+
+  @Test
+  public void should_pass_if_actual_contains_both_partial_and_complete_sequence() {
+    iterators.assertContainsSequence(someInfo(), list("Yoda", "Luke", "Yoda", "Obi-Wan").iterator(),
+        array("Yoda", "Obi-Wan"));
+  }
+
+  @Test
+  public void should_throw_error_if_sequence_is_null() {
+    thrown.expectNullPointerException(valuesToLookForIsNull());
+    iterators.assertContainsSequence(someInfo(), list("Yoda").iterator(), null);
+  }
+
+  @Test
+  public void should_throw_error_if_sequence_is_empty() {
+    thrown.expectIllegalArgumentException(valuesToLookForIsEmpty());
+    iterators.assertContainsSequence(someInfo(), list("Yoda").iterator(), emptyArray());
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    iterators.assertContainsSequence(someInfo(), null, array("Yoda"));
+  }
+
+  @Test
+  public void should_fail_if_actual_contains_first_elements_of_sequence_but_not_whole_sequence() {
+    AssertionInfo info = someInfo();
+    Object[] sequence = { "Luke", "Leia", "Han" };
+    try {
+      iterators.assertContainsSequence(info, list("Yoda", "Luke", "Leia", "Obi-Wan").iterator(), sequence);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, iteratorShouldContainSequence(4, sequence));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_pass_if_actual_contains_sequence_according_to_custom_comparison_strategy() {
+    iteratorsWithCaseInsensitiveComparisonStrategy.assertContainsSequence(someInfo(),
+        list("Yoda", "Luke", "Leia").iterator(), array("LUKE", "leia"));
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.IteratorShouldNotContain.iteratorShouldNotContain;
+import static org.fest.assertions.test.ErrorMessages.*;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.ObjectArrayFactory.emptyArray;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Arrays.array;
+import static org.fest.util.Collections.list;
+
+import static org.mockito.Mockito.verify;
+
+import java.util.Iterator;
+
+import org.junit.Test;
+
+import org.fest.assertions.core.AssertionInfo;
+
+/**
+ * Tests for <code>{@link Iterators#assertDoesNotContain(AssertionInfo, Iterator, Object[])}</code>.
+ */
+public class Iterators_assertDoesNotContain_Test extends AbstractTest_for_Iterators {
+
+  @Test
+  public void should_pass_if_actual_does_not_contain_given_values() {
+    iterators.assertDoesNotContain(someInfo(), list("Luke", "Yoda", "Leia").iterator(), array("Han", "Vader"));
+  }
+
+  @Test
+  public void should_pass_if_actual_is_empty() {
+    iterators.assertDoesNotContain(someInfo(), list().iterator(), array("Han"));
+  }
+
+  @Test
+  public void should_throw_error_if_array_of_values_to_look_for_is_null() {
+    thrown.expectNullPointerException(valuesToLookForIsNull());
+    iterators.assertDoesNotContain(someInfo(), list("Yoda").iterator(), null);
+  }
+
+  @Test
+  public void should_throw_error_if_array_of_values_to_look_for_is_empty() {
+    thrown.expectIllegalArgumentException(valuesToLookForIsEmpty());
+    iterators.assertDoesNotContain(someInfo(), list("Yoda").iterator(), emptyArray());
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    iterators.assertDoesNotContain(someInfo(), null, array("Yoda"));
+  }
+
+  @Test
+  public void should_fail_at_first_element_equal_to_one_of_given_values() {
+    AssertionInfo info = someInfo();
+    Object[] values = { 5, 3 };
+    Iterator<Integer> actual = integersFrom(0);
+    try {
+      iterators.assertDoesNotContain(info, actual, values);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, iteratorShouldNotContain(values, 3, 3));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_contains_given_values_according_to_custom_comparison_strategy() {
+    AssertionInfo info = someInfo();
+    Object[] values = { "YODA" };
+    try {
+      iteratorsWithCaseInsensitiveComparisonStrategy.assertDoesNotContain(info, list("Luke", "Yoda").iterator(),
+          values);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, iteratorShouldNotContain(values, 1, "Yoda"));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+}
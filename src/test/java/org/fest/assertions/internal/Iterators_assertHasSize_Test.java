@@ -0,0 +1,75 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.IteratorShouldHaveSize.*;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Collections.list;
+
+import static org.mockito.Mockito.verify;
+
+import java.util.Iterator;
+
+import org.junit.Test;
+
+import org.fest.assertions.core.AssertionInfo;
+
+/**
+ * Tests for <code>{@link Iterators#assertHasSize(AssertionInfo, Iterator, int)}</code>.
+ */
+public class Iterators_assertHasSize_Test extends AbstractTest_for_Iterators {
+
+  @Test
+  public void should_pass_if_size_of_actual_is_equal_to_expected_size() {
+    iterators.assertHasSize(someInfo(), list("Luke", "Yoda").iterator(), 2);
+  }
+
+  @Test
+  public void should_pass_if_actual_is_empty_and_expected_size_is_zero() {
+    iterators.assertHasSize(someInfo(), list().iterator(), 0);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    iterators.assertHasSize(someInfo(), null, 6);
+  }
+
+  @Test
+  public void should_fail_if_size_of_actual_is_smaller_than_expected_size() {
+    AssertionInfo info = someInfo();
+    try {
+      iterators.assertHasSize(info, list("Luke", "Yoda").iterator(), 6);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, iteratorShouldHaveSize(6, 2));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_without_iterating_over_all_elements_if_actual_has_more_elements_than_expected() {
+    AssertionInfo info = someInfo();
+    try {
+      iterators.assertHasSize(info, integersFrom(0), 6);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, iteratorShouldNotHaveMoreElements(6));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static junit.framework.Assert.assertEquals;
+
+import static org.fest.assertions.error.IteratorShouldStartWith.iteratorShouldStartWith;
+import static org.fest.assertions.test.ErrorMessages.*;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.ObjectArrayFactory.emptyArray;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Arrays.array;
+import static org.fest.util.Collections.list;
+
+import static org.mockito.Mockito.verify;
+
+import java.util.Iterator;
+
+import org.junit.Test;
+
+import org.fest.assertions.core.AssertionInfo;
+
+/**
+ * Tests for <code>{@link Iterators#assertStartsWith(AssertionInfo, Iterator, Object[])}</code>.
+ */
+public class Iterators_assertStartsWith_Test extends AbstractTest_for_Iterators {
+
+  @Test
+  public void should_pass_and_only_iterate_over_sequence_if_actual_starts_with_sequence() {
+    Iterator<Integer> actual = integersFrom(0);
+    iterators.assertStartsWith(someInfo(), actual, array(0, 1, 2));
+    assertEquals(3, actual.next().intValue());
+  }
+
+  @Test
+  public void should_throw_error_if_sequence_is_null() {
+    thrown.expectNullPointerException(valuesToLookForIsNull());
+    iterators.assertStartsWith(someInfo(), list("Yoda").iterator(), null);
+  }
+
+  @Test
+  public void should_throw_error_if_sequence_is_empty() {
+    thrown.expectIllegalArgumentException(valuesToLookForIsEmpty());
+    iterators.assertStartsWith(someInfo(), list("Yoda").iterator(), emptyArray());
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    iterators.assertStartsWith(someInfo(), null, array("Yoda"));
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_start_with_sequence() {
+    AssertionInfo info = someInfo();
+    Object[] sequence = { "Luke", "Leia" };
+    try {
+      iterators.assertStartsWith(info, list("Luke", "Yoda", "Leia").iterator(), sequence);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, iteratorShouldStartWith(sequence, 1, "Yoda"));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_sequence_is_bigger_than_actual() {
+    AssertionInfo info = someInfo();
+    Object[] sequence = { "Luke", "Yoda", "Leia" };
+    try {
+      iterators.assertStartsWith(info, list("Luke", "Yoda").iterator(), sequence);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, iteratorShouldStartWith(sequence, 2));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_pass_if_actual_starts_with_sequence_according_to_custom_comparison_strategy() {
+    iteratorsWithCaseInsensitiveComparisonStrategy.assertStartsWith(someInfo(), list("Luke", "Yoda").iterator(),
+        array("LUKE", "yoda"));
+  }
+}
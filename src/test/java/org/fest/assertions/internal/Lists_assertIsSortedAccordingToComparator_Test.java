@@ -23,6 +23,7 @@ import static org.fest.util.Collections.list;
 import static org.mockito.Mockito.verify;
 
 import java.util.Comparator;
+import java.util.LinkedList;
 import java.util.List;
 
 import org.junit.Test;
@@ -128,4 +129,24 @@ public class Lists_assertIsSortedAccordingToComparator_Test extends AbstractTest
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_pass_if_actual_does_not_support_random_access_and_is_sorted_according_to_given_comparator() {
+    lists.assertIsSortedAccordingToComparator(someInfo(),
+        new LinkedList<String>(list("Yoda", "Vador", "Luke", "Leia", "Leia")), stringDescendingOrderComparator);
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_support_random_access_and_is_not_sorted_according_to_given_comparator() {
+    AssertionInfo info = someInfo();
+    List<String> actual = new LinkedList<String>(list("Yoda", "Vador", "Leia", "Luke"));
+    try {
+      lists.assertIsSortedAccordingToComparator(info, actual, stringDescendingOrderComparator);
+    } catch (AssertionError e) {
+      verify(failures).failure(info,
+          shouldBeSortedAccordingToGivenComparator(2, actual, stringDescendingOrderComparator));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
 }
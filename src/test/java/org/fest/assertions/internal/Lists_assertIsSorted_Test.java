@@ -22,6 +22,7 @@ import static org.fest.util.Collections.list;
 
 import static org.mockito.Mockito.verify;
 
+import java.util.LinkedList;
 import java.util.List;
 
 import org.junit.Test;
@@ -133,4 +134,35 @@ public class Lists_assertIsSorted_Test extends AbstractTest_for_Lists {
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_pass_if_actual_does_not_support_random_access_and_is_sorted_in_ascending_order() {
+    lists.assertIsSorted(someInfo(), new LinkedList<String>(actual));
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_support_random_access_and_is_not_sorted_in_ascending_order() {
+    AssertionInfo info = someInfo();
+    List<String> actual = new LinkedList<String>(list("Leia", "Luke", "Yoda", "Vador"));
+    try {
+      lists.assertIsSorted(info, actual);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeSorted(2, actual));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_support_random_access_and_has_only_one_non_comparable_element() {
+    AssertionInfo info = someInfo();
+    List<Object> actual = new LinkedList<Object>(list(new Object()));
+    try {
+      lists.assertIsSorted(info, actual);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveMutuallyComparableElements(actual));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
 }
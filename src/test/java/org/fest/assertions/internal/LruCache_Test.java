@@ -0,0 +1,72 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static junit.framework.Assert.*;
+import static org.fest.assertions.test.ExpectedException.none;
+
+import org.junit.*;
+
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link LruCache}</code>.
+ */
+public class LruCache_Test {
+
+  @Rule public ExpectedException thrown = none();
+
+  private LruCache<String, Integer> cache;
+
+  @Before public void setUp() {
+    cache = new LruCache<String, Integer>(2);
+  }
+
+  @Test public void should_return_cached_value() {
+    cache.put("a", 1);
+    assertEquals(Integer.valueOf(1), cache.get("a"));
+    assertNull(cache.get("b"));
+  }
+
+  @Test public void should_evict_least_recently_used_entry_when_full() {
+    cache.put("a", 1);
+    cache.put("b", 2);
+    cache.get("a");
+    cache.put("c", 3);
+    assertEquals(2, cache.size());
+    assertEquals(Integer.valueOf(1), cache.get("a"));
+    assertNull(cache.get("b"));
+    assertEquals(Integer.valueOf(3), cache.get("c"));
+  }
+
+  @Test public void should_not_cache_anything_if_maximum_size_is_zero() {
+    cache = new LruCache<String, Integer>(0);
+    cache.put("a", 1);
+    assertEquals(0, cache.size());
+    assertNull(cache.get("a"));
+  }
+
+  @Test public void should_remove_all_entries_when_cleared() {
+    cache.put("a", 1);
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(2, cache.maximumSize());
+  }
+
+  @Test public void should_throw_error_if_maximum_size_is_negative() {
+    thrown.expectIllegalArgumentException("The maximum size of the cache should not be negative");
+    new LruCache<String, Integer>(-1);
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.ShouldContainKeys.shouldContainKeys;
+import static org.fest.assertions.data.MapEntry.entry;
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.MapFactory.map;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Arrays.array;
+import static org.fest.util.Collections.set;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.test.ExpectedException;
+import org.fest.assertions.util.CaseInsensitiveStringComparator;
+import org.fest.util.ComparatorBasedComparisonStrategy;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link Maps#assertContainsKeys(AssertionInfo, Map, Object[])}</code>.
+ */
+public class Maps_assertContainsKeys_Test {
+
+  private static Map<?, ?> actual;
+
+  @Rule public ExpectedException thrown = none();
+
+  private Failures failures;
+  private Maps maps;
+
+  @BeforeClass public static void setUpOnce() {
+    actual = map(entry("name", "Yoda"), entry("color", "green"), entry(null, "none"));
+  }
+
+  @Before public void setUp() {
+    failures = spy(new Failures());
+    maps = new Maps();
+    maps.failures = failures;
+  }
+
+  @Test public void should_pass_if_actual_contains_given_keys() {
+    maps.assertContainsKeys(someInfo(), actual, array("color", "name"));
+  }
+
+  @Test public void should_pass_if_actual_contains_null_key() {
+    maps.assertContainsKeys(someInfo(), actual, array((Object) null));
+  }
+
+  @Test public void should_pass_if_actual_contains_given_keys_according_to_key_comparison_strategy() {
+    maps.withKeyComparisonStrategy(new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance))
+        .assertContainsKeys(someInfo(), map(entry("name", "Yoda")), array("NAME"));
+  }
+
+  @Test public void should_throw_error_if_array_of_keys_to_look_for_is_empty() {
+    thrown.expectIllegalArgumentException("The array of keys to look for should not be empty");
+    maps.assertContainsKeys(someInfo(), actual, new Object[0]);
+  }
+
+  @Test public void should_throw_error_if_array_of_keys_to_look_for_is_null() {
+    thrown.expectNullPointerException("The array of keys to look for should not be null");
+    maps.assertContainsKeys(someInfo(), actual, null);
+  }
+
+  @Test public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    maps.assertContainsKeys(someInfo(), null, array("name"));
+  }
+
+  @Test public void should_fail_if_actual_does_not_contain_keys() {
+    AssertionInfo info = someInfo();
+    Object[] keys = { "name", "job", "planet" };
+    try {
+      maps.assertContainsKeys(info, actual, keys);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContainKeys(3, keys, set("job", "planet")));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+}
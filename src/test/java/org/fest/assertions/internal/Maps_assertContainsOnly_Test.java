@@ -0,0 +1,143 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.data.MapEntry.entry;
+import static org.fest.assertions.error.ShouldHaveSameEntries.shouldHaveSameEntries;
+import static org.fest.assertions.test.ErrorMessages.*;
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.MapFactory.map;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Arrays.array;
+import static org.fest.util.Collections.list;
+import static org.mockito.Mockito.*;
+
+import java.util.*;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.data.MapEntry;
+import org.fest.assertions.test.ExpectedException;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link Maps#assertContainsOnly(AssertionInfo, Map, MapEntry[])}</code>.
+ */
+public class Maps_assertContainsOnly_Test {
+
+  private static Map<?, ?> actual;
+
+  @Rule public ExpectedException thrown = none();
+
+  private Failures failures;
+  private Maps maps;
+
+  @BeforeClass public static void setUpOnce() {
+    actual = map(entry("name", "Yoda"), entry("color", "green"));
+  }
+
+  @Before public void setUp() {
+    failures = spy(new Failures());
+    maps = new Maps();
+    maps.failures = failures;
+  }
+
+  @Test public void should_pass_if_actual_contains_only_given_entries() {
+    maps.assertContainsOnly(someInfo(), actual, array(entry("name", "Yoda"), entry("color", "green")));
+  }
+
+  @Test public void should_pass_if_actual_contains_only_given_entries_in_different_order() {
+    maps.assertContainsOnly(someInfo(), actual, array(entry("color", "green"), entry("name", "Yoda")));
+  }
+
+  @Test public void should_pass_if_given_entries_are_duplicated() {
+    maps.assertContainsOnly(someInfo(), actual,
+        array(entry("color", "green"), entry("name", "Yoda"), entry("color", "green")));
+  }
+
+  @Test public void should_throw_error_if_array_of_entries_to_look_for_is_empty() {
+    thrown.expectIllegalArgumentException(entriesToLookForIsEmpty());
+    maps.assertContainsOnly(someInfo(), actual, new MapEntry[0]);
+  }
+
+  @Test public void should_throw_error_if_array_of_entries_to_look_for_is_null() {
+    thrown.expectNullPointerException(entriesToLookForIsNull());
+    maps.assertContainsOnly(someInfo(), actual, null);
+  }
+
+  @Test public void should_throw_error_if_entry_is_null() {
+    MapEntry[] entries = { null };
+    thrown.expectNullPointerException(entryToLookForIsNull());
+    maps.assertContainsOnly(someInfo(), actual, entries);
+  }
+
+  @Test public void should_throw_error_if_entries_have_different_values_for_same_key() {
+    thrown.expectIllegalArgumentException(
+        "The entries to look for should not have different values for the same key but found:<name>");
+    maps.assertContainsOnly(someInfo(), actual, array(entry("name", "Yoda"), entry("name", "Luke")));
+  }
+
+  @Test public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    maps.assertContainsOnly(someInfo(), null, array(entry("name", "Yoda")));
+  }
+
+  @Test public void should_fail_if_actual_does_not_contain_all_entries() {
+    AssertionInfo info = someInfo();
+    MapEntry[] expected = { entry("name", "Yoda"), entry("color", "green"), entry("job", "Jedi") };
+    try {
+      maps.assertContainsOnly(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSameEntries(2, 3, 1, list("job"), emptyList(), emptyMap(), emptyMap()));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_fail_if_actual_contains_unexpected_entries() {
+    AssertionInfo info = someInfo();
+    MapEntry[] expected = { entry("name", "Yoda") };
+    try {
+      maps.assertContainsOnly(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info,
+          shouldHaveSameEntries(2, 1, 1, emptyList(), list("color"), emptyMap(), emptyMap()));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_fail_if_actual_contains_entries_with_different_values() {
+    AssertionInfo info = someInfo();
+    MapEntry[] expected = { entry("name", "Luke"), entry("color", "green") };
+    try {
+      maps.assertContainsOnly(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSameEntries(2, 2, 1, emptyList(), emptyList(),
+          map(entry("name", "Luke")), map(entry("name", "Yoda"))));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  private static List<Object> emptyList() {
+    return new ArrayList<Object>();
+  }
+
+  private static Map<Object, Object> emptyMap() {
+    return new LinkedHashMap<Object, Object>();
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.ShouldContainValues.shouldContainValues;
+import static org.fest.assertions.data.MapEntry.entry;
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.MapFactory.map;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Arrays.array;
+import static org.fest.util.Collections.set;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.test.ExpectedException;
+import org.fest.assertions.util.CaseInsensitiveStringComparator;
+import org.fest.util.ComparatorBasedComparisonStrategy;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link Maps#assertContainsValues(AssertionInfo, Map, Object[])}</code>.
+ */
+public class Maps_assertContainsValues_Test {
+
+  private static Map<?, ?> actual;
+
+  @Rule public ExpectedException thrown = none();
+
+  private Failures failures;
+  private Maps maps;
+
+  @BeforeClass public static void setUpOnce() {
+    actual = map(entry("name", "Yoda"), entry("color", "green"), entry(null, "none"));
+  }
+
+  @Before public void setUp() {
+    failures = spy(new Failures());
+    maps = new Maps();
+    maps.failures = failures;
+  }
+
+  @Test public void should_pass_if_actual_contains_given_values() {
+    maps.assertContainsValues(someInfo(), actual, array("none", "Yoda", "Yoda"));
+  }
+
+  @Test public void should_pass_if_actual_contains_given_values_according_to_value_comparison_strategy() {
+    maps.withValueComparisonStrategy(new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance))
+        .assertContainsValues(someInfo(), actual, array("GREEN", "yoda"));
+  }
+
+  @Test public void should_pass_if_actual_contains_given_array_values_compared_by_content() {
+    Map<?, ?> actualWithArrays = map(entry("name", array("Yoda")), entry("color", "green"));
+    maps.assertContainsValues(someInfo(), actualWithArrays, array(array("Yoda"), "green"));
+  }
+
+  @Test public void should_throw_error_if_array_of_values_to_look_for_is_empty() {
+    thrown.expectIllegalArgumentException("The array of values to look for should not be empty");
+    maps.assertContainsValues(someInfo(), actual, new Object[0]);
+  }
+
+  @Test public void should_throw_error_if_array_of_values_to_look_for_is_null() {
+    thrown.expectNullPointerException("The array of values to look for should not be null");
+    maps.assertContainsValues(someInfo(), actual, null);
+  }
+
+  @Test public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    maps.assertContainsValues(someInfo(), null, array("Yoda"));
+  }
+
+  @Test public void should_fail_if_actual_does_not_contain_values() {
+    AssertionInfo info = someInfo();
+    Object[] values = { "Yoda", "Luke", null };
+    try {
+      maps.assertContainsValues(info, actual, values);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContainValues(3, values, set("Luke", null)));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_fail_if_actual_does_not_contain_values_according_to_value_comparison_strategy() {
+    AssertionInfo info = someInfo();
+    Object[] values = { "YODA", "LUKE" };
+    try {
+      maps.withValueComparisonStrategy(new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance))
+          .assertContainsValues(info, actual, values);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContainValues(3, values, set("LUKE")));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_fail_if_actual_does_not_contain_array_values_compared_by_content() {
+    AssertionInfo info = someInfo();
+    Map<?, ?> actualWithArrays = map(entry("name", array("Yoda")), entry("color", "green"));
+    Object[] luke = array("Luke");
+    Object[] values = { array("Yoda"), luke, "green" };
+    try {
+      maps.assertContainsValues(info, actualWithArrays, values);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContainValues(2, values, set((Object) luke)));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+}
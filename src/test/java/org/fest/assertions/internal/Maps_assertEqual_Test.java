@@ -0,0 +1,121 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.data.MapEntry.entry;
+import static org.fest.assertions.error.ShouldHaveSameEntries.shouldHaveSameEntries;
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.MapFactory.map;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Collections.list;
+import static org.mockito.Mockito.*;
+
+import java.util.*;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.test.ExpectedException;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link Maps#assertEqual(AssertionInfo, Map, Map)}</code>.
+ */
+public class Maps_assertEqual_Test {
+
+  private static Map<?, ?> actual;
+
+  @Rule public ExpectedException thrown = none();
+
+  private Failures failures;
+  private Maps maps;
+
+  @BeforeClass public static void setUpOnce() {
+    actual = map(entry("name", "Yoda"), entry("color", "green"), entry("job", null));
+  }
+
+  @Before public void setUp() {
+    failures = spy(new Failures());
+    maps = new Maps();
+    maps.failures = failures;
+  }
+
+  @Test public void should_pass_if_actual_has_same_entries_as_expected() {
+    maps.assertEqual(someInfo(), actual, new HashMap<Object, Object>(actual));
+  }
+
+  @Test public void should_pass_if_large_maps_have_same_entries() {
+    Map<Integer, String> large = new HashMap<Integer, String>();
+    for (int i = 0; i < 100000; i++)
+      large.put(i, "value" + i);
+    maps.assertEqual(someInfo(), large, new TreeMap<Integer, String>(large));
+  }
+
+  @Test public void should_throw_error_if_expected_is_null() {
+    thrown.expectNullPointerException("The map to compare to should not be null");
+    maps.assertEqual(someInfo(), actual, null);
+  }
+
+  @Test public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    maps.assertEqual(someInfo(), null, actual);
+  }
+
+  @Test public void should_fail_and_only_report_differences() {
+    AssertionInfo info = someInfo();
+    Map<?, ?> expected = map(entry("name", "Luke"), entry("job", null), entry("planet", "Tatooine"));
+    try {
+      maps.assertEqual(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSameEntries(3, 3, 3, list("planet"), list("color"),
+          map(entry("name", "Luke")), map(entry("name", "Yoda"))));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_fail_if_key_is_missing_even_if_expected_value_is_null() {
+    AssertionInfo info = someInfo();
+    Map<?, ?> expected = map(entry("name", "Yoda"), entry("color", "green"), entry("job", null), entry("ship", null));
+    try {
+      maps.assertEqual(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSameEntries(3, 4, 1, list("ship"), new ArrayList<Object>(),
+          new LinkedHashMap<Object, Object>(), new LinkedHashMap<Object, Object>()));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_only_report_maximum_number_of_differences() {
+    AssertionInfo info = someInfo();
+    Map<Integer, String> large = new LinkedHashMap<Integer, String>();
+    Map<Integer, String> expected = new LinkedHashMap<Integer, String>();
+    for (int i = 0; i < 1000; i++) {
+      large.put(i, "value" + i);
+      expected.put(i, "other value" + i);
+    }
+    maps = maps.withMaximumReportedDifferences(2);
+    try {
+      maps.assertEqual(info, large, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSameEntries(1000, 1000, 1000, new ArrayList<Object>(),
+          new ArrayList<Object>(), map(entry(0, "other value0"), entry(1, "other value1")),
+          map(entry(0, "value0"), entry(1, "value1"))));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+}
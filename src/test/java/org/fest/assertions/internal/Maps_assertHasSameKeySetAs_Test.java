@@ -0,0 +1,93 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.ShouldHaveSameKeySet.shouldHaveSameKeySet;
+import static org.fest.assertions.data.MapEntry.entry;
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.MapFactory.map;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Collections.list;
+import static org.mockito.Mockito.*;
+
+import java.util.*;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.test.ExpectedException;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link Maps#assertHasSameKeySetAs(AssertionInfo, Map, Map)}</code>.
+ */
+public class Maps_assertHasSameKeySetAs_Test {
+
+  private static Map<?, ?> actual;
+
+  @Rule public ExpectedException thrown = none();
+
+  private Failures failures;
+  private Maps maps;
+
+  @BeforeClass public static void setUpOnce() {
+    actual = map(entry("name", "Yoda"), entry("color", "green"), entry(null, "none"));
+  }
+
+  @Before public void setUp() {
+    failures = spy(new Failures());
+    maps = new Maps();
+    maps.failures = failures;
+  }
+
+  @Test public void should_pass_if_actual_has_same_keys_whatever_the_values() {
+    maps.assertHasSameKeySetAs(someInfo(), actual, map(entry(null, 1), entry("color", 2), entry("name", 3)));
+  }
+
+  @Test public void should_throw_error_if_other_map_is_null() {
+    thrown.expectNullPointerException("The map to compare keys with should not be null");
+    maps.assertHasSameKeySetAs(someInfo(), actual, null);
+  }
+
+  @Test public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    maps.assertHasSameKeySetAs(someInfo(), null, actual);
+  }
+
+  @Test public void should_fail_if_keys_differ() {
+    AssertionInfo info = someInfo();
+    try {
+      maps.assertHasSameKeySetAs(info, actual, map(entry("name", "Yoda"), entry("job", "Jedi")));
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSameKeySet(3, 2, 3, list("job"), list("color", null)));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_only_report_maximum_number_of_differences() {
+    AssertionInfo info = someInfo();
+    Map<Integer, String> other = new LinkedHashMap<Integer, String>();
+    for (int i = 0; i < 100; i++)
+      other.put(i, "value" + i);
+    try {
+      maps.withMaximumReportedDifferences(2).assertHasSameKeySetAs(info, actual, other);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSameKeySet(3, 100, 103, list(0, 1), new ArrayList<Object>()));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static junit.framework.Assert.*;
+
+import static org.fest.assertions.test.ExpectedException.none;
+
+import org.fest.assertions.test.ExpectedException;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link Maps#withMaximumReportedDifferences(int)}</code>.
+ */
+public class Maps_withMaximumReportedDifferences_Test {
+
+  @Rule public ExpectedException thrown = none();
+
+  @Test public void should_report_default_maximum_number_of_differences() {
+    assertEquals(Maps.DEFAULT_MAXIMUM_REPORTED_DIFFERENCES, Maps.instance().maximumReportedDifferences());
+  }
+
+  @Test public void should_return_copy_with_given_maximum() {
+    Maps maps = new Maps();
+    Maps copy = maps.withMaximumReportedDifferences(3);
+    assertNotSame(maps, copy);
+    assertEquals(3, copy.maximumReportedDifferences());
+    assertSame(maps.failures, copy.failures);
+    assertEquals(Maps.DEFAULT_MAXIMUM_REPORTED_DIFFERENCES, maps.maximumReportedDifferences());
+  }
+
+  @Test public void should_throw_error_if_maximum_is_not_positive() {
+    thrown.expectIllegalArgumentException("The maximum number of differences to report should be greater than zero");
+    new Maps().withMaximumReportedDifferences(0);
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+
+import static org.fest.assertions.data.MapEntry.entry;
+import static org.fest.assertions.error.ShouldContain.shouldContain;
+import static org.fest.assertions.error.ShouldHaveSameEntries.shouldHaveSameEntries;
+import static org.fest.assertions.error.ShouldHaveSameKeySet.shouldHaveSameKeySet;
+import static org.fest.assertions.error.ShouldNotContain.shouldNotContain;
+import static org.fest.assertions.test.MapFactory.map;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Arrays.array;
+import static org.fest.util.Collections.*;
+import static org.mockito.Mockito.*;
+
+import java.util.*;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.data.MapEntry;
+import org.fest.assertions.util.CaseInsensitiveStringComparator;
+import org.fest.util.ComparatorBasedComparisonStrategy;
+import org.junit.*;
+
+/**
+ * Tests for the assertions of <code>{@link Maps}</code> with custom key and value comparison strategies.
+ */
+public class Maps_with_custom_comparison_strategies_Test {
+
+  private static Map<?, ?> actual;
+
+  private Failures failures;
+  private Maps mapsWithCaseInsensitiveKeys;
+  private Maps mapsWithCaseInsensitiveValues;
+
+  @BeforeClass public static void setUpOnce() {
+    actual = map(entry("name", "Yoda"), entry("color", "green"), entry("Color", "Green"));
+  }
+
+  @Before public void setUp() {
+    failures = spy(new Failures());
+    Maps maps = new Maps();
+    maps.failures = failures;
+    ComparatorBasedComparisonStrategy caseInsensitive =
+        new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+    mapsWithCaseInsensitiveKeys = maps.withKeyComparisonStrategy(caseInsensitive);
+    mapsWithCaseInsensitiveValues = maps.withValueComparisonStrategy(caseInsensitive);
+  }
+
+  @Test public void should_pass_if_actual_contains_given_entries_according_to_key_comparison_strategy() {
+    mapsWithCaseInsensitiveKeys.assertContains(someInfo(), actual,
+        array(entry("NAME", "Yoda"), entry("COLOR", "Green")));
+  }
+
+  @Test public void should_fail_if_actual_does_not_contain_value_according_to_key_comparison_strategy() {
+    AssertionInfo info = someInfo();
+    MapEntry[] expected = { entry("NAME", "yoda") };
+    try {
+      mapsWithCaseInsensitiveKeys.assertContains(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContain(actual, expected, set(entry("NAME", "yoda"))));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_pass_if_actual_contains_given_entries_according_to_value_comparison_strategy() {
+    mapsWithCaseInsensitiveValues.assertContains(someInfo(), actual, array(entry("name", "YODA")));
+  }
+
+  @Test public void should_not_find_keys_according_to_value_comparison_strategy() {
+    AssertionInfo info = someInfo();
+    MapEntry[] expected = { entry("NAME", "Yoda") };
+    try {
+      mapsWithCaseInsensitiveValues.assertContains(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContain(actual, expected, set(entry("NAME", "Yoda"))));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_fail_if_actual_contains_entry_according_to_key_comparison_strategy() {
+    AssertionInfo info = someInfo();
+    MapEntry[] unexpected = { entry("NAME", "Yoda") };
+    try {
+      mapsWithCaseInsensitiveKeys.assertDoesNotContain(info, actual, unexpected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldNotContain(actual, unexpected, set(entry("NAME", "Yoda"))));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_pass_if_actual_has_same_entries_according_to_key_comparison_strategy() {
+    mapsWithCaseInsensitiveKeys.assertEqual(someInfo(), actual, map(entry("NAME", "Yoda"), entry("COLOR", "green")));
+  }
+
+  @Test public void should_report_differences_according_to_key_comparison_strategy() {
+    AssertionInfo info = someInfo();
+    Map<?, ?> expected = map(entry("NAME", "Luke"), entry("job", "Jedi"));
+    try {
+      mapsWithCaseInsensitiveKeys.assertEqual(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSameEntries(3, 2, 4, list("job"), list("color", "Color"),
+          map(entry("NAME", "Luke")), map(entry("NAME", "Yoda"))));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_report_unexpected_key_if_expected_keys_are_equal_according_to_key_comparison_strategy() {
+    AssertionInfo info = someInfo();
+    Map<?, ?> actualWithJob = map(entry("name", "Yoda"), entry("job", "Jedi"));
+    try {
+      mapsWithCaseInsensitiveKeys.assertContainsOnly(info, actualWithJob,
+          array(entry("NAME", "Yoda"), entry("Name", "Yoda")));
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSameEntries(2, 2, 1, emptyList(), list("job"), emptyMap(),
+          emptyMap()));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_report_unexpected_key_if_other_keys_are_equal_according_to_key_comparison_strategy() {
+    AssertionInfo info = someInfo();
+    Map<?, ?> actualWithJob = map(entry("name", "Yoda"), entry("job", "Jedi"));
+    try {
+      mapsWithCaseInsensitiveKeys.assertHasSameKeySetAs(info, actualWithJob,
+          map(entry("NAME", "Luke"), entry("Name", "Leia")));
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSameKeySet(2, 2, 1, emptyList(), list("job")));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_pass_if_large_maps_have_same_entries_according_to_key_comparison_strategy() {
+    Map<String, String> large = new HashMap<String, String>();
+    Map<String, String> expected = new HashMap<String, String>();
+    for (int i = 0; i < 100000; i++) {
+      large.put("key" + i, "value" + i);
+      expected.put("KEY" + i, "value" + i);
+    }
+    mapsWithCaseInsensitiveKeys.assertEqual(someInfo(), large, expected);
+  }
+
+  @Test public void should_pass_if_actual_contains_only_given_entries_according_to_value_comparison_strategy() {
+    mapsWithCaseInsensitiveValues.assertContainsOnly(someInfo(), actual,
+        array(entry("name", "YODA"), entry("color", "GREEN"), entry("Color", "green")));
+  }
+}
@@ -15,6 +15,7 @@
 package org.fest.assertions.internal;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.newSetFromMap;
 
 import static org.fest.assertions.error.ShouldBeIn.shouldBeIn;
 import static org.fest.assertions.test.ErrorMessages.*;
@@ -26,6 +27,10 @@ import static org.fest.util.Collections.list;
 import static org.mockito.Mockito.verify;
 
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -100,4 +105,36 @@ public class Objects_assertIsIn_with_Collection_Test extends AbstractTest_for_Ob
     }
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
+
+  @Test
+  public void should_pass_if_actual_is_in_set() {
+    objects.assertIsIn(someInfo(), "Yoda", new HashSet<Object>(values));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_only_in_sorted_set_according_to_its_comparator() {
+    AssertionInfo info = someInfo();
+    Collection<String> set = new TreeSet<String>(String.CASE_INSENSITIVE_ORDER);
+    set.add("Yoda");
+    try {
+      objects.assertIsIn(info, "YODA", set);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeIn("YODA", set));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_pass_if_actual_is_equal_to_a_value_of_identity_set() {
+    Set<Object> set = newSetFromMap(new IdentityHashMap<Object, Boolean>());
+    set.add(new String("Yoda"));
+    objects.assertIsIn(someInfo(), new String("Yoda"), set);
+  }
+
+  @Test
+  public void should_pass_if_actual_is_in_set_according_to_custom_comparison_strategy() {
+    objectsWithCustomComparisonStrategy.assertIsIn(someInfo(), "YODA", new HashSet<Object>(values));
+  }
+
 }
@@ -97,4 +97,73 @@ public class Objects_assertIsIn_with_array_Test extends AbstractTest_for_Objects
     }
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
+
+  @Test
+  public void should_pass_if_actual_is_in_large_array_looked_up_several_times() {
+    String[] array = largeArray();
+    for (int i = 0; i < array.length; i++)
+      objects.assertIsIn(someInfo(), "Clone " + i, array);
+  }
+
+  @Test
+  public void should_pass_if_actual_has_replaced_last_value_of_large_array_after_it_was_looked_up() {
+    String[] array = largeArray();
+    objects.assertIsIn(someInfo(), "Clone 8", array);
+    objects.assertIsIn(someInfo(), "Clone 8", array);
+    array[99] = "Yoda";
+    objects.assertIsIn(someInfo(), "Yoda", array);
+  }
+
+  @Test
+  public void should_fail_if_actual_has_been_removed_from_large_array_after_it_was_looked_up() {
+    AssertionInfo info = someInfo();
+    String[] array = largeArray();
+    objects.assertIsIn(info, "Clone 8", array);
+    objects.assertIsIn(info, "Clone 8", array);
+    array[8] = "Yoda";
+    try {
+      objects.assertIsIn(info, "Clone 8", array);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeIn("Clone 8", array));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_pass_if_actual_is_in_large_arrays_looked_up_in_turn() {
+    String[] array = largeArray();
+    String[] other = largeArray();
+    other[8] = "Yoda";
+    for (int i = 0; i < 3; i++) {
+      objects.assertIsIn(someInfo(), "Clone 8", array);
+      objects.assertIsIn(someInfo(), "Yoda", other);
+    }
+  }
+
+  @Test
+  public void should_pass_if_actual_is_in_large_array_looked_up_between_arrays_given_once() {
+    String[] array = largeArray();
+    for (int i = 0; i < 100; i++) {
+      objects.assertIsIn(someInfo(), "Clone " + i, array);
+      objects.assertIsIn(someInfo(), "Clone " + i, largeArray());
+    }
+  }
+
+  @Test
+  public void should_pass_if_actual_array_is_in_large_array() {
+    Object[] array = new Object[100];
+    System.arraycopy(largeArray(), 0, array, 0, array.length);
+    array[50] = array("Yoda");
+    objects.assertIsIn(someInfo(), array("Yoda"), array);
+    objects.assertIsIn(someInfo(), array("Yoda"), array);
+  }
+
+  private static String[] largeArray() {
+    String[] array = new String[100];
+    for (int i = 0; i < array.length; i++)
+      array[i] = "Clone " + i;
+    return array;
+  }
+
 }
@@ -26,6 +26,7 @@ import static org.fest.util.Collections.list;
 import static org.mockito.Mockito.verify;
 
 import java.util.Collection;
+import java.util.HashSet;
 
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -100,4 +101,18 @@ public class Objects_assertIsNotIn_with_Collection_Test extends AbstractTest_for
     }
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
+
+  @Test
+  public void should_fail_if_actual_is_in_set() {
+    AssertionInfo info = someInfo();
+    Collection<?> set = new HashSet<Object>(values);
+    try {
+      objects.assertIsNotIn(info, "Yoda", set);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldNotBeIn("Yoda", set));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
 }
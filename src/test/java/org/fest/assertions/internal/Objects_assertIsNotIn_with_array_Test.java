@@ -89,4 +89,35 @@ public class Objects_assertIsNotIn_with_array_Test extends AbstractTest_for_Obje
     }
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
+
+  @Test
+  public void should_pass_if_actual_is_not_in_large_array_looked_up_several_times() {
+    String[] array = largeArray();
+    for (int i = 0; i < 10; i++)
+      objects.assertIsNotIn(someInfo(), "Luke", array);
+  }
+
+  @Test
+  public void should_fail_if_actual_has_replaced_last_value_of_large_array_after_it_was_looked_up() {
+    AssertionInfo info = someInfo();
+    String[] array = largeArray();
+    objects.assertIsNotIn(info, "Luke", array);
+    objects.assertIsNotIn(info, "Luke", array);
+    array[99] = "Luke";
+    try {
+      objects.assertIsNotIn(info, "Luke", array);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldNotBeIn("Luke", array));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  private static String[] largeArray() {
+    String[] array = new String[100];
+    for (int i = 0; i < array.length; i++)
+      array[i] = "Clone " + i;
+    return array;
+  }
+
 }
@@ -0,0 +1,96 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static junit.framework.Assert.*;
+import static org.fest.assertions.test.ExpectedException.none;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.*;
+
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link Patterns#compile(String)}</code>.
+ */
+public class Patterns_compile_Test {
+
+  @Rule public ExpectedException thrown = none();
+
+  private Patterns patterns;
+
+  @Before public void setUp() {
+    patterns = new Patterns(2);
+  }
+
+  @Test public void should_compile_regular_expression() {
+    Pattern pattern = patterns.compile("Yod.*");
+    assertEquals("Yod.*", pattern.pattern());
+    assertEquals(0, patterns.hits());
+    assertEquals(1, patterns.misses());
+  }
+
+  @Test public void should_return_cached_Pattern_for_same_regular_expression() {
+    Pattern pattern = patterns.compile("Yod.*");
+    assertSame(pattern, patterns.compile("Yod.*"));
+    assertEquals(1, patterns.hits());
+    assertEquals(1, patterns.misses());
+  }
+
+  @Test public void should_evict_least_recently_used_Pattern_when_full() {
+    patterns.compile("a");
+    patterns.compile("b");
+    patterns.compile("a");
+    patterns.compile("c");
+    assertEquals(2, patterns.size());
+    assertTrue(patterns.isCached("a"));
+    assertFalse(patterns.isCached("b"));
+    assertTrue(patterns.isCached("c"));
+  }
+
+  @Test public void should_not_cache_anything_if_maximum_size_is_zero() {
+    patterns = new Patterns(0);
+    patterns.compile("a");
+    patterns.compile("a");
+    assertEquals(0, patterns.size());
+    assertEquals(2, patterns.misses());
+  }
+
+  @Test public void should_reset_counters_and_content_when_cleared() {
+    patterns.compile("a");
+    patterns.compile("a");
+    patterns.clear();
+    assertEquals(0, patterns.size());
+    assertEquals(0, patterns.hits());
+    assertEquals(0, patterns.misses());
+  }
+
+  @Test public void should_throw_error_if_syntax_of_regular_expression_is_invalid() {
+    thrown.expect(PatternSyntaxException.class);
+    patterns.compile("*...");
+  }
+
+  @Test public void should_throw_error_if_regular_expression_is_null() {
+    thrown.expectNullPointerException("The regular expression to compile should not be null");
+    patterns.compile(null);
+  }
+
+  @Test public void should_throw_error_if_maximum_size_is_negative() {
+    thrown.expectIllegalArgumentException("The maximum size of the cache should not be negative");
+    new Patterns(-1);
+  }
+}
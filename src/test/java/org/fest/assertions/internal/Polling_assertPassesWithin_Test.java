@@ -0,0 +1,199 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import static junit.framework.Assert.*;
+
+import static org.fest.assertions.error.ShouldPassWithin.shouldPassWithin;
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Collections.list;
+
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link Polling#assertPassesWithin(AssertionInfo, Runnable, long, long, long)}</code>.
+ */
+public class Polling_assertPassesWithin_Test {
+
+  @Rule
+  public ExpectedException thrown = none();
+
+  private Failures failures;
+  private FakeClockPolling polling;
+
+  @Before
+  public void setUp() {
+    failures = spy(new Failures());
+    polling = new FakeClockPolling();
+    polling.failures = failures;
+  }
+
+  @Test
+  public void should_pass_without_waiting_if_assertions_pass_at_first_evaluation() {
+    FailingAssertions assertions = new FailingAssertions(0);
+    polling.assertPassesWithin(someInfo(), assertions, 1000, 10, 100);
+    assertEquals(1, assertions.evaluations);
+    assertTrue(polling.sleeps.isEmpty());
+  }
+
+  @Test
+  public void should_pass_once_assertions_pass() {
+    FailingAssertions assertions = new FailingAssertions(3);
+    polling.assertPassesWithin(someInfo(), assertions, 1000, 10, 100);
+    assertEquals(4, assertions.evaluations);
+  }
+
+  @Test
+  public void should_double_poll_interval_up_to_maximum_poll_interval() {
+    polling.assertPassesWithin(someInfo(), new FailingAssertions(6), 1000, 10, 100);
+    assertEquals(list(10L, 20L, 40L, 80L, 100L, 100L), polling.sleeps);
+  }
+
+  @Test
+  public void should_evaluate_assertions_a_last_time_when_timeout_expires() {
+    FailingAssertions assertions = new FailingAssertions(3);
+    polling.assertPassesWithin(someInfo(), assertions, 50, 10, 100);
+    assertEquals(list(10L, 20L, 20L), polling.sleeps);
+    assertEquals(4, assertions.evaluations);
+  }
+
+  @Test
+  public void should_fail_with_last_failure_if_assertions_do_not_pass_before_timeout() {
+    AssertionInfo info = someInfo();
+    FailingAssertions assertions = new FailingAssertions(Integer.MAX_VALUE);
+    try {
+      polling.assertPassesWithin(info, assertions, MILLISECONDS.toNanos(50), MILLISECONDS.toNanos(10),
+          MILLISECONDS.toNanos(100));
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldPassWithin(50, 4, "failure 4"));
+      assertSame(assertions.lastFailure, e.getCause());
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_evaluate_assertions_once_if_timeout_is_zero() {
+    thrown.expectAssertionError("expecting assertions to pass within <0> ms but they still failed after <1> attempts, "
+        + "last failure was:<'failure 1'>");
+    polling.assertPassesWithin(someInfo(), new FailingAssertions(1), 0, 10, 100);
+  }
+
+  @Test
+  public void should_not_catch_other_exceptions_thrown_by_assertions() {
+    thrown.expect(IllegalStateException.class);
+    polling.assertPassesWithin(someInfo(), new Runnable() {
+      public void run() {
+        throw new IllegalStateException();
+      }
+    }, 1000, 10, 100);
+  }
+
+  @Test
+  public void should_throw_last_failure_and_keep_interrupted_status_if_interrupted_while_waiting() {
+    FailingAssertions assertions = new FailingAssertions(Integer.MAX_VALUE);
+    Thread.currentThread().interrupt();
+    try {
+      new Polling().assertPassesWithin(someInfo(), assertions, MILLISECONDS.toNanos(1000), 10, 100);
+    } catch (AssertionError e) {
+      assertSame(assertions.lastFailure, e);
+      assertTrue(Thread.interrupted());
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_wait_for_assertions_on_value_changed_by_another_thread() throws InterruptedException {
+    final Counter counter = new Counter();
+    Thread incrementer = new Thread() {
+      @Override public void run() {
+        for (int i = 0; i < 3; i++) {
+          try {
+            Thread.sleep(5);
+          } catch (InterruptedException e) {
+            return;
+          }
+          counter.increment();
+        }
+      }
+    };
+    incrementer.start();
+    new Polling().assertPassesWithin(someInfo(), new Runnable() {
+      public void run() {
+        if (counter.value() != 3) throw new AssertionError("counter is " + counter.value());
+      }
+    }, MILLISECONDS.toNanos(5000), MILLISECONDS.toNanos(1), MILLISECONDS.toNanos(10));
+    incrementer.join();
+  }
+
+  private static class FakeClockPolling extends Polling {
+    final List<Long> sleeps = new ArrayList<Long>();
+    private long now;
+
+    @Override long nanoTime() {
+      return now;
+    }
+
+    @Override void sleep(long nanos) {
+      sleeps.add(nanos);
+      now += nanos;
+    }
+  }
+
+  private static class FailingAssertions implements Runnable {
+    private final int failuresBeforePassing;
+    int evaluations;
+    AssertionError lastFailure;
+
+    FailingAssertions(int failuresBeforePassing) {
+      this.failuresBeforePassing = failuresBeforePassing;
+    }
+
+    public void run() {
+      evaluations++;
+      if (evaluations > failuresBeforePassing) return;
+      lastFailure = new AssertionError("failure " + evaluations);
+      throw lastFailure;
+    }
+  }
+
+  private static class Counter {
+    private int value;
+
+    synchronized void increment() {
+      value++;
+    }
+
+    synchronized int value() {
+      return value;
+    }
+  }
+}
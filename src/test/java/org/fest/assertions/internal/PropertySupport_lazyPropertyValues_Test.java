@@ -0,0 +1,110 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static java.util.Collections.*;
+import static junit.framework.Assert.*;
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.fest.util.Collections.list;
+
+import java.util.*;
+
+import org.fest.assertions.test.*;
+import org.fest.util.IntrospectionError;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link PropertySupport#lazyPropertyValues(String, Iterable)}</code>.
+ */
+public class PropertySupport_lazyPropertyValues_Test {
+
+  private static Employee yoda;
+  private static Employee luke;
+  private static List<Employee> employees;
+  private static PropertySupport propertySupport;
+
+  @BeforeClass public static void setUpOnce() {
+    yoda = new Employee(6000L, new Name("Yoda"), 800);
+    luke = new Employee(8000L, new Name("Luke", "Skywalker"), 26);
+    employees = list(yoda, luke);
+    propertySupport = new PropertySupport();
+  }
+
+  @Rule public ExpectedException thrown = none();
+
+  @Test public void should_return_empty_Iterable_if_given_Iterable_is_null() {
+    Iterable<Object> ids = propertySupport.lazyPropertyValues("id", null);
+    assertFalse(ids.iterator().hasNext());
+  }
+
+  @Test public void should_return_empty_Iterable_if_given_Iterable_contains_only_nulls() {
+    Iterable<Object> ids = propertySupport.lazyPropertyValues("id", list(null, null));
+    assertFalse(ids.iterator().hasNext());
+  }
+
+  @Test public void should_skip_null_values_from_given_Iterable() {
+    List<Employee> anotherList = list(null, yoda, null, luke, null);
+    Iterable<Object> ids = propertySupport.lazyPropertyValues("id", anotherList);
+    assertEquals(list(6000L, 8000L), valuesOf(ids));
+  }
+
+  @Test public void should_return_values_of_simple_property() {
+    Iterable<Object> ids = propertySupport.lazyPropertyValues("id", employees);
+    assertEquals(list(6000L, 8000L), valuesOf(ids));
+  }
+
+  @Test public void should_return_values_of_nested_property() {
+    Iterable<Object> firstNames = propertySupport.lazyPropertyValues("name.first", employees);
+    assertEquals(list("Yoda", "Luke"), valuesOf(firstNames));
+  }
+
+  @Test public void should_be_traversable_more_than_once() {
+    Iterable<Object> ids = propertySupport.lazyPropertyValues("id", employees);
+    assertEquals(valuesOf(ids), valuesOf(ids));
+  }
+
+  @Test public void should_not_read_property_values_before_traversal() {
+    // property does not exist, but nothing is read until the Iterable is traversed
+    Iterable<Object> values = propertySupport.lazyPropertyValues("foo", employees);
+    thrown.expect(IntrospectionError.class);
+    values.iterator().next();
+  }
+
+  @Test public void should_only_read_property_values_of_traversed_elements() {
+    List<Object> elements = new ArrayList<Object>();
+    elements.add(yoda);
+    elements.add("not an employee");
+    Iterator<Object> ids = propertySupport.lazyPropertyValues("id", elements).iterator();
+    assertEquals(6000L, ids.next());
+  }
+
+  @Test public void should_format_values_like_a_List() {
+    Iterable<Object> ids = propertySupport.lazyPropertyValues("id", employees);
+    assertEquals("[6000L, 8000L]", ids.toString());
+  }
+
+  @Test public void should_throw_error_if_next_is_called_on_exhausted_Iterator() {
+    Iterator<Object> ids = propertySupport.lazyPropertyValues("id", emptyList()).iterator();
+    thrown.expect(NoSuchElementException.class);
+    ids.next();
+  }
+
+  private static List<Object> valuesOf(Iterable<Object> iterable) {
+    List<Object> values = new ArrayList<Object>();
+    for (Object value : iterable)
+      values.add(value);
+    return values;
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static junit.framework.Assert.*;
+import static org.fest.assertions.error.ShouldContainString.shouldContain;
+import static org.fest.assertions.test.ErrorMessages.sequenceToLookForIsNull;
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+
+import static org.mockito.Mockito.*;
+
+import java.io.*;
+import java.util.Arrays;
+
+import org.junit.*;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link Readers#assertContains(AssertionInfo, Reader, String)}</code>.
+ */
+public class Readers_assertContains_Test {
+
+  @Rule public ExpectedException thrown = none();
+
+  private Failures failures;
+  private Readers readers;
+
+  @Before public void setUp() {
+    failures = spy(new Failures());
+    readers = new Readers();
+    readers.failures = failures;
+  }
+
+  @Test public void should_fail_if_actual_does_not_contain_sequence() {
+    AssertionInfo info = someInfo();
+    Reader actual = new StringReader("Yoda and Luke");
+    try {
+      readers.assertContains(info, actual, "Leia");
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContain(actual, "Leia"));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_throw_error_if_sequence_is_null() {
+    thrown.expectNullPointerException(sequenceToLookForIsNull());
+    readers.assertContains(someInfo(), new StringReader("Yoda"), null);
+  }
+
+  @Test public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    readers.assertContains(someInfo(), null, "Yoda");
+  }
+
+  @Test public void should_throw_error_wrapping_caught_IOException() {
+    final IOException cause = new IOException();
+    Reader actual = new Reader() {
+      @Override public int read(char[] buffer, int offset, int length) throws IOException {
+        throw cause;
+      }
+
+      @Override public void close() {}
+    };
+    try {
+      readers.assertContains(someInfo(), actual, "Yoda");
+      fail("Expecting a ReadersException");
+    } catch (ReadersException e) {
+      assertSame(cause, e.getCause());
+    }
+  }
+
+  @Test public void should_pass_if_actual_contains_sequence() {
+    readers.assertContains(someInfo(), new StringReader("Yoda and Luke"), "and");
+    readers.assertContains(someInfo(), new StringReader("Yoda and Luke"), "Luke");
+    readers.assertContains(someInfo(), new StringReader("Yoda"), "");
+  }
+
+  @Test public void should_pass_if_actual_contains_sequence_after_partial_matches() {
+    readers.assertContains(someInfo(), new StringReader("aaab"), "aab");
+    readers.assertContains(someInfo(), new StringReader("abababc"), "ababc");
+  }
+
+  @Test public void should_pass_if_sequence_spans_several_chunks() {
+    char[] content = new char[10000];
+    Arrays.fill(content, 'a');
+    content[content.length - 1] = 'b';
+    readers.assertContains(someInfo(), new CharArrayReader(content), "aaaaaaaaaaaaaaab");
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static junit.framework.Assert.assertEquals;
+import static org.fest.assertions.error.ShouldStartWith.shouldStartWith;
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+
+import static org.mockito.Mockito.*;
+
+import java.io.*;
+import java.util.Arrays;
+
+import org.junit.*;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link Readers#assertStartsWith(AssertionInfo, Reader, String)}</code>.
+ */
+public class Readers_assertStartsWith_Test {
+
+  @Rule public ExpectedException thrown = none();
+
+  private Failures failures;
+  private Readers readers;
+
+  @Before public void setUp() {
+    failures = spy(new Failures());
+    readers = new Readers();
+    readers.failures = failures;
+  }
+
+  @Test public void should_fail_if_actual_does_not_start_with_prefix() {
+    AssertionInfo info = someInfo();
+    Reader actual = new StringReader("Yoda");
+    try {
+      readers.assertStartsWith(info, actual, "Luke");
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldStartWith(actual, "Luke"));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_fail_if_prefix_is_longer_than_actual() {
+    AssertionInfo info = someInfo();
+    Reader actual = new StringReader("Yoda");
+    try {
+      readers.assertStartsWith(info, actual, "Yoda and Luke");
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldStartWith(actual, "Yoda and Luke"));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_throw_error_if_prefix_is_null() {
+    thrown.expectNullPointerException("The given prefix should not be null");
+    readers.assertStartsWith(someInfo(), new StringReader("Yoda"), null);
+  }
+
+  @Test public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    readers.assertStartsWith(someInfo(), null, "Yoda");
+  }
+
+  @Test public void should_pass_if_actual_starts_with_prefix() {
+    readers.assertStartsWith(someInfo(), new StringReader("Yoda"), "Yo");
+    readers.assertStartsWith(someInfo(), new StringReader("Yoda"), "");
+  }
+
+  @Test public void should_only_read_characters_of_prefix() throws IOException {
+    Reader actual = new StringReader("Yoda and Luke");
+    readers.assertStartsWith(someInfo(), actual, "Yoda");
+    assertEquals(' ', actual.read());
+  }
+
+  @Test public void should_pass_if_prefix_spans_several_chunks() {
+    char[] content = new char[10000];
+    Arrays.fill(content, 'a');
+    readers.assertStartsWith(someInfo(), new CharArrayReader(content), new String(content, 0, 9000));
+  }
+}
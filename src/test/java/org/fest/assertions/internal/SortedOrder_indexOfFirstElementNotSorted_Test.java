@@ -0,0 +1,147 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static org.fest.assertions.internal.SortedOrder.*;
+import static org.fest.assertions.test.ExpectedException.none;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.*;
+
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link SortedOrder#indexOfFirstElementNotSorted(int[])}</code> and
+ * <code>{@link SortedOrder#indexOfFirstElementNotSorted(List, Comparator)}</code>.
+ */
+public class SortedOrder_indexOfFirstElementNotSorted_Test {
+
+  private static final int SIZE = 2 * MINIMUM_SIZE_FOR_PARALLEL_CHECK + 1;
+
+  @Rule public ExpectedException thrown = none();
+
+  private int[] array;
+  private List<Object> list;
+
+  @Before public void setUp() {
+    array = new int[SIZE];
+    list = new ArrayList<Object>(SIZE);
+    for (int i = 0; i < SIZE; i++) {
+      array[i] = i;
+      list.add(i);
+    }
+  }
+
+  @Test public void should_return_minus_one_if_large_array_is_sorted() {
+    assertEquals(-1, indexOfFirstElementNotSorted(array));
+  }
+
+  @Test public void should_return_minus_one_if_large_list_is_sorted() {
+    assertEquals(-1, indexOfFirstElementNotSorted(list, NATURAL_ORDER));
+  }
+
+  @Test public void should_return_lowest_index_of_elements_not_sorted_in_large_array() {
+    array[SIZE - 2] = -1;
+    array[SIZE / 2] = -1;
+    assertEquals(SIZE / 2 - 1, indexOfFirstElementNotSorted(array));
+  }
+
+  @Test public void should_return_lowest_index_of_elements_not_sorted_in_large_list() {
+    list.set(SIZE - 2, -1);
+    list.set(SIZE / 2, -1);
+    assertEquals(SIZE / 2 - 1, indexOfFirstElementNotSorted(list, NATURAL_ORDER));
+  }
+
+  @Test public void should_find_elements_not_sorted_whatever_their_position_in_chunks() {
+    for (int index : indexesAroundChunkBoundaries()) {
+      setUp();
+      // element at index + 1 becomes less than element at index only
+      array[index + 1] = index - 1;
+      list.set(index + 1, index - 1);
+      assertEquals(index, indexOfFirstElementNotSorted(array));
+      assertEquals(index, indexOfFirstElementNotSorted(list, NATURAL_ORDER));
+    }
+  }
+
+  @Test public void should_return_index_of_elements_not_sorted_found_before_elements_not_comparable() {
+    list.set(SIZE / 2, -1);
+    list.set(SIZE - 2, "Yoda");
+    assertEquals(SIZE / 2 - 1, indexOfFirstElementNotSorted(list, NATURAL_ORDER));
+  }
+
+  @Test public void should_throw_error_if_elements_not_comparable_are_found_before_elements_not_sorted() {
+    list.set(SIZE / 2, "Yoda");
+    list.set(SIZE - 2, -1);
+    thrown.expect(ClassCastException.class);
+    indexOfFirstElementNotSorted(list, NATURAL_ORDER);
+  }
+
+  @Test public void should_walk_lists_not_supporting_random_access() {
+    list.set(SIZE - 2, -1);
+    assertEquals(SIZE - 3, indexOfFirstElementNotSorted(new LinkedList<Object>(list), NATURAL_ORDER));
+  }
+
+  @Test public void should_call_comparator_in_calling_thread_only() {
+    final Thread caller = Thread.currentThread();
+    list.set(SIZE - 2, -1);
+    Comparator<Integer> comparator = new Comparator<Integer>() {
+      public int compare(Integer o1, Integer o2) {
+        assertSame(caller, Thread.currentThread());
+        return o1.compareTo(o2);
+      }
+    };
+    assertEquals(SIZE - 3, indexOfFirstElementNotSorted(list, comparator));
+  }
+
+  @Test public void should_consider_single_null_element_sorted() {
+    List<Object> actual = new ArrayList<Object>();
+    actual.add(null);
+    assertEquals(-1, indexOfFirstElementNotSorted(actual, NATURAL_ORDER));
+  }
+
+  @Test public void should_throw_error_if_null_elements_are_compared_according_to_natural_ordering() {
+    List<Object> actual = new ArrayList<Object>();
+    actual.add(null);
+    actual.add(null);
+    thrown.expect(NullPointerException.class);
+    indexOfFirstElementNotSorted(actual, NATURAL_ORDER);
+  }
+
+  private static List<Integer> indexesAroundChunkBoundaries() {
+    // same chunks as ParallelScan, which scans the SIZE - 1 pairs of consecutive elements
+    int pairs = SIZE - 1;
+    int chunkSize = Math.max(1, pairs / (ParallelScan.PARALLELISM * ParallelScan.CHUNKS_PER_THREAD));
+    List<Integer> indexes = new ArrayList<Integer>();
+    indexes.add(1);
+    addChunkBoundaries(0, pairs, chunkSize, indexes);
+    indexes.add(pairs - 1);
+    return indexes;
+  }
+
+  private static void addChunkBoundaries(int start, int end, int chunkSize, List<Integer> indexes) {
+    if (end - start <= chunkSize) return;
+    int middle = (start + end) >>> 1;
+    indexes.add(middle - 1);
+    indexes.add(middle);
+    addChunkBoundaries(start, middle, chunkSize, indexes);
+    addChunkBoundaries(middle, end, chunkSize, indexes);
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.ShouldContainAnyOf.shouldContainAnyOf;
+import static org.fest.assertions.test.ErrorMessages.*;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Arrays.array;
+import static org.fest.util.Collections.set;
+
+import static org.mockito.Mockito.verify;
+
+import org.junit.Test;
+
+import org.fest.assertions.core.AssertionInfo;
+
+/**
+ * Tests for <code>{@link Strings#assertContainsAny(AssertionInfo, String, String[])}</code>.
+ */
+public class Strings_assertContainsAny_Test extends AbstractTest_for_Strings {
+
+  @Test
+  public void should_fail_if_actual_does_not_contain_any_sequence() {
+    AssertionInfo info = someInfo();
+    String[] sequences = array("Luke", "Leia");
+    try {
+      strings.assertContainsAny(info, "Yoda", sequences);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContainAnyOf("Yoda", sequences));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_contain_any_sequence_according_to_custom_comparison_strategy() {
+    AssertionInfo info = someInfo();
+    String[] sequences = array("Luke", "Leia");
+    try {
+      stringsWithCaseInsensitiveComparisonStrategy.assertContainsAny(info, "Yoda", sequences);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContainAnyOf("Yoda", sequences, comparisonStrategy));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_if_array_of_sequences_is_null() {
+    thrown.expectNullPointerException(valuesToLookForIsNull());
+    strings.assertContainsAny(someInfo(), "Yoda", null);
+  }
+
+  @Test
+  public void should_throw_error_if_array_of_sequences_is_empty() {
+    thrown.expectIllegalArgumentException(valuesToLookForIsEmpty());
+    strings.assertContainsAny(someInfo(), "Yoda", new String[0]);
+  }
+
+  @Test
+  public void should_throw_error_if_any_sequence_is_null() {
+    thrown.expectNullPointerException(sequenceToLookForIsNull());
+    strings.assertContainsAny(someInfo(), "Yoda", array("Yo", null));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    strings.assertContainsAny(someInfo(), null, array("Yoda"));
+  }
+
+  @Test
+  public void should_pass_if_actual_contains_any_sequence() {
+    strings.assertContainsAny(someInfo(), "Yoda and Luke", array("Leia", "Luke"));
+  }
+
+  @Test
+  public void should_pass_if_actual_contains_any_sequence_according_to_custom_comparison_strategy() {
+    stringsWithCaseInsensitiveComparisonStrategy.assertContainsAny(someInfo(), "Yoda and Luke", array("LEIA", "LUKE"));
+  }
+}
@@ -67,6 +67,35 @@ public class Strings_assertContainsIgnoringCase_Test extends AbstractTest_for_St
   public void should_pass_if_actual_contains_sequence_in_different_case() {
     strings.assertContainsIgnoringCase(someInfo(), "Yoda", "yo");
   }
+
+  @Test
+  public void should_pass_if_actual_contains_non_ASCII_sequence_in_different_case() {
+    strings.assertContainsIgnoringCase(someInfo(), "D\u00E9j\u00E0 vu at the \u00C9COLE", "\u00E9cole");
+    strings.assertContainsIgnoringCase(someInfo(), "\u039F\u0394\u03A5\u03A3\u03A3\u0395\u03A5\u03A3", "\u03B4\u03C5\u03C3\u03C3\u03B5\u03C5\u03C2");
+  }
+
+  @Test
+  public void should_pass_if_actual_contains_supplementary_characters_sequence_in_different_case() {
+    // DESERET CAPITAL LETTER LONG I and DESERET SMALL LETTER LONG I
+    strings.assertContainsIgnoringCase(someInfo(), "Yoda \uD801\uDC00", "\uD801\uDC28");
+  }
+
+  @Test
+  public void should_pass_if_sequence_is_empty() {
+    strings.assertContainsIgnoringCase(someInfo(), "Yoda", "");
+  }
+
+  @Test
+  public void should_fail_if_sequence_only_partially_matches_at_end_of_actual() {
+    AssertionInfo info = someInfo();
+    try {
+      strings.assertContainsIgnoringCase(info, "Yoda", "DAS");
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContainIgnoringCase("Yoda", "DAS"));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
   
   @Test
   public void should_fail_if_actual_does_not_contain_sequence_whatever_custom_comparison_strategy_is() {
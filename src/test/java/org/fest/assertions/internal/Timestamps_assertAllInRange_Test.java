@@ -0,0 +1,124 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.ShouldHaveAllDatesBetween.shouldHaveAllDatesBetween;
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Collections.list;
+import static org.fest.util.Dates.parse;
+
+import static org.mockito.Mockito.*;
+
+import java.util.Date;
+
+import org.junit.*;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link Timestamps#assertAllInRange(AssertionInfo, long[], Date, Date, boolean, boolean)}</code> and
+ * <code>{@link Timestamps#assertAllInRange(AssertionInfo, Iterable, Date, Date, boolean, boolean)}</code>.
+ */
+public class Timestamps_assertAllInRange_Test {
+
+  @Rule public ExpectedException thrown = none();
+
+  private Failures failures;
+  private Timestamps timestamps;
+  private Date start;
+  private Date end;
+
+  @Before public void setUp() {
+    failures = spy(new Failures());
+    timestamps = new Timestamps();
+    timestamps.failures = failures;
+    start = parse("2011-01-01");
+    end = parse("2011-12-31");
+  }
+
+  @Test public void should_fail_if_one_timestamp_is_not_in_period() {
+    AssertionInfo info = someInfo();
+    Date outOfPeriod = parse("2012-01-01");
+    long[] actual = { parse("2011-01-01").getTime(), parse("2011-06-01").getTime(), outOfPeriod.getTime() };
+    try {
+      timestamps.assertAllInRange(info, actual, start, end, true, true);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveAllDatesBetween(2, outOfPeriod, start, end, true, true));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_fail_if_one_timestamp_is_on_excluded_boundary() {
+    AssertionInfo info = someInfo();
+    long[] actual = { parse("2011-06-01").getTime(), start.getTime() };
+    try {
+      timestamps.assertAllInRange(info, actual, start, end, false, true);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveAllDatesBetween(1, start, start, end, false, true));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_throw_error_if_start_is_null() {
+    thrown.expectNullPointerException("The start date of period to compare actual with should not be null");
+    timestamps.assertAllInRange(someInfo(), new long[0], null, end, true, true);
+  }
+
+  @Test public void should_throw_error_if_end_is_null() {
+    thrown.expectNullPointerException("The end date of period to compare actual with should not be null");
+    timestamps.assertAllInRange(someInfo(), new long[0], start, null, true, true);
+  }
+
+  @Test public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    timestamps.assertAllInRange(someInfo(), (long[]) null, start, end, true, true);
+  }
+
+  @Test public void should_pass_if_all_timestamps_are_in_period() {
+    long[] actual = { start.getTime(), parse("2011-06-01").getTime(), end.getTime() };
+    timestamps.assertAllInRange(someInfo(), actual, start, end, true, true);
+  }
+
+  @Test public void should_pass_if_actual_is_empty() {
+    timestamps.assertAllInRange(someInfo(), new long[0], start, end, false, false);
+  }
+
+  @Test public void should_fail_if_one_date_is_not_in_period() {
+    AssertionInfo info = someInfo();
+    Date outOfPeriod = parse("2012-01-01");
+    try {
+      timestamps.assertAllInRange(info, list(parse("2011-06-01"), outOfPeriod), start, end, true, true);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveAllDatesBetween(1, outOfPeriod, start, end, true, true));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_fail_if_actual_dates_are_null() {
+    thrown.expectAssertionError(actualIsNull());
+    timestamps.assertAllInRange(someInfo(), (Iterable<Date>) null, start, end, true, true);
+  }
+
+  @Test public void should_pass_if_all_dates_are_in_period() {
+    timestamps.assertAllInRange(someInfo(), list(start, parse("2011-06-01"), end), start, end, true, true);
+  }
+}
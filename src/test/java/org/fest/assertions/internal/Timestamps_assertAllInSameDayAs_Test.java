@@ -0,0 +1,108 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.ShouldHaveAllDatesInSameDay.shouldHaveAllDatesInSameDay;
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Collections.list;
+import static org.fest.util.Dates.*;
+
+import static org.mockito.Mockito.*;
+
+import java.util.Date;
+
+import org.junit.*;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link Timestamps#assertAllInSameDayAs(AssertionInfo, long[], Date)}</code> and
+ * <code>{@link Timestamps#assertAllInSameDayAs(AssertionInfo, Iterable, Date)}</code>.
+ */
+public class Timestamps_assertAllInSameDayAs_Test {
+
+  @Rule public ExpectedException thrown = none();
+
+  private Failures failures;
+  private Timestamps timestamps;
+  private Date other;
+
+  @Before public void setUp() {
+    failures = spy(new Failures());
+    timestamps = new Timestamps();
+    timestamps.failures = failures;
+    other = parseDatetime("2011-01-01T13:15:00");
+  }
+
+  @Test public void should_fail_if_one_timestamp_is_not_in_same_day() {
+    AssertionInfo info = someInfo();
+    Date nextDay = parse("2011-01-02");
+    long[] actual = { parseDatetime("2011-01-01T23:59:59").getTime(), nextDay.getTime() };
+    try {
+      timestamps.assertAllInSameDayAs(info, actual, other);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveAllDatesInSameDay(1, nextDay, other));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_fail_if_one_timestamp_is_just_before_same_day() {
+    AssertionInfo info = someInfo();
+    Date previousDay = new Date(parse("2011-01-01").getTime() - 1);
+    try {
+      timestamps.assertAllInSameDayAs(info, new long[] { previousDay.getTime() }, other);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveAllDatesInSameDay(0, previousDay, other));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_throw_error_if_given_date_is_null() {
+    thrown.expectNullPointerException("The date to compare actual with should not be null");
+    timestamps.assertAllInSameDayAs(someInfo(), new long[0], null);
+  }
+
+  @Test public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    timestamps.assertAllInSameDayAs(someInfo(), (long[]) null, other);
+  }
+
+  @Test public void should_pass_if_all_timestamps_are_in_same_day() {
+    long[] actual = { parse("2011-01-01").getTime(), other.getTime(), parseDatetime("2011-01-01T23:59:59").getTime() };
+    timestamps.assertAllInSameDayAs(someInfo(), actual, other);
+  }
+
+  @Test public void should_fail_if_one_date_is_not_in_same_day() {
+    AssertionInfo info = someInfo();
+    Date nextDay = parse("2011-01-02");
+    try {
+      timestamps.assertAllInSameDayAs(info, list(parseDatetime("2011-01-01T23:59:59"), nextDay), other);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveAllDatesInSameDay(1, nextDay, other));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_pass_if_all_dates_are_in_same_day() {
+    timestamps.assertAllInSameDayAs(someInfo(), list(parse("2011-01-01"), other), other);
+  }
+}
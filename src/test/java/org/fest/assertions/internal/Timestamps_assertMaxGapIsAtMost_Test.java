@@ -0,0 +1,105 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.ShouldHaveMaxGap.shouldHaveMaxGap;
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Collections.list;
+
+import static org.mockito.Mockito.*;
+
+import java.util.Date;
+
+import org.junit.*;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link Timestamps#assertMaxGapIsAtMost(AssertionInfo, long[], long)}</code> and
+ * <code>{@link Timestamps#assertMaxGapIsAtMost(AssertionInfo, Iterable, long)}</code>.
+ */
+public class Timestamps_assertMaxGapIsAtMost_Test {
+
+  @Rule public ExpectedException thrown = none();
+
+  private Failures failures;
+  private Timestamps timestamps;
+
+  @Before public void setUp() {
+    failures = spy(new Failures());
+    timestamps = new Timestamps();
+    timestamps.failures = failures;
+  }
+
+  @Test public void should_fail_if_gap_between_two_timestamps_is_greater_than_max_gap() {
+    AssertionInfo info = someInfo();
+    try {
+      timestamps.assertMaxGapIsAtMost(info, new long[] { 1000L, 2000L, 3001L }, 1000L);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveMaxGap(2, new Date(3001L), new Date(2000L), 1001L, 1000L));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_fail_if_gap_with_a_previous_later_timestamp_is_greater_than_max_gap() {
+    AssertionInfo info = someInfo();
+    try {
+      timestamps.assertMaxGapIsAtMost(info, new long[] { 3000L, 1000L }, 1000L);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveMaxGap(1, new Date(1000L), new Date(3000L), 2000L, 1000L));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_throw_error_if_max_gap_is_negative() {
+    thrown.expectIllegalArgumentException("The maximum gap should not be negative");
+    timestamps.assertMaxGapIsAtMost(someInfo(), new long[0], -1L);
+  }
+
+  @Test public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    timestamps.assertMaxGapIsAtMost(someInfo(), (long[]) null, 1000L);
+  }
+
+  @Test public void should_pass_if_all_gaps_are_at_most_max_gap() {
+    timestamps.assertMaxGapIsAtMost(someInfo(), new long[] { 1000L, 2000L, 2500L, 1500L }, 1000L);
+  }
+
+  @Test public void should_pass_if_actual_has_less_than_two_timestamps() {
+    timestamps.assertMaxGapIsAtMost(someInfo(), new long[0], 0L);
+    timestamps.assertMaxGapIsAtMost(someInfo(), new long[] { 1000L }, 0L);
+  }
+
+  @Test public void should_fail_if_gap_between_two_dates_is_greater_than_max_gap() {
+    AssertionInfo info = someInfo();
+    try {
+      timestamps.assertMaxGapIsAtMost(info, list(new Date(1000L), new Date(2000L), new Date(3001L)), 1000L);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveMaxGap(2, new Date(3001L), new Date(2000L), 1001L, 1000L));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_pass_if_all_gaps_between_dates_are_at_most_max_gap() {
+    timestamps.assertMaxGapIsAtMost(someInfo(), list(new Date(1000L), new Date(2000L), new Date(1500L)), 1000L);
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2011 the original author or authors.
+ */
+package org.fest.assertions.internal;
+
+import static org.fest.assertions.error.ShouldBeStrictlyIncreasing.shouldBeStrictlyIncreasing;
+import static org.fest.assertions.test.ExpectedException.none;
+import static org.fest.assertions.test.FailureMessages.actualIsNull;
+import static org.fest.assertions.test.TestData.someInfo;
+import static org.fest.assertions.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.fest.util.Collections.list;
+
+import static org.mockito.Mockito.*;
+
+import java.util.Date;
+
+import org.junit.*;
+
+import org.fest.assertions.core.AssertionInfo;
+import org.fest.assertions.test.ExpectedException;
+
+/**
+ * Tests for <code>{@link Timestamps#assertStrictlyIncreasing(AssertionInfo, long[])}</code> and
+ * <code>{@link Timestamps#assertStrictlyIncreasing(AssertionInfo, Iterable)}</code>.
+ */
+public class Timestamps_assertStrictlyIncreasing_Test {
+
+  @Rule public ExpectedException thrown = none();
+
+  private Failures failures;
+  private Timestamps timestamps;
+
+  @Before public void setUp() {
+    failures = spy(new Failures());
+    timestamps = new Timestamps();
+    timestamps.failures = failures;
+  }
+
+  @Test public void should_fail_if_one_timestamp_is_before_previous_one() {
+    AssertionInfo info = someInfo();
+    try {
+      timestamps.assertStrictlyIncreasing(info, new long[] { 1000L, 2000L, 1500L, 3000L });
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeStrictlyIncreasing(2, new Date(1500L), new Date(2000L)));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_fail_if_one_timestamp_is_equal_to_previous_one() {
+    AssertionInfo info = someInfo();
+    try {
+      timestamps.assertStrictlyIncreasing(info, new long[] { 1000L, 1000L });
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeStrictlyIncreasing(1, new Date(1000L), new Date(1000L)));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    timestamps.assertStrictlyIncreasing(someInfo(), (long[]) null);
+  }
+
+  @Test public void should_pass_if_timestamps_are_strictly_increasing() {
+    timestamps.assertStrictlyIncreasing(someInfo(), new long[] { -1000L, 0L, 1L, 2000L });
+  }
+
+  @Test public void should_pass_if_actual_has_less_than_two_timestamps() {
+    timestamps.assertStrictlyIncreasing(someInfo(), new long[0]);
+    timestamps.assertStrictlyIncreasing(someInfo(), new long[] { 1000L });
+  }
+
+  @Test public void should_fail_if_one_date_is_before_previous_one() {
+    AssertionInfo info = someInfo();
+    try {
+      timestamps.assertStrictlyIncreasing(info, list(new Date(1000L), new Date(2000L), new Date(1500L)));
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeStrictlyIncreasing(2, new Date(1500L), new Date(2000L)));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test public void should_throw_error_if_one_date_is_null() {
+    thrown.expectNullPointerException("The dates to verify should not contain null elements");
+    timestamps.assertStrictlyIncreasing(someInfo(), list(new Date(1000L), null));
+  }
+
+  @Test public void should_pass_if_dates_are_strictly_increasing() {
+    timestamps.assertStrictlyIncreasing(someInfo(), list(new Date(1000L), new Date(2000L), new Date(3000L)));
+  }
+}